@@ -0,0 +1,85 @@
+#!/usr/bin/env bash
+# Startup benchmark: standard jar vs the startup-optimized build (Spring AOT + AppCDS, mvn -Pstartup).
+# Each variant runs the same CLI selection RUNS times from a fresh working directory (fresh embedded DB)
+# and reports time to first test (the CLI's "ready N ms after JVM start" line, taken just before the first
+# test is dispatched), RSS at that point and peak RSS (VmHWM) over the whole run.
+#
+#   scripts/startup-benchmark.sh                     # builds both variants, 5 runs each, REQRES_SMOKE
+#   RUNS=10 ARGS="--suite=COMBINED_SMOKE" scripts/startup-benchmark.sh
+#   SKIP_BUILD=true scripts/startup-benchmark.sh     # reuse target/standard and target/startup
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${RUNS:-5}
+ARGS=${ARGS:---suite=REQRES_SMOKE}
+JAVA=${JAVA_HOME:+$JAVA_HOME/bin/}java
+JAR=regression-test-suite-0.0.1-SNAPSHOT.jar
+OUT=target/startup-benchmark
+MVN=./mvnw
+[ -x "$MVN" ] || MVN=mvn
+
+if [ "${SKIP_BUILD:-false}" != "true" ]; then
+    # The standard jar is set aside first: the startup profile repackages target/$JAR with the AOT classes
+    "$MVN" -B -q -DskipTests package
+    mkdir -p target/standard
+    cp "target/$JAR" target/standard/
+    "$MVN" -B -q -DskipTests -Pstartup package
+fi
+[ -f "target/standard/$JAR" ] || { echo "❌ target/standard/$JAR missing, run without SKIP_BUILD"; exit 2; }
+[ -f target/startup/app.jsa ] || { echo "❌ target/startup/app.jsa missing, run without SKIP_BUILD"; exit 2; }
+
+rm -rf "$OUT"
+mkdir -p "$OUT"
+RESULTS="$OUT/results.csv"
+echo "variant,run,ready_ms,ready_rss_kb,peak_rss_kb,exit_code" > "$RESULTS"
+
+# measure <variant> <run> <java options...>
+measure() {
+    local variant=$1 run=$2
+    shift 2
+    local dir="$OUT/$variant-$run" log ready_ms="" ready_rss="" peak=0 hwm code
+    mkdir -p "$dir"
+    log="$dir/run.log"
+    (cd "$dir" && exec "$JAVA" "$@" --spring.profiles.active=cli,embedded $ARGS > run.log 2>&1) &
+    local pid=$!
+    while kill -0 "$pid" 2>/dev/null; do
+        if [ -r "/proc/$pid/status" ]; then
+            hwm=$(awk '/^VmHWM:/ {print $2}' "/proc/$pid/status" 2>/dev/null || true)
+            [ -n "$hwm" ] && [ "$hwm" -gt "$peak" ] && peak=$hwm
+            if [ -z "$ready_ms" ] && grep -q "CLI ready" "$log" 2>/dev/null; then
+                ready_ms=$(sed -n 's/.*CLI ready \([0-9]*\) ms.*/\1/p' "$log" | head -1)
+                ready_rss=$(awk '/^VmRSS:/ {print $2}' "/proc/$pid/status" 2>/dev/null || true)
+            fi
+        fi
+        sleep 0.05
+    done
+    code=0
+    wait "$pid" || code=$?
+    [ -z "$ready_ms" ] && ready_ms=$(sed -n 's/.*CLI ready \([0-9]*\) ms.*/\1/p' "$log" | head -1)
+    echo "$variant,$run,${ready_ms:-},${ready_rss:-},$peak,$code" >> "$RESULTS"
+    echo "  $variant #$run: first test after ${ready_ms:-?} ms, RSS ${ready_rss:-?} kB, peak ${peak} kB (exit $code)"
+}
+
+STANDARD_JAR=$(pwd)/target/standard/$JAR
+OPTIMIZED_DIR=$(pwd)/target/startup
+for run in $(seq 1 "$RUNS"); do
+    measure standard "$run" -jar "$STANDARD_JAR"
+    measure optimized "$run" -XX:SharedArchiveFile="$OPTIMIZED_DIR/app.jsa" -Xlog:cds=off \
+        -Dspring.aot.enabled=true -jar "$OPTIMIZED_DIR/$JAR"
+done
+
+# Medians per variant
+echo
+echo "variant    runs  ready_ms(p50)  ready_rss_kb(p50)  peak_rss_kb(p50)"
+for variant in standard optimized; do
+    awk -F, -v v="$variant" '
+        function median(a, n,   i, j, t) {
+            for (i = 2; i <= n; i++) for (j = i; j > 1 && a[j-1] > a[j]; j--) { t = a[j]; a[j] = a[j-1]; a[j-1] = t }
+            return n == 0 ? "-" : (n % 2 ? a[(n+1)/2] : int((a[n/2] + a[n/2+1]) / 2))
+        }
+        $1 == v && $3 != "" { n++; r[n] = $3 + 0; s[n] = $4 + 0; p[n] = $5 + 0 }
+        END { printf "%-10s %4d  %13s  %17s  %16s\n", v, n, median(r, n), median(s, n), median(p, n) }
+    ' "$RESULTS"
+done
+echo
+echo "📊 Raw results: $RESULTS"
@@ -0,0 +1,93 @@
+package com.testframework.regression.bench;
+
+import com.testframework.regression.domain.ApiTestDefinition;
+import com.testframework.regression.engine.ApiHttpClient;
+import com.testframework.regression.engine.CompiledApiTest;
+import com.testframework.regression.engine.LatencyHistogram;
+import com.testframework.regression.engine.TargetConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Per-response CPU cost of the declarative API checks and of recording a latency sample under LOAD;
+// no Spring context, no network
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ApiCheckBenchmark {
+
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"email\"],"
+            + "\"properties\":{\"id\":{\"type\":\"integer\"},\"email\":{\"type\":\"string\"}}}";
+
+    private CompiledApiTest statusOnly;
+    private CompiledApiTest assertions;
+    private CompiledApiTest withSchema;
+    private ApiHttpClient.ApiResponse response;
+    private CompiledApiTest.Context ctx;
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Setup
+    public void setUp() {
+        TargetConfig targets = new TargetConfig(new StandardEnvironment());
+        statusOnly = CompiledApiTest.compile(definition(null, null), targets);
+        assertions = CompiledApiTest.compile(definition("$.id == 2\n$.address.city exists\n$.email matches .+@.+", null), targets);
+        withSchema = CompiledApiTest.compile(definition("$.id == 2", SCHEMA), targets);
+        byte[] body = ("{\"id\":2,\"name\":\"Ervin Howell\",\"email\":\"Shanna@melissa.tv\","
+                + "\"address\":{\"street\":\"Victor Plains\",\"city\":\"Wisokyburgh\",\"zipcode\":\"90566-7771\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+        response = new ApiHttpClient.ApiResponse(200, body, Map.of("content-type", List.of("application/json")), 85_000_000L);
+        ctx = new CompiledApiTest.Context("bench_exec", 1L, "Bench_Api");
+    }
+
+    private static ApiTestDefinition definition(String assertions, String schema) {
+        ApiTestDefinition def = new ApiTestDefinition();
+        def.setMethod("GET");
+        def.setUrlTemplate("http://127.0.0.1/users/2?run={{executionId}}");
+        def.setExpectedStatus("200");
+        def.setAssertions(assertions);
+        def.setResponseSchema(schema);
+        return def;
+    }
+
+    @Benchmark
+    public List<String> checkStatusOnly() {
+        return statusOnly.check(response);
+    }
+
+    @Benchmark
+    public List<String> checkJsonAssertions() {
+        return assertions.check(response);
+    }
+
+    @Benchmark
+    public List<String> checkSchema() {
+        return withSchema.check(response);
+    }
+
+    @Benchmark
+    public String renderUrl() {
+        return assertions.url(ctx);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordLatencyContended() {
+        histogram.record(ThreadLocalRandom.current().nextLong(1_000, 2_000_000));
+    }
+}
@@ -0,0 +1,56 @@
+package com.testframework.regression.bench;
+
+import com.testframework.regression.RegressionTestSuiteFrameworkApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+// The application wired against in-memory H2 (MySQL mode) without the web layer, so benchmarks
+// measure the real beans and queries without a database server. Each JMH fork starts its own.
+final class BenchmarkContext {
+
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... extraArgs) {
+        SpringApplication app = new SpringApplication(RegressionTestSuiteFrameworkApplication.class);
+        app.setWebApplicationType(WebApplicationType.NONE);
+        // Command-line arguments take precedence over application.properties
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.quartz.auto-startup=false",
+                "--schedules.seedDailyCombined=false"));
+        args.addAll(List.of(extraArgs));
+        return app.run(args.toArray(new String[0]));
+    }
+
+    // Bulk-inserts results for one execution with plain JDBC, so setup of the large sizes stays quick
+    static void insertResults(JdbcTemplate jdbc, String executionId, List<Long> testCaseIds, int count) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> rows = new ArrayList<>(1000);
+        for (int i = 0; i < count; i++) {
+            boolean passed = i % 10 != 0;
+            rows.add(new Object[]{testCaseIds.get(i % testCaseIds.size()), passed ? "PASSED" : "FAILED", now,
+                    passed ? "Status: 200 (85ms)" : "expected status 2xx but was 500 | $.id expected 2 but was null",
+                    executionId, 50L + i % 200});
+            if (rows.size() == 1000 || i == count - 1) {
+                jdbc.batchUpdate("insert into test_results (test_case_id, status, executed_at, message, execution_id, latency_ms)"
+                        + " values (?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+}
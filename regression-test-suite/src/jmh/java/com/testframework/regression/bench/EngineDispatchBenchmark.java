@@ -0,0 +1,115 @@
+package com.testframework.regression.bench;
+
+import com.sun.net.httpserver.HttpServer;
+import com.testframework.regression.domain.ApiTestDefinition;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.TestIntegrationEngine;
+import com.testframework.regression.service.ApiTestDefinitionService;
+import com.testframework.regression.service.TestCaseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Proxy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Per-test overhead of the engine around the system under test: the API path against a loopback server,
+// and the BlazeDemo path against a stub driver that answers instantly, so only framework cost is measured
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class EngineDispatchBenchmark {
+
+    private static final byte[] USER = "{\"id\":2,\"name\":\"Ervin Howell\",\"email\":\"Shanna@melissa.tv\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private HttpServer server;
+    private ConfigurableApplicationContext context;
+    private TestIntegrationEngine engine;
+    private MethodHandle apiDispatch;
+    private MethodHandle blazeDispatch;
+    private TestCase apiTestCase;
+    private TestCase blazeTestCase;
+    private WebDriver driver;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/users/2", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(USER);
+            }
+        });
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+        context = BenchmarkContext.start("--api.targets.bench=http://127.0.0.1:" + server.getAddress().getPort());
+        engine = context.getBean(TestIntegrationEngine.class);
+
+        TestCaseService testCaseService = context.getBean(TestCaseService.class);
+        apiTestCase = new TestCase();
+        apiTestCase.setName("Bench_Api_GetSingleUser");
+        apiTestCase.setType(TestType.API);
+        apiTestCase = testCaseService.save(apiTestCase);
+        ApiTestDefinition def = new ApiTestDefinition();
+        def.setMethod("GET");
+        def.setUrlTemplate("{{bench}}/users/2");
+        def.setExpectedStatus("200");
+        def.setAssertions("$.id == 2\n$.email matches .+@.+");
+        context.getBean(ApiTestDefinitionService.class).save(apiTestCase, def);
+        blazeTestCase = testCaseService.findByName("BlazeDemo_HomePage_Test").orElseThrow();
+
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(TestIntegrationEngine.class, MethodHandles.lookup());
+        apiDispatch = lookup.findVirtual(TestIntegrationEngine.class, "executeReqResAPITestWithArtifacts",
+                MethodType.methodType(TestResult.class, TestCase.class, String.class));
+        blazeDispatch = lookup.findVirtual(TestIntegrationEngine.class, "executeBlazeDemoTest",
+                MethodType.methodType(TestResult.class, WebDriver.class, TestCase.class, int.class, String.class));
+        driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(), new Class<?>[]{WebDriver.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getTitle" -> "BlazeDemo";
+                    case "getCurrentUrl" -> "https://blazedemo.com/";
+                    case "toString" -> "StubWebDriver";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        server.stop(0);
+    }
+
+    @Benchmark
+    public TestResult apiDefinition() throws Throwable {
+        return (TestResult) apiDispatch.invoke(engine, apiTestCase, "bench_dispatch");
+    }
+
+    @Benchmark
+    public TestResult blazeDemoHomePage() throws Throwable {
+        return (TestResult) blazeDispatch.invoke(engine, driver, blazeTestCase, 5, "bench_dispatch");
+    }
+}
@@ -0,0 +1,65 @@
+package com.testframework.regression.bench;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.service.ReportService;
+import com.testframework.regression.service.TestCaseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Streams one execution's results through the report writers: query, row rendering and escaping,
+// without the disk write or the report cache
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ReportRenderBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int results;
+
+    private ConfigurableApplicationContext context;
+    private ReportService reportService;
+    private String executionId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        reportService = context.getBean(ReportService.class);
+        List<Long> testCaseIds = context.getBean(TestCaseService.class).findAll().stream().map(TestCase::getId).toList();
+        executionId = "bench_report_" + results;
+        BenchmarkContext.insertResults(context.getBean(JdbcTemplate.class), executionId, testCaseIds, results);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void html() throws IOException {
+        reportService.streamReport(executionId, "html", OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void csv() throws IOException {
+        reportService.streamReport(executionId, "csv", OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,89 @@
+package com.testframework.regression.bench;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.TestResultRepository;
+import com.testframework.regression.service.TestCaseService;
+import com.testframework.regression.service.TestResultService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Result rows per second through the same save path the engine uses, one at a time and in batches,
+// single-threaded and from as many threads as a parallel run's pool
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class ResultPersistenceBenchmark {
+
+    private static final int BATCH = 100;
+
+    private ConfigurableApplicationContext context;
+    private TestResultService testResultService;
+    private TestResultRepository testResultRepository;
+    private List<TestCase> testCases;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        testResultService = context.getBean(TestResultService.class);
+        testResultRepository = context.getBean(TestResultRepository.class);
+        testCases = context.getBean(TestCaseService.class).findAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TestResult saveOne() {
+        return testResultService.save(result(0));
+    }
+
+    @Benchmark
+    @Threads(10)
+    public TestResult saveOneConcurrently() {
+        return testResultService.save(result(0));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<TestResult> saveBatch() {
+        List<TestResult> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < BATCH; i++) {
+            batch.add(result(i));
+        }
+        return testResultRepository.saveAll(batch);
+    }
+
+    private TestResult result(int i) {
+        TestResult result = new TestResult();
+        result.setTestCase(testCases.get(i % testCases.size()));
+        result.setExecutionId("bench_persist");
+        result.setExecutedAt(OffsetDateTime.now());
+        result.setStatus(TestStatus.PASSED);
+        result.setMessage("GET https://jsonplaceholder.typicode.com/users/2 - Status: 200 (85ms)");
+        result.setLatencyMs(85L);
+        return result;
+    }
+}
@@ -0,0 +1,61 @@
+package com.testframework.regression.bench;
+
+import com.testframework.regression.engine.SuiteRegistry;
+import com.testframework.regression.service.TestCaseService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// Suite id and tag expression to test case ids, warm and after the catalog was invalidated
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SuiteResolutionBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private SuiteRegistry suiteRegistry;
+    private TestCaseService testCaseService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        suiteRegistry = context.getBean(SuiteRegistry.class);
+        testCaseService = context.getBean(TestCaseService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<List<Long>> resolveSuite() {
+        return suiteRegistry.resolveSuiteToTestCaseIds("COMBINED_SMOKE");
+    }
+
+    @Benchmark
+    public List<Long> selectTagExpression() {
+        return suiteRegistry.select("smoke & (reqres | booking) & !negative");
+    }
+
+    @Benchmark
+    public Optional<List<Long>> resolveSuiteColdCatalog() {
+        testCaseService.invalidateCatalog();
+        return suiteRegistry.resolveSuiteToTestCaseIds("COMBINED_SMOKE");
+    }
+}
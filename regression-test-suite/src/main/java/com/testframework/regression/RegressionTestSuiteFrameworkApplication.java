@@ -2,6 +2,8 @@ package com.testframework.regression;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Profiles;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
@@ -9,7 +11,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 public class RegressionTestSuiteFrameworkApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(RegressionTestSuiteFrameworkApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(RegressionTestSuiteFrameworkApplication.class, args);
+		// Single-shot CLI run: exit with the run's status instead of staying up
+		if (context.getEnvironment().acceptsProfiles(Profiles.of("cli"))) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
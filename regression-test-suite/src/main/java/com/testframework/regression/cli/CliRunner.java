@@ -0,0 +1,229 @@
+package com.testframework.regression.cli;
+
+import com.testframework.regression.engine.ShardPlanner;
+import com.testframework.regression.service.ExecutionService;
+import com.testframework.regression.service.ExecutionService.ExecutionRequest;
+import com.testframework.regression.service.ExecutionService.ExecutionStatus;
+import com.testframework.regression.service.JUnitMerge;
+import com.testframework.regression.service.ReportService;
+import com.testframework.regression.service.TestCaseService;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Single-shot run for CI (profile cli): runs one selection to completion, writes the JUnit report and
+// leaves the exit code for main(). No web server, Quartz, mail or templates are started.
+//   --suite=COMBINED_SMOKE | --tags="api & smoke" | --ids=1,2,3
+//   [--mode=PARALLEL|SEQUENTIAL] [--parallel=8] [--headless=true] [--junit=target/cli-junit.xml] [--executionId=...]
+//   [--shardIndex=0 --shardCount=4 --shardHistoryBefore=2026-10-18T09:00:00Z]
+// or merges the JUnit reports of a sharded run: --merge=shard-0.xml,shard-1.xml --junit=merged.xml, with the
+// shards' selection (--suite, --tags or --ids) to report planned tests that no shard ran
+@Component
+@Profile("cli")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class CliRunner implements ApplicationRunner, ExitCodeGenerator {
+
+    public static final int PASSED = 0;
+    public static final int FAILED = 1; // test failures, or the run itself failed
+    public static final int USAGE = 2;  // bad arguments or nothing selected
+
+    private final ExecutionService executionService;
+    private final ReportService reportService;
+    private final TestCaseService testCaseService;
+    private int exitCode = USAGE;
+
+    public CliRunner(ExecutionService executionService, ReportService reportService, TestCaseService testCaseService) {
+        this.executionService = executionService;
+        this.reportService = reportService;
+        this.testCaseService = testCaseService;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long readyMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        System.out.println("⏱️ CLI ready " + readyMs + " ms after JVM start");
+        if (option(args, "merge", null) != null) {
+            merge(args, option(args, "merge", null), option(args, "junit", "junit-merged.xml"));
+            return;
+        }
+
+        ExecutionRequest request;
+        try {
+            request = selection(args);
+            request.setMode(option(args, "mode", "PARALLEL").toUpperCase());
+            request.setHeadless(Boolean.parseBoolean(option(args, "headless", "true")));
+            String parallel = option(args, "parallel", null);
+            request.setMaxParallelTests(parallel != null ? Integer.parseInt(parallel) : null);
+            String shardIndex = option(args, "shardIndex", null);
+            String shardCount = option(args, "shardCount", null);
+            request.setShardIndex(shardIndex != null ? Integer.parseInt(shardIndex) : null);
+            request.setShardCount(shardCount != null ? Integer.parseInt(shardCount) : null);
+            request.setShardHistoryBefore(ShardPlanner.parseHistoryBefore(option(args, "shardHistoryBefore", null)));
+        } catch (NumberFormatException e) {
+            usage("Not a number: " + e.getMessage());
+            return;
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+            return;
+        }
+        if (request.getSuiteId() == null && request.getTagExpression() == null && request.getTestCaseIds() == null) {
+            usage("Select tests with --suite, --tags or --ids");
+            return;
+        }
+
+        String executionId = option(args, "executionId", "cli_" + System.currentTimeMillis());
+        ExecutionStatus status;
+        try {
+            List<Long> ids = executionService.resolve(request);
+            if (ids.isEmpty()) {
+                if (request.getShardCount() != null) {
+                    // More shards than tests: this one has nothing to do, which is not an error
+                    writeEmptyReport(option(args, "junit", null));
+                    exitCode = PASSED;
+                    System.out.println("✅ Shard " + (request.getShardIndex() + 1) + "/" + request.getShardCount() + " has no tests");
+                    return;
+                }
+                usage("The selection matched no tests");
+                return;
+            }
+            if (request.getShardCount() != null) {
+                // Run the shard as planned above rather than planning it again
+                request.setTestCaseIds(ids);
+                request.setShardIndex(null);
+                request.setShardCount(null);
+            }
+            status = executionService.run(executionId, request);
+        } catch (IllegalArgumentException e) {
+            usage(e.getMessage());
+            return;
+        }
+
+        String junit = reportService.generateJUnitReport(executionId);
+        String target = option(args, "junit", null);
+        if (target != null && junit != null && Files.exists(Paths.get(junit))) {
+            try {
+                Path out = Paths.get(target);
+                if (out.getParent() != null) Files.createDirectories(out.getParent());
+                Files.copy(Paths.get(junit), out, StandardCopyOption.REPLACE_EXISTING);
+                junit = out.toString();
+            } catch (IOException e) {
+                System.err.println("⚠️ Could not write JUnit report to " + target + ": " + e.getMessage());
+            }
+        }
+
+        boolean passed = "COMPLETED".equals(status.getStatus()) && status.getFailedTests() == 0;
+        exitCode = passed ? PASSED : FAILED;
+        System.out.println((passed ? "✅ " : "❌ ") + executionId + " " + status.getStatus() + ": " + status.getPassedTests()
+                + "/" + status.getTotalTests() + " passed, " + status.getFailedTests() + " failed"
+                + (status.getErrorMessage() != null ? " (" + status.getErrorMessage() + ")" : "")
+                + " in " + (ManagementFactory.getRuntimeMXBean().getUptime() - readyMs) + " ms");
+        System.out.println("📄 JUnit report: " + junit);
+    }
+
+    // Exit code as for a run: 0 when no shard had failures, 1 when one did, a test ran in two shards or a planned
+    // test ran in none
+    private void merge(ApplicationArguments args, String csv, String target) {
+        Map<String, InputStream> reports = new LinkedHashMap<>();
+        try {
+            ExecutionRequest selection = selection(args);
+            List<String> expected = null;
+            if (selection.getSuiteId() != null || selection.getTagExpression() != null || selection.getTestCaseIds() != null) {
+                expected = testCaseService.findAllById(executionService.resolve(selection)).stream().map(JUnitMerge::key).toList();
+            }
+            String[] files = csv.split(",");
+            for (int i = 0; i < files.length; i++) {
+                if (files[i].isBlank()) continue;
+                reports.put(JUnitMerge.label(files[i].trim(), i, reports), Files.newInputStream(Paths.get(files[i].trim())));
+            }
+            Path out = Paths.get(target);
+            if (out.getParent() != null) Files.createDirectories(out.getParent());
+            JUnitMerge.Summary summary;
+            try (OutputStream stream = Files.newOutputStream(out)) {
+                summary = JUnitMerge.merge(reports, stream, expected);
+            }
+            int failed = summary.getFailures() + summary.getErrors();
+            exitCode = failed == 0 && summary.getDuplicates() == 0 ? PASSED : FAILED;
+            System.out.println((exitCode == PASSED ? "✅ " : "❌ ") + "Merged " + reports.size() + " reports: "
+                    + summary.getTests() + " tests, " + failed + " failed"
+                    + (summary.getDuplicates() > 0 ? ", " + summary.getDuplicates() + " ran in more than one shard" : "")
+                    + (summary.getMissing().isEmpty() ? "" : ", " + summary.getMissing().size()
+                            + " planned but in no shard: " + summary.getMissing()));
+            System.out.println("📄 JUnit report: " + out);
+        } catch (Exception e) {
+            usage("Could not merge " + csv + ": " + e.getMessage());
+        } finally {
+            for (InputStream in : reports.values()) {
+                try {
+                    in.close();
+                } catch (IOException ignored) {}
+            }
+        }
+    }
+
+    private static void writeEmptyReport(String target) {
+        if (target == null) return;
+        try {
+            Path out = Paths.get(target);
+            if (out.getParent() != null) Files.createDirectories(out.getParent());
+            Files.writeString(out, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                    + "<testsuite name=\"RegressionSuite\" tests=\"0\" failures=\"0\" time=\"0\">\n</testsuite>\n");
+        } catch (IOException e) {
+            System.err.println("⚠️ Could not write JUnit report to " + target + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+
+    private void usage(String message) {
+        exitCode = USAGE;
+        System.err.println("❌ " + message);
+        System.err.println("Usage: --spring.profiles.active=cli[,embedded] --suite=ID | --tags=EXPR | --ids=1,2"
+                + " [--mode=PARALLEL|SEQUENTIAL] [--parallel=N] [--headless=true|false] [--junit=FILE] [--executionId=ID]"
+                + " [--shardIndex=I --shardCount=N --shardHistoryBefore=ISO-DATE-TIME]");
+        System.err.println("       --spring.profiles.active=cli[,embedded] --merge=FILE,FILE [--junit=FILE]"
+                + " [--suite=ID | --tags=EXPR | --ids=1,2]");
+    }
+
+    // --suite, --tags and --ids; NumberFormatException for a bad id
+    private static ExecutionRequest selection(ApplicationArguments args) {
+        ExecutionRequest request = new ExecutionRequest();
+        request.setSuiteId(option(args, "suite", null));
+        request.setTagExpression(option(args, "tags", null));
+        request.setTestCaseIds(ids(option(args, "ids", null)));
+        return request;
+    }
+
+    private static String option(ApplicationArguments args, String name, String defaultValue) {
+        List<String> values = args.getOptionValues(name);
+        return values == null || values.isEmpty() || values.get(0).isBlank() ? defaultValue : values.get(0).trim();
+    }
+
+    private static List<Long> ids(String csv) {
+        if (csv == null) return null;
+        List<Long> ids = new ArrayList<>();
+        for (String part : csv.split(",")) {
+            if (!part.isBlank()) ids.add(Long.parseLong(part.trim()));
+        }
+        return ids.isEmpty() ? null : ids;
+    }
+}
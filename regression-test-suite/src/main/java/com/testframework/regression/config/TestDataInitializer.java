@@ -1,20 +1,82 @@
 package com.testframework.regression.config;
 
+import com.testframework.regression.domain.ApiTestDefinition;
 import com.testframework.regression.domain.TestCase;
 import com.testframework.regression.domain.TestType;
+import com.testframework.regression.service.ApiTestDefinitionService;
+import com.testframework.regression.service.TestCaseImportService;
 import com.testframework.regression.service.TestCaseService;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE) // seed before the cli runner selects tests
 public class TestDataInitializer implements CommandLineRunner {
 
+    // Seed tags for the built-in cases; also backfilled onto rows created before tags existed
+    private static final Map<String, String> DEFAULT_TAGS = Map.ofEntries(
+        Map.entry("BlazeDemo_HomePage_Test", "blazedemo,smoke"),
+        Map.entry("BlazeDemo_Dropdown_Test", "blazedemo,smoke,search"),
+        Map.entry("BlazeDemo_FlightSearch_Boston_London", "blazedemo,smoke,search"),
+        Map.entry("BlazeDemo_FlightSearch_NewYork_Paris", "blazedemo,smoke,search"),
+        Map.entry("BlazeDemo_ChooseFirstFlight", "blazedemo,smoke,search"),
+        Map.entry("BlazeDemo_PriceConsistency", "blazedemo,smoke,search"),
+        Map.entry("BlazeDemo_CompleteBooking_Valid", "blazedemo,smoke,booking"),
+        Map.entry("BlazeDemo_Booking_EmptyFields", "blazedemo,smoke,booking,negative"),
+        Map.entry("BlazeDemo_Booking_InvalidCard", "blazedemo,smoke,booking,negative"),
+        Map.entry("BlazeDemo_EndToEnd_Flow", "blazedemo,smoke,booking,e2e"),
+        Map.entry("ReqRes_GetUsers_Page2", "reqres,smoke,users"),
+        Map.entry("ReqRes_GetSingleUser_Valid", "reqres,smoke,users"),
+        Map.entry("ReqRes_GetSingleUser_NotFound", "reqres,smoke,users,negative"),
+        Map.entry("ReqRes_CreateUser", "reqres,smoke,users"),
+        Map.entry("ReqRes_UpdateUser_PUT", "reqres,smoke,users"),
+        Map.entry("ReqRes_PatchUser", "reqres,smoke,users"),
+        Map.entry("ReqRes_DeleteUser", "reqres,smoke,users"),
+        Map.entry("ReqRes_Register_Valid", "reqres,smoke,auth"),
+        Map.entry("ReqRes_Register_MissingPassword", "reqres,smoke,auth,negative"),
+        Map.entry("ReqRes_Login_Valid", "reqres,smoke,auth")
+    );
+
+    private static final String JSON = "Content-Type: application/json";
+    private static final String USER_SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"name\",\"username\",\"email\"],"
+            + "\"properties\":{\"id\":{\"type\":\"integer\"},\"email\":{\"type\":\"string\"}}}";
+
+    // Definitions of the built-in ReqRes-style checks; only added where no definition exists yet
+    private static final Map<String, ApiTestDefinition> DEFAULT_API_DEFINITIONS = new LinkedHashMap<>();
+    static {
+        define("ReqRes_GetUsers_Page2", "GET", "{{jsonplaceholder}}/users", null, null, "200", "$[0].id exists", null);
+        define("ReqRes_GetSingleUser_Valid", "GET", "{{jsonplaceholder}}/users/2", null, null, "200", "$.id == 2", USER_SCHEMA);
+        define("ReqRes_GetSingleUser_NotFound", "GET", "{{jsonplaceholder}}/users/999", null, null, "404", null, null);
+        define("ReqRes_CreateUser", "POST", "{{jsonplaceholder}}/users", JSON,
+                "{\"name\":\"John Doe\",\"email\":\"john@example.com\"}", "201", "$.id exists\n$.name == \"John Doe\"", null);
+        define("ReqRes_UpdateUser_PUT", "PUT", "{{jsonplaceholder}}/users/2", JSON,
+                "{\"name\":\"John Doe Updated\",\"email\":\"john.updated@example.com\"}", "200", "$.name == \"John Doe Updated\"", null);
+        define("ReqRes_PatchUser", "PATCH", "{{jsonplaceholder}}/users/2", JSON,
+                "{\"name\":\"John Doe Patched\"}", "200", "$.name == \"John Doe Patched\"", null);
+        define("ReqRes_DeleteUser", "DELETE", "{{jsonplaceholder}}/users/2", null, null, "200", null, null);
+        define("ReqRes_Register_Valid", "POST", "{{httpbin}}/post", JSON,
+                "{\"email\":\"eve.holt@example.com\",\"password\":\"pistol\"}", "200", "$.json.email == \"eve.holt@example.com\"", null);
+        define("ReqRes_Register_MissingPassword", "GET", "{{httpbin}}/status/400", null, null, "400", null, null);
+        define("ReqRes_Login_Valid", "POST", "{{httpbin}}/post", JSON,
+                "{\"email\":\"eve.holt@example.com\",\"password\":\"pistol\"}", "200", "$.json.password == \"pistol\"", null);
+    }
+
     private final TestCaseService testCaseService;
+    private final TestCaseImportService testCaseImportService;
+    private final ApiTestDefinitionService apiTestDefinitionService;
 
-    public TestDataInitializer(TestCaseService testCaseService) {
+    public TestDataInitializer(TestCaseService testCaseService, TestCaseImportService testCaseImportService,
+                               ApiTestDefinitionService apiTestDefinitionService) {
         this.testCaseService = testCaseService;
+        this.testCaseImportService = testCaseImportService;
+        this.apiTestDefinitionService = apiTestDefinitionService;
     }
 
     @Override
@@ -25,34 +87,40 @@ public class TestDataInitializer implements CommandLineRunner {
         List<TestCase> existing = testCaseService.findAll();
         if (!existing.isEmpty()) {
             System.out.println("✅ Test data already exists (" + existing.size() + " test cases found)");
+            backfillTags(existing);
+            seedApiDefinitions();
             return;
         }
         
         System.out.println("📋 Creating test case data...");
+        List<TestCaseImportService.ImportRow> seeds = new ArrayList<>();
         
         // Create BlazeDemo UI Test Cases
-        createTestCase("BlazeDemo_HomePage_Test", TestType.UI, "Verify BlazeDemo homepage loads correctly");
-        createTestCase("BlazeDemo_Dropdown_Test", TestType.UI, "Test departure and destination dropdowns");
-        createTestCase("BlazeDemo_FlightSearch_Boston_London", TestType.UI, "Search flights from Boston to London");
-        createTestCase("BlazeDemo_FlightSearch_NewYork_Paris", TestType.UI, "Search flights from New York to Paris");
-        createTestCase("BlazeDemo_ChooseFirstFlight", TestType.UI, "Select the first available flight");
-        createTestCase("BlazeDemo_PriceConsistency", TestType.UI, "Verify price consistency across pages");
-        createTestCase("BlazeDemo_CompleteBooking_Valid", TestType.UI, "Complete booking with valid data");
-        createTestCase("BlazeDemo_Booking_EmptyFields", TestType.UI, "Test booking with empty fields");
-        createTestCase("BlazeDemo_Booking_InvalidCard", TestType.UI, "Test booking with invalid card");
-        createTestCase("BlazeDemo_EndToEnd_Flow", TestType.UI, "Complete end-to-end booking flow");
+        seed(seeds, "BlazeDemo_HomePage_Test", TestType.UI, "Verify BlazeDemo homepage loads correctly");
+        seed(seeds, "BlazeDemo_Dropdown_Test", TestType.UI, "Test departure and destination dropdowns");
+        seed(seeds, "BlazeDemo_FlightSearch_Boston_London", TestType.UI, "Search flights from Boston to London");
+        seed(seeds, "BlazeDemo_FlightSearch_NewYork_Paris", TestType.UI, "Search flights from New York to Paris");
+        seed(seeds, "BlazeDemo_ChooseFirstFlight", TestType.UI, "Select the first available flight");
+        seed(seeds, "BlazeDemo_PriceConsistency", TestType.UI, "Verify price consistency across pages");
+        seed(seeds, "BlazeDemo_CompleteBooking_Valid", TestType.UI, "Complete booking with valid data");
+        seed(seeds, "BlazeDemo_Booking_EmptyFields", TestType.UI, "Test booking with empty fields");
+        seed(seeds, "BlazeDemo_Booking_InvalidCard", TestType.UI, "Test booking with invalid card");
+        seed(seeds, "BlazeDemo_EndToEnd_Flow", TestType.UI, "Complete end-to-end booking flow");
         
         // Create ReqRes API Test Cases
-        createTestCase("ReqRes_GetUsers_Page2", TestType.API, "Get users from page 2");
-        createTestCase("ReqRes_GetSingleUser_Valid", TestType.API, "Get single user with valid ID");
-        createTestCase("ReqRes_GetSingleUser_NotFound", TestType.API, "Get single user with invalid ID");
-        createTestCase("ReqRes_CreateUser", TestType.API, "Create a new user");
-        createTestCase("ReqRes_UpdateUser_PUT", TestType.API, "Update user using PUT");
-        createTestCase("ReqRes_PatchUser", TestType.API, "Update user using PATCH");
-        createTestCase("ReqRes_DeleteUser", TestType.API, "Delete a user");
-        createTestCase("ReqRes_Register_Valid", TestType.API, "Register with valid credentials");
-        createTestCase("ReqRes_Register_MissingPassword", TestType.API, "Register with missing password");
-        createTestCase("ReqRes_Login_Valid", TestType.API, "Login with valid credentials");
+        seed(seeds, "ReqRes_GetUsers_Page2", TestType.API, "Get users from page 2");
+        seed(seeds, "ReqRes_GetSingleUser_Valid", TestType.API, "Get single user with valid ID");
+        seed(seeds, "ReqRes_GetSingleUser_NotFound", TestType.API, "Get single user with invalid ID");
+        seed(seeds, "ReqRes_CreateUser", TestType.API, "Create a new user");
+        seed(seeds, "ReqRes_UpdateUser_PUT", TestType.API, "Update user using PUT");
+        seed(seeds, "ReqRes_PatchUser", TestType.API, "Update user using PATCH");
+        seed(seeds, "ReqRes_DeleteUser", TestType.API, "Delete a user");
+        seed(seeds, "ReqRes_Register_Valid", TestType.API, "Register with valid credentials");
+        seed(seeds, "ReqRes_Register_MissingPassword", TestType.API, "Register with missing password");
+        seed(seeds, "ReqRes_Login_Valid", TestType.API, "Login with valid credentials");
+
+        // One batched upsert; safe if another instance seeds concurrently
+        testCaseImportService.importRows(seeds);
         
         List<TestCase> allTestCases = testCaseService.findAll();
         System.out.println("✅ Test data initialization completed! Created " + allTestCases.size() + " test cases.");
@@ -62,20 +130,52 @@ public class TestDataInitializer implements CommandLineRunner {
         for (TestCase tc : allTestCases) {
             System.out.println("  - ID: " + tc.getId() + ", Name: " + tc.getName() + ", Type: " + tc.getType());
         }
+        seedApiDefinitions();
     }
     
-    private void createTestCase(String name, TestType type, String description) {
-        try {
-            TestCase testCase = new TestCase();
-            testCase.setName(name);
-            testCase.setType(type);
-            testCase.setDescription(description);
-            
-            TestCase saved = testCaseService.save(testCase);
-            System.out.println("✅ Created: " + saved.getName() + " (ID: " + saved.getId() + ")");
-        } catch (Exception e) {
-            System.err.println("❌ Failed to create test case: " + name + " - " + e.getMessage());
-            e.printStackTrace();
+    private void seed(List<TestCaseImportService.ImportRow> seeds, String name, TestType type, String description) {
+        seeds.add(new TestCaseImportService.ImportRow(name, type.name(), description, DEFAULT_TAGS.get(name)));
+    }
+
+    private static void define(String name, String method, String url, String headers, String body,
+                               String expectedStatus, String assertions, String schema) {
+        ApiTestDefinition def = new ApiTestDefinition();
+        def.setMethod(method);
+        def.setUrlTemplate(url);
+        def.setHeaders(headers);
+        def.setBodyTemplate(body);
+        def.setExpectedStatus(expectedStatus);
+        def.setAssertions(assertions);
+        def.setResponseSchema(schema);
+        DEFAULT_API_DEFINITIONS.put(name, def);
+    }
+
+    private void seedApiDefinitions() {
+        Map<String, TestCase> byName = testCaseService.catalogByName();
+        int created = 0;
+        for (Map.Entry<String, ApiTestDefinition> e : DEFAULT_API_DEFINITIONS.entrySet()) {
+            TestCase tc = byName.get(e.getKey());
+            if (tc == null || tc.getType() != TestType.API || apiTestDefinitionService.find(tc.getId()).isPresent()) continue;
+            apiTestDefinitionService.save(tc, e.getValue());
+            created++;
+        }
+        if (created > 0) {
+            System.out.println("🧾 Seeded " + created + " declarative API test definitions");
+        }
+    }
+
+    private void backfillTags(List<TestCase> existing) {
+        int updated = 0;
+        for (TestCase tc : existing) {
+            String tags = DEFAULT_TAGS.get(tc.getName());
+            if (tags != null && (tc.getTags() == null || tc.getTags().isBlank())) {
+                tc.setTags(tags);
+                testCaseService.save(tc);
+                updated++;
+            }
+        }
+        if (updated > 0) {
+            System.out.println("🏷️ Backfilled tags on " + updated + " test cases");
         }
     }
 }
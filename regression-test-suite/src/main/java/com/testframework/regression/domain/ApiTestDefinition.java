@@ -0,0 +1,92 @@
+package com.testframework.regression.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.OffsetDateTime;
+
+// An API test stored as data and run by ApiTestExecutor
+@Entity
+@Table(name = "api_test_definitions")
+public class ApiTestDefinition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "test_case_id", nullable = false, unique = true)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @JsonIgnore
+    private TestCase testCase;
+
+    @Column(name = "test_case_id", insertable = false, updatable = false)
+    private Long testCaseId;
+
+    @Column(name = "method", nullable = false, length = 10)
+    private String method;
+
+    @Column(name = "url_template", nullable = false, length = 1000)
+    private String urlTemplate; // e.g. "{{jsonplaceholder}}/users/2"; {{name}} resolves api.targets.name
+
+    @Column(name = "headers", length = 2000)
+    private String headers; // one "Name: value" per line
+
+    @Column(name = "body_template", length = 8000)
+    private String bodyTemplate;
+
+    @Column(name = "expected_status", length = 50)
+    private String expectedStatus; // "200", "200,201", "2xx" or "200-204"; empty means any 2xx
+
+    @Column(name = "assertions", length = 4000)
+    private String assertions; // one per line, e.g. "$.id == 2", "$.token exists", "$.email matches .+@.+"
+
+    @Lob
+    @Column(name = "response_schema", columnDefinition = "TEXT")
+    private String responseSchema; // JSON Schema (draft-04) for the response body
+
+    @Column(name = "max_response_time_ms")
+    private Long maxResponseTimeMs; // single-shot budget, checked on every request
+
+    @Column(name = "latency_samples")
+    private Integer latencySamples; // requests per run for the p95 budget; empty means 1
+
+    @Column(name = "p95_budget_ms")
+    private Long p95BudgetMs; // nearest-rank p95 over latencySamples must stay within this
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public TestCase getTestCase() { return testCase; }
+    public void setTestCase(TestCase testCase) {
+        this.testCase = testCase;
+        this.testCaseId = testCase != null ? testCase.getId() : null;
+    }
+    public Long getTestCaseId() { return testCaseId; }
+    public String getMethod() { return method; }
+    public void setMethod(String method) { this.method = method; }
+    public String getUrlTemplate() { return urlTemplate; }
+    public void setUrlTemplate(String urlTemplate) { this.urlTemplate = urlTemplate; }
+    public String getHeaders() { return headers; }
+    public void setHeaders(String headers) { this.headers = headers; }
+    public String getBodyTemplate() { return bodyTemplate; }
+    public void setBodyTemplate(String bodyTemplate) { this.bodyTemplate = bodyTemplate; }
+    public String getExpectedStatus() { return expectedStatus; }
+    public void setExpectedStatus(String expectedStatus) { this.expectedStatus = expectedStatus; }
+    public String getAssertions() { return assertions; }
+    public void setAssertions(String assertions) { this.assertions = assertions; }
+    public String getResponseSchema() { return responseSchema; }
+    public void setResponseSchema(String responseSchema) { this.responseSchema = responseSchema; }
+    public Long getMaxResponseTimeMs() { return maxResponseTimeMs; }
+    public void setMaxResponseTimeMs(Long maxResponseTimeMs) { this.maxResponseTimeMs = maxResponseTimeMs; }
+    public Integer getLatencySamples() { return latencySamples; }
+    public void setLatencySamples(Integer latencySamples) { this.latencySamples = latencySamples; }
+    public Long getP95BudgetMs() { return p95BudgetMs; }
+    public void setP95BudgetMs(Long p95BudgetMs) { this.p95BudgetMs = p95BudgetMs; }
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -15,7 +15,7 @@ public class ExecutionRecord {
     private String executionId;
 
     @Column(name = "status", length = 20, nullable = false)
-    private String status; // QUEUED, RUNNING, COMPLETED, FAILED
+    private String status; // QUEUED, RUNNING, COMPLETED, FAILED, INTERRUPTED
 
     @Column(name = "start_time")
     private OffsetDateTime startTime;
@@ -26,7 +26,9 @@ public class ExecutionRecord {
     @Column(name = "mode", length = 20)
     private String mode; // SEQUENTIAL, PARALLEL
 
-    @Column(name = "test_case_ids", length = 2000)
+    // A LOB so plans of any size fit; ddl-auto=update won't widen an existing VARCHAR(2000), see the README
+    @Lob
+    @Column(name = "test_case_ids")
     private String testCaseIdsCsv; // comma-separated ids
 
     @Column(name = "total_tests")
@@ -41,6 +43,12 @@ public class ExecutionRecord {
     @Column(name = "error_message", length = 2000)
     private String errorMessage;
 
+    @Column(name = "parallelism_level")
+    private Integer parallelismLevel; // level chosen by adaptive parallelism
+
+    @Column(name = "node", length = 100)
+    private String node; // cluster node that runs it (cluster.nodeName)
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getExecutionId() { return executionId; }
@@ -63,6 +71,10 @@ public class ExecutionRecord {
     public void setFailedTests(Integer failedTests) { this.failedTests = failedTests; }
     public String getErrorMessage() { return errorMessage; }
     public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+    public Integer getParallelismLevel() { return parallelismLevel; }
+    public void setParallelismLevel(Integer parallelismLevel) { this.parallelismLevel = parallelismLevel; }
+    public String getNode() { return node; }
+    public void setNode(String node) { this.node = node; }
 }
 
 
@@ -0,0 +1,136 @@
+package com.testframework.regression.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+// Latency and throughput summary of one API test case driven in LOAD mode
+@Entity
+@Table(name = "load_test_results")
+public class LoadTestResult {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "execution_id", nullable = false, length = 100)
+    private String executionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "test_case_id", nullable = false)
+    @JsonIgnore
+    private TestCase testCase;
+
+    @Column(name = "test_case_id", insertable = false, updatable = false)
+    private Long testCaseId;
+
+    @Column(name = "test_name")
+    private String testName;
+
+    @Column(name = "load_model", length = 20)
+    private String loadModel; // OPEN (arrival rate) or CLOSED (fixed concurrency)
+
+    @Column(name = "target_rps")
+    private Double targetRps;
+
+    @Column(name = "concurrency")
+    private Integer concurrency;
+
+    @Column(name = "duration_seconds")
+    private Integer durationSeconds;
+
+    @Column(name = "ramp_up_seconds")
+    private Integer rampUpSeconds;
+
+    @Column(name = "requests")
+    private Long requests;
+
+    @Column(name = "errors")
+    private Long errors;
+
+    @Column(name = "error_rate")
+    private Double errorRate;
+
+    @Column(name = "throughput_rps")
+    private Double throughputRps;
+
+    // Corrected for coordinated omission: measured from each request's intended start
+    @Column(name = "p50_ms")
+    private Double p50Ms;
+
+    @Column(name = "p95_ms")
+    private Double p95Ms;
+
+    @Column(name = "p99_ms")
+    private Double p99Ms;
+
+    @Column(name = "max_ms")
+    private Double maxMs;
+
+    @Column(name = "mean_ms")
+    private Double meanMs;
+
+    // Uncorrected service time, for comparison with the corrected figures
+    @Column(name = "service_p99_ms")
+    private Double serviceP99Ms;
+
+    @Lob
+    @Column(name = "histogram", columnDefinition = "TEXT")
+    @JsonIgnore
+    private String histogram; // LatencyHistogram.encode() of the corrected histogram
+
+    @Column(name = "started_at")
+    private OffsetDateTime startedAt;
+
+    @Column(name = "ended_at")
+    private OffsetDateTime endedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getExecutionId() { return executionId; }
+    public void setExecutionId(String executionId) { this.executionId = executionId; }
+    public TestCase getTestCase() { return testCase; }
+    public void setTestCase(TestCase testCase) {
+        this.testCase = testCase;
+        this.testCaseId = testCase != null ? testCase.getId() : null;
+    }
+    public Long getTestCaseId() { return testCaseId; }
+    public String getTestName() { return testName; }
+    public void setTestName(String testName) { this.testName = testName; }
+    public String getLoadModel() { return loadModel; }
+    public void setLoadModel(String loadModel) { this.loadModel = loadModel; }
+    public Double getTargetRps() { return targetRps; }
+    public void setTargetRps(Double targetRps) { this.targetRps = targetRps; }
+    public Integer getConcurrency() { return concurrency; }
+    public void setConcurrency(Integer concurrency) { this.concurrency = concurrency; }
+    public Integer getDurationSeconds() { return durationSeconds; }
+    public void setDurationSeconds(Integer durationSeconds) { this.durationSeconds = durationSeconds; }
+    public Integer getRampUpSeconds() { return rampUpSeconds; }
+    public void setRampUpSeconds(Integer rampUpSeconds) { this.rampUpSeconds = rampUpSeconds; }
+    public Long getRequests() { return requests; }
+    public void setRequests(Long requests) { this.requests = requests; }
+    public Long getErrors() { return errors; }
+    public void setErrors(Long errors) { this.errors = errors; }
+    public Double getErrorRate() { return errorRate; }
+    public void setErrorRate(Double errorRate) { this.errorRate = errorRate; }
+    public Double getThroughputRps() { return throughputRps; }
+    public void setThroughputRps(Double throughputRps) { this.throughputRps = throughputRps; }
+    public Double getP50Ms() { return p50Ms; }
+    public void setP50Ms(Double p50Ms) { this.p50Ms = p50Ms; }
+    public Double getP95Ms() { return p95Ms; }
+    public void setP95Ms(Double p95Ms) { this.p95Ms = p95Ms; }
+    public Double getP99Ms() { return p99Ms; }
+    public void setP99Ms(Double p99Ms) { this.p99Ms = p99Ms; }
+    public Double getMaxMs() { return maxMs; }
+    public void setMaxMs(Double maxMs) { this.maxMs = maxMs; }
+    public Double getMeanMs() { return meanMs; }
+    public void setMeanMs(Double meanMs) { this.meanMs = meanMs; }
+    public Double getServiceP99Ms() { return serviceP99Ms; }
+    public void setServiceP99Ms(Double serviceP99Ms) { this.serviceP99Ms = serviceP99Ms; }
+    public String getHistogram() { return histogram; }
+    public void setHistogram(String histogram) { this.histogram = histogram; }
+    public OffsetDateTime getStartedAt() { return startedAt; }
+    public void setStartedAt(OffsetDateTime startedAt) { this.startedAt = startedAt; }
+    public OffsetDateTime getEndedAt() { return endedAt; }
+    public void setEndedAt(OffsetDateTime endedAt) { this.endedAt = endedAt; }
+}
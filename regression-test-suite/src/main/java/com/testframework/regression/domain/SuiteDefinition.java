@@ -0,0 +1,36 @@
+package com.testframework.regression.domain;
+
+import jakarta.persistence.*;
+import java.time.OffsetDateTime;
+
+@Entity
+@Table(name = "suite_definitions")
+public class SuiteDefinition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", unique = true, nullable = false, length = 100)
+    private String name; // stored upper-case, like the built-in suite ids
+
+    @Column(name = "expression", nullable = false, length = 1000)
+    private String expression; // tag expression, e.g. "ui & smoke & !flaky"
+
+    @Column(name = "description", length = 1000)
+    private String description;
+
+    @Column(name = "updated_at")
+    private OffsetDateTime updatedAt;
+
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+    public String getExpression() { return expression; }
+    public void setExpression(String expression) { this.expression = expression; }
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+    public OffsetDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+}
@@ -2,6 +2,8 @@ package com.testframework.regression.domain;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,7 +19,8 @@ public class TestCase {
     private String name;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR) // not a MySQL enum column, so new types need no schema change
+    @Column(nullable = false, length = 20)
     private TestType type;
 
     @Column(length = 2000)
@@ -27,6 +30,9 @@ public class TestCase {
     @Column(nullable = false)
     private TestStatus status = TestStatus.PENDING;
 
+    @Column(name = "tags", length = 1000)
+    private String tags; // comma-separated, e.g. "ui,smoke,blazedemo"
+
     @OneToMany(mappedBy = "testCase", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     private List<TestResult> results = new ArrayList<>();
@@ -46,6 +52,9 @@ public class TestCase {
     public TestStatus getStatus() { return status; }
     public void setStatus(TestStatus status) { this.status = status; }
 
+    public String getTags() { return tags; }
+    public void setTags(String tags) { this.tags = tags; }
+
     public List<TestResult> getResults() { return results; }
     public void setResults(List<TestResult> results) { this.results = results; }
 }
@@ -39,6 +39,15 @@ public class TestResult {
     @Column(name = "api_response_path", length = 500)
     private String apiResponsePath;
 
+    @Column(name = "latency_ms")
+    private Long latencyMs; // API tests: response time, the median when several samples were taken
+
+    @Column(name = "duration_ms")
+    private Long durationMs; // wall time of the whole test, browser start-up included
+
+    @Column(name = "step_timings", length = 1000)
+    private String stepTimings; // UI tests: time spent in each wait, in order, e.g. "fromPort 3ms, table 412ms"
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
 
@@ -65,6 +74,15 @@ public class TestResult {
 
     public String getApiResponsePath() { return apiResponsePath; }
     public void setApiResponsePath(String apiResponsePath) { this.apiResponsePath = apiResponsePath; }
+
+    public Long getLatencyMs() { return latencyMs; }
+    public void setLatencyMs(Long latencyMs) { this.latencyMs = latencyMs; }
+
+    public Long getDurationMs() { return durationMs; }
+    public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+
+    public String getStepTimings() { return stepTimings; }
+    public void setStepTimings(String stepTimings) { this.stepTimings = stepTimings; }
 }
 
 
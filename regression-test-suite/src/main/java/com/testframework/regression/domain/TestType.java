@@ -2,7 +2,8 @@ package com.testframework.regression.domain;
 
 public enum TestType {
     UI,
-    API
+    API,
+    SYNTHETIC // engine-overhead measurement, see SyntheticWorkload
 }
 
 
@@ -0,0 +1,197 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+// AIMD controller for executeParallelAdaptive: +1 while throughput improves and the host is healthy,
+// multiplicative back-off on CPU/memory/load saturation or a rising timeout rate.
+@Component
+public class AdaptiveParallelismTuner {
+
+    private static final Path PROC_MEMINFO = Paths.get("/proc/meminfo");
+
+    private final ParallelismConfig config;
+    private final ExecutionRecordRepository executionRecordRepository;
+
+    public AdaptiveParallelismTuner(ParallelismConfig config, ExecutionRecordRepository executionRecordRepository) {
+        this.config = config;
+        this.executionRecordRepository = executionRecordRepository;
+    }
+
+    public Session startSession(String executionId, Integer maxParallelTests) {
+        int ceiling = (maxParallelTests != null && maxParallelTests > 0) ? maxParallelTests : config.getMaxLevel();
+        int floor = Math.max(1, Math.min(config.getMinLevel(), ceiling));
+        // Start from the level chosen by the most recent adaptive run, if any
+        int start = executionRecordRepository.findFirstByParallelismLevelIsNotNullOrderByIdDesc()
+                .map(r -> r.getParallelismLevel())
+                .orElse(config.getInitialLevel());
+        start = Math.max(floor, Math.min(ceiling, start));
+        System.out.println("⚙️ Adaptive parallelism for " + executionId + ": start=" + start + ", range=[" + floor + ", " + ceiling + "]");
+        return new Session(executionId, start, floor, ceiling);
+    }
+
+    private void recordLevel(String executionId, int level) {
+        if (executionId == null) return;
+        executionRecordRepository.findByExecutionId(executionId).ifPresent(rec -> {
+            rec.setParallelismLevel(level);
+            executionRecordRepository.save(rec);
+        });
+    }
+
+    // Returns a human readable reason when the host is saturated, null otherwise
+    String saturationReason() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs) {
+            double cpu = sunOs.getCpuLoad();
+            if (cpu >= 0 && cpu > config.getCpuThreshold()) {
+                return String.format(Locale.ROOT, "cpu=%.2f", cpu);
+            }
+        }
+        double memory = memoryUsedFraction(os);
+        if (memory >= 0 && memory > config.getMemoryThreshold()) {
+            return String.format(Locale.ROOT, "memory=%.2f", memory);
+        }
+        double load = os.getSystemLoadAverage();
+        if (load >= 0) {
+            double perCore = load / Math.max(1, os.getAvailableProcessors());
+            if (perCore > config.getLoadPerCoreThreshold()) {
+                return String.format(Locale.ROOT, "load/core=%.2f", perCore);
+            }
+        }
+        return null;
+    }
+
+    private double memoryUsedFraction(OperatingSystemMXBean os) {
+        // Prefer MemAvailable on Linux; "free" memory there excludes reclaimable page cache
+        if (Files.isReadable(PROC_MEMINFO)) {
+            try {
+                long total = -1, available = -1;
+                List<String> lines = Files.readAllLines(PROC_MEMINFO);
+                for (String line : lines) {
+                    if (line.startsWith("MemTotal:")) total = parseKb(line);
+                    else if (line.startsWith("MemAvailable:")) available = parseKb(line);
+                }
+                if (total > 0 && available >= 0) {
+                    return 1.0 - (double) available / total;
+                }
+            } catch (Exception ignored) {}
+        }
+        if (os instanceof com.sun.management.OperatingSystemMXBean sunOs && sunOs.getTotalMemorySize() > 0) {
+            return 1.0 - (double) sunOs.getFreeMemorySize() / sunOs.getTotalMemorySize();
+        }
+        return -1;
+    }
+
+    private static long parseKb(String line) {
+        String digits = line.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? -1 : Long.parseLong(digits);
+    }
+
+    static boolean isTimeout(TestResult result) {
+        if (result == null || result.getStatus() != TestStatus.FAILED || result.getMessage() == null) return false;
+        String msg = result.getMessage().toLowerCase(Locale.ROOT);
+        return msg.contains("timeout") || msg.contains("timed out");
+    }
+
+    public class Session {
+        private final String executionId;
+        private final int floor;
+        private final int ceiling;
+        private int limit;
+        private long windowStartNanos = System.nanoTime();
+        private int windowCompleted;
+        private int windowTimeouts;
+        private double lastThroughput = -1;
+        private double lastTimeoutRate = 0;
+        private double bestThroughput = -1;
+        private int bestLevel;
+
+        Session(String executionId, int start, int floor, int ceiling) {
+            this.executionId = executionId;
+            this.limit = start;
+            this.floor = floor;
+            this.ceiling = ceiling;
+            this.bestLevel = start;
+        }
+
+        public synchronized int currentLimit() { return limit; }
+        public int getCeiling() { return ceiling; }
+        public long getSampleIntervalMs() { return config.getSampleIntervalMs(); }
+
+        public synchronized void onTestCompleted(TestResult result) {
+            windowCompleted++;
+            if (isTimeout(result)) windowTimeouts++;
+            // One evaluation per "round" of the current limit
+            if (windowCompleted >= Math.max(2, limit)) {
+                evaluate();
+            }
+        }
+
+        // Called when no test finished within the sample interval; only reacts to saturation
+        public synchronized void onIdleTick() {
+            String reason = saturationReason();
+            if (reason != null) {
+                backOff(reason);
+            }
+        }
+
+        private void evaluate() {
+            double elapsedSec = Math.max(1e-3, (System.nanoTime() - windowStartNanos) / 1_000_000_000.0);
+            double throughput = windowCompleted / elapsedSec;
+            double timeoutRate = (double) windowTimeouts / windowCompleted;
+            String reason = saturationReason();
+            if (reason == null && timeoutRate > 0 && timeoutRate > lastTimeoutRate + config.getTimeoutRateTolerance()) {
+                reason = String.format(Locale.ROOT, "timeoutRate=%.2f", timeoutRate);
+            }
+
+            if (reason != null) {
+                backOff(reason);
+            } else {
+                if (throughput > bestThroughput) {
+                    bestThroughput = throughput;
+                    bestLevel = limit;
+                }
+                if (lastThroughput < 0 || throughput > lastThroughput) {
+                    adjust(Math.min(ceiling, limit + 1), String.format(Locale.ROOT, "throughput=%.3f/s", throughput));
+                }
+            }
+            lastThroughput = throughput;
+            lastTimeoutRate = timeoutRate;
+            windowStartNanos = System.nanoTime();
+            windowCompleted = 0;
+            windowTimeouts = 0;
+        }
+
+        private void backOff(String reason) {
+            int reduced = Math.max(floor, (int) Math.floor(limit * config.getBackoffFactor()));
+            adjust(reduced, reason);
+            // The level we just left was too high to be a good starting point
+            if (bestLevel > reduced) bestLevel = reduced;
+            lastThroughput = -1;
+        }
+
+        private void adjust(int next, String reason) {
+            if (next != limit) {
+                System.out.println("📈 Adaptive parallelism " + executionId + ": " + limit + " -> " + next + " (" + reason + ")");
+                limit = next;
+            }
+        }
+
+        public synchronized int finish() {
+            int chosen = bestThroughput >= 0 ? bestLevel : limit;
+            recordLevel(executionId, chosen);
+            System.out.println("✅ Adaptive parallelism " + executionId + ": recorded level " + chosen);
+            return chosen;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.testframework.regression.engine;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Shared HTTP client for API tests: one JDK HttpClient keeps connections alive and pooled per host.
+@Component
+public class ApiHttpClient {
+
+    private final HttpClient client;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Duration requestTimeout;
+
+    public ApiHttpClient(TimeoutConfig timeoutConfig) {
+        this.requestTimeout = Duration.ofSeconds(Math.max(1, timeoutConfig.getApiRequestSeconds()));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    public ApiResponse send(String method, String url, List<String[]> headers, String body) throws Exception {
+        return send(method, url, headers, body == null ? null : body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ApiResponse send(String method, String url, List<String[]> headers, byte[] body) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url)).timeout(requestTimeout);
+        boolean hasContentType = false;
+        if (headers != null) {
+            for (String[] header : headers) {
+                if (isRestricted(header[0])) continue;
+                builder.header(header[0], header[1]);
+                if ("content-type".equalsIgnoreCase(header[0])) hasContentType = true;
+            }
+        }
+        boolean hasBody = body != null && body.length > 0;
+        if (hasBody && !hasContentType) {
+            builder.header("Content-Type", "application/json");
+        }
+        HttpRequest.BodyPublisher publisher = hasBody
+                ? HttpRequest.BodyPublishers.ofByteArray(body)
+                : HttpRequest.BodyPublishers.noBody();
+        builder.method(method.toUpperCase(java.util.Locale.ROOT), publisher);
+
+        long start = System.nanoTime();
+        HttpResponse<byte[]> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+        long elapsedNanos = System.nanoTime() - start;
+        return new ApiResponse(response.statusCode(), response.body(), response.headers().map(), elapsedNanos);
+    }
+
+    // The JDK client manages these itself and rejects them when set explicitly
+    private static boolean isRestricted(String name) {
+        String n = name.toLowerCase(java.util.Locale.ROOT);
+        return n.equals("host") || n.equals("connection") || n.equals("content-length")
+                || n.equals("expect") || n.equals("upgrade");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    public static class ApiResponse {
+        private final int status;
+        private final byte[] bytes;
+        private final Map<String, List<String>> headers;
+        private final long elapsedNanos;
+        private String body;
+
+        public ApiResponse(int status, byte[] bytes, Map<String, List<String>> headers, long elapsedNanos) {
+            this.status = status;
+            this.bytes = bytes;
+            this.headers = headers;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getStatus() { return status; }
+        // Raw bytes feed the JSON parser directly; the text form is only decoded when something asks for it
+        public byte[] getBytes() { return bytes; }
+        public String getBody() {
+            if (body == null && bytes != null) body = new String(bytes, StandardCharsets.UTF_8);
+            return body;
+        }
+        public Map<String, List<String>> getHeaders() { return headers; }
+        public long getElapsedNanos() { return elapsedNanos; }
+        public long getElapsedMs() { return elapsedNanos / 1_000_000; }
+    }
+}
@@ -0,0 +1,149 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.service.ArtifactStore;
+import com.testframework.regression.service.LatencyRegressionService;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// Runs any CompiledApiTest: render, send on the pooled client, check, compare latency, record artifacts.
+// This is the single place API test execution cost lives, so tune and benchmark it here.
+@Component
+public class ApiTestExecutor {
+
+    private static final int MAX_ARTIFACT_BODY_CHARS = 64 * 1024;
+
+    private final ApiHttpClient apiHttpClient;
+    private final ArtifactStore artifactStore;
+    private final LatencyRegressionService latencyRegressionService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public ApiTestExecutor(ApiHttpClient apiHttpClient, ArtifactStore artifactStore,
+                           LatencyRegressionService latencyRegressionService) {
+        this.apiHttpClient = apiHttpClient;
+        this.artifactStore = artifactStore;
+        this.latencyRegressionService = latencyRegressionService;
+    }
+
+    public TestResult execute(TestCase testCase, CompiledApiTest test, String executionId) {
+        TestResult result = new TestResult();
+        result.setTestCase(testCase);
+        result.setExecutionId(executionId);
+        result.setExecutedAt(OffsetDateTime.now());
+        if (test.getError() != null) {
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage("Invalid API test definition: " + test.getError());
+            return result;
+        }
+
+        CompiledApiTest.Context ctx = new CompiledApiTest.Context(executionId, testCase.getId(), testCase.getName());
+        String url = test.url(ctx);
+        List<String[]> headers = test.headers(ctx);
+        byte[] body = test.body(ctx);
+        ApiHttpClient.ApiResponse response = null;
+        try {
+            response = apiHttpClient.send(test.getMethod(), url, headers, body);
+            List<String> failures = test.check(response);
+            String summary = test.getMethod() + " " + url + " - Status: " + response.getStatus() + " (" + response.getElapsedMs() + "ms)";
+            result.setLatencyMs(response.getElapsedMs());
+            if (failures.isEmpty() && (test.getLatencySamples() > 1 || test.getP95BudgetMs() >= 0)) {
+                summary += sampleLatency(test, url, headers, body, response, failures, result);
+            }
+            if (failures.isEmpty()) {
+                result.setStatus(TestStatus.PASSED);
+                result.setMessage(summary);
+            } else {
+                result.setStatus(TestStatus.FAILED);
+                result.setMessage(message(summary + " | " + String.join("; ", failures)));
+            }
+        } catch (Exception e) {
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage(message(test.getMethod() + " " + url + " failed: " + e.getClass().getSimpleName()
+                    + (e.getMessage() != null ? " " + e.getMessage() : "")));
+        }
+        // Before the artifacts, which are kept as failure evidence only if the result is FAILED by then
+        latencyRegressionService.check(result);
+        storeArtifacts(result, executionId, testCase, test.getMethod(), url, headers,
+                body != null ? new String(body, StandardCharsets.UTF_8) : null, response);
+        return result;
+    }
+
+    // Repeats a passing request up to latencySamples times and checks the p95 budget; the result keeps the median.
+    // Sampling stops at the first failing repeat, which is reported alongside its position.
+    private String sampleLatency(CompiledApiTest test, String url, List<String[]> headers, byte[] body,
+                                 ApiHttpClient.ApiResponse first, List<String> failures, TestResult result) throws Exception {
+        long[] latencies = new long[test.getLatencySamples()];
+        latencies[0] = first.getElapsedMs();
+        int taken = 1;
+        while (taken < latencies.length) {
+            ApiHttpClient.ApiResponse response = apiHttpClient.send(test.getMethod(), url, headers, body);
+            latencies[taken++] = response.getElapsedMs();
+            List<String> sampleFailures = test.check(response);
+            if (!sampleFailures.isEmpty()) {
+                failures.add("sample " + taken + "/" + latencies.length + ": " + sampleFailures.get(0));
+                break;
+            }
+        }
+        Arrays.sort(latencies, 0, taken);
+        long p50 = nearestRank(latencies, taken, 50);
+        long p95 = nearestRank(latencies, taken, 95);
+        result.setLatencyMs(p50);
+        if (test.getP95BudgetMs() >= 0 && p95 > test.getP95BudgetMs()) {
+            failures.add("p95 " + p95 + "ms over " + taken + " samples exceeds " + test.getP95BudgetMs() + "ms");
+        }
+        return taken == 1 ? "" : " p50 " + p50 + "ms p95 " + p95 + "ms over " + taken + " samples";
+    }
+
+    private static long nearestRank(long[] sorted, int n, int percentile) {
+        return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * n) - 1)];
+    }
+
+    // request.json / response.json for any natively executed HTTP call
+    public void storeArtifacts(TestResult result, String executionId, TestCase testCase, String method, String url,
+                               List<String[]> headers, String body, ApiHttpClient.ApiResponse response) {
+        try {
+            boolean failed = result.getStatus() == TestStatus.FAILED;
+            ObjectNode request = objectMapper.createObjectNode();
+            request.put("test", testCase.getName());
+            request.put("method", method);
+            request.put("url", url);
+            ObjectNode requestHeaders = request.putObject("headers");
+            for (String[] header : headers) {
+                // Credentials are not written to artifacts
+                requestHeaders.put(header[0], "authorization".equalsIgnoreCase(header[0]) ? "***" : header[1]);
+            }
+            request.put("body", truncate(body, MAX_ARTIFACT_BODY_CHARS));
+            result.setApiRequestPath(artifactStore.put(executionId, testCase.getId(), "request.json",
+                    objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(request), failed));
+            if (response != null) {
+                ObjectNode node = objectMapper.createObjectNode();
+                node.put("status", response.getStatus());
+                node.put("elapsedMs", response.getElapsedMs());
+                ObjectNode responseHeaders = node.putObject("headers");
+                response.getHeaders().forEach((k, v) -> responseHeaders.put(k, String.join(", ", v)));
+                node.put("body", truncate(response.getBody(), MAX_ARTIFACT_BODY_CHARS));
+                result.setApiResponsePath(artifactStore.put(executionId, testCase.getId(), "response.json",
+                        objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(node), failed));
+            }
+        } catch (Exception e) {
+            System.out.println("⚠️ Could not store API artifacts for " + testCase.getName() + ": " + e.getMessage());
+        }
+    }
+
+    private static String message(String s) {
+        return s.length() > 4000 ? s.substring(0, 4000) : s;
+    }
+
+    private static String truncate(String s, int max) {
+        if (s == null || s.length() <= max) return s;
+        return s.substring(0, max) + "...[truncated " + (s.length() - max) + " chars]";
+    }
+}
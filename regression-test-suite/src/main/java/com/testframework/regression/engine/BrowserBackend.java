@@ -0,0 +1,289 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Where UI test browsers run. "local" starts Chrome on this host; "remote" starts it on a Selenium Grid or on
+// standalone servers (selenium.remote.urls), so this host only orchestrates and browser capacity scales separately.
+// In remote mode each endpoint's free Chrome slots are read from its /status, a session goes to the endpoint with
+// the most free slots (preferring the one its execution already uses), and when every slot is taken the request
+// waits for one up to sessionQueueTimeoutSeconds instead of piling onto a full node.
+@Component
+public class BrowserBackend {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final boolean remote;
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final Map<String, Object> capabilities;
+    private final long queueTimeoutMs;
+    private final long statusRefreshMs;
+    private final boolean executionAffinity;
+    private final Duration readTimeout;
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    // executionId -> endpoint its last session went to, bounded to the most recent executions
+    private final Map<String, Endpoint> affinity = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Endpoint> eldest) {
+            return size() > 256;
+        }
+    });
+    private volatile boolean driverResolved;
+
+    public BrowserBackend(Environment environment,
+                          TimeoutConfig timeoutConfig,
+                          @Value("${selenium.backend:local}") String backend,
+                          @Value("${selenium.remote.urls:}") String urls,
+                          @Value("${selenium.remote.sessionQueueTimeoutSeconds:120}") int sessionQueueTimeoutSeconds,
+                          @Value("${selenium.remote.statusRefreshMs:1000}") long statusRefreshMs,
+                          @Value("${selenium.remote.executionAffinity:true}") boolean executionAffinity) {
+        this.remote = "remote".equalsIgnoreCase(backend.trim());
+        Arrays.stream(urls.split(",")).map(String::trim).filter(u -> !u.isEmpty())
+                .map(u -> u.endsWith("/") ? u.substring(0, u.length() - 1) : u)
+                .forEach(u -> endpoints.add(new Endpoint(u)));
+        if (remote && endpoints.isEmpty()) {
+            throw new IllegalStateException("selenium.backend=remote needs at least one selenium.remote.urls entry");
+        }
+        // Extra capabilities every remote session asks for, e.g. a custom stereotype that pins tests to certain nodes
+        this.capabilities = Binder.get(environment)
+                .bind("selenium.remote.capabilities", Bindable.mapOf(String.class, Object.class)).orElse(Map.of());
+        this.queueTimeoutMs = Math.max(0, sessionQueueTimeoutSeconds) * 1000L;
+        this.statusRefreshMs = Math.max(0, statusRefreshMs);
+        this.executionAffinity = executionAffinity;
+        // Creating a session on a Grid can sit in its own queue; commands can wait out a whole page load
+        this.readTimeout = Duration.ofSeconds(Math.max(sessionQueueTimeoutSeconds, timeoutConfig.getUiPageLoadSeconds()) + 30L);
+    }
+
+    public boolean isRemote() {
+        return remote;
+    }
+
+    public WebDriver start(boolean headless, String executionId) {
+        ChromeOptions options = new ChromeOptions();
+        if (headless) {
+            options.addArguments("--headless=new");
+        }
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+        if (!remote) {
+            if (!driverResolved) {
+                // Resolves (and on first use downloads) the chromedriver binary; cached for the rest of the process
+                WebDriverManager.chromedriver().setup();
+                driverResolved = true;
+            }
+            return new ChromeDriver(options);
+        }
+        capabilities.forEach(options::setCapability);
+        Endpoint endpoint = reserve(executionId);
+        try {
+            return RemoteWebDriver.builder()
+                    .oneOf(options)
+                    .config(ClientConfig.defaultConfig().baseUri(URI.create(endpoint.url)).readTimeout(readTimeout))
+                    .build();
+        } finally {
+            // The session now shows up in the endpoint's /status (or was never created): read it afresh next time
+            synchronized (this) {
+                endpoint.starting--;
+                endpoint.checkedAt = 0;
+            }
+        }
+    }
+
+    // Free Chrome slots per endpoint, as of the last /status read
+    public List<Capacity> capacity() {
+        List<Capacity> result = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            refresh(endpoint, true);
+            synchronized (this) {
+                result.add(new Capacity(endpoint.url, endpoint.ready, endpoint.slots, endpoint.free, endpoint.starting,
+                        endpoint.error));
+            }
+        }
+        return result;
+    }
+
+    private Endpoint reserve(String executionId) {
+        long deadline = System.currentTimeMillis() + queueTimeoutMs;
+        boolean waited = false;
+        while (true) {
+            for (Endpoint endpoint : endpoints) {
+                refresh(endpoint, false);
+            }
+            synchronized (this) {
+                Endpoint chosen = pick(executionId);
+                if (chosen != null) {
+                    chosen.starting++;
+                    if (executionAffinity && executionId != null) affinity.put(executionId, chosen);
+                    if (waited) {
+                        System.out.println("🌐 Browser slot free on " + chosen.url + " after queueing");
+                    }
+                    return chosen;
+                }
+            }
+            long remainingMs = deadline - System.currentTimeMillis();
+            if (remainingMs <= 0) {
+                throw new SessionNotCreatedException("No free Chrome slot on " + describe() + " within "
+                        + queueTimeoutMs / 1000 + "s");
+            }
+            if (!waited) {
+                System.out.println("⏳ All browser slots busy (" + describe() + "), waiting up to " + remainingMs / 1000 + "s");
+                waited = true;
+            }
+            sleep(Math.min(Math.max(statusRefreshMs, 100), remainingMs));
+        }
+    }
+
+    // The execution's endpoint while it has a free slot, else the endpoint with the most free slots
+    private Endpoint pick(String executionId) {
+        Endpoint sticky = executionAffinity && executionId != null ? affinity.get(executionId) : null;
+        if (sticky != null && sticky.available() > 0) return sticky;
+        Endpoint best = null;
+        for (Endpoint endpoint : endpoints) {
+            if (endpoint.available() > 0 && (best == null || endpoint.available() > best.available())) {
+                best = endpoint;
+            }
+        }
+        return best;
+    }
+
+    private void refresh(Endpoint endpoint, boolean force) {
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (!force && now - endpoint.checkedAt < statusRefreshMs) return;
+        }
+        boolean ready = false;
+        int slots = 0;
+        int free = 0;
+        String error = null;
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint.url + "/status"))
+                    .timeout(Duration.ofSeconds(5)).GET().build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            JsonNode value = MAPPER.readTree(response.body()).path("value");
+            ready = value.path("ready").asBoolean(false);
+            JsonNode nodes = value.path("nodes");
+            if (nodes.isArray()) {
+                for (JsonNode node : nodes) {
+                    if (!"UP".equalsIgnoreCase(node.path("availability").asText("UP"))) continue;
+                    for (JsonNode slot : node.path("slots")) {
+                        if (!matches(slot.path("stereotype"))) continue;
+                        slots++;
+                        if (slot.path("session").isNull() || slot.path("session").isMissingNode()) free++;
+                    }
+                }
+            } else if (ready) {
+                // Servers whose status doesn't list slots: one session at a time while they report ready
+                slots = 1;
+                free = 1;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while reading " + endpoint.url + "/status");
+        } catch (Exception e) {
+            error = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        }
+        synchronized (this) {
+            endpoint.ready = ready;
+            endpoint.slots = slots;
+            endpoint.free = ready ? free : 0;
+            endpoint.error = error;
+            endpoint.checkedAt = now;
+        }
+    }
+
+    // A slot can take the session when it offers Chrome and every extra capability we ask for
+    private boolean matches(JsonNode stereotype) {
+        if (!"chrome".equalsIgnoreCase(stereotype.path("browserName").asText())) return false;
+        for (Map.Entry<String, Object> capability : capabilities.entrySet()) {
+            if (!String.valueOf(capability.getValue()).equals(stereotype.path(capability.getKey()).asText())) return false;
+        }
+        return true;
+    }
+
+    private synchronized String describe() {
+        List<String> parts = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            parts.add(endpoint.url + " " + (endpoint.error != null ? "unreachable"
+                    : String.format(Locale.ROOT, "%d/%d free", endpoint.available(), endpoint.slots)));
+        }
+        return String.join(", ", parts);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SessionNotCreatedException("Interrupted while waiting for a browser slot");
+        }
+    }
+
+    private static final class Endpoint {
+        private final String url;
+        private boolean ready;
+        private int slots;
+        private int free;
+        // Sessions being created here that /status doesn't show yet
+        private int starting;
+        private String error;
+        private long checkedAt;
+
+        private Endpoint(String url) {
+            this.url = url;
+        }
+
+        private int available() {
+            return free - starting;
+        }
+    }
+
+    public static class Capacity {
+        private final String url;
+        private final boolean ready;
+        private final int slots;
+        private final int free;
+        private final int starting;
+        private final String error;
+
+        public Capacity(String url, boolean ready, int slots, int free, int starting, String error) {
+            this.url = url;
+            this.ready = ready;
+            this.slots = slots;
+            this.free = free;
+            this.starting = starting;
+            this.error = error;
+        }
+
+        public String getUrl() { return url; }
+        public boolean isReady() { return ready; }
+        public int getSlots() { return slots; }
+        public int getFree() { return free; }
+        public int getStarting() { return starting; }
+        public String getError() { return error; }
+    }
+}
@@ -0,0 +1,136 @@
+package com.testframework.regression.engine;
+
+import jakarta.annotation.PreDestroy;
+import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Browser sessions for UI tests. Sessions started ahead of a queued run wait here until a test of that run takes
+// one; other runs and tests without an execution never get them. Otherwise a test starts its own. Either way the test quits it afterwards, so no session is shared by two tests.
+// Sessions are started by the BrowserBackend, locally or on a Selenium Grid.
+@Component
+public class BrowserSessionPool {
+
+    private final BrowserBackend backend;
+    private final long maxIdleMs;
+    // execution and headless flag -> sessions started ahead of time for it, oldest first
+    private final Map<Key, ConcurrentLinkedDeque<IdleSession>> idle = new ConcurrentHashMap<>();
+
+    public BrowserSessionPool(BrowserBackend backend,
+                              @Value("${warmup.browser.maxIdleSeconds:300}") long maxIdleSeconds) {
+        this.backend = backend;
+        this.maxIdleMs = Math.max(1, maxIdleSeconds) * 1000;
+    }
+
+    public WebDriver acquire(Boolean headless) {
+        return acquire(headless, null);
+    }
+
+    // A session pre-started for this execution when one is waiting, else a new one (near the execution's earlier
+    // sessions on a Grid)
+    public WebDriver acquire(Boolean headless, String executionId) {
+        boolean flag = Boolean.TRUE.equals(headless);
+        ConcurrentLinkedDeque<IdleSession> sessions = executionId != null ? idle.get(new Key(executionId, flag)) : null;
+        IdleSession session;
+        while (sessions != null && (session = sessions.pollFirst()) != null) {
+            if (!session.expired(maxIdleMs)) return session.driver;
+            quietQuit(session.driver);
+        }
+        return backend.start(flag, executionId);
+    }
+
+    // Starts count sessions for the execution in parallel, where its tests will run them, and opens startUrl in
+    // each, so Chrome's DNS, TLS and HTTP caches are warm too; returns how many started
+    public int prewarm(String executionId, Boolean headless, int count, String startUrl) {
+        if (count <= 0) return 0;
+        boolean flag = Boolean.TRUE.equals(headless);
+        Key key = new Key(executionId, flag);
+        AtomicInteger started = new AtomicInteger();
+        try (ExecutorService starter = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                starter.submit(() -> {
+                    try {
+                        WebDriver driver = backend.start(flag, executionId);
+                        try {
+                            if (startUrl != null) driver.get(startUrl);
+                        } catch (Exception e) {
+                            System.out.println("⚠️ Warm-up could not open " + startUrl + ": " + e.getMessage());
+                        }
+                        idle.computeIfAbsent(key, k -> new ConcurrentLinkedDeque<>()).addLast(new IdleSession(driver));
+                        started.incrementAndGet();
+                    } catch (Exception e) {
+                        System.err.println("❌ Warm-up browser failed to start: " + e.getMessage());
+                    }
+                });
+            }
+        }
+        return started.get();
+    }
+
+    public int idleCount() {
+        return idle.values().stream().mapToInt(ConcurrentLinkedDeque::size).sum();
+    }
+
+    // Quits the sessions the execution didn't use, once it is over
+    public void release(String executionId) {
+        for (Boolean flag : List.of(false, true)) {
+            ConcurrentLinkedDeque<IdleSession> sessions = idle.remove(new Key(executionId, flag));
+            if (sessions != null) sessions.forEach(session -> quietQuit(session.driver));
+        }
+    }
+
+    // Sessions nobody took (the run was cancelled, or needed fewer browsers) would otherwise hold a Chrome each
+    @Scheduled(fixedDelayString = "${warmup.browser.evictIntervalMs:30000}")
+    public void evictExpired() {
+        for (ConcurrentLinkedDeque<IdleSession> sessions : idle.values()) {
+            Iterator<IdleSession> it = sessions.iterator();
+            while (it.hasNext()) {
+                IdleSession session = it.next();
+                if (session.expired(maxIdleMs) && sessions.remove(session)) {
+                    quietQuit(session.driver);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<IdleSession> all = new ArrayList<>();
+        idle.values().forEach(all::addAll);
+        idle.clear();
+        all.forEach(session -> quietQuit(session.driver));
+    }
+
+    private static void quietQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignored) {}
+    }
+
+    private record Key(String executionId, boolean headless) {
+    }
+
+    private static final class IdleSession {
+        private final WebDriver driver;
+        private final long startedAt = System.currentTimeMillis();
+
+        private IdleSession(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        private boolean expired(long maxIdleMs) {
+            return System.currentTimeMillis() - startedAt > maxIdleMs;
+        }
+    }
+}
@@ -0,0 +1,407 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.testframework.regression.domain.ApiTestDefinition;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+// An ApiTestDefinition parsed once: templates split into literal and variable parts with targets inlined,
+// accepted statuses as a lookup table, JSON paths, regexes and the schema compiled. Running it again
+// only renders the few runtime variables and walks the response.
+public final class CompiledApiTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final JsonSchemaFactory SCHEMAS = JsonSchemaFactory.byDefault();
+    private static final int MAX_REPORTED_SCHEMA_ERRORS = 3;
+    static final int MAX_LATENCY_SAMPLES = 100;
+
+    private final String method;
+    private final Template url;
+    private final String[] headerNames;
+    private final Template[] headerValues;
+    private final Template body;
+    private final boolean[] acceptedStatus;
+    private final String expectedStatus;
+    private final Assertion[] assertions;
+    private final JsonSchema schema;
+    private final long maxResponseTimeMs;
+    private final int latencySamples;
+    private final long p95BudgetMs;
+    private final boolean needsJson;
+    private final String error;
+
+    private CompiledApiTest(String method, Template url, String[] headerNames, Template[] headerValues, Template body,
+                            boolean[] acceptedStatus, String expectedStatus, Assertion[] assertions, JsonSchema schema,
+                            long maxResponseTimeMs, int latencySamples, long p95BudgetMs, String error) {
+        this.method = method;
+        this.url = url;
+        this.headerNames = headerNames;
+        this.headerValues = headerValues;
+        this.body = body;
+        this.acceptedStatus = acceptedStatus;
+        this.expectedStatus = expectedStatus;
+        this.assertions = assertions;
+        this.schema = schema;
+        this.maxResponseTimeMs = maxResponseTimeMs;
+        this.latencySamples = latencySamples;
+        this.p95BudgetMs = p95BudgetMs;
+        boolean json = schema != null;
+        for (Assertion a : assertions) json |= a.path != null;
+        this.needsJson = json;
+        this.error = error;
+    }
+
+    // Throws IllegalArgumentException naming the first problem, so callers can reject a definition on save
+    public static CompiledApiTest compile(ApiTestDefinition def, TargetConfig targets) {
+        if (def.getMethod() == null || def.getMethod().isBlank()) throw new IllegalArgumentException("method is required");
+        if (def.getUrlTemplate() == null || def.getUrlTemplate().isBlank()) throw new IllegalArgumentException("urlTemplate is required");
+        String method = def.getMethod().trim().toUpperCase(Locale.ROOT);
+        Template url = Template.compile(def.getUrlTemplate().trim(), targets);
+
+        List<String> names = new ArrayList<>();
+        List<Template> values = new ArrayList<>();
+        if (def.getHeaders() != null) {
+            for (String line : def.getHeaders().split("\n")) {
+                if (line.isBlank()) continue;
+                int colon = line.indexOf(':');
+                if (colon <= 0) throw new IllegalArgumentException("header must be 'Name: value': " + line.trim());
+                names.add(line.substring(0, colon).trim());
+                values.add(Template.compile(line.substring(colon + 1).trim(), targets));
+            }
+        }
+        Template body = def.getBodyTemplate() == null || def.getBodyTemplate().isEmpty()
+                ? null : Template.compile(def.getBodyTemplate(), targets);
+
+        List<Assertion> assertions = new ArrayList<>();
+        if (def.getAssertions() != null) {
+            for (String line : def.getAssertions().split("\n")) {
+                if (!line.isBlank()) assertions.add(Assertion.parse(line.trim()));
+            }
+        }
+        JsonSchema schema = null;
+        if (def.getResponseSchema() != null && !def.getResponseSchema().isBlank()) {
+            try {
+                schema = SCHEMAS.getJsonSchema(MAPPER.readTree(def.getResponseSchema()));
+            } catch (IOException | ProcessingException e) {
+                throw new IllegalArgumentException("invalid responseSchema: " + e.getMessage());
+            }
+        }
+        long maxTime = def.getMaxResponseTimeMs() != null ? def.getMaxResponseTimeMs() : -1;
+        int samples = def.getLatencySamples() != null ? def.getLatencySamples() : 1;
+        if (samples < 1 || samples > MAX_LATENCY_SAMPLES) {
+            throw new IllegalArgumentException("latencySamples must be between 1 and " + MAX_LATENCY_SAMPLES);
+        }
+        long p95Budget = def.getP95BudgetMs() != null ? def.getP95BudgetMs() : -1;
+        if (def.getP95BudgetMs() != null && p95Budget <= 0) throw new IllegalArgumentException("p95BudgetMs must be positive");
+        String expected = def.getExpectedStatus() == null || def.getExpectedStatus().isBlank() ? "2xx" : def.getExpectedStatus().trim();
+        return new CompiledApiTest(method, url, names.toArray(new String[0]), values.toArray(new Template[0]), body,
+                statusTable(expected), expected, assertions.toArray(new Assertion[0]), schema, maxTime, samples, p95Budget, null);
+    }
+
+    // Placeholder for a stored definition that no longer compiles; running it fails with the reason
+    public static CompiledApiTest invalid(String error) {
+        return new CompiledApiTest("GET", null, new String[0], new Template[0], null, new boolean[0], "", new Assertion[0],
+                null, -1, 1, -1, error);
+    }
+
+    private static boolean[] statusTable(String expected) {
+        boolean[] table = new boolean[600];
+        for (String part : expected.split(",")) {
+            String p = part.trim().toLowerCase(Locale.ROOT);
+            if (p.isEmpty()) continue;
+            try {
+                if (p.length() == 3 && p.endsWith("xx")) {
+                    int base = Integer.parseInt(p.substring(0, 1)) * 100;
+                    for (int s = base; s < base + 100 && s < table.length; s++) table[s] = true;
+                } else if (p.contains("-")) {
+                    int from = Integer.parseInt(p.substring(0, p.indexOf('-')).trim());
+                    int to = Integer.parseInt(p.substring(p.indexOf('-') + 1).trim());
+                    for (int s = Math.max(100, from); s <= to && s < table.length; s++) table[s] = true;
+                } else {
+                    int s = Integer.parseInt(p);
+                    if (s < 100 || s >= table.length) throw new NumberFormatException();
+                    table[s] = true;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid expectedStatus '" + part.trim() + "'");
+            }
+        }
+        return table;
+    }
+
+    public String getError() { return error; }
+    public String getMethod() { return method; }
+    public int getLatencySamples() { return latencySamples; }
+    public long getP95BudgetMs() { return p95BudgetMs; }
+
+    public String url(Context ctx) {
+        return url.render(ctx);
+    }
+
+    public List<String[]> headers(Context ctx) {
+        List<String[]> headers = new ArrayList<>(headerNames.length);
+        for (int i = 0; i < headerNames.length; i++) {
+            headers.add(new String[]{headerNames[i], headerValues[i].render(ctx)});
+        }
+        return headers;
+    }
+
+    public byte[] body(Context ctx) {
+        return body == null ? null : body.renderBytes(ctx);
+    }
+
+    public boolean acceptsStatus(int status) {
+        return status >= 0 && status < acceptedStatus.length && acceptedStatus[status];
+    }
+
+    // Failure descriptions; empty when every check passes. The body is parsed at most once, and only when needed.
+    public List<String> check(ApiHttpClient.ApiResponse response) {
+        List<String> failures = new ArrayList<>(2);
+        if (!acceptsStatus(response.getStatus())) {
+            failures.add("expected status " + expectedStatus + " but was " + response.getStatus());
+        }
+        if (maxResponseTimeMs >= 0 && response.getElapsedMs() > maxResponseTimeMs) {
+            failures.add("response time " + response.getElapsedMs() + "ms exceeds " + maxResponseTimeMs + "ms");
+        }
+        JsonNode json = null;
+        if (needsJson) {
+            byte[] bytes = response.getBytes();
+            try {
+                json = bytes == null || bytes.length == 0 ? MissingNode.getInstance() : MAPPER.readTree(bytes);
+            } catch (IOException e) {
+                failures.add("response is not valid JSON");
+                return failures;
+            }
+        }
+        for (Assertion a : assertions) {
+            String failure = a.evaluate(json, response);
+            if (failure != null) failures.add(failure);
+        }
+        if (schema != null && json.isMissingNode()) {
+            failures.add("schema: response body is empty");
+        } else if (schema != null) {
+            ProcessingReport report = schema.validateUnchecked(json);
+            if (!report.isSuccess()) {
+                int reported = 0;
+                for (ProcessingMessage m : report) {
+                    if (reported++ == MAX_REPORTED_SCHEMA_ERRORS) break;
+                    JsonNode pointer = m.asJson().path("instance").path("pointer");
+                    failures.add("schema: " + (pointer.asText().isEmpty() ? "" : pointer.asText() + " ") + m.getMessage());
+                }
+            }
+        }
+        return failures;
+    }
+
+    // Values that differ per run; everything else is resolved at compile time
+    public record Context(String executionId, Long testCaseId, String testName) {
+        String resolve(String name) {
+            return switch (name) {
+                case "executionId" -> executionId;
+                case "testCaseId" -> testCaseId != null ? testCaseId.toString() : null;
+                case "testName" -> testName;
+                case "$guid", "$randomUUID" -> UUID.randomUUID().toString();
+                case "$timestamp" -> String.valueOf(System.currentTimeMillis() / 1000);
+                case "$randomInt" -> String.valueOf(ThreadLocalRandom.current().nextInt(0, 1001));
+                default -> null;
+            };
+        }
+
+        static boolean isRuntime(String name) {
+            return name.equals("executionId") || name.equals("testCaseId") || name.equals("testName") || name.startsWith("$");
+        }
+    }
+
+    // Literal text interleaved with runtime variable names; a template without variables renders to one cached value
+    static final class Template {
+        private final String[] literals; // literals.length == variables.length + 1
+        private final String[] variables;
+        private final String constant;
+        private final byte[] constantBytes;
+        private final int literalLength;
+
+        private Template(String[] literals, String[] variables) {
+            this.literals = literals;
+            this.variables = variables;
+            int length = 0;
+            for (String l : literals) length += l.length();
+            this.literalLength = length;
+            this.constant = variables.length == 0 ? literals[0] : null;
+            this.constantBytes = constant != null ? constant.getBytes(StandardCharsets.UTF_8) : null;
+        }
+
+        static Template compile(String text, TargetConfig targets) {
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            StringBuilder literal = new StringBuilder();
+            int i = 0;
+            while (i < text.length()) {
+                int open = text.indexOf("{{", i);
+                if (open < 0) {
+                    literal.append(text, i, text.length());
+                    break;
+                }
+                int close = text.indexOf("}}", open + 2);
+                if (close < 0) throw new IllegalArgumentException("unclosed '{{' in: " + text);
+                literal.append(text, i, open);
+                String name = text.substring(open + 2, close).trim();
+                if (Context.isRuntime(name)) {
+                    literals.add(literal.toString());
+                    literal.setLength(0);
+                    variables.add(name);
+                } else {
+                    String value = targets.baseUrl(name);
+                    if (value == null) throw new IllegalArgumentException("unknown variable {{" + name + "}} (no api.targets." + name + ")");
+                    literal.append(value);
+                }
+                i = close + 2;
+            }
+            literals.add(literal.toString());
+            return new Template(literals.toArray(new String[0]), variables.toArray(new String[0]));
+        }
+
+        String render(Context ctx) {
+            if (constant != null) return constant;
+            StringBuilder sb = new StringBuilder(literalLength + 16 * variables.length);
+            for (int i = 0; i < variables.length; i++) {
+                sb.append(literals[i]);
+                String value = ctx.resolve(variables[i]);
+                sb.append(value != null ? value : "");
+            }
+            return sb.append(literals[variables.length]).toString();
+        }
+
+        byte[] renderBytes(Context ctx) {
+            return constantBytes != null ? constantBytes : render(ctx).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    // "<path> <op> [value]"; path "body" checks the raw text instead of the JSON document
+    static final class Assertion {
+        private enum Op { EQ, NE, GT, LT, GE, LE, EXISTS, NOT_EXISTS, CONTAINS, MATCHES }
+
+        private final String source;
+        private final JsonPath path; // null = raw body
+        private final Op op;
+        private final JsonNode expected;
+        private final Pattern pattern;
+
+        private Assertion(String source, JsonPath path, Op op, JsonNode expected, Pattern pattern) {
+            this.source = source;
+            this.path = path;
+            this.op = op;
+            this.expected = expected;
+            this.pattern = pattern;
+        }
+
+        static Assertion parse(String line) {
+            String[] parts = line.split("\\s+", 3);
+            if (parts.length < 2) throw new IllegalArgumentException("assertion must be '<path> <op> [value]': " + line);
+            Op op = switch (parts[1].toLowerCase(Locale.ROOT)) {
+                case "==" -> Op.EQ;
+                case "!=" -> Op.NE;
+                case ">" -> Op.GT;
+                case "<" -> Op.LT;
+                case ">=" -> Op.GE;
+                case "<=" -> Op.LE;
+                case "exists" -> Op.EXISTS;
+                case "!exists", "notexists" -> Op.NOT_EXISTS;
+                case "contains" -> Op.CONTAINS;
+                case "matches" -> Op.MATCHES;
+                default -> throw new IllegalArgumentException("unknown operator '" + parts[1] + "' in: " + line);
+            };
+            boolean needsValue = op != Op.EXISTS && op != Op.NOT_EXISTS;
+            if (needsValue && parts.length < 3) throw new IllegalArgumentException("missing value in: " + line);
+            JsonPath path = "body".equals(parts[0]) ? null : JsonPath.compile(parts[0]);
+            if (path == null && op != Op.CONTAINS && op != Op.MATCHES) {
+                throw new IllegalArgumentException("body supports only contains/matches: " + line);
+            }
+            JsonNode expected = null;
+            Pattern pattern = null;
+            if (op == Op.MATCHES) {
+                try {
+                    pattern = Pattern.compile(parts[2]);
+                } catch (PatternSyntaxException e) {
+                    throw new IllegalArgumentException("invalid regex in: " + line);
+                }
+            } else if (needsValue) {
+                expected = literal(parts[2]);
+                if ((op == Op.GT || op == Op.LT || op == Op.GE || op == Op.LE) && !expected.isNumber()) {
+                    throw new IllegalArgumentException("numeric comparison needs a number: " + line);
+                }
+            }
+            return new Assertion(line, path, op, expected, pattern);
+        }
+
+        // JSON literal if it parses as one, otherwise the bare text as a string
+        private static JsonNode literal(String text) {
+            try {
+                JsonNode node = MAPPER.readTree(text);
+                if (node != null && !node.isMissingNode()) return node;
+            } catch (IOException ignored) {
+                // fall through to a plain string
+            }
+            return MAPPER.getNodeFactory().textNode(text);
+        }
+
+        String evaluate(JsonNode json, ApiHttpClient.ApiResponse response) {
+            if (path == null) {
+                String text = response.getBody() != null ? response.getBody() : "";
+                boolean ok = op == Op.CONTAINS ? text.contains(expected.asText()) : pattern.matcher(text).find();
+                return ok ? null : source;
+            }
+            JsonNode actual = path.select(json);
+            boolean present = !actual.isMissingNode() && !actual.isNull();
+            boolean ok = switch (op) {
+                case EXISTS -> present;
+                case NOT_EXISTS -> !present;
+                case EQ -> equal(actual, expected);
+                case NE -> !equal(actual, expected);
+                case GT -> actual.isNumber() && actual.decimalValue().compareTo(expected.decimalValue()) > 0;
+                case LT -> actual.isNumber() && actual.decimalValue().compareTo(expected.decimalValue()) < 0;
+                case GE -> actual.isNumber() && actual.decimalValue().compareTo(expected.decimalValue()) >= 0;
+                case LE -> actual.isNumber() && actual.decimalValue().compareTo(expected.decimalValue()) <= 0;
+                case CONTAINS -> contains(actual, expected);
+                case MATCHES -> present && actual.isValueNode() && pattern.matcher(actual.asText()).find();
+            };
+            if (ok) return null;
+            return source + " (actual: " + (actual.isMissingNode() ? "missing" : abbreviate(actual.toString())) + ")";
+        }
+
+        private static boolean equal(JsonNode actual, JsonNode expected) {
+            if (actual.isNumber() && expected.isNumber()) {
+                return actual.decimalValue().compareTo(expected.decimalValue()) == 0;
+            }
+            return actual.equals(expected);
+        }
+
+        private static boolean contains(JsonNode actual, JsonNode expected) {
+            if (actual.isArray()) {
+                for (JsonNode element : actual) {
+                    if (equal(element, expected)) return true;
+                }
+                return false;
+            }
+            return actual.isTextual() && actual.asText().contains(expected.asText());
+        }
+
+        private static String abbreviate(String s) {
+            return s.length() > 200 ? s.substring(0, 200) + "..." : s;
+        }
+    }
+}
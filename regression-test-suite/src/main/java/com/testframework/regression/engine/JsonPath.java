@@ -0,0 +1,83 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Minimal JSON path for assertions: "$.data[0].email", "data.length", "token" (leading "$." optional).
+// Compiled once into field/index steps so evaluating it per response does no string parsing.
+public final class JsonPath {
+
+    private static final String LENGTH = "length";
+
+    private final String source;
+    private final Object[] steps; // String = field, Integer = array index
+
+    private JsonPath(String source, Object[] steps) {
+        this.source = source;
+        this.steps = steps;
+    }
+
+    public static JsonPath compile(String path) {
+        String p = path.trim();
+        if (p.startsWith("$")) p = p.substring(1);
+        if (p.startsWith(".")) p = p.substring(1);
+        List<Object> steps = new ArrayList<>();
+        int i = 0;
+        while (i < p.length()) {
+            char c = p.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = p.indexOf(']', i);
+                if (end < 0) throw new IllegalArgumentException("Missing ']' in JSON path: " + path);
+                String index = p.substring(i + 1, end).trim();
+                if (index.startsWith("'") || index.startsWith("\"")) {
+                    steps.add(index.substring(1, index.length() - 1));
+                } else {
+                    try {
+                        steps.add(Integer.valueOf(index));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Bad index '" + index + "' in JSON path: " + path);
+                    }
+                }
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < p.length() && p.charAt(end) != '.' && p.charAt(end) != '[') end++;
+                steps.add(p.substring(i, end));
+                i = end;
+            }
+        }
+        return new JsonPath(path, steps.toArray());
+    }
+
+    public static JsonNode select(JsonNode root, String path) {
+        return compile(path).select(root);
+    }
+
+    public JsonNode select(JsonNode root) {
+        if (root == null) return MissingNode.getInstance();
+        JsonNode current = root;
+        for (Object step : steps) {
+            if (current.isMissingNode()) break;
+            if (step instanceof Integer index) {
+                current = current.path(index);
+            } else if (LENGTH.equals(step) && current.isArray()) {
+                // "length" on an array mirrors the JavaScript property used in Postman scripts
+                current = JsonNodeFactory.instance.numberNode(current.size());
+            } else {
+                current = current.path((String) step);
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
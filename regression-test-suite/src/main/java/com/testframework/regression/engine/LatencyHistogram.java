@@ -0,0 +1,107 @@
+package com.testframework.regression.engine;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// HDR-style log-linear latency histogram in microseconds: 128 linear sub-buckets per power of two keeps
+// every recorded value within 1% of its true value, in a fixed ~3.5k-slot array from 1us to four hours.
+// Recording is lock-free so many load workers can share one instance. Coordinated omission is handled by the
+// caller measuring each request from its intended send time rather than from when it was actually sent.
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final long MAX_TRACKABLE_MICROS = 4L * 3600 * 1_000_000; // 4 hours
+
+    private final AtomicLongArray counts = new AtomicLongArray(indexOf(MAX_TRACKABLE_MICROS) + 1);
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long micros) {
+        long v = Math.max(0, Math.min(micros, MAX_TRACKABLE_MICROS));
+        counts.incrementAndGet(indexOf(v));
+        total.incrementAndGet();
+        sum.addAndGet(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+    static int indexOf(long v) {
+        if (v < SUB_BUCKETS) return (int) v;
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BUCKET_BITS;
+        return (shift << SUB_BUCKET_BITS) + (int) (v >>> shift);
+    }
+
+    // Largest value that maps to the same slot, as HdrHistogram reports percentiles
+    static long highestEquivalent(int index) {
+        if (index < SUB_BUCKETS * 2) return index;
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        long sub = index - ((long) shift << SUB_BUCKET_BITS);
+        return ((sub + 1) << shift) - 1;
+    }
+
+    public long count() {
+        return total.get();
+    }
+
+    public long maxMicros() {
+        return max.get();
+    }
+
+    public double meanMicros() {
+        long n = total.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    public long percentileMicros(double percentile) {
+        long n = total.get();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) return Math.min(highestEquivalent(i), max.get());
+        }
+        return max.get();
+    }
+
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length(); i++) {
+            long c = other.counts.get(i);
+            if (c != 0) counts.addAndGet(i, c);
+        }
+        total.addAndGet(other.total.get());
+        sum.addAndGet(other.sum.get());
+        max.accumulateAndGet(other.max.get(), Math::max);
+    }
+
+    // Sparse "index:count" pairs, enough to rebuild and merge histograms across runs
+    public String encode() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < counts.length(); i++) {
+            long c = counts.get(i);
+            if (c == 0) continue;
+            if (sb.length() > 0) sb.append(',');
+            sb.append(i).append(':').append(c);
+        }
+        return sb.toString();
+    }
+
+    public static LatencyHistogram decode(String encoded) {
+        LatencyHistogram h = new LatencyHistogram();
+        if (encoded == null || encoded.isBlank()) return h;
+        for (String pair : encoded.split(",")) {
+            int colon = pair.indexOf(':');
+            int index = Integer.parseInt(pair.substring(0, colon));
+            long c = Long.parseLong(pair.substring(colon + 1));
+            if (index < 0 || index >= h.counts.length() || c <= 0) continue;
+            long value = highestEquivalent(index);
+            h.counts.addAndGet(index, c);
+            h.total.addAndGet(c);
+            h.sum.addAndGet(value * c);
+            h.max.accumulateAndGet(value, Math::max);
+        }
+        return h;
+    }
+}
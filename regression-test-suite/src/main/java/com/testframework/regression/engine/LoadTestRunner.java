@@ -0,0 +1,312 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.LoadTestResult;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.repository.LoadTestResultRepository;
+import com.testframework.regression.service.ApiTestDefinitionService;
+import com.testframework.regression.service.TestCaseService;
+import com.testframework.regression.service.TestResultService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// LOAD mode: drives API test definitions at a target arrival rate (open model) or with a fixed number of
+// workers (closed model, optionally paced) for a duration with linear ramp-up, on virtual threads.
+// Latency is measured from each request's intended start, so a slow target cannot hide queueing delay
+// by holding back the requests that should have been sent meanwhile (coordinated omission).
+@Component
+public class LoadTestRunner {
+
+    public static final String MODE = "LOAD";
+
+    private final TestCaseService testCaseService;
+    private final ApiTestDefinitionService apiTestDefinitionService;
+    private final ApiHttpClient apiHttpClient;
+    private final TestResultService testResultService;
+    private final LoadTestResultRepository loadTestResultRepository;
+    private final TimeoutConfig timeoutConfig;
+    private final int maxInFlight;
+    private final int maxDurationSeconds;
+    private final double maxErrorRate;
+
+    public LoadTestRunner(TestCaseService testCaseService,
+                          ApiTestDefinitionService apiTestDefinitionService,
+                          ApiHttpClient apiHttpClient,
+                          TestResultService testResultService,
+                          LoadTestResultRepository loadTestResultRepository,
+                          TimeoutConfig timeoutConfig,
+                          @Value("${load.maxInFlight:1000}") int maxInFlight,
+                          @Value("${load.maxDurationSeconds:3600}") int maxDurationSeconds,
+                          @Value("${load.maxErrorRate:0.01}") double maxErrorRate) {
+        this.testCaseService = testCaseService;
+        this.apiTestDefinitionService = apiTestDefinitionService;
+        this.apiHttpClient = apiHttpClient;
+        this.testResultService = testResultService;
+        this.loadTestResultRepository = loadTestResultRepository;
+        this.timeoutConfig = timeoutConfig;
+        this.maxInFlight = Math.max(1, maxInFlight);
+        this.maxDurationSeconds = maxDurationSeconds;
+        this.maxErrorRate = maxErrorRate;
+    }
+
+    public void validate(LoadProfile profile) {
+        if (profile.getDurationSeconds() == null || profile.getDurationSeconds() <= 0 || profile.getDurationSeconds() > maxDurationSeconds) {
+            throw new IllegalArgumentException("durationSeconds must be between 1 and " + maxDurationSeconds);
+        }
+        boolean hasRate = profile.getTargetRps() != null && profile.getTargetRps() > 0;
+        boolean hasWorkers = profile.getConcurrency() != null && profile.getConcurrency() > 0;
+        if (!hasRate && !hasWorkers) {
+            throw new IllegalArgumentException("LOAD mode needs targetRps and/or concurrency");
+        }
+        if (hasWorkers && profile.getConcurrency() > maxInFlight) {
+            throw new IllegalArgumentException("concurrency must not exceed load.maxInFlight (" + maxInFlight + ")");
+        }
+        int ramp = profile.getRampUpSeconds() != null ? profile.getRampUpSeconds() : 0;
+        if (ramp < 0 || ramp >= profile.getDurationSeconds()) {
+            throw new IllegalArgumentException("rampUpSeconds must be at least 0 and shorter than durationSeconds");
+        }
+    }
+
+    public List<TestResult> run(List<Long> testCaseIds, String executionId, LoadProfile profile) throws InterruptedException {
+        validate(profile);
+        apiTestDefinitionService.preload(testCaseIds);
+        List<TestResult> results = new ArrayList<>();
+        List<Target> targets = new ArrayList<>();
+        for (TestCase tc : testCaseService.findAllById(testCaseIds)) {
+            Optional<CompiledApiTest> test = tc.getType() == TestType.API ? apiTestDefinitionService.compiledFor(tc.getId()) : Optional.empty();
+            if (test.isEmpty() || test.get().getError() != null) {
+                // Only a definition says what request to send
+                results.add(skip(tc, executionId, test.isEmpty()
+                        ? "LOAD mode needs an API test definition (PUT /tests/" + tc.getId() + "/api-definition)"
+                        : "Invalid API test definition: " + test.get().getError()));
+            } else {
+                targets.add(new Target(tc, test.get(), executionId));
+            }
+        }
+        if (targets.isEmpty()) return results;
+
+        boolean closed = profile.getConcurrency() != null && profile.getConcurrency() > 0;
+        System.out.println("📈 LOAD " + (closed ? "closed, " + profile.getConcurrency() + " workers" : "open")
+                + (profile.getTargetRps() != null ? ", " + profile.getTargetRps() + " rps" : "")
+                + " for " + profile.getDurationSeconds() + "s over " + targets.size() + " test(s) as " + executionId);
+        OffsetDateTime startedAt = OffsetDateTime.now();
+        long start = System.nanoTime();
+        if (closed) {
+            runClosed(targets, profile, start);
+        } else {
+            runOpen(targets, profile, start);
+        }
+        double elapsedSeconds = Math.max(profile.getDurationSeconds(), (System.nanoTime() - start) / 1e9);
+        OffsetDateTime endedAt = OffsetDateTime.now();
+
+        for (Target target : targets) {
+            results.add(record(target, profile, closed, elapsedSeconds, startedAt, endedAt));
+        }
+        return results;
+    }
+
+    // Open model: arrivals follow the schedule whatever the target's response times; a bounded in-flight
+    // limit protects this process, and time spent waiting for it still counts against the request
+    private void runOpen(List<Target> targets, LoadProfile profile, long start) throws InterruptedException {
+        double rps = profile.getTargetRps();
+        long rampNanos = TimeUnit.SECONDS.toNanos(profile.getRampUpSeconds() != null ? profile.getRampUpSeconds() : 0);
+        long end = start + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (long k = 0; ; k++) {
+                long intended = start + arrivalOffsetNanos(k, rps, rampNanos);
+                if (intended >= end) break;
+                parkUntil(intended);
+                inFlight.acquire();
+                Target target = targets.get((int) (k % targets.size()));
+                executor.execute(() -> {
+                    try {
+                        fire(target, intended);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        } finally {
+            drain(executor);
+        }
+    }
+
+    // Closed model: each worker sends back-to-back, or on its own schedule when a rate is also given.
+    // Workers start staggered across the ramp-up.
+    private void runClosed(List<Target> targets, LoadProfile profile, long start) throws InterruptedException {
+        int workers = profile.getConcurrency();
+        long rampNanos = TimeUnit.SECONDS.toNanos(profile.getRampUpSeconds() != null ? profile.getRampUpSeconds() : 0);
+        long end = start + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        long intervalNanos = profile.getTargetRps() != null && profile.getTargetRps() > 0
+                ? (long) (workers * 1e9 / profile.getTargetRps()) : 0;
+        AtomicLong sequence = new AtomicLong();
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            for (int w = 0; w < workers; w++) {
+                long workerStart = start + rampNanos * w / workers;
+                executor.execute(() -> {
+                    long intended = workerStart;
+                    while (intended < end && !Thread.currentThread().isInterrupted()) {
+                        parkUntil(intended);
+                        Target target = targets.get((int) (sequence.getAndIncrement() % targets.size()));
+                        fire(target, intended);
+                        // A paced worker that fell behind sends immediately; its lateness is part of the latency
+                        intended = intervalNanos > 0 ? intended + intervalNanos : System.nanoTime();
+                    }
+                });
+            }
+        } finally {
+            drain(executor);
+        }
+    }
+
+    // Arrival k under a linear ramp to rps over rampNanos, then a constant rate:
+    // during the ramp N(t) = rps * t^2 / (2 * ramp), afterwards N(t) = rps * (t - ramp / 2)
+    static long arrivalOffsetNanos(long k, double rps, long rampNanos) {
+        double ramp = rampNanos / 1e9;
+        double seconds = ramp > 0 && k < rps * ramp / 2
+                ? Math.sqrt(2 * ramp * k / rps)
+                : ramp / 2 + k / rps;
+        return (long) (seconds * 1e9);
+    }
+
+    private static void parkUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private void drain(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        long grace = Math.max(5, timeoutConfig.getApiRequestSeconds() * 2L);
+        if (!executor.awaitTermination(grace, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void fire(Target target, long intended) {
+        long sent = System.nanoTime();
+        boolean failed;
+        try {
+            ApiHttpClient.ApiResponse response = apiHttpClient.send(target.test.getMethod(), target.test.url(target.ctx),
+                    target.test.headers(target.ctx), target.test.body(target.ctx));
+            List<String> failures = target.test.check(response);
+            failed = !failures.isEmpty();
+            if (failed) target.firstError.compareAndSet(null, "HTTP " + response.getStatus() + ": " + String.join("; ", failures));
+        } catch (Exception e) {
+            failed = true;
+            target.firstError.compareAndSet(null, e.getClass().getSimpleName() + (e.getMessage() != null ? " " + e.getMessage() : ""));
+        }
+        long done = System.nanoTime();
+        target.corrected.record((done - intended) / 1000);
+        target.service.record((done - sent) / 1000);
+        target.requests.increment();
+        if (failed) target.errors.increment();
+    }
+
+    private TestResult record(Target target, LoadProfile profile, boolean closed, double elapsedSeconds,
+                              OffsetDateTime startedAt, OffsetDateTime endedAt) {
+        long requests = target.requests.sum();
+        long errors = target.errors.sum();
+        LatencyHistogram h = target.corrected;
+
+        LoadTestResult load = new LoadTestResult();
+        load.setExecutionId(target.ctx.executionId());
+        load.setTestCase(target.testCase);
+        load.setTestName(target.testCase.getName());
+        load.setLoadModel(closed ? "CLOSED" : "OPEN");
+        load.setTargetRps(profile.getTargetRps());
+        load.setConcurrency(profile.getConcurrency());
+        load.setDurationSeconds(profile.getDurationSeconds());
+        load.setRampUpSeconds(profile.getRampUpSeconds());
+        load.setRequests(requests);
+        load.setErrors(errors);
+        load.setErrorRate(requests == 0 ? 0 : (double) errors / requests);
+        load.setThroughputRps(requests / elapsedSeconds);
+        load.setP50Ms(h.percentileMicros(50) / 1000.0);
+        load.setP95Ms(h.percentileMicros(95) / 1000.0);
+        load.setP99Ms(h.percentileMicros(99) / 1000.0);
+        load.setMaxMs(h.maxMicros() / 1000.0);
+        load.setMeanMs(h.meanMicros() / 1000.0);
+        load.setServiceP99Ms(target.service.percentileMicros(99) / 1000.0);
+        load.setHistogram(h.encode());
+        load.setStartedAt(startedAt);
+        load.setEndedAt(endedAt);
+        loadTestResultRepository.save(load);
+
+        TestResult result = new TestResult();
+        result.setTestCase(target.testCase);
+        result.setExecutionId(target.ctx.executionId());
+        result.setExecutedAt(startedAt);
+        boolean passed = requests > 0 && load.getErrorRate() <= maxErrorRate;
+        result.setStatus(passed ? TestStatus.PASSED : TestStatus.FAILED);
+        String message = String.format("LOAD %s: %d requests, %.2f rps, %.2f%% errors, p50 %.1fms p95 %.1fms p99 %.1fms max %.1fms",
+                load.getLoadModel(), requests, load.getThroughputRps(), load.getErrorRate() * 100,
+                load.getP50Ms(), load.getP95Ms(), load.getP99Ms(), load.getMaxMs());
+        if (target.firstError.get() != null) message += " | first error: " + target.firstError.get();
+        result.setMessage(message.length() > 4000 ? message.substring(0, 4000) : message);
+        System.out.println("📈 " + target.testCase.getName() + " - " + message);
+        return testResultService.save(result);
+    }
+
+    private TestResult skip(TestCase tc, String executionId, String reason) {
+        TestResult result = new TestResult();
+        result.setTestCase(tc);
+        result.setExecutionId(executionId);
+        result.setExecutedAt(OffsetDateTime.now());
+        result.setStatus(TestStatus.SKIPPED);
+        result.setMessage(reason);
+        return testResultService.save(result);
+    }
+
+    private static final class Target {
+        private final TestCase testCase;
+        private final CompiledApiTest test;
+        private final CompiledApiTest.Context ctx;
+        private final LatencyHistogram corrected = new LatencyHistogram();
+        private final LatencyHistogram service = new LatencyHistogram();
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final AtomicReference<String> firstError = new AtomicReference<>();
+
+        Target(TestCase testCase, CompiledApiTest test, String executionId) {
+            this.testCase = testCase;
+            this.test = test;
+            this.ctx = new CompiledApiTest.Context(executionId, testCase.getId(), testCase.getName());
+        }
+    }
+
+    public static class LoadProfile {
+        private Double targetRps;
+        private Integer concurrency;
+        private Integer durationSeconds;
+        private Integer rampUpSeconds;
+
+        public Double getTargetRps() { return targetRps; }
+        public void setTargetRps(Double targetRps) { this.targetRps = targetRps; }
+        public Integer getConcurrency() { return concurrency; }
+        public void setConcurrency(Integer concurrency) { this.concurrency = concurrency; }
+        public Integer getDurationSeconds() { return durationSeconds; }
+        public void setDurationSeconds(Integer durationSeconds) { this.durationSeconds = durationSeconds; }
+        public Integer getRampUpSeconds() { return rampUpSeconds; }
+        public void setRampUpSeconds(Integer rampUpSeconds) { this.rampUpSeconds = rampUpSeconds; }
+    }
+}
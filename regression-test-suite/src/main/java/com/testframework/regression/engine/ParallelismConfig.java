@@ -0,0 +1,45 @@
+package com.testframework.regression.engine;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ParallelismConfig {
+
+    @Value("${parallelism.adaptive.initial:2}")
+    private int initialLevel;
+
+    @Value("${parallelism.adaptive.min:1}")
+    private int minLevel;
+
+    @Value("${parallelism.adaptive.max:16}")
+    private int maxLevel;
+
+    @Value("${parallelism.adaptive.cpuThreshold:0.85}")
+    private double cpuThreshold;
+
+    @Value("${parallelism.adaptive.memoryThreshold:0.90}")
+    private double memoryThreshold;
+
+    @Value("${parallelism.adaptive.loadPerCoreThreshold:1.5}")
+    private double loadPerCoreThreshold;
+
+    @Value("${parallelism.adaptive.backoffFactor:0.5}")
+    private double backoffFactor;
+
+    @Value("${parallelism.adaptive.timeoutRateTolerance:0.05}")
+    private double timeoutRateTolerance;
+
+    @Value("${parallelism.adaptive.sampleIntervalMs:2000}")
+    private long sampleIntervalMs;
+
+    public int getInitialLevel() { return initialLevel; }
+    public int getMinLevel() { return minLevel; }
+    public int getMaxLevel() { return maxLevel; }
+    public double getCpuThreshold() { return cpuThreshold; }
+    public double getMemoryThreshold() { return memoryThreshold; }
+    public double getLoadPerCoreThreshold() { return loadPerCoreThreshold; }
+    public double getBackoffFactor() { return backoffFactor; }
+    public double getTimeoutRateTolerance() { return timeoutRateTolerance; }
+    public long getSampleIntervalMs() { return sampleIntervalMs; }
+}
@@ -0,0 +1,331 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Postman v2.1 collection reduced to what the runner needs: folders of requests with templated
+// url/headers/body, plus the status and JSON checks and variable captures found in their test scripts.
+// Scripts are not executed; only the common pm.* assertion forms are recognised and the rest is counted.
+public final class PostmanCollection {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String JSON_REF = "(?:jsonData|responseJson|pm\\.response\\.json\\(\\))";
+    private static final String PATH = "([A-Za-z_$][\\w$]*(?:\\.[A-Za-z_$][\\w$]*|\\[\\d+\\])*)";
+    private static final Pattern STATUS = Pattern.compile("pm\\.response\\.to\\.have\\.status\\(\\s*(\\d{3})\\s*\\)");
+    private static final Pattern STATUS_OK = Pattern.compile("pm\\.response\\.to\\.be\\.ok\\b");
+    private static final Pattern STATUS_SUCCESS = Pattern.compile("pm\\.response\\.to\\.be\\.success\\b");
+    private static final Pattern STATUS_EQ = Pattern.compile("pm\\.expect\\(\\s*pm\\.response\\.code\\s*\\)\\.to\\.(?:eql|equal|eq)\\(\\s*(\\d{3})\\s*\\)");
+    private static final Pattern STATUS_ONE_OF = Pattern.compile("pm\\.expect\\(\\s*pm\\.response\\.code\\s*\\)\\.to\\.be\\.oneOf\\(\\s*\\[([\\d,\\s]+)]\\s*\\)");
+    private static final Pattern JSON_EQ = Pattern.compile("pm\\.expect\\(\\s*" + JSON_REF + "\\." + PATH + "\\s*\\)\\.to\\.(?:eql|equal|eq|be\\.eql)\\(\\s*(.+?)\\s*\\)\\s*;?\\s*$");
+    private static final Pattern JSON_EXISTS = Pattern.compile("pm\\.expect\\(\\s*" + JSON_REF + "\\." + PATH + "\\s*\\)\\.to\\.(?:exist|not\\.be\\.(?:undefined|null|empty))\\b");
+    private static final Pattern JSON_PROPERTY = Pattern.compile("pm\\.expect\\(\\s*" + JSON_REF + "\\s*\\)\\.to\\.have\\.property\\(\\s*['\"]([\\w$]+)['\"]\\s*\\)");
+    private static final Pattern JSON_BODY = Pattern.compile("pm\\.response\\.to\\.have\\.jsonBody\\(\\s*['\"]([\\w$.\\[\\]]+)['\"]\\s*\\)");
+    private static final Pattern BODY_INCLUDES = Pattern.compile("pm\\.expect\\(\\s*pm\\.response\\.text\\(\\)\\s*\\)\\.to\\.include\\(\\s*(['\"])(.*?)\\1\\s*\\)");
+    private static final Pattern TIME_BELOW = Pattern.compile("pm\\.expect\\(\\s*pm\\.response\\.responseTime\\s*\\)\\.to\\.be\\.below\\(\\s*(\\d+)\\s*\\)");
+    private static final Pattern CAPTURE = Pattern.compile("pm\\.(?:environment|collectionVariables|globals|variables)\\.set\\(\\s*['\"]([\\w.-]+)['\"]\\s*,\\s*" + JSON_REF + "\\." + PATH + "\\s*\\)");
+    // Script scaffolding that carries no assertion of its own
+    private static final Pattern NEUTRAL = Pattern.compile("^\\s*(?://.*|pm\\.test\\(.*|(?:var|let|const)\\s+(?:jsonData|responseJson)\\s*=\\s*pm\\.response\\.json\\(\\)\\s*;?|[})\\];,\\s]*)$");
+
+    private final String name;
+    private final Map<String, String> variables;
+    private final List<Folder> folders;
+
+    private PostmanCollection(String name, Map<String, String> variables, List<Folder> folders) {
+        this.name = name;
+        this.variables = variables;
+        this.folders = folders;
+    }
+
+    public static PostmanCollection parse(String json) throws IOException {
+        // Exported files are sometimes prefixed with stray characters; the collection starts at the first '{'
+        int start = json.indexOf('{');
+        if (start < 0) throw new IOException("Not a Postman collection: no JSON object found");
+        return parse(MAPPER.readTree(json.substring(start)));
+    }
+
+    public static PostmanCollection parse(JsonNode root) throws IOException {
+        if (root == null || !root.isObject() || !root.path("item").isArray()) {
+            throw new IOException("Not a Postman collection: missing 'item' array");
+        }
+        String name = root.path("info").path("name").asText("collection");
+        Map<String, String> variables = new LinkedHashMap<>();
+        for (JsonNode v : root.path("variable")) {
+            if (v.path("disabled").asBoolean(false) || !v.hasNonNull("key")) continue;
+            variables.put(v.get("key").asText(), v.path("value").asText(""));
+        }
+        Map<String, Folder> folders = new LinkedHashMap<>();
+        collect(root.path("item"), "", folders);
+        folders.values().removeIf(f -> f.requests.isEmpty());
+        return new PostmanCollection(name, Collections.unmodifiableMap(variables), List.copyOf(folders.values()));
+    }
+
+    // Nested folders flatten to "Parent / Child"; requests at the collection root share an unnamed folder
+    private static void collect(JsonNode items, String folderPath, Map<String, Folder> folders) {
+        for (JsonNode item : items) {
+            String itemName = item.path("name").asText("unnamed");
+            if (item.has("item")) {
+                collect(item.path("item"), folderPath.isEmpty() ? itemName : folderPath + " / " + itemName, folders);
+            } else if (item.has("request")) {
+                folders.computeIfAbsent(folderPath, Folder::new).requests.add(request(folderPath, itemName, item));
+            }
+        }
+    }
+
+    private static Request request(String folder, String itemName, JsonNode item) {
+        JsonNode req = item.path("request");
+        Request r = new Request(folder, itemName);
+        if (req.isTextual()) {
+            r.url = req.asText();
+        } else {
+            r.method = req.path("method").asText("GET").toUpperCase(java.util.Locale.ROOT);
+            r.url = url(req.path("url"));
+            for (JsonNode h : req.path("header")) {
+                if (h.path("disabled").asBoolean(false) || !h.hasNonNull("key")) continue;
+                r.headers.add(new String[]{h.get("key").asText(), h.path("value").asText("")});
+            }
+            body(req.path("body"), r);
+            auth(req.path("auth"), r);
+        }
+        for (JsonNode event : item.path("event")) {
+            if (!"test".equals(event.path("listen").asText())) continue;
+            JsonNode exec = event.path("script").path("exec");
+            if (exec.isTextual()) {
+                for (String line : exec.asText().split("\n")) r.scriptLine(line);
+            } else {
+                for (JsonNode line : exec) r.scriptLine(line.asText());
+            }
+        }
+        return r;
+    }
+
+    private static String url(JsonNode url) {
+        if (url.isMissingNode() || url.isNull()) return null;
+        if (url.isTextual()) return url.asText();
+        if (url.hasNonNull("raw")) return url.get("raw").asText();
+        // Structured form without raw: rebuild from host/path/query
+        StringBuilder sb = new StringBuilder();
+        if (url.hasNonNull("protocol")) sb.append(url.get("protocol").asText()).append("://");
+        sb.append(join(url.path("host"), "."));
+        if (url.hasNonNull("port")) sb.append(':').append(url.get("port").asText());
+        String path = join(url.path("path"), "/");
+        if (!path.isEmpty()) sb.append('/').append(path);
+        String sep = "?";
+        for (JsonNode q : url.path("query")) {
+            if (q.path("disabled").asBoolean(false)) continue;
+            sb.append(sep).append(q.path("key").asText()).append('=').append(q.path("value").asText(""));
+            sep = "&";
+        }
+        return sb.toString();
+    }
+
+    private static String join(JsonNode parts, String separator) {
+        if (parts.isTextual()) return parts.asText();
+        List<String> values = new ArrayList<>();
+        for (JsonNode p : parts) values.add(p.asText());
+        return String.join(separator, values);
+    }
+
+    private static void body(JsonNode body, Request r) {
+        String mode = body.path("mode").asText("");
+        switch (mode) {
+            case "raw" -> {
+                r.body = body.path("raw").asText("");
+                String language = body.path("options").path("raw").path("language").asText("json");
+                r.defaultContentType = "json".equals(language) ? "application/json" : "text/plain";
+            }
+            case "urlencoded" -> {
+                StringBuilder sb = new StringBuilder();
+                for (JsonNode p : body.path("urlencoded")) {
+                    if (p.path("disabled").asBoolean(false)) continue;
+                    if (sb.length() > 0) sb.append('&');
+                    // Encoded after variable substitution, see formEncode
+                    sb.append(p.path("key").asText()).append('=').append(p.path("value").asText(""));
+                }
+                r.body = sb.toString();
+                r.defaultContentType = "application/x-www-form-urlencoded";
+                r.formEncoded = true;
+            }
+            case "graphql" -> {
+                String variables = body.path("graphql").path("variables").asText("");
+                r.body = "{\"query\":" + quote(body.path("graphql").path("query").asText(""))
+                        + (variables.isBlank() ? "" : ",\"variables\":" + variables) + "}";
+                r.defaultContentType = "application/json";
+            }
+            default -> { }
+        }
+    }
+
+    private static void auth(JsonNode auth, Request r) {
+        String type = auth.path("type").asText("");
+        Map<String, String> values = new LinkedHashMap<>();
+        for (JsonNode kv : auth.path(type)) {
+            values.put(kv.path("key").asText(), kv.path("value").asText(""));
+        }
+        if ("bearer".equals(type) && values.containsKey("token")) {
+            r.headers.add(new String[]{"Authorization", "Bearer " + values.get("token")});
+        } else if ("basic".equals(type)) {
+            r.basicAuth = new String[]{values.getOrDefault("username", ""), values.getOrDefault("password", "")};
+        } else if ("apikey".equals(type) && !"query".equals(values.get("in")) && values.containsKey("key")) {
+            r.headers.add(new String[]{values.get("key"), values.getOrDefault("value", "")});
+        }
+    }
+
+    private static String quote(String s) {
+        try {
+            return MAPPER.writeValueAsString(s);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String formEncode(String pairs) {
+        StringBuilder sb = new StringBuilder();
+        for (String pair : pairs.split("&")) {
+            if (pair.isEmpty()) continue;
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            if (sb.length() > 0) sb.append('&');
+            sb.append(URLEncoder.encode(key, StandardCharsets.UTF_8)).append('=').append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+        }
+        return sb.toString();
+    }
+
+    public String getName() { return name; }
+    public Map<String, String> getVariables() { return variables; }
+    public List<Folder> getFolders() { return folders; }
+
+    public int requestCount() {
+        return folders.stream().mapToInt(f -> f.requests.size()).sum();
+    }
+
+    public static final class Folder {
+        private final String name;
+        private final List<Request> requests = new ArrayList<>();
+
+        Folder(String name) {
+            this.name = name;
+        }
+
+        public String getName() { return name; }
+        public List<Request> getRequests() { return requests; }
+    }
+
+    public static final class Request {
+        private final String folder;
+        private final String name;
+        private String method = "GET";
+        private String url;
+        private final List<String[]> headers = new ArrayList<>();
+        private String body;
+        private String defaultContentType;
+        private boolean formEncoded;
+        private String[] basicAuth;
+        private final Set<Integer> expectedStatuses = new TreeSet<>();
+        private boolean expectSuccess;
+        private final Map<String, JsonNode> jsonEquals = new LinkedHashMap<>();
+        private final List<String> jsonExists = new ArrayList<>();
+        private final List<String> bodyIncludes = new ArrayList<>();
+        private long maxResponseTimeMs = -1;
+        private final Map<String, String> captures = new LinkedHashMap<>();
+        private int unsupportedScriptLines;
+
+        Request(String folder, String name) {
+            this.folder = folder;
+            this.name = name;
+        }
+
+        private void scriptLine(String line) {
+            String s = line.trim();
+            boolean matched = false;
+            Matcher m;
+            if ((m = STATUS.matcher(s)).find() || (m = STATUS_EQ.matcher(s)).find()) {
+                expectedStatuses.add(Integer.parseInt(m.group(1)));
+                matched = true;
+            } else if ((m = STATUS_ONE_OF.matcher(s)).find()) {
+                for (String code : m.group(1).split(",")) {
+                    if (!code.isBlank()) expectedStatuses.add(Integer.parseInt(code.trim()));
+                }
+                matched = true;
+            } else if (STATUS_OK.matcher(s).find()) {
+                expectedStatuses.add(200);
+                matched = true;
+            } else if (STATUS_SUCCESS.matcher(s).find()) {
+                expectSuccess = true;
+                matched = true;
+            }
+            if ((m = JSON_EQ.matcher(s)).find()) {
+                JsonNode expected = literal(m.group(2));
+                if (expected != null) {
+                    jsonEquals.put(m.group(1), expected);
+                    matched = true;
+                }
+            } else if ((m = JSON_EXISTS.matcher(s)).find() || (m = JSON_PROPERTY.matcher(s)).find() || (m = JSON_BODY.matcher(s)).find()) {
+                jsonExists.add(m.group(1));
+                matched = true;
+            }
+            if ((m = BODY_INCLUDES.matcher(s)).find()) {
+                bodyIncludes.add(m.group(2));
+                matched = true;
+            }
+            if ((m = TIME_BELOW.matcher(s)).find()) {
+                maxResponseTimeMs = Long.parseLong(m.group(1));
+                matched = true;
+            }
+            m = CAPTURE.matcher(s);
+            while (m.find()) {
+                captures.put(m.group(1), m.group(2));
+                matched = true;
+            }
+            if (!matched && s.contains("pm.") && !NEUTRAL.matcher(s).matches()) {
+                unsupportedScriptLines++;
+            }
+        }
+
+        // JavaScript literal to JSON: numbers, booleans, null and single- or double-quoted strings
+        private static JsonNode literal(String js) {
+            String s = js.trim();
+            if (s.length() >= 2 && s.startsWith("'") && s.endsWith("'")) {
+                s = quote(s.substring(1, s.length() - 1));
+            }
+            try {
+                JsonNode node = MAPPER.readTree(s);
+                return node != null && node.isValueNode() ? node : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        public String getFolder() { return folder; }
+        public String getName() { return name; }
+        public String getMethod() { return method; }
+        public String getUrl() { return url; }
+        public List<String[]> getHeaders() { return headers; }
+        public String getBody() { return body; }
+        public String getDefaultContentType() { return defaultContentType; }
+        public boolean isFormEncoded() { return formEncoded; }
+        public String[] getBasicAuth() { return basicAuth; }
+        public Set<Integer> getExpectedStatuses() { return expectedStatuses; }
+        public boolean isExpectSuccess() { return expectSuccess; }
+        public Map<String, JsonNode> getJsonEquals() { return jsonEquals; }
+        public List<String> getJsonExists() { return jsonExists; }
+        public List<String> getBodyIncludes() { return bodyIncludes; }
+        public long getMaxResponseTimeMs() { return maxResponseTimeMs; }
+        public Map<String, String> getCaptures() { return captures; }
+        public int getUnsupportedScriptLines() { return unsupportedScriptLines; }
+    }
+}
@@ -0,0 +1,335 @@
+package com.testframework.regression.engine;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import com.testframework.regression.service.TestCaseImportService;
+import com.testframework.regression.service.TestCaseService;
+import com.testframework.regression.service.TestResultService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Runs a Postman collection natively on the pooled ApiHttpClient and records one TestResult per request.
+// Folders run in collection order; requests inside a folder run concurrently, except that a request which
+// captures variables is a barrier so later requests see the values it sets.
+@Component
+public class PostmanCollectionRunner {
+
+    static final String MODE = "POSTMAN";
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{\\s*([^{}]+?)\\s*}}");
+
+    private final ApiHttpClient apiHttpClient;
+    private final ApiTestExecutor apiTestExecutor;
+    private final TestCaseImportService testCaseImportService;
+    private final TestCaseService testCaseService;
+    private final TestResultService testResultService;
+    private final ExecutionRecordRepository executionRecordRepository;
+    private final int maxConcurrency;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService coordinator = Executors.newFixedThreadPool(2, r -> {
+        Thread t = new Thread(r, "postman-runner");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public PostmanCollectionRunner(ApiHttpClient apiHttpClient,
+                                   ApiTestExecutor apiTestExecutor,
+                                   TestCaseImportService testCaseImportService,
+                                   TestCaseService testCaseService,
+                                   TestResultService testResultService,
+                                   ExecutionRecordRepository executionRecordRepository,
+                                   @Value("${postman.maxConcurrency:8}") int maxConcurrency) {
+        this.apiHttpClient = apiHttpClient;
+        this.apiTestExecutor = apiTestExecutor;
+        this.testCaseImportService = testCaseImportService;
+        this.testCaseService = testCaseService;
+        this.testResultService = testResultService;
+        this.executionRecordRepository = executionRecordRepository;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    // Registers the collection's requests as API test cases and runs them in the background
+    public String start(PostmanCollection collection, Map<String, String> environment, Integer concurrency, boolean requireSuccessStatus) {
+        String executionId = "postman_" + System.currentTimeMillis();
+        Map<PostmanCollection.Request, TestCase> testCases = register(collection);
+
+        ExecutionRecord rec = new ExecutionRecord();
+        rec.setExecutionId(executionId);
+        rec.setStatus("RUNNING");
+        rec.setStartTime(OffsetDateTime.now());
+        rec.setMode(MODE);
+        rec.setTestCaseIdsCsv(idsCsv(testCases));
+        rec.setTotalTests(testCases.size());
+        executionRecordRepository.save(rec);
+        // Not stored as the record's parallelismLevel: that column is the adaptive tuner's starting point
+        int level = concurrency == null ? maxConcurrency : Math.max(1, Math.min(concurrency, maxConcurrency));
+
+        CompletableFuture.runAsync(() -> {
+            try {
+                List<TestResult> results = run(executionId, collection, testCases, environment, level, requireSuccessStatus);
+                int passed = (int) results.stream().filter(r -> r.getStatus() == TestStatus.PASSED).count();
+                finish(executionId, "COMPLETED", results.size(), passed, results.size() - passed, null);
+            } catch (Exception e) {
+                finish(executionId, "FAILED", null, null, null, e.getMessage());
+            }
+        }, coordinator);
+        return executionId;
+    }
+
+    List<TestResult> run(String executionId, PostmanCollection collection, Map<PostmanCollection.Request, TestCase> testCases,
+                         Map<String, String> environment, int concurrency, boolean requireSuccessStatus) throws Exception {
+        // Postman precedence: environment overrides collection variables; captures overwrite both
+        Map<String, String> variables = new ConcurrentHashMap<>(collection.getVariables());
+        if (environment != null) {
+            environment.forEach((k, v) -> { if (k != null && v != null) variables.put(k, v); });
+        }
+        System.out.println("📮 Running Postman collection '" + collection.getName() + "' (" + collection.requestCount()
+                + " requests, concurrency " + concurrency + ") as " + executionId);
+
+        List<TestResult> results = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (PostmanCollection.Folder folder : collection.getFolders()) {
+                List<Future<TestResult>> inFlight = new ArrayList<>();
+                for (PostmanCollection.Request request : folder.getRequests()) {
+                    TestCase testCase = testCases.get(request);
+                    if (concurrency == 1 || !request.getCaptures().isEmpty()) {
+                        drain(inFlight, results);
+                        results.add(execute(executionId, request, testCase, variables, requireSuccessStatus));
+                    } else {
+                        inFlight.add(workers.submit(() -> execute(executionId, request, testCase, variables, requireSuccessStatus)));
+                    }
+                }
+                // Folders are ordered steps in most collections, so a folder finishes before the next starts
+                drain(inFlight, results);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return results;
+    }
+
+    private static void drain(List<Future<TestResult>> inFlight, List<TestResult> results) throws Exception {
+        for (Future<TestResult> f : inFlight) {
+            results.add(f.get());
+        }
+        inFlight.clear();
+    }
+
+    private TestResult execute(String executionId, PostmanCollection.Request request, TestCase testCase,
+                               Map<String, String> variables, boolean requireSuccessStatus) {
+        TestResult result = new TestResult();
+        result.setTestCase(testCase);
+        result.setExecutionId(executionId);
+        result.setExecutedAt(OffsetDateTime.now());
+
+        String method = request.getMethod();
+        String url = request.getUrl() != null ? substitute(request.getUrl(), variables) : null;
+        List<String[]> headers = new ArrayList<>();
+        for (String[] h : request.getHeaders()) {
+            headers.add(new String[]{substitute(h[0], variables), substitute(h[1], variables)});
+        }
+        if (request.getBasicAuth() != null) {
+            String credentials = substitute(request.getBasicAuth()[0], variables) + ":" + substitute(request.getBasicAuth()[1], variables);
+            headers.add(new String[]{"Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8))});
+        }
+        String body = request.getBody() != null ? substitute(request.getBody(), variables) : null;
+        if (body != null && request.isFormEncoded()) body = PostmanCollection.formEncode(body);
+        if (body != null && !body.isEmpty() && request.getDefaultContentType() != null
+                && headers.stream().noneMatch(h -> "content-type".equalsIgnoreCase(h[0]))) {
+            headers.add(new String[]{"Content-Type", request.getDefaultContentType()});
+        }
+
+        ApiHttpClient.ApiResponse response = null;
+        List<String> failures = new ArrayList<>();
+        try {
+            if (url == null || url.isBlank()) {
+                failures.add("request has no URL");
+            } else if (VARIABLE.matcher(url).find()) {
+                failures.add("unresolved variable in URL " + url);
+            } else {
+                response = apiHttpClient.send(method, url, headers, body);
+                assertResponse(request, response, variables, requireSuccessStatus, failures);
+            }
+        } catch (Exception e) {
+            failures.add("request failed: " + e.getClass().getSimpleName() + (e.getMessage() != null ? " " + e.getMessage() : ""));
+        }
+
+        StringBuilder message = new StringBuilder();
+        message.append(method).append(' ').append(url);
+        if (response != null) {
+            message.append(" -> ").append(response.getStatus()).append(" in ").append(response.getElapsedMs()).append("ms");
+        }
+        if (!failures.isEmpty()) message.append(" | ").append(String.join("; ", failures));
+        if (request.getUnsupportedScriptLines() > 0) {
+            message.append(" | ").append(request.getUnsupportedScriptLines()).append(" script line(s) not evaluated");
+        }
+        result.setStatus(failures.isEmpty() ? TestStatus.PASSED : TestStatus.FAILED);
+        result.setMessage(message.length() > 4000 ? message.substring(0, 4000) : message.toString());
+
+        apiTestExecutor.storeArtifacts(result, executionId, testCase, method, url, headers, body, response);
+        return testResultService.save(result);
+    }
+
+    private void assertResponse(PostmanCollection.Request request, ApiHttpClient.ApiResponse response, Map<String, String> variables,
+                                boolean requireSuccessStatus, List<String> failures) {
+        int status = response.getStatus();
+        if (!request.getExpectedStatuses().isEmpty()) {
+            if (!request.getExpectedStatuses().contains(status)) {
+                failures.add("expected status " + request.getExpectedStatuses() + " but was " + status);
+            }
+        } else if ((request.isExpectSuccess() || requireSuccessStatus) && (status < 200 || status >= 300)) {
+            failures.add("expected a 2xx status but was " + status);
+        }
+        if (request.getMaxResponseTimeMs() >= 0 && response.getElapsedMs() >= request.getMaxResponseTimeMs()) {
+            failures.add("response time " + response.getElapsedMs() + "ms not below " + request.getMaxResponseTimeMs() + "ms");
+        }
+        for (String text : request.getBodyIncludes()) {
+            if (response.getBody() == null || !response.getBody().contains(text)) {
+                failures.add("body does not include '" + text + "'");
+            }
+        }
+        if (request.getJsonEquals().isEmpty() && request.getJsonExists().isEmpty() && request.getCaptures().isEmpty()) {
+            return;
+        }
+        JsonNode json;
+        try {
+            json = objectMapper.readTree(response.getBody());
+        } catch (Exception e) {
+            failures.add("response is not JSON");
+            return;
+        }
+        request.getJsonEquals().forEach((path, expected) -> {
+            JsonNode actual = JsonPath.select(json, path);
+            if (!matches(actual, expected)) {
+                failures.add(path + " expected " + expected + " but was " + (actual.isMissingNode() ? "missing" : actual));
+            }
+        });
+        for (String path : request.getJsonExists()) {
+            JsonNode actual = JsonPath.select(json, path);
+            if (actual.isMissingNode() || actual.isNull()) failures.add(path + " is missing");
+        }
+        request.getCaptures().forEach((name, path) -> {
+            JsonNode value = JsonPath.select(json, path);
+            if (value.isMissingNode() || value.isNull()) {
+                failures.add("cannot capture " + name + ": " + path + " is missing");
+            } else {
+                variables.put(name, value.isValueNode() ? value.asText() : value.toString());
+            }
+        });
+    }
+
+    // Numbers compare by value so 1 equals 1.0, as with JavaScript's deep-equal on numbers
+    private static boolean matches(JsonNode actual, JsonNode expected) {
+        if (actual.isNumber() && expected.isNumber()) {
+            return actual.decimalValue().compareTo(expected.decimalValue()) == 0;
+        }
+        return actual.equals(expected);
+    }
+
+    static String substitute(String template, Map<String, String> variables) {
+        if (template.indexOf("{{") < 0) return template;
+        Matcher m = VARIABLE.matcher(template);
+        StringBuilder sb = new StringBuilder();
+        while (m.find()) {
+            String name = m.group(1);
+            String value = name.startsWith("$") ? dynamic(name) : variables.get(name);
+            // Unknown variables stay as written so the failure message shows what was missing
+            m.appendReplacement(sb, Matcher.quoteReplacement(value != null ? value : m.group()));
+        }
+        m.appendTail(sb);
+        return sb.toString();
+    }
+
+    private static String dynamic(String name) {
+        return switch (name) {
+            case "$guid", "$randomUUID" -> UUID.randomUUID().toString();
+            case "$timestamp" -> String.valueOf(System.currentTimeMillis() / 1000);
+            case "$isoTimestamp" -> OffsetDateTime.now().toString();
+            case "$randomInt" -> String.valueOf(ThreadLocalRandom.current().nextInt(0, 1001));
+            default -> null;
+        };
+    }
+
+    // Upserts one API test case per request so results join the regular reports and history
+    private Map<PostmanCollection.Request, TestCase> register(PostmanCollection collection) {
+        String tags = "postman,postman-" + slug(collection.getName());
+        Map<PostmanCollection.Request, String> names = new LinkedHashMap<>();
+        List<TestCaseImportService.ImportRow> rows = new ArrayList<>();
+        for (PostmanCollection.Folder folder : collection.getFolders()) {
+            for (PostmanCollection.Request request : folder.getRequests()) {
+                String name = testCaseName(collection, request);
+                names.put(request, name);
+                String description = "Postman: " + request.getMethod() + " " + (request.getUrl() != null ? request.getUrl() : "(no url)");
+                rows.add(new TestCaseImportService.ImportRow(name, "API", description.length() > 2000 ? description.substring(0, 2000) : description, tags));
+            }
+        }
+        testCaseImportService.importRows(rows);
+        Map<String, TestCase> byName = testCaseService.catalogByName();
+        Map<PostmanCollection.Request, TestCase> testCases = new LinkedHashMap<>();
+        names.forEach((request, name) -> {
+            TestCase tc = byName.get(name);
+            if (tc == null) {
+                tc = testCaseService.findByName(name).orElseThrow(() -> new IllegalStateException("Test case not registered: " + name));
+            }
+            testCases.put(request, tc);
+        });
+        return testCases;
+    }
+
+    private static String testCaseName(PostmanCollection collection, PostmanCollection.Request request) {
+        String name = "Postman_" + collection.getName() + (request.getFolder().isEmpty() ? "" : " / " + request.getFolder()) + " / " + request.getName();
+        return name.length() > 255 ? name.substring(0, 255) : name;
+    }
+
+    private static String slug(String name) {
+        String slug = name.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("^-|-$", "");
+        return slug.length() > 60 ? slug.substring(0, 60) : slug;
+    }
+
+    private static String idsCsv(Map<PostmanCollection.Request, TestCase> testCases) {
+        return testCases.values().stream().map(tc -> String.valueOf(tc.getId())).distinct().toList().toString();
+    }
+
+    private void finish(String executionId, String status, Integer total, Integer passed, Integer failed, String error) {
+        ExecutionRecord rec = executionRecordRepository.findByExecutionId(executionId).orElse(new ExecutionRecord());
+        rec.setExecutionId(executionId);
+        rec.setStatus(status);
+        rec.setEndTime(OffsetDateTime.now());
+        if (total != null) rec.setTotalTests(total);
+        rec.setPassedTests(passed);
+        rec.setFailedTests(failed);
+        if (error != null) rec.setErrorMessage(error.length() > 2000 ? error.substring(0, 2000) : error);
+        executionRecordRepository.save(rec);
+        System.out.println("📮 Postman run " + executionId + " " + status
+                + (total != null ? ": " + passed + "/" + total + " passed" : ": " + error));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+}
@@ -0,0 +1,210 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.repository.TestCaseRepository;
+import com.testframework.regression.repository.TestResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+// Splits a selection into shardCount parts of about equal expected wall time, for CI jobs that each run one part.
+// Longest processing time first: slowest test first, each to the shard with the least expected time so far. Ties
+// break on test id and shard index, so every job computes the same split from the same history.
+// A test's expected time is its average duration in results recorded before historyBefore, an instant every job
+// of the run is given; live averages would move as soon as the first job records results. Jobs that don't share
+// a database point shards.durationsFile at a JUnit report of an earlier run (e.g. the previous pipeline's merged
+// report) to use its testcase times instead. Tests without history count as the average of their type.
+@Component
+public class ShardPlanner {
+
+    private static final long DEFAULT_ESTIMATE_MS = 1000;
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestResultRepository testResultRepository;
+    private final String durationsFile;
+
+    public ShardPlanner(TestCaseRepository testCaseRepository,
+                        TestResultRepository testResultRepository,
+                        @Value("${shards.durationsFile:}") String durationsFile) {
+        this.testCaseRepository = testCaseRepository;
+        this.testResultRepository = testResultRepository;
+        this.durationsFile = durationsFile;
+    }
+
+    // The tests of shard shardIndex (0-based), slowest first; IllegalArgumentException for an invalid index or count
+    public List<Long> shard(List<Long> ids, int shardIndex, int shardCount, OffsetDateTime historyBefore) {
+        validate(shardIndex, shardCount);
+        List<Shard> shards = plan(ids, shardCount, historyBefore);
+        Shard shard = shards.get(shardIndex);
+        long totalMs = shards.stream().mapToLong(Shard::getEstimatedMs).sum();
+        System.out.println("🧩 Shard " + (shardIndex + 1) + "/" + shardCount + ": " + shard.getTestCaseIds().size() + " of "
+                + shards.stream().mapToInt(s -> s.getTestCaseIds().size()).sum() + " tests, ~" + shard.getEstimatedMs() / 1000
+                + " s of ~" + totalMs / 1000 + " s expected");
+        return shard.getTestCaseIds();
+    }
+
+    // historyBefore may only be null when shards.durationsFile is set or there is a single shard
+    public List<Shard> plan(List<Long> ids, int shardCount, OffsetDateTime historyBefore) {
+        validate(0, shardCount);
+        if (historyBefore == null && durationsFile.isBlank() && shardCount > 1) {
+            throw new IllegalArgumentException("Sharding needs historyBefore, the same instant for every shard,"
+                    + " or shards.durationsFile, so that every job computes the same split");
+        }
+        List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+        Map<Long, TestCase> cases = new HashMap<>();
+        testCaseRepository.findAllById(distinct).forEach(tc -> cases.put(tc.getId(), tc));
+        Map<Long, Long> known = shardCount == 1 ? Map.of() : history(distinct, cases, historyBefore);
+        return pack(distinct, estimates(distinct, cases, known), shardCount);
+    }
+
+    // ISO-8601 instant such as 2026-10-18T09:00:00Z; null for null or blank
+    public static OffsetDateTime parseHistoryBefore(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return OffsetDateTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("historyBefore must be an ISO-8601 date-time with offset, was " + value);
+        }
+    }
+
+    public static void validate(int shardIndex, int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("shardCount must be at least 1, was " + shardCount);
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("shardIndex must be between 0 and " + (shardCount - 1) + ", was " + shardIndex);
+        }
+    }
+
+    static List<Shard> pack(List<Long> ids, Map<Long, Long> estimates, int shardCount) {
+        List<Long> order = new ArrayList<>(ids);
+        order.sort(Comparator.comparing((Long id) -> estimates.get(id)).reversed().thenComparing(Comparator.naturalOrder()));
+        List<Shard> shards = new ArrayList<>();
+        PriorityQueue<Shard> lightest = new PriorityQueue<>(Comparator.comparingLong(Shard::getEstimatedMs)
+                .thenComparingInt(Shard::getIndex));
+        for (int i = 0; i < shardCount; i++) {
+            Shard shard = new Shard(i);
+            shards.add(shard);
+            lightest.add(shard);
+        }
+        for (Long id : order) {
+            Shard shard = lightest.poll();
+            shard.testCaseIds.add(id);
+            shard.estimatedMs += estimates.get(id);
+            lightest.add(shard);
+        }
+        return shards;
+    }
+
+    // testCaseId -> known average duration, from the durations file when one is configured, else the database.
+    // A configured file that can't be read means no history at all rather than a fallback to the database,
+    // which other jobs may not share.
+    private Map<Long, Long> history(List<Long> ids, Map<Long, TestCase> cases, OffsetDateTime historyBefore) {
+        Map<Long, Long> known = new HashMap<>();
+        if (!durationsFile.isBlank()) {
+            Map<String, Long> byName = readDurationsFile(Paths.get(durationsFile));
+            for (Long id : ids) {
+                TestCase tc = cases.get(id);
+                Long ms = tc != null ? byName.get(tc.getName()) : null;
+                if (ms != null) known.put(id, ms);
+            }
+            return known;
+        }
+        if (ids.isEmpty()) return known;
+        for (Object[] row : testResultRepository.findAverageDurations(ids, historyBefore)) {
+            known.put((Long) row[0], Math.round(((Number) row[1]).doubleValue()));
+        }
+        return known;
+    }
+
+    private static Map<Long, Long> estimates(List<Long> ids, Map<Long, TestCase> cases, Map<Long, Long> known) {
+        Map<TestType, long[]> byType = new EnumMap<>(TestType.class); // type -> {sum, count}
+        long sum = 0;
+        for (Map.Entry<Long, Long> entry : known.entrySet()) {
+            sum += entry.getValue();
+            TestCase tc = cases.get(entry.getKey());
+            if (tc != null && tc.getType() != null) {
+                long[] acc = byType.computeIfAbsent(tc.getType(), t -> new long[2]);
+                acc[0] += entry.getValue();
+                acc[1]++;
+            }
+        }
+        long overall = known.isEmpty() ? DEFAULT_ESTIMATE_MS : sum / known.size();
+        Map<Long, Long> estimates = new HashMap<>();
+        for (Long id : ids) {
+            Long ms = known.get(id);
+            if (ms == null) {
+                TestCase tc = cases.get(id);
+                long[] acc = tc != null && tc.getType() != null ? byType.get(tc.getType()) : null;
+                ms = acc != null ? acc[0] / acc[1] : overall;
+            }
+            // Zero-time tests still take a slot; keeps the packing from piling them all on one shard
+            estimates.put(id, Math.max(1, ms));
+        }
+        return estimates;
+    }
+
+    // testcase name -> average time in a JUnit report; empty when the file is missing or unreadable
+    static Map<String, Long> readDurationsFile(Path file) {
+        if (!Files.isRegularFile(file)) {
+            System.out.println("⚠️ shards.durationsFile " + file + " not found, planning without history");
+            return Map.of();
+        }
+        try (InputStream in = Files.newInputStream(file)) {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            Document document = factory.newDocumentBuilder().parse(in);
+            NodeList testcases = document.getElementsByTagName("testcase");
+            Map<String, long[]> totals = new HashMap<>(); // name -> {sum ms, count}
+            for (int i = 0; i < testcases.getLength(); i++) {
+                Element testcase = (Element) testcases.item(i);
+                String time = testcase.getAttribute("time");
+                if (time.isBlank()) continue;
+                long[] acc = totals.computeIfAbsent(testcase.getAttribute("name"), n -> new long[2]);
+                acc[0] += Math.round(Double.parseDouble(time.trim()) * 1000);
+                acc[1]++;
+            }
+            Map<String, Long> durations = new HashMap<>();
+            totals.forEach((name, acc) -> durations.put(name, acc[0] / acc[1]));
+            return durations;
+        } catch (Exception e) {
+            System.out.println("⚠️ Could not read shards.durationsFile " + file + " (" + e.getMessage() + "), planning without history");
+            return Map.of();
+        }
+    }
+
+    public static class Shard {
+        private final int index;
+        private final List<Long> testCaseIds = new ArrayList<>();
+        private long estimatedMs;
+
+        public Shard(int index) {
+            this.index = index;
+        }
+
+        public int getIndex() { return index; }
+        public List<Long> getTestCaseIds() { return testCaseIds; }
+        public long getEstimatedMs() { return estimatedMs; }
+    }
+}
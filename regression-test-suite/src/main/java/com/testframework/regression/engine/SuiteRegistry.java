@@ -1,22 +1,43 @@
 package com.testframework.regression.engine;
 
+import com.testframework.regression.domain.SuiteDefinition;
 import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.repository.SuiteDefinitionRepository;
 import com.testframework.regression.service.TestCaseService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
+// Suites resolve from, in order: a DB definition, the hot-reloaded suites file, the built-in name lists.
+// DB and file suites are tag expressions evaluated against the TagIndex.
 @Component
 public class SuiteRegistry {
 
     private final TestCaseService testCaseService;
+    private final SuiteDefinitionRepository suiteDefinitionRepository;
+    private final TagIndex tagIndex;
+    private final Path suitesFile;
+    private volatile Map<String, String> fileSuites = Map.of();
+    private volatile FileTime fileSuitesModified;
 
-    public SuiteRegistry(TestCaseService testCaseService) {
+    public SuiteRegistry(TestCaseService testCaseService,
+                         SuiteDefinitionRepository suiteDefinitionRepository,
+                         TagIndex tagIndex,
+                         @Value("${suites.file:suites.properties}") String suitesFile) {
         this.testCaseService = testCaseService;
+        this.suiteDefinitionRepository = suiteDefinitionRepository;
+        this.tagIndex = tagIndex;
+        this.suitesFile = Paths.get(suitesFile);
     }
 
-    // suiteId -> canonical test case names
+    // suiteId -> canonical test case names (built-in fallback)
     private static final Map<String, List<String>> SUITE_TO_NAMES = Map.of(
         "BLAZE_SMOKE", List.of(
             "BlazeDemo_HomePage_Test",
@@ -71,11 +92,16 @@ public class SuiteRegistry {
 
     public Optional<List<Long>> resolveSuiteToTestCaseIds(String suiteId) {
         if (suiteId == null) return Optional.empty();
-        List<String> names = SUITE_TO_NAMES.getOrDefault(suiteId.toUpperCase(Locale.ROOT), Collections.emptyList());
+        String key = suiteId.toUpperCase(Locale.ROOT);
+        String expression = expressionFor(key);
+        if (expression != null) {
+            return Optional.of(select(expression));
+        }
+        List<String> names = SUITE_TO_NAMES.getOrDefault(key, Collections.emptyList());
         if (names.isEmpty()) return Optional.of(Collections.emptyList());
 
-        List<TestCase> all = testCaseService.findAll();
-        Map<String, TestCase> nameToCase = all.stream().collect(Collectors.toMap(TestCase::getName, tc -> tc, (a,b)->a));
+        // Cached name index; only a cold or invalidated catalog costs a query
+        Map<String, TestCase> nameToCase = testCaseService.catalogByName();
 
         List<Long> ids = new ArrayList<>();
         for (String n : names) {
@@ -86,9 +112,70 @@ public class SuiteRegistry {
         }
         return Optional.of(ids);
     }
-}
 
+    public List<Long> select(String tagExpression) {
+        return tagIndex.select(TagExpression.parse(tagExpression));
+    }
 
+    // suiteId -> "source: definition" for every suite visible right now
+    public Map<String, String> listSuites() {
+        Map<String, String> suites = new TreeMap<>();
+        SUITE_TO_NAMES.forEach((name, names) -> suites.put(name, "builtin: " + names.size() + " named tests"));
+        fileSuites().forEach((name, expr) -> suites.put(name, "file: " + expr));
+        for (SuiteDefinition def : suiteDefinitionRepository.findAll()) {
+            suites.put(def.getName(), "db: " + def.getExpression());
+        }
+        return suites;
+    }
 
+    private String expressionFor(String suiteId) {
+        Optional<SuiteDefinition> stored = suiteDefinitionRepository.findByName(suiteId);
+        if (stored.isPresent()) {
+            return stored.get().getExpression();
+        }
+        return fileSuites().get(suiteId);
+    }
 
+    // Re-read only when the file's mtime changes, so editing it takes effect without a redeploy
+    private Map<String, String> fileSuites() {
+        try {
+            if (!Files.isRegularFile(suitesFile)) {
+                fileSuites = Map.of();
+                fileSuitesModified = null;
+                return fileSuites;
+            }
+            FileTime modified = Files.getLastModifiedTime(suitesFile);
+            if (!modified.equals(fileSuitesModified)) {
+                synchronized (this) {
+                    if (!modified.equals(fileSuitesModified)) {
+                        fileSuites = loadSuitesFile();
+                        fileSuitesModified = modified;
+                        System.out.println("📄 Loaded " + fileSuites.size() + " suite(s) from " + suitesFile);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read " + suitesFile + ": " + e.getMessage());
+        }
+        return fileSuites;
+    }
 
+    private Map<String, String> loadSuitesFile() throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(suitesFile)) {
+            props.load(reader);
+        }
+        Map<String, String> suites = new HashMap<>();
+        for (String name : props.stringPropertyNames()) {
+            String expression = props.getProperty(name).trim();
+            try {
+                TagExpression.parse(expression);
+                suites.put(name.trim().toUpperCase(Locale.ROOT), expression);
+            } catch (IllegalArgumentException e) {
+                // One bad line must not take the other suites down with it
+                System.out.println("❌ Ignoring suite " + name + ": " + e.getMessage());
+            }
+        }
+        return Map.copyOf(suites);
+    }
+}
@@ -0,0 +1,150 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.OffsetDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// SYNTHETIC test cases: no browser, no network, just a workload read from the description, so a run
+// measures the engine's own scheduling and persistence overhead. Specs, optionally with ";fail=<rate>":
+//   noop | sleep:<ms> | cpu:<micros> | uniform:<minMs>-<maxMs> | lognormal:<medianMs>,<sigma>
+@Component
+public class SyntheticWorkload {
+
+    public static final String DEFAULT_SPEC = "noop";
+
+    private final Map<String, Spec> specs = new ConcurrentHashMap<>();
+
+    public TestResult execute(TestCase testCase) {
+        TestResult result = new TestResult();
+        result.setTestCase(testCase);
+        result.setExecutedAt(OffsetDateTime.now());
+        String source = testCase.getDescription() == null || testCase.getDescription().isBlank()
+                ? DEFAULT_SPEC : testCase.getDescription().trim();
+        Spec spec;
+        try {
+            spec = specs.computeIfAbsent(source, Spec::parse);
+        } catch (IllegalArgumentException e) {
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage("Invalid synthetic spec: " + e.getMessage());
+            return result;
+        }
+        long start = System.nanoTime();
+        try {
+            spec.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage("Synthetic " + source + " interrupted");
+            return result;
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+        boolean failed = spec.failRate > 0 && ThreadLocalRandom.current().nextDouble() < spec.failRate;
+        result.setStatus(failed ? TestStatus.FAILED : TestStatus.PASSED);
+        result.setMessage("Synthetic " + source + (failed ? " injected failure" : " completed") + " in " + micros + "us");
+        return result;
+    }
+
+    // Validates a spec without running it, e.g. before seeding a catalog with it
+    public static void validate(String spec) {
+        Spec.parse(spec == null || spec.isBlank() ? DEFAULT_SPEC : spec.trim());
+    }
+
+    private static final class Spec {
+        private final String kind;
+        private final double a;
+        private final double b;
+        private final double failRate;
+
+        private Spec(String kind, double a, double b, double failRate) {
+            this.kind = kind;
+            this.a = a;
+            this.b = b;
+            this.failRate = failRate;
+        }
+
+        static Spec parse(String source) {
+            String s = source.toLowerCase(Locale.ROOT);
+            double failRate = 0;
+            int semi = s.indexOf(';');
+            if (semi >= 0) {
+                String option = s.substring(semi + 1).trim();
+                if (!option.startsWith("fail=")) throw new IllegalArgumentException("unknown option '" + option + "'");
+                failRate = number(option.substring(5), source);
+                if (failRate < 0 || failRate > 1) throw new IllegalArgumentException("fail rate must be between 0 and 1");
+                s = s.substring(0, semi).trim();
+            }
+            int colon = s.indexOf(':');
+            String kind = colon < 0 ? s : s.substring(0, colon).trim();
+            String args = colon < 0 ? "" : s.substring(colon + 1).trim();
+            switch (kind) {
+                case "noop":
+                    return new Spec(kind, 0, 0, failRate);
+                case "sleep":
+                case "cpu":
+                    return new Spec(kind, nonNegative(number(args, source), source), 0, failRate);
+                case "uniform": {
+                    int dash = args.indexOf('-');
+                    if (dash < 0) throw new IllegalArgumentException("expected uniform:<minMs>-<maxMs> in '" + source + "'");
+                    double min = nonNegative(number(args.substring(0, dash), source), source);
+                    double max = number(args.substring(dash + 1), source);
+                    if (max < min) throw new IllegalArgumentException("uniform max below min in '" + source + "'");
+                    return new Spec(kind, min, max, failRate);
+                }
+                case "lognormal": {
+                    int comma = args.indexOf(',');
+                    if (comma < 0) throw new IllegalArgumentException("expected lognormal:<medianMs>,<sigma> in '" + source + "'");
+                    double median = number(args.substring(0, comma), source);
+                    if (median <= 0) throw new IllegalArgumentException("lognormal median must be positive in '" + source + "'");
+                    return new Spec(kind, Math.log(median), nonNegative(number(args.substring(comma + 1), source), source), failRate);
+                }
+                default:
+                    throw new IllegalArgumentException("unknown synthetic kind '" + kind + "'");
+            }
+        }
+
+        private static double number(String s, String source) {
+            try {
+                return Double.parseDouble(s.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("'" + s.trim() + "' is not a number in '" + source + "'");
+            }
+        }
+
+        private static double nonNegative(double v, String source) {
+            if (v < 0) throw new IllegalArgumentException("negative value in '" + source + "'");
+            return v;
+        }
+
+        void run() throws InterruptedException {
+            switch (kind) {
+                case "sleep" -> sleepMillis(a);
+                case "cpu" -> burn((long) (a * 1000));
+                case "uniform" -> sleepMillis(a + ThreadLocalRandom.current().nextDouble() * (b - a));
+                case "lognormal" -> sleepMillis(Math.exp(a + b * ThreadLocalRandom.current().nextGaussian()));
+                default -> { }
+            }
+        }
+
+        private static void sleepMillis(double ms) throws InterruptedException {
+            long nanos = (long) (ms * 1_000_000);
+            if (nanos > 0) Thread.sleep(nanos / 1_000_000, (int) (nanos % 1_000_000));
+        }
+
+        // Busy-spins for the given time so the test occupies its worker thread's CPU
+        private static void burn(long nanos) {
+            long end = System.nanoTime() + nanos;
+            long x = 0;
+            while (System.nanoTime() < end) {
+                x += x * 31 + 7;
+            }
+            if (x == 42) System.out.print("");
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.testframework.regression.engine;
+
+import java.util.BitSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+// Boolean expression over test tags: "ui & smoke & !flaky", "(api | contract) & !slow".
+// Precedence: ! binds tighter than &, which binds tighter than |.
+public final class TagExpression {
+
+    private final String source;
+    private final Node root;
+
+    private TagExpression(String source, Node root) {
+        this.source = source;
+        this.root = root;
+    }
+
+    public static TagExpression parse(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("Tag expression is empty");
+        }
+        Parser parser = new Parser(expression);
+        Node root = parser.parseOr();
+        parser.skipSpaces();
+        if (parser.pos < expression.length()) {
+            throw new IllegalArgumentException("Unexpected '" + expression.charAt(parser.pos) + "' at " + parser.pos + " in: " + expression);
+        }
+        return new TagExpression(expression, root);
+    }
+
+    // tagBits returns the tests carrying a tag (null if none); universe is every test in the catalog
+    public BitSet evaluate(Function<String, BitSet> tagBits, BitSet universe) {
+        return root.eval(tagBits, universe);
+    }
+
+    public Set<String> tags() {
+        Set<String> tags = new TreeSet<>();
+        root.collect(tags);
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+
+    static String normalizeTag(String tag) {
+        return tag.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private interface Node {
+        BitSet eval(Function<String, BitSet> tagBits, BitSet universe);
+        void collect(Set<String> tags);
+    }
+
+    private record Tag(String name) implements Node {
+        public BitSet eval(Function<String, BitSet> tagBits, BitSet universe) {
+            BitSet bits = tagBits.apply(name);
+            return bits != null ? (BitSet) bits.clone() : new BitSet();
+        }
+        public void collect(Set<String> tags) { tags.add(name); }
+    }
+
+    private record Not(Node operand) implements Node {
+        public BitSet eval(Function<String, BitSet> tagBits, BitSet universe) {
+            BitSet result = (BitSet) universe.clone();
+            result.andNot(operand.eval(tagBits, universe));
+            return result;
+        }
+        public void collect(Set<String> tags) { operand.collect(tags); }
+    }
+
+    private record And(Node left, Node right) implements Node {
+        public BitSet eval(Function<String, BitSet> tagBits, BitSet universe) {
+            BitSet result = left.eval(tagBits, universe);
+            if (result.isEmpty()) return result;
+            result.and(right.eval(tagBits, universe));
+            return result;
+        }
+        public void collect(Set<String> tags) { left.collect(tags); right.collect(tags); }
+    }
+
+    private record Or(Node left, Node right) implements Node {
+        public BitSet eval(Function<String, BitSet> tagBits, BitSet universe) {
+            BitSet result = left.eval(tagBits, universe);
+            result.or(right.eval(tagBits, universe));
+            return result;
+        }
+        public void collect(Set<String> tags) { left.collect(tags); right.collect(tags); }
+    }
+
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Node parseOr() {
+            Node left = parseAnd();
+            while (accept('|')) {
+                left = new Or(left, parseAnd());
+            }
+            return left;
+        }
+
+        Node parseAnd() {
+            Node left = parseUnary();
+            while (accept('&')) {
+                left = new And(left, parseUnary());
+            }
+            return left;
+        }
+
+        Node parseUnary() {
+            if (accept('!')) {
+                return new Not(parseUnary());
+            }
+            if (accept('(')) {
+                Node inner = parseOr();
+                if (!accept(')')) {
+                    throw new IllegalArgumentException("Missing ')' at " + pos + " in: " + text);
+                }
+                return inner;
+            }
+            skipSpaces();
+            int start = pos;
+            while (pos < text.length() && isTagChar(text.charAt(pos))) pos++;
+            if (start == pos) {
+                throw new IllegalArgumentException("Expected a tag at " + pos + " in: " + text);
+            }
+            return new Tag(normalizeTag(text.substring(start, pos)));
+        }
+
+        boolean accept(char c) {
+            skipSpaces();
+            if (pos < text.length() && text.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void skipSpaces() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) pos++;
+        }
+
+        private static boolean isTagChar(char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.' || c == ':';
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.service.TestCaseService;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// One bitset per tag over dense test ordinals (position in id order), rebuilt when the catalog version moves.
+// Selecting a suite is a handful of word-wise AND/OR/ANDNOT operations, independent of catalog size.
+@Component
+public class TagIndex {
+
+    private final TestCaseService testCaseService;
+    private volatile Index index;
+
+    public TagIndex(TestCaseService testCaseService) {
+        this.testCaseService = testCaseService;
+    }
+
+    public List<Long> select(TagExpression expression) {
+        Index current = current();
+        BitSet selected = expression.evaluate(current.byTag::get, current.all);
+        List<Long> ids = new ArrayList<>(selected.cardinality());
+        for (int i = selected.nextSetBit(0); i >= 0; i = selected.nextSetBit(i + 1)) {
+            ids.add(current.ids[i]);
+        }
+        return ids;
+    }
+
+    public Map<String, Integer> tagCounts() {
+        Map<String, Integer> counts = new HashMap<>();
+        current().byTag.forEach((tag, bits) -> counts.put(tag, bits.cardinality()));
+        return counts;
+    }
+
+    private Index current() {
+        long version = testCaseService.catalogVersion();
+        Index current = index;
+        if (current == null || current.version != version) {
+            // Read the version first: a concurrent invalidation just triggers another rebuild
+            current = build(version, testCaseService.catalogByName().values());
+            index = current;
+        }
+        return current;
+    }
+
+    private static Index build(long version, Collection<TestCase> testCases) {
+        TestCase[] sorted = testCases.stream()
+                .filter(tc -> tc.getId() != null)
+                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
+                .toArray(TestCase[]::new);
+        long[] ids = new long[sorted.length];
+        Map<String, BitSet> byTag = new HashMap<>();
+        for (int ordinal = 0; ordinal < sorted.length; ordinal++) {
+            TestCase tc = sorted[ordinal];
+            ids[ordinal] = tc.getId();
+            // The test type is an implicit tag so "ui & smoke" works without tagging every case "ui"
+            if (tc.getType() != null) {
+                byTag.computeIfAbsent(TagExpression.normalizeTag(tc.getType().name()), k -> new BitSet()).set(ordinal);
+            }
+            if (tc.getTags() != null) {
+                for (String tag : tc.getTags().split(",")) {
+                    if (tag.isBlank()) continue;
+                    byTag.computeIfAbsent(TagExpression.normalizeTag(tag), k -> new BitSet()).set(ordinal);
+                }
+            }
+        }
+        BitSet all = new BitSet(ids.length);
+        all.set(0, ids.length);
+        System.out.println("🏷️ Tag index v" + version + ": " + ids.length + " tests, " + byTag.size() + " tags");
+        return new Index(version, ids, byTag, all);
+    }
+
+    private static final class Index {
+        private final long version;
+        private final long[] ids;
+        private final Map<String, BitSet> byTag;
+        private final BitSet all;
+
+        Index(long version, long[] ids, Map<String, BitSet> byTag, BitSet all) {
+            this.version = version;
+            this.ids = Arrays.copyOf(ids, ids.length);
+            this.byTag = byTag;
+            this.all = all;
+        }
+    }
+}
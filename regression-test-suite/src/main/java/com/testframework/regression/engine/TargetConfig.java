@@ -0,0 +1,42 @@
+package com.testframework.regression.engine;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Map;
+
+// Named base URLs for API test definitions: "{{jsonplaceholder}}/users/2" reads api.targets.jsonplaceholder,
+// so pointing a suite at another environment is a property change, not a data migration.
+// UI suites read their start page the same way from ui.targets.<name>.
+@Configuration
+public class TargetConfig {
+
+    private static final String PREFIX = "api.targets.";
+    private static final String UI_PREFIX = "ui.targets.";
+    private static final String BLAZEDEMO_DEFAULT = "https://blazedemo.com/";
+
+    private final Environment environment;
+
+    public TargetConfig(Environment environment) {
+        this.environment = environment;
+    }
+
+    public String baseUrl(String target) {
+        String url = environment.getProperty(PREFIX + target);
+        if (url == null) return null;
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // Every configured API target, name -> base URL as written
+    public Map<String, String> apiTargets() {
+        return Binder.get(environment).bind("api.targets", Bindable.mapOf(String.class, String.class)).orElse(Map.of());
+    }
+
+    // Start page of the BlazeDemo flow, always with a trailing slash so relative form actions resolve
+    public String blazeDemoUrl() {
+        String url = environment.getProperty(UI_PREFIX + "blazedemo", BLAZEDEMO_DEFAULT);
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
@@ -6,21 +6,15 @@ import com.testframework.regression.domain.TestStatus;
 import com.testframework.regression.domain.TestType;
 import com.testframework.regression.service.TestCaseService;
 import com.testframework.regression.service.TestResultService;
+import com.testframework.regression.service.ApiTestDefinitionService;
+import com.testframework.regression.service.ArtifactStore;
 import com.testframework.regression.service.ScreenshotService;
 import com.testframework.regression.service.EmailAlertService;
+import com.testframework.regression.service.ExecutionJournal;
+import com.testframework.regression.service.AdaptiveTimeoutService;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.By;
-import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.Select;
-import org.openqa.selenium.support.ui.WebDriverWait;
-import org.openqa.selenium.support.ui.ExpectedConditions;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import io.restassured.RestAssured;
-import io.restassured.response.Response;
-import io.restassured.config.RestAssuredConfig;
-import io.restassured.config.HttpClientConfig;
 import java.time.Duration;
 import org.springframework.stereotype.Component;
 
@@ -29,38 +23,61 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.*;
+import java.util.function.Function;
 
 @Component
 public class TestIntegrationEngine {
 
     private final TestCaseService testCaseService;
     private final TestResultService testResultService;
-    private final ExecutorService executorService = Executors.newFixedThreadPool(10);
     private final ScreenshotService screenshotService;
     private final EmailAlertService emailAlertService;
     private final TimeoutConfig timeoutConfig;
+    private final AdaptiveParallelismTuner parallelismTuner;
+    private final ApiTestDefinitionService apiTestDefinitionService;
+    private final ApiTestExecutor apiTestExecutor;
+    private final SyntheticWorkload syntheticWorkload;
+    private final TargetConfig targetConfig;
+    private final ExecutionJournal executionJournal;
+    private final BrowserSessionPool browserSessionPool;
+    private final AdaptiveTimeoutService adaptiveTimeoutService;
+    private final TestWatchdog testWatchdog;
 
     public TestIntegrationEngine(TestCaseService testCaseService, 
                                TestResultService testResultService,
                                ScreenshotService screenshotService,
                                EmailAlertService emailAlertService,
-                               TimeoutConfig timeoutConfig) {
+                               TimeoutConfig timeoutConfig,
+                               AdaptiveParallelismTuner parallelismTuner,
+                               ApiTestDefinitionService apiTestDefinitionService,
+                               ApiTestExecutor apiTestExecutor,
+                               SyntheticWorkload syntheticWorkload,
+                               TargetConfig targetConfig,
+                               ExecutionJournal executionJournal,
+                               BrowserSessionPool browserSessionPool,
+                               AdaptiveTimeoutService adaptiveTimeoutService,
+                               TestWatchdog testWatchdog) {
         this.testCaseService = testCaseService;
         this.testResultService = testResultService;
         this.screenshotService = screenshotService;
         this.emailAlertService = emailAlertService;
         this.timeoutConfig = timeoutConfig;
-
-        // Configure global REST-Assured timeouts
-        int apiTimeoutMs = Math.max(1, timeoutConfig.getApiRequestSeconds()) * 1000;
-        RestAssured.config = RestAssuredConfig.config().httpClient(
-                HttpClientConfig.httpClientConfig()
-                        .setParam("http.connection.timeout", apiTimeoutMs)
-                        .setParam("http.socket.timeout", apiTimeoutMs)
-        );
+        this.parallelismTuner = parallelismTuner;
+        this.apiTestDefinitionService = apiTestDefinitionService;
+        this.apiTestExecutor = apiTestExecutor;
+        this.syntheticWorkload = syntheticWorkload;
+        this.targetConfig = targetConfig;
+        this.executionJournal = executionJournal;
+        this.browserSessionPool = browserSessionPool;
+        this.adaptiveTimeoutService = adaptiveTimeoutService;
+        this.testWatchdog = testWatchdog;
     }
 
     public TestCase createTestCase(String name, TestType type, String description) {
+        return createTestCase(name, type, description, null);
+    }
+
+    public TestCase createTestCase(String name, TestType type, String description, String tags) {
         // Check if test case with same name already exists
         Optional<TestCase> existingTestCase = testCaseService.findByName(name);
         if (existingTestCase.isPresent()) {
@@ -73,8 +90,14 @@ public class TestIntegrationEngine {
         testCase.setName(name);
         testCase.setType(type);
         testCase.setDescription(description);
+        testCase.setTags(tags);
         testCase.setStatus(TestStatus.PENDING);
-        return testCaseService.save(testCase);
+        try {
+            return testCaseService.save(testCase);
+        } catch (org.springframework.dao.DataIntegrityViolationException e) {
+            // Lost a race with a concurrent create of the same name: the unique key decided, use the winner
+            return testCaseService.findByName(name).orElseThrow(() -> e);
+        }
     }
 
     public TestCase getTestCase(Long id) {
@@ -85,100 +108,30 @@ public class TestIntegrationEngine {
         return testCaseService.findAll();
     }
 
-    public List<TestResult> executeSequential(List<Long> testCaseIds) {
-        List<TestCase> testCases = new ArrayList<>();
-        for (Long id : testCaseIds) {
-            testCaseService.findById(id).ifPresent(testCases::add);
-        }
-        
-        List<TestResult> results = new ArrayList<>();
-        for (TestCase testCase : testCases) {
-            TestResult result = executeSingleTestCase(testCase);
-            TestResult savedResult = testResultService.save(result);
-            results.add(savedResult);
-            
-            // Send failure alert if test failed
-            if (result.getStatus() == TestStatus.FAILED) {
-                emailAlertService.sendFailureAlert("sequential_execution", savedResult);
-            }
-        }
-        return results;
+    // Also warms the API definition cache for the whole run in one query
+    private List<TestCase> loadTestCases(List<Long> testCaseIds) {
+        apiTestDefinitionService.preload(testCaseIds);
+        return testCaseService.findAllById(testCaseIds);
     }
 
-    public List<TestResult> executeParallel(List<Long> testCaseIds) {
-        List<TestCase> testCases = new ArrayList<>();
-        for (Long id : testCaseIds) {
-            testCaseService.findById(id).ifPresent(testCases::add);
-        }
-        
-        List<Future<TestResult>> futures = new ArrayList<>();
-        for (TestCase testCase : testCases) {
-            futures.add(executorService.submit(() -> executeSingleTestCase(testCase)));
-        }
-        
+    // Sequential run tagged (and journaled) with its executionId before each result is saved. Tests take the same
+    // path as a parallel run: the run's warmed-up browsers, the watchdog and screenshots filed under the run.
+    public List<TestResult> executeSequential(List<Long> testCaseIds, String executionId, Boolean headless) {
+        List<TestCase> testCases = loadTestCases(testCaseIds);
         List<TestResult> results = new ArrayList<>();
-        for (Future<TestResult> future : futures) {
-            try {
-                TestResult result = future.get();
-                // Safety: ensure FK is always set
-                if (result.getTestCase() == null && result instanceof TestResult) {
-                    // No direct reference to testCase here; will be handled in the exec wrapper overload
-                }
-                TestResult savedResult = testResultService.save(result);
-                results.add(savedResult);
-                
-                // Send failure alert if test failed
-                if (result.getStatus() == TestStatus.FAILED) {
-                    emailAlertService.sendFailureAlert("parallel_execution", savedResult);
-                }
-            } catch (Exception e) {
-                // Handle execution failure
-                TestResult errorResult = new TestResult();
-                errorResult.setStatus(TestStatus.FAILED);
-                errorResult.setMessage("Execution failed: " + e.getMessage());
-                errorResult.setExecutedAt(OffsetDateTime.now());
-                TestResult savedErrorResult = testResultService.save(errorResult);
-                results.add(savedErrorResult);
-                
-                // Send failure alert
-                emailAlertService.sendFailureAlert("parallel_execution", savedErrorResult);
-            }
-        }
-        return results;
-    }
-
-    public List<TestResult> executeParallel(List<Long> testCaseIds, String executionId) {
-        List<TestCase> testCases = new ArrayList<>();
-        for (Long id : testCaseIds) {
-            testCaseService.findById(id).ifPresent(testCases::add);
-        }
-
-        List<Future<TestResult>> futures = new ArrayList<>();
         for (TestCase testCase : testCases) {
-            futures.add(executorService.submit(() -> executeAndTag(testCase, executionId)));
-        }
-
-        List<TestResult> results = new ArrayList<>();
-        for (Future<TestResult> future : futures) {
-            try {
-                TestResult result = future.get();
-                TestResult saved = testResultService.save(result);
-                results.add(saved);
-                if (saved.getStatus() == TestStatus.FAILED) {
-                    emailAlertService.sendFailureAlert(executionId, saved);
-                }
-            } catch (Exception e) {
-                // Should be rare due to wrapping
+            TestResult saved = testResultService.save(executeAndTagWithOptions(testCase, executionId, headless));
+            results.add(saved);
+            if (saved.getStatus() == TestStatus.FAILED) {
+                emailAlertService.sendFailureAlert(executionId, saved);
             }
         }
+        screenshotService.awaitPending(executionId);
         return results;
     }
 
     public List<TestResult> executeParallel(List<Long> testCaseIds, String executionId, Integer maxParallelTests, Boolean headless) {
-        List<TestCase> testCases = new ArrayList<>();
-        for (Long id : testCaseIds) {
-            testCaseService.findById(id).ifPresent(testCases::add);
-        }
+        List<TestCase> testCases = loadTestCases(testCaseIds);
 
         int poolSize = (maxParallelTests != null && maxParallelTests > 0) ? maxParallelTests : Math.min(10, testCases.size());
         ExecutorService runPool = Executors.newFixedThreadPool(Math.max(poolSize, 1));
@@ -202,89 +155,105 @@ public class TestIntegrationEngine {
             }
         }
         runPool.shutdown();
+        screenshotService.awaitPending(executionId);
         return results;
     }
 
-    private TestResult executeAndTag(TestCase testCase, String executionId) {
-        try {
-            TestResult result = executeSingleTestCase(testCase);
-            if (result.getTestCase() == null) {
-                result.setTestCase(testCase);
-            }
-            result.setExecutionId(executionId);
-            return result;
-        } catch (Exception e) {
-            TestResult error = new TestResult();
-            error.setTestCase(testCase);
-            error.setExecutedAt(OffsetDateTime.now());
-            error.setStatus(TestStatus.FAILED);
-            error.setMessage("Execution failed: " + e.getMessage());
-            error.setExecutionId(executionId);
-            return error;
-        }
-    }
+    // Adaptive variant: maxParallelTests is the ceiling, the tuner decides how many tests run at once
+    public List<TestResult> executeParallelAdaptive(List<Long> testCaseIds, String executionId, Integer maxParallelTests, Boolean headless) {
+        List<TestCase> testCases = loadTestCases(testCaseIds);
 
-    private TestResult executeSingleTestCase(TestCase testCase) {
-        TestResult result = new TestResult();
-        result.setTestCase(testCase);
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            if (testCase.getType() == TestType.UI) {
-                result = executeUITest(testCase);
-            } else if (testCase.getType() == TestType.API) {
-                result = executeReqResAPITest(testCase);
-            } else {
-                result.setStatus(TestStatus.SKIPPED);
-                result.setMessage("Unknown test type");
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Test execution failed: " + e.getMessage());
-            
-            // Capture screenshot for UI test failures
-            if (testCase.getType() == TestType.UI) {
-                String screenshotPath = screenshotService.captureFailureScreenshot(
-                        testCase.getName(), e.getMessage(),
-                        result.getExecutionId() != null ? result.getExecutionId() : "unknown",
-                        testCase.getId() != null ? testCase.getId() : -1L);
-                result.setScreenshotPath(screenshotPath);
-                result.setMessage(result.getMessage() + " | Screenshot: " + screenshotPath);
+        AdaptiveParallelismTuner.Session session = parallelismTuner.startSession(executionId, maxParallelTests);
+        ExecutorService runPool = Executors.newFixedThreadPool(Math.max(session.getCeiling(), 1));
+        CompletionService<TestResult> completionService = new ExecutorCompletionService<>(runPool);
+
+        List<TestResult> results = new ArrayList<>();
+        int next = 0;
+        int inFlight = 0;
+        try {
+            while (next < testCases.size() || inFlight > 0) {
+                while (next < testCases.size() && inFlight < session.currentLimit()) {
+                    TestCase testCase = testCases.get(next++);
+                    completionService.submit(() -> executeAndTagWithOptions(testCase, executionId, headless));
+                    inFlight++;
+                }
+                Future<TestResult> future = completionService.poll(session.getSampleIntervalMs(), TimeUnit.MILLISECONDS);
+                if (future == null) {
+                    session.onIdleTick();
+                    continue;
+                }
+                inFlight--;
+                try {
+                    TestResult saved = testResultService.save(future.get());
+                    results.add(saved);
+                    session.onTestCompleted(saved);
+                    if (saved.getStatus() == TestStatus.FAILED) {
+                        emailAlertService.sendFailureAlert(executionId, saved);
+                    }
+                } catch (ExecutionException e) {
+                    // ignore; wrapper returns failure result normally
+                }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            runPool.shutdown();
+            session.finish();
         }
-        
-        return result;
+        screenshotService.awaitPending(executionId);
+        return results;
     }
 
     private TestResult executeAndTagWithOptions(TestCase testCase, String executionId, Boolean headless) {
+        return executeGuarded(testCase, executionId, guard -> executeSingleTestCaseWithOptions(testCase, headless, executionId, guard));
+    }
+
+    // Runs one test under its time budget (from its own history, see AdaptiveTimeoutService), then tags and journals
+    // the result. A test over budget is stopped by the watchdog and reported as timed out.
+    private TestResult executeGuarded(TestCase testCase, String executionId, Function<TestWatchdog.Guard, TestResult> test) {
+        long started = System.nanoTime();
+        executionJournal.testStarted(executionId, testCase.getId());
+        TestWatchdog.Guard guard = testWatchdog.arm(adaptiveTimeoutService.budgetFor(testCase));
+        TestResult result;
         try {
-            TestResult result = executeSingleTestCaseWithOptions(testCase, headless, executionId);
+            result = test.apply(guard);
             if (result.getTestCase() == null) {
                 result.setTestCase(testCase);
             }
-            result.setExecutionId(executionId);
-            return result;
         } catch (Exception e) {
-            TestResult error = new TestResult();
-            error.setTestCase(testCase);
-            error.setExecutedAt(OffsetDateTime.now());
-            error.setStatus(TestStatus.FAILED);
-            error.setMessage("Execution failed: " + e.getMessage());
-            error.setExecutionId(executionId);
-            return error;
+            result = new TestResult();
+            result.setTestCase(testCase);
+            result.setExecutedAt(OffsetDateTime.now());
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage("Execution failed: " + e.getMessage());
+        } finally {
+            // Also clears a watchdog interrupt before the journal touches its file channel
+            guard.close();
+        }
+        long durationMs = (System.nanoTime() - started) / 1_000_000;
+        if (guard.fired()) {
+            String message = "Timed out after " + durationMs + "ms (budget " + guard.getBudget().getPerTestMs() + "ms, "
+                    + guard.getBudget().getBasis() + ")" + (result.getMessage() != null ? " | " + result.getMessage() : "");
+            result.setStatus(TestStatus.FAILED);
+            result.setMessage(message.length() > 4000 ? message.substring(0, 4000) : message);
         }
+        result.setExecutionId(executionId);
+        result.setDurationMs(durationMs);
+        executionJournal.testFinished(result);
+        return result;
     }
 
-    private TestResult executeSingleTestCaseWithOptions(TestCase testCase, Boolean headless, String executionId) {
+    private TestResult executeSingleTestCaseWithOptions(TestCase testCase, Boolean headless, String executionId, TestWatchdog.Guard guard) {
         TestResult result = new TestResult();
         result.setTestCase(testCase);
         result.setExecutedAt(OffsetDateTime.now());
         try {
             if (testCase.getType() == TestType.UI) {
-                result = executeUITest(testCase, headless, executionId);
+                result = executeUITest(testCase, headless, executionId, guard);
             } else if (testCase.getType() == TestType.API) {
-                // Use ReqRes API executor with executionId-aware overload for artifact capture
-                result = executeReqResAPITest(testCase, executionId);
+                result = executeAPITest(testCase, executionId);
+            } else if (testCase.getType() == TestType.SYNTHETIC) {
+                result = syntheticWorkload.execute(testCase);
             } else {
                 result.setStatus(TestStatus.SKIPPED);
                 result.setMessage("Unknown test type");
@@ -295,7 +264,7 @@ public class TestIntegrationEngine {
             if (testCase.getType() == TestType.UI) {
                 String screenshotPath = screenshotService.captureFailureScreenshot(
                     testCase.getName(), e.getMessage(),
-                    executionId != null ? executionId : "unknown",
+                    executionId != null ? executionId : ArtifactStore.UNASSIGNED,
                     testCase.getId() != null ? testCase.getId() : -1L);
                 result.setMessage(result.getMessage() + " | Screenshot: " + screenshotPath);
                 result.setScreenshotPath(screenshotPath);
@@ -304,67 +273,17 @@ public class TestIntegrationEngine {
         return result;
     }
 
-    private TestResult executeUITest(TestCase testCase) throws Exception {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        // Remove headless mode to see browser in real-time
-        // options.addArguments("--headless=new");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        
-        WebDriver driver = new ChromeDriver(options);
-        TestResult result = new TestResult();
-        result.setTestCase(testCase);
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Execute based on test case name/description
-            if (testCase.getName().contains("BlazeDemo") || testCase.getDescription().contains("BlazeDemo")) {
-                result = executeBlazeDemoTest(driver, testCase);
-            } else {
-                // Default UI test - BlazeDemo
-                result = executeBlazeDemoTest(driver, testCase);
-            }
-        } finally {
-            driver.quit();
-        }
-        
-        return result;
-    }
-
-    private TestResult executeUITest(TestCase testCase, Boolean headless) throws Exception {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        if (Boolean.TRUE.equals(headless)) {
-            options.addArguments("--headless=new");
-        }
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        WebDriver driver = new ChromeDriver(options);
-        driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(timeoutConfig.getUiPageLoadSeconds()));
-        try {
-            return executeBlazeDemoTest(driver, testCase, timeoutConfig.getUiElementWaitSeconds());
-        } finally {
-            driver.quit();
-        }
-    }
-
-    private TestResult executeUITest(TestCase testCase, Boolean headless, String executionId) throws Exception {
-        WebDriverManager.chromedriver().setup();
-        ChromeOptions options = new ChromeOptions();
-        if (Boolean.TRUE.equals(headless)) {
-            options.addArguments("--headless=new");
-        }
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-        WebDriver driver = new ChromeDriver(options);
-        driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(timeoutConfig.getUiPageLoadSeconds()));
+    private TestResult executeUITest(TestCase testCase, Boolean headless, String executionId, TestWatchdog.Guard guard) throws Exception {
+        // Pre-started by a queued run's warm-up when one is waiting
+        WebDriver driver = browserSessionPool.acquire(headless, executionId);
+        guard.attach(driver);
+        driver.manage().timeouts().pageLoadTimeout(java.time.Duration.ofSeconds(guard.getBudget().getPageLoadSeconds()));
         try {
-            TestResult r = executeBlazeDemoTest(driver, testCase, timeoutConfig.getUiElementWaitSeconds());
+            TestResult r = executeBlazeDemoTest(driver, testCase, guard.getBudget().getElementWaitSeconds(), executionId);
             if (r.getStatus() == TestStatus.FAILED && r.getScreenshotPath() == null) {
                 String screenshotPath = screenshotService.captureWebDriverScreenshot(
                         driver, testCase.getName(), r.getMessage(),
-                        executionId != null ? executionId : "unknown",
+                        executionId != null ? executionId : ArtifactStore.UNASSIGNED,
                         testCase.getId() != null ? testCase.getId() : -1L);
                 r.setScreenshotPath(screenshotPath);
                 r.setMessage((r.getMessage() != null ? r.getMessage() : "") + " | Screenshot: " + screenshotPath);
@@ -375,163 +294,25 @@ public class TestIntegrationEngine {
         }
     }
 
-    private TestResult executeReqResAPITest(TestCase testCase) {
-        TestResult result = new TestResult();
-        result.setTestCase(testCase);
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            String testName = testCase.getName();
-            
-            if (testName.contains("ReqRes")) {
-                result = executeReqResAPITestWithArtifacts(testCase, null);
-            } else {
-                // Default to ReqRes API test
-                result = executeReqResAPITestWithArtifacts(testCase, null);
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("API Test failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult executeReqResAPITest(TestCase testCase, String executionId) {
-        TestResult result = executeReqResAPITestWithArtifacts(testCase, executionId);
-        return result;
-    }
-
-    private TestResult executeReqResAPITestWithArtifacts(TestCase testCase, String executionId) {
-        TestResult result = new TestResult();
-        result.setTestCase(testCase);
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        String requestBody = "";
-        String responseBody = "";
-        int statusCode = 0;
-        
-        try {
-            String testName = testCase.getName();
-            
-            if (testName.contains("GetUsers_Page2")) {
-                result = testReqResGetUsersPage2WithArtifacts();
-            } else if (testName.contains("GetSingleUser_Valid")) {
-                result = testReqResGetSingleUserValidWithArtifacts();
-            } else if (testName.contains("GetSingleUser_NotFound")) {
-                result = testReqResGetSingleUserNotFoundWithArtifacts();
-            } else if (testName.contains("CreateUser")) {
-                result = testReqResCreateUserWithArtifacts();
-            } else if (testName.contains("UpdateUser_PUT")) {
-                result = testReqResUpdateUserPUTWithArtifacts();
-            } else if (testName.contains("PatchUser")) {
-                result = testReqResPatchUserWithArtifacts();
-            } else if (testName.contains("DeleteUser")) {
-                result = testReqResDeleteUserWithArtifacts();
-            } else if (testName.contains("Register_Valid")) {
-                result = testReqResRegisterValidWithArtifacts();
-            } else if (testName.contains("Register_MissingPassword")) {
-                result = testReqResRegisterMissingPasswordWithArtifacts();
-            } else if (testName.contains("Login_Valid")) {
-                result = testReqResLoginValidWithArtifacts();
-            } else {
-                result = testReqResGetSingleUserValidWithArtifacts();
-            }
-            
-            // Always capture artifacts for API tests
-            try {
-                java.nio.file.Path dir = java.nio.file.Paths.get("artifacts", executionId != null ? executionId : "unknown", String.valueOf(testCase.getId() != null ? testCase.getId() : -1));
-                java.nio.file.Files.createDirectories(dir);
-                java.nio.file.Path req = dir.resolve("request.json");
-                java.nio.file.Path resp = dir.resolve("response.json");
-                
-                String requestInfo = "{\n  \"test\": \"" + testCase.getName() + "\",\n  \"method\": \"" + getMethodForTest(testName) + "\",\n  \"url\": \"" + getUrlForTest(testName) + "\",\n  \"body\": " + (getRequestBodyForTest(testName) != null ? getRequestBodyForTest(testName) : "null") + "\n}";
-                String responseInfo = "{\n  \"status\": " + (result.getMessage() != null && result.getMessage().contains("Status:") ? result.getMessage().substring(result.getMessage().lastIndexOf("Status:") + 8).trim() : "unknown") + ",\n  \"message\": \"" + (result.getMessage() != null ? result.getMessage().replace("\"","'") : "") + "\"\n}";
-                
-                java.nio.file.Files.write(req, requestInfo.getBytes());
-                java.nio.file.Files.write(resp, responseInfo.getBytes());
-                result.setApiRequestPath(req.toString());
-                result.setApiResponsePath(resp.toString());
-            } catch (Exception ignored) {}
-            
-        } catch (Exception e) {
+    // API tests run from their declarative definition (PUT /tests/{id}/api-definition); one without a definition
+    // fails with that reason rather than running some other check
+    private TestResult executeAPITest(TestCase testCase, String executionId) {
+        Optional<CompiledApiTest> definition = apiTestDefinitionService.compiledFor(testCase.getId());
+        if (definition.isEmpty()) {
+            TestResult result = new TestResult();
+            result.setTestCase(testCase);
+            result.setExecutionId(executionId);
+            result.setExecutedAt(OffsetDateTime.now());
             result.setStatus(TestStatus.FAILED);
-            result.setMessage("ReqRes API test failed: " + e.getMessage());
+            result.setMessage("No API test definition for " + testCase.getName() + " (PUT /tests/" + testCase.getId()
+                    + "/api-definition)");
+            return result;
         }
-        
-        return result;
-    }
-    
-    private String getMethodForTest(String testName) {
-        if (testName.contains("Create")) return "POST";
-        if (testName.contains("Update")) return "PUT";
-        if (testName.contains("Patch")) return "PATCH";
-        if (testName.contains("Delete")) return "DELETE";
-        if (testName.contains("Register") || testName.contains("Login")) return "POST";
-        return "GET";
-    }
-    
-    private String getUrlForTest(String testName) {
-        if (testName.contains("GetUsers_Page2")) return "https://jsonplaceholder.typicode.com/users";
-        if (testName.contains("GetSingleUser")) return "https://jsonplaceholder.typicode.com/users/2";
-        if (testName.contains("CreateUser")) return "https://jsonplaceholder.typicode.com/users";
-        if (testName.contains("UpdateUser") || testName.contains("PatchUser") || testName.contains("DeleteUser")) return "https://jsonplaceholder.typicode.com/users/2";
-        if (testName.contains("Register") || testName.contains("Login")) return "https://httpbin.org/post";
-        if (testName.contains("MissingPassword")) return "https://httpbin.org/status/400";
-        return "https://jsonplaceholder.typicode.com/users";
-    }
-    
-    private String getRequestBodyForTest(String testName) {
-        if (testName.contains("CreateUser")) return "{\"name\":\"John Doe\",\"email\":\"john@example.com\"}";
-        if (testName.contains("UpdateUser")) return "{\"name\":\"John Doe Updated\",\"email\":\"john.updated@example.com\"}";
-        if (testName.contains("PatchUser")) return "{\"name\":\"John Doe Patched\"}";
-        if (testName.contains("Register") || testName.contains("Login")) return "{\"email\":\"eve.holt@example.com\",\"password\":\"pistol\"}";
-        return null;
+        return apiTestExecutor.execute(testCase, definition.get(), executionId);
     }
 
     // BlazeDemo UI Test Methods
-    private TestResult executeBlazeDemoTest(WebDriver driver, TestCase testCase) {
-        TestResult result = new TestResult();
-        result.setTestCase(testCase);
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            String testName = testCase.getName();
-            
-            if (testName.contains("HomePage")) {
-                result = testBlazeDemoHomePage(driver);
-            } else if (testName.contains("Dropdown")) {
-                result = testBlazeDemoDropdown(driver);
-            } else if (testName.contains("FlightSearch_Boston_London")) {
-                result = testBlazeDemoFlightSearch(driver, "Boston", "London");
-            } else if (testName.contains("FlightSearch_NewYork_Paris")) {
-                result = testBlazeDemoFlightSearch(driver, "New York", "Paris");
-            } else if (testName.contains("ChooseFirstFlight")) {
-                result = testBlazeDemoChooseFlight(driver);
-            } else if (testName.contains("PriceConsistency")) {
-                result = testBlazeDemoPriceConsistency(driver);
-            } else if (testName.contains("CompleteBooking_Valid")) {
-                result = testBlazeDemoValidBooking(driver);
-            } else if (testName.contains("Booking_EmptyFields")) {
-                result = testBlazeDemoEmptyFieldsBooking(driver);
-            } else if (testName.contains("Booking_InvalidCard")) {
-                result = testBlazeDemoInvalidCardBooking(driver);
-            } else if (testName.contains("EndToEnd_Flow")) {
-                result = testBlazeDemoEndToEnd(driver);
-            } else {
-                // Default BlazeDemo test
-                result = testBlazeDemoHomePage(driver);
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("BlazeDemo test failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    // Overload using configurable waits
-    private TestResult executeBlazeDemoTest(WebDriver driver, TestCase testCase, int elementWaitSeconds) {
+    private TestResult executeBlazeDemoTest(WebDriver driver, TestCase testCase, int elementWaitSeconds, String executionId) {
         TestResult result = new TestResult();
         result.setTestCase(testCase);
         result.setExecutedAt(OffsetDateTime.now());
@@ -565,7 +346,7 @@ public class TestIntegrationEngine {
             if (result.getStatus() == TestStatus.FAILED && result.getScreenshotPath() == null) {
                 String screenshotPath = screenshotService.captureWebDriverScreenshot(
                         driver, testCase.getName(), result.getMessage(),
-                        "unknown", testCase.getId() != null ? testCase.getId() : -1L);
+                        executionId, testCase.getId() != null ? testCase.getId() : -1L);
                 result.setScreenshotPath(screenshotPath);
                 result.setMessage((result.getMessage() != null ? result.getMessage() : "") + " | Screenshot: " + screenshotPath);
             }
@@ -576,45 +357,19 @@ public class TestIntegrationEngine {
             // Capture screenshot on exception
             String screenshotPath = screenshotService.captureWebDriverScreenshot(
                     driver, testCase.getName(), e.getMessage(),
-                    "unknown", testCase.getId() != null ? testCase.getId() : -1L);
+                    executionId, testCase.getId() != null ? testCase.getId() : -1L);
             result.setScreenshotPath(screenshotPath);
             result.setMessage(result.getMessage() + " | Screenshot: " + screenshotPath);
         }
         return result;
     }
-    private TestResult testBlazeDemoHomePage(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            wait.until(ExpectedConditions.titleContains("BlazeDemo"));
-            
-            String title = driver.getTitle();
-            if (title.equals("BlazeDemo")) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("BlazeDemo home page loaded successfully - Title: " + title);
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("BlazeDemo home page failed - Expected: BlazeDemo, Actual: " + title);
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("BlazeDemo home page test failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
     private TestResult testBlazeDemoHomePage(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            wait.until(ExpectedConditions.titleContains("BlazeDemo"));
-            String title = driver.getTitle();
+            driver.get(targetConfig.blazeDemoUrl());
+            String title = wait.titleContains("BlazeDemo");
             if (title.equals("BlazeDemo")) {
                 result.setStatus(TestStatus.PASSED);
                 result.setMessage("BlazeDemo home page loaded successfully - Title: " + title);
@@ -626,46 +381,18 @@ public class TestIntegrationEngine {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("BlazeDemo home page test failed: " + e.getMessage());
         }
-        return result;
-    }
-
-    private TestResult testBlazeDemoDropdown(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            int departureOptions = departureSelect.getOptions().size();
-            int destinationOptions = destinationSelect.getOptions().size();
-            
-            if (departureOptions > 0 && destinationOptions > 0) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Dropdown test passed - Departure options: " + departureOptions + ", Destination options: " + destinationOptions);
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Dropdown test failed - No options found");
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Dropdown test failed: " + e.getMessage());
-        }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
     private TestResult testBlazeDemoDropdown(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             int departureOptions = departureSelect.getOptions().size();
             int destinationOptions = destinationSelect.getOptions().size();
             if (departureOptions > 0 && destinationOptions > 0) {
@@ -679,227 +406,91 @@ public class TestIntegrationEngine {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Dropdown test failed: " + e.getMessage());
         }
+        result.setStepTimings(wait.timings());
         return result;
     }
 
-    private TestResult testBlazeDemoFlightSearch(WebDriver driver, String from, String to) {
+    private TestResult testBlazeDemoFlightSearch(WebDriver driver, String from, String to, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
-        
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText(from);
             destinationSelect.selectByVisibleText(to);
-            
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("table")));
-            
+            wait.present(By.cssSelector("table"));
             result.setStatus(TestStatus.PASSED);
             result.setMessage("Flight search successful from " + from + " to " + to);
         } catch (Exception e) {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Flight search failed: " + e.getMessage());
         }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
-    private TestResult testBlazeDemoFlightSearch(WebDriver driver, String from, String to, int elementWaitSeconds) {
+    private TestResult testBlazeDemoChooseFlight(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            departureSelect.selectByVisibleText(from);
-            destinationSelect.selectByVisibleText(to);
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
+            departureSelect.selectByVisibleText("Boston");
+            destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("table")));
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.cssSelector("h2"));
             result.setStatus(TestStatus.PASSED);
-            result.setMessage("Flight search successful from " + from + " to " + to);
+            result.setMessage("Flight selection successful");
         } catch (Exception e) {
             result.setStatus(TestStatus.FAILED);
-            result.setMessage("Flight search failed: " + e.getMessage());
+            result.setMessage("Flight selection failed: " + e.getMessage());
         }
+        result.setStepTimings(wait.timings());
         return result;
     }
 
-    private TestResult testBlazeDemoChooseFlight(WebDriver driver) {
+    private TestResult testBlazeDemoPriceConsistency(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
-        
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            // First search for flights
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText("Boston");
             destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Choose first flight
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h2")));
-            
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.cssSelector("h2"));
             result.setStatus(TestStatus.PASSED);
-            result.setMessage("Flight selection successful");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Flight selection failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testBlazeDemoChooseFlight(WebDriver driver, int elementWaitSeconds) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h2")));
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Flight selection successful");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Flight selection failed: " + e.getMessage());
-        }
-        return result;
-    }
-
-    private TestResult testBlazeDemoPriceConsistency(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Navigate to purchase page
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h2")));
-            
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Price consistency check completed");
+            result.setMessage("Price consistency check completed");
         } catch (Exception e) {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Price consistency check failed: " + e.getMessage());
         }
-        
-        return result;
-    }
-
-    private TestResult testBlazeDemoPriceConsistency(WebDriver driver, int elementWaitSeconds) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h2")));
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Price consistency check completed");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Price consistency check failed: " + e.getMessage());
-        }
-        return result;
-    }
-
-    private TestResult testBlazeDemoValidBooking(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Navigate to purchase page and fill valid details
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Fill booking form
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
-            driver.findElement(By.id("address")).sendKeys("123 Main St");
-            driver.findElement(By.id("city")).sendKeys("Boston");
-            driver.findElement(By.id("state")).sendKeys("MA");
-            driver.findElement(By.id("zipCode")).sendKeys("02101");
-            driver.findElement(By.id("creditCardNumber")).sendKeys("1234567890123456");
-            driver.findElement(By.id("creditCardMonth")).sendKeys("12");
-            driver.findElement(By.id("creditCardYear")).sendKeys("2025");
-            driver.findElement(By.id("nameOnCard")).sendKeys("John Doe");
-            
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h1")));
-            
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Valid booking completed successfully");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Valid booking failed: " + e.getMessage());
-        }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
     private TestResult testBlazeDemoValidBooking(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText("Boston");
             destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.id("inputName")).sendKeys("John Doe");
             driver.findElement(By.id("address")).sendKeys("123 Main St");
             driver.findElement(By.id("city")).sendKeys("Boston");
             driver.findElement(By.id("state")).sendKeys("MA");
@@ -909,64 +500,30 @@ public class TestIntegrationEngine {
             driver.findElement(By.id("creditCardYear")).sendKeys("2025");
             driver.findElement(By.id("nameOnCard")).sendKeys("John Doe");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h1")));
+            wait.present(By.cssSelector("h1"));
             result.setStatus(TestStatus.PASSED);
             result.setMessage("Valid booking completed successfully");
         } catch (Exception e) {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Valid booking failed: " + e.getMessage());
         }
-        return result;
-    }
-
-    private TestResult testBlazeDemoEmptyFieldsBooking(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Navigate to purchase page and submit with empty fields
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Submit with empty fields
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // This should show validation errors (negative test)
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Empty fields validation test completed");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Empty fields test failed: " + e.getMessage());
-        }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
     private TestResult testBlazeDemoEmptyFieldsBooking(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText("Boston");
             destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.id("inputName"));
             driver.findElement(By.cssSelector("input[type='submit']")).click();
             result.setStatus(TestStatus.PASSED);
             result.setMessage("Empty fields validation test completed");
@@ -974,67 +531,23 @@ public class TestIntegrationEngine {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Empty fields test failed: " + e.getMessage());
         }
-        return result;
-    }
-
-    private TestResult testBlazeDemoInvalidCardBooking(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Navigate to purchase page and fill with invalid card
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Fill with invalid card details
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
-            driver.findElement(By.id("address")).sendKeys("123 Main St");
-            driver.findElement(By.id("city")).sendKeys("Boston");
-            driver.findElement(By.id("state")).sendKeys("MA");
-            driver.findElement(By.id("zipCode")).sendKeys("02101");
-            driver.findElement(By.id("creditCardNumber")).sendKeys("0000000000000000"); // Invalid card
-            driver.findElement(By.id("creditCardMonth")).sendKeys("12");
-            driver.findElement(By.id("creditCardYear")).sendKeys("2025");
-            driver.findElement(By.id("nameOnCard")).sendKeys("John Doe");
-            
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            result.setStatus(TestStatus.PASSED);
-            result.setMessage("Invalid card test completed");
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Invalid card test failed: " + e.getMessage());
-        }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
     private TestResult testBlazeDemoInvalidCardBooking(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText("Boston");
             destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.id("inputName")).sendKeys("John Doe");
             driver.findElement(By.id("address")).sendKeys("123 Main St");
             driver.findElement(By.id("city")).sendKeys("Boston");
             driver.findElement(By.id("state")).sendKeys("MA");
@@ -1050,78 +563,23 @@ public class TestIntegrationEngine {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("Invalid card test failed: " + e.getMessage());
         }
-        return result;
-    }
-
-    private TestResult testBlazeDemoEndToEnd(WebDriver driver) {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Complete end-to-end flow
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            
-            // Search flights
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
-            
-            departureSelect.selectByVisibleText("Boston");
-            destinationSelect.selectByVisibleText("London");
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Choose flight
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Complete booking
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
-            driver.findElement(By.id("address")).sendKeys("123 Main St");
-            driver.findElement(By.id("city")).sendKeys("Boston");
-            driver.findElement(By.id("state")).sendKeys("MA");
-            driver.findElement(By.id("zipCode")).sendKeys("02101");
-            driver.findElement(By.id("creditCardNumber")).sendKeys("1234567890123456");
-            driver.findElement(By.id("creditCardMonth")).sendKeys("12");
-            driver.findElement(By.id("creditCardYear")).sendKeys("2025");
-            driver.findElement(By.id("nameOnCard")).sendKeys("John Doe");
-            
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            
-            // Verify confirmation
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h1")));
-            String confirmationText = driver.findElement(By.cssSelector("h1")).getText();
-            
-            if (confirmationText.contains("Thank you")) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("End-to-end flow completed successfully - " + confirmationText);
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("End-to-end flow failed - No confirmation found");
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("End-to-end flow failed: " + e.getMessage());
-        }
-        
+        result.setStepTimings(wait.timings());
         return result;
     }
 
     private TestResult testBlazeDemoEndToEnd(WebDriver driver, int elementWaitSeconds) {
         TestResult result = new TestResult();
         result.setExecutedAt(OffsetDateTime.now());
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(elementWaitSeconds));
         try {
-            driver.get("https://blazedemo.com/");
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(elementWaitSeconds));
-            Select departureSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("fromPort"))));
-            Select destinationSelect = new Select(wait.until(ExpectedConditions.presenceOfElementLocated(By.name("toPort"))));
+            driver.get(targetConfig.blazeDemoUrl());
+            Select departureSelect = new Select(wait.present(By.name("fromPort")));
+            Select destinationSelect = new Select(wait.present(By.name("toPort")));
             departureSelect.selectByVisibleText("Boston");
             destinationSelect.selectByVisibleText("London");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("input[type='submit']")));
-            driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.id("inputName")));
-            driver.findElement(By.id("inputName")).sendKeys("John Doe");
+            wait.present(By.cssSelector("input[type='submit']")).click();
+            wait.present(By.id("inputName")).sendKeys("John Doe");
             driver.findElement(By.id("address")).sendKeys("123 Main St");
             driver.findElement(By.id("city")).sendKeys("Boston");
             driver.findElement(By.id("state")).sendKeys("MA");
@@ -1131,8 +589,7 @@ public class TestIntegrationEngine {
             driver.findElement(By.id("creditCardYear")).sendKeys("2025");
             driver.findElement(By.id("nameOnCard")).sendKeys("John Doe");
             driver.findElement(By.cssSelector("input[type='submit']")).click();
-            wait.until(ExpectedConditions.presenceOfElementLocated(By.cssSelector("h1")));
-            String confirmationText = driver.findElement(By.cssSelector("h1")).getText();
+            String confirmationText = wait.present(By.cssSelector("h1")).getText();
             if (confirmationText.contains("Thank you")) {
                 result.setStatus(TestStatus.PASSED);
                 result.setMessage("End-to-end flow completed successfully - " + confirmationText);
@@ -1144,302 +601,7 @@ public class TestIntegrationEngine {
             result.setStatus(TestStatus.FAILED);
             result.setMessage("End-to-end flow failed: " + e.getMessage());
         }
+        result.setStepTimings(wait.timings());
         return result;
     }
-
-    // ReqRes API Test Methods
-    private TestResult testReqResGetUsersPage2() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Use JSONPlaceholder as a free alternative to ReqRes
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            Response response = RestAssured.get("/users");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Get users page 2 successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Get users page 2 failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Get users page 2 failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResGetSingleUserValid() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            Response response = RestAssured.get("/users/2");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Get single user (id=2) successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Get single user (id=2) failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Get single user (id=2) failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResGetSingleUserNotFound() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            Response response = RestAssured.get("/users/999");
-            
-            if (response.getStatusCode() == 404) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Get single user (id=999) not found test successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Get single user (id=999) not found test failed - Expected 404, got: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Get single user (id=999) not found test failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResCreateUser() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            String requestBody = "{\"name\":\"John Doe\",\"email\":\"john@example.com\"}";
-            Response response = RestAssured.given()
-                    .contentType("application/json")
-                    .body(requestBody)
-                    .post("/users");
-            
-            if (response.getStatusCode() == 201) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Create user successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Create user failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Create user failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResUpdateUserPUT() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            String requestBody = "{\"name\":\"John Doe Updated\",\"email\":\"john.updated@example.com\"}";
-            Response response = RestAssured.given()
-                    .contentType("application/json")
-                    .body(requestBody)
-                    .put("/users/2");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Update user (PUT) successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Update user (PUT) failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Update user (PUT) failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResPatchUser() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            String requestBody = "{\"name\":\"John Doe Patched\"}";
-            Response response = RestAssured.given()
-                    .contentType("application/json")
-                    .body(requestBody)
-                    .patch("/users/2");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Patch user successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Patch user failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Patch user failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResDeleteUser() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            RestAssured.baseURI = "https://jsonplaceholder.typicode.com";
-            Response response = RestAssured.delete("/users/2");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Delete user successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Delete user failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Delete user failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResRegisterValid() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Use HTTPBin for testing POST requests
-            RestAssured.baseURI = "https://httpbin.org";
-            String requestBody = "{\"email\":\"eve.holt@example.com\",\"password\":\"pistol\"}";
-            Response response = RestAssured.given()
-                    .contentType("application/json")
-                    .body(requestBody)
-                    .post("/post");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Register with valid details successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Register with valid details failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Register with valid details failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResRegisterMissingPassword() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Use HTTPBin status endpoint to simulate 400 error
-            RestAssured.baseURI = "https://httpbin.org";
-            Response response = RestAssured.get("/status/400");
-            
-            if (response.getStatusCode() == 400) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Register with missing password test successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Register with missing password test failed - Expected 400, got: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Register with missing password test failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    private TestResult testReqResLoginValid() {
-        TestResult result = new TestResult();
-        result.setExecutedAt(OffsetDateTime.now());
-        
-        try {
-            // Use HTTPBin for testing POST requests
-            RestAssured.baseURI = "https://httpbin.org";
-            String requestBody = "{\"email\":\"eve.holt@example.com\",\"password\":\"pistol\"}";
-            Response response = RestAssured.given()
-                    .contentType("application/json")
-                    .body(requestBody)
-                    .post("/post");
-            
-            if (response.getStatusCode() == 200) {
-                result.setStatus(TestStatus.PASSED);
-                result.setMessage("Login with valid credentials successful - Status: " + response.getStatusCode());
-            } else {
-                result.setStatus(TestStatus.FAILED);
-                result.setMessage("Login with valid credentials failed - Status: " + response.getStatusCode());
-            }
-        } catch (Exception e) {
-            result.setStatus(TestStatus.FAILED);
-            result.setMessage("Login with valid credentials failed: " + e.getMessage());
-        }
-        
-        return result;
-    }
-
-    // WithArtifacts versions of API test methods
-    private TestResult testReqResGetUsersPage2WithArtifacts() {
-        return testReqResGetUsersPage2();
-    }
-
-    private TestResult testReqResGetSingleUserValidWithArtifacts() {
-        return testReqResGetSingleUserValid();
-    }
-
-    private TestResult testReqResGetSingleUserNotFoundWithArtifacts() {
-        return testReqResGetSingleUserNotFound();
-    }
-
-    private TestResult testReqResCreateUserWithArtifacts() {
-        return testReqResCreateUser();
-    }
-
-    private TestResult testReqResUpdateUserPUTWithArtifacts() {
-        return testReqResUpdateUserPUT();
-    }
-
-    private TestResult testReqResPatchUserWithArtifacts() {
-        return testReqResPatchUser();
-    }
-
-    private TestResult testReqResDeleteUserWithArtifacts() {
-        return testReqResDeleteUser();
-    }
-
-    private TestResult testReqResRegisterValidWithArtifacts() {
-        return testReqResRegisterValid();
-    }
-
-    private TestResult testReqResRegisterMissingPasswordWithArtifacts() {
-        return testReqResRegisterMissingPassword();
-    }
-
-    private TestResult testReqResLoginValidWithArtifacts() {
-        return testReqResLoginValid();
-    }
 }
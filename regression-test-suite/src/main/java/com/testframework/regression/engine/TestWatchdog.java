@@ -0,0 +1,90 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.service.AdaptiveTimeoutService.Budget;
+import jakarta.annotation.PreDestroy;
+import org.openqa.selenium.WebDriver;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// Enforces per-test budgets. A test still running when its budget runs out has its browser quit and its thread
+// interrupted, so the blocked WebDriver or HTTP call fails now instead of after the global timeouts.
+@Component
+public class TestWatchdog {
+
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "test-watchdog");
+        t.setDaemon(true);
+        return t;
+    });
+
+    // Guards the calling thread; close the guard when the test ends
+    public Guard arm(Budget budget) {
+        Guard guard = new Guard(Thread.currentThread(), budget);
+        guard.timeout = timer.schedule(guard::fire, budget.getPerTestMs(), TimeUnit.MILLISECONDS);
+        return guard;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    public static final class Guard implements AutoCloseable {
+        private final Thread thread;
+        private final Budget budget;
+        private ScheduledFuture<?> timeout;
+        private WebDriver driver;
+        private boolean fired;
+        private boolean closed;
+
+        private Guard(Thread thread, Budget budget) {
+            this.thread = thread;
+            this.budget = budget;
+        }
+
+        public Budget getBudget() {
+            return budget;
+        }
+
+        // The test's browser, quit if the budget runs out
+        public synchronized void attach(WebDriver driver) {
+            this.driver = driver;
+        }
+
+        public synchronized boolean fired() {
+            return fired;
+        }
+
+        private void fire() {
+            WebDriver toQuit;
+            synchronized (this) {
+                if (closed) return;
+                fired = true;
+                toQuit = driver;
+                thread.interrupt();
+            }
+            if (toQuit != null) {
+                // Outside the lock: quitting a hung browser can take a while
+                Thread.ofVirtual().start(() -> {
+                    try {
+                        toQuit.quit();
+                    } catch (Exception ignored) {}
+                });
+            }
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                closed = true;
+                // The pool thread goes on to the next test; don't hand it this test's interrupt
+                if (fired) Thread.interrupted();
+            }
+            if (timeout != null) timeout.cancel(false);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.testframework.regression.engine;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+// Waits for the steps of one UI test. Instead of WebDriverWait's fixed 500 ms polling, a MutationObserver in the
+// page hands back the element the moment it is inserted. Page loads (which discard the observer) and drivers
+// without async scripts fall back to polling that starts at 10 ms and backs off to 200 ms. The located element
+// is returned, so a step uses it instead of finding it again. Each wait's duration is recorded for the result.
+public class UiWait {
+
+    private static final long FIRST_POLL_MS = 10;
+    private static final long MAX_POLL_MS = 200;
+    // An observer gives up after this long and the wait checks again, so a page swapped underneath it is noticed
+    private static final long OBSERVER_SLICE_MS = 2000;
+
+    private static final String OBSERVE = """
+            var selector = arguments[0], sliceMs = arguments[1], done = arguments[arguments.length - 1];
+            var found = document.querySelector(selector);
+            if (found) { done(found); return; }
+            var observer = new MutationObserver(function () {
+              var el = document.querySelector(selector);
+              if (el) { observer.disconnect(); clearTimeout(timer); done(el); }
+            });
+            var timer = setTimeout(function () { observer.disconnect(); done(null); }, sliceMs);
+            observer.observe(document, {childList: true, subtree: true});
+            """;
+
+    private final WebDriver driver;
+    private final Duration timeout;
+    private boolean observers;
+    private final List<String> steps = new ArrayList<>();
+    private long totalMs;
+
+    public UiWait(WebDriver driver, Duration timeout) {
+        this.driver = driver;
+        this.timeout = timeout;
+        this.observers = driver instanceof JavascriptExecutor;
+    }
+
+    // The first element matching locator, as soon as there is one
+    public WebElement present(By locator) {
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        String selector = cssSelector(locator);
+        long pollMs = FIRST_POLL_MS;
+        try {
+            while (true) {
+                List<WebElement> found = driver.findElements(locator);
+                if (!found.isEmpty()) return found.get(0);
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    throw new TimeoutException("Timed out after " + timeout.toSeconds() + "s waiting for presence of " + locator);
+                }
+                if (selector != null && observers) {
+                    try {
+                        Object observed = ((JavascriptExecutor) driver).executeAsyncScript(OBSERVE, selector,
+                                Math.min(remainingMs, OBSERVER_SLICE_MS));
+                        if (observed instanceof WebElement element) return element;
+                        continue;
+                    } catch (UnsupportedCommandException e) {
+                        observers = false;
+                    } catch (WebDriverException e) {
+                        // Usually the page navigated while the observer waited; poll until the new one has loaded
+                    }
+                }
+                sleep(Math.min(pollMs, remainingMs));
+                pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+            }
+        } finally {
+            record(label(locator), started);
+        }
+    }
+
+    public String titleContains(String text) {
+        long started = System.nanoTime();
+        long deadline = started + timeout.toNanos();
+        long pollMs = FIRST_POLL_MS;
+        try {
+            while (true) {
+                String title = driver.getTitle();
+                if (title != null && title.contains(text)) return title;
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    throw new TimeoutException("Timed out after " + timeout.toSeconds() + "s waiting for title to contain \""
+                            + text + "\", was \"" + title + "\"");
+                }
+                sleep(Math.min(pollMs, remainingMs));
+                pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+            }
+        } finally {
+            record("title", started);
+        }
+    }
+
+    // "fromPort 3ms, toPort 0ms, table 412ms": every wait of the test, in order
+    public String timings() {
+        return String.join(", ", steps);
+    }
+
+    public long totalMs() {
+        return totalMs;
+    }
+
+    private void record(String step, long startedNanos) {
+        long ms = (System.nanoTime() - startedNanos) / 1_000_000;
+        totalMs += ms;
+        steps.add(step + " " + ms + "ms");
+    }
+
+    // CSS for the observer; null for locators it can't express, which are polled
+    static String cssSelector(By locator) {
+        String text = locator.toString();
+        if (text.startsWith("By.id: ")) return "[id=\"" + text.substring(7).replace("\"", "\\\"") + "\"]";
+        if (text.startsWith("By.name: ")) return "[name=\"" + text.substring(9).replace("\"", "\\\"") + "\"]";
+        if (text.startsWith("By.cssSelector: ")) return text.substring(16);
+        if (text.startsWith("By.tagName: ")) return text.substring(12);
+        return null;
+    }
+
+    private static String label(By locator) {
+        String text = locator.toString();
+        int colon = text.indexOf(": ");
+        return colon >= 0 ? text.substring(colon + 2) : text;
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TimeoutException("Interrupted while waiting");
+        }
+    }
+}
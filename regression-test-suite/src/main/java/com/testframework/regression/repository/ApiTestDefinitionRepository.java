@@ -0,0 +1,13 @@
+package com.testframework.regression.repository;
+
+import com.testframework.regression.domain.ApiTestDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ApiTestDefinitionRepository extends JpaRepository<ApiTestDefinition, Long> {
+    Optional<ApiTestDefinition> findByTestCaseId(Long testCaseId);
+    List<ApiTestDefinition> findByTestCaseIdIn(Collection<Long> testCaseIds);
+}
@@ -0,0 +1,10 @@
+package com.testframework.regression.repository;
+
+import com.testframework.regression.domain.LoadTestResult;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface LoadTestResultRepository extends JpaRepository<LoadTestResult, Long> {
+    List<LoadTestResult> findByExecutionIdOrderByTestNameAsc(String executionId);
+}
@@ -0,0 +1,10 @@
+package com.testframework.regression.repository;
+
+import com.testframework.regression.domain.SuiteDefinition;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface SuiteDefinitionRepository extends JpaRepository<SuiteDefinition, Long> {
+    Optional<SuiteDefinition> findByName(String name);
+}
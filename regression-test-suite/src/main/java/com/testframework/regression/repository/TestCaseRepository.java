@@ -3,8 +3,11 @@ package com.testframework.regression.repository;
 import com.testframework.regression.domain.TestCase;
 import com.testframework.regression.domain.TestType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +15,8 @@ import java.util.Optional;
 public interface TestCaseRepository extends JpaRepository<TestCase, Long> {
     List<TestCase> findByType(TestType type);
     Optional<TestCase> findByName(String name);
-}
-
-
 
+    // Bulk import pre-check: only the columns an upsert can change, no entity hydration
+    @Query("select t.name, t.type, t.description, t.tags from TestCase t where t.name in :names")
+    List<Object[]> findImportStateByNameIn(@Param("names") Collection<String> names);
+}
@@ -2,12 +2,20 @@ package com.testframework.regression.repository;
 
 import com.testframework.regression.domain.TestResult;
 import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TestResultRepository extends JpaRepository<TestResult, Long> {
@@ -16,6 +24,38 @@ public interface TestResultRepository extends JpaRepository<TestResult, Long> {
 
     @Query("select r from TestResult r join fetch r.testCase tc where r.executionId = :executionId")
     List<TestResult> findByExecutionIdWithTestCase(@Param("executionId") String executionId);
+
+    // Cursor for report rendering; must be consumed inside a transaction and closed
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select r from TestResult r join fetch r.testCase tc where r.executionId = :executionId order by r.id")
+    Stream<TestResult> streamByExecutionIdWithTestCase(@Param("executionId") String executionId);
+
+    long countByExecutionId(String executionId);
+
+    long countByExecutionIdAndStatus(String executionId, TestStatus status);
+
+    @Query("select r.testCase.id from TestResult r where r.executionId = :executionId")
+    List<Long> findTestCaseIdsByExecutionId(@Param("executionId") String executionId);
+
+    @Query("select max(r.id) from TestResult r where r.executionId = :executionId")
+    Long findMaxIdByExecutionId(@Param("executionId") String executionId);
+
+    // Latency baseline for regression checks, newest first
+    @Query("select r.latencyMs from TestResult r where r.testCase.id = :testCaseId and r.latencyMs is not null"
+            + " and r.status = com.testframework.regression.domain.TestStatus.PASSED order by r.id desc")
+    List<Long> findRecentPassedLatencies(@Param("testCaseId") Long testCaseId, Pageable pageable);
+
+    // Wall-time history for adaptive per-test timeouts, newest first
+    @Query("select r.durationMs from TestResult r where r.testCase.id = :testCaseId and r.durationMs is not null"
+            + " and r.status = com.testframework.regression.domain.TestStatus.PASSED order by r.id desc")
+    List<Long> findRecentPassedDurations(@Param("testCaseId") Long testCaseId, Pageable pageable);
+
+    // Average wall time per test case over results recorded before a cutoff, for duration-balanced sharding;
+    // rows of [testCaseId, average ms]
+    @Query("select r.testCase.id, avg(r.durationMs) from TestResult r where r.testCase.id in :testCaseIds"
+            + " and r.durationMs is not null and r.executedAt < :before group by r.testCase.id")
+    List<Object[]> findAverageDurations(@Param("testCaseIds") Collection<Long> testCaseIds,
+                                        @Param("before") OffsetDateTime before);
 }
 
 
@@ -0,0 +1,388 @@
+package com.testframework.regression.scheduler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.service.ExecutionService.ExecutionRequest;
+import org.quartz.CronExpression;
+import org.quartz.CronScheduleBuilder;
+import org.quartz.CronTrigger;
+import org.quartz.JobBuilder;
+import org.quartz.JobDataMap;
+import org.quartz.JobDetail;
+import org.quartz.JobKey;
+import org.quartz.ObjectAlreadyExistsException;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.SimpleScheduleBuilder;
+import org.quartz.Trigger;
+import org.quartz.TriggerBuilder;
+import org.quartz.TriggerKey;
+import org.quartz.impl.matchers.GroupMatcher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.regex.Pattern;
+
+// Named suite schedules kept in the Quartz job store. With the clustered JDBC store every node sees the same
+// schedules and Quartz's row locks hand each fire to exactly one node; a node that was down when a trigger was
+// due is covered by the schedule's misfire policy on whichever node notices first.
+@Service
+@Profile("!cli")
+public class ScheduleService {
+
+    public static final String GROUP = "test-schedules";
+    // One-shot triggers for /schedule/run requests with a future scheduledTime
+    public static final String QUEUED_GROUP = "queued-runs";
+    // One-shot triggers for a cron or manual fire of a schedule with jitter, starting the run at its offset
+    public static final String JITTERED_GROUP = "jittered-runs";
+    static final String REQUEST = "request";
+    static final String JITTER_SECONDS = "jitterSeconds";
+    static final String MISFIRE_POLICY = "misfirePolicy";
+    static final String EXECUTION_ID = "executionId";
+
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_.-]{1,80}");
+    private static final int MAX_JITTER_SECONDS = 3600;
+
+    private final Scheduler scheduler;
+    private final ObjectMapper objectMapper;
+
+    public ScheduleService(Scheduler scheduler, ObjectMapper objectMapper) {
+        this.scheduler = scheduler;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<ScheduleDefinition> list() {
+        try {
+            List<ScheduleDefinition> schedules = new ArrayList<>();
+            for (JobKey key : scheduler.getJobKeys(GroupMatcher.jobGroupEquals(GROUP))) {
+                get(key.getName()).ifPresent(schedules::add);
+            }
+            schedules.sort((a, b) -> a.getName().compareTo(b.getName()));
+            return schedules;
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not list schedules: " + e.getMessage(), e);
+        }
+    }
+
+    public Optional<ScheduleDefinition> get(String name) {
+        try {
+            JobDetail job = scheduler.getJobDetail(JobKey.jobKey(name, GROUP));
+            if (job == null) return Optional.empty();
+            Trigger trigger = scheduler.getTrigger(TriggerKey.triggerKey(name, GROUP));
+            return Optional.of(toDefinition(job, trigger));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not read schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Creates or replaces the schedule; IllegalArgumentException for an invalid definition
+    public ScheduleDefinition save(String name, ScheduleDefinition definition) {
+        validate(name, definition);
+        JobDetail job = JobBuilder.newJob(ScheduledSuiteJob.class)
+                .withIdentity(name, GROUP)
+                .withDescription(definition.getDescription())
+                .usingJobData(jobData(definition))
+                .storeDurably()
+                .build();
+        Trigger trigger = trigger(TriggerKey.triggerKey(name, GROUP), definition);
+        try {
+            boolean paused = scheduler.getTriggerState(trigger.getKey()) == Trigger.TriggerState.PAUSED;
+            scheduler.scheduleJob(job, Set.of(trigger), true);
+            if (paused) {
+                scheduler.pauseTrigger(trigger.getKey());
+            }
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not save schedule " + name + ": " + e.getMessage(), e);
+        }
+        System.out.println("🗓️ Saved schedule " + name + " (" + describe(definition) + ")");
+        return get(name).orElseThrow();
+    }
+
+    // Adds the schedule only when no node has stored one under the name yet
+    public boolean saveIfAbsent(String name, ScheduleDefinition definition) {
+        validate(name, definition);
+        JobDetail job = JobBuilder.newJob(ScheduledSuiteJob.class)
+                .withIdentity(name, GROUP)
+                .withDescription(definition.getDescription())
+                .usingJobData(jobData(definition))
+                .storeDurably()
+                .build();
+        try {
+            if (scheduler.checkExists(job.getKey())) return false;
+            scheduler.scheduleJob(job, trigger(TriggerKey.triggerKey(name, GROUP), definition));
+            return true;
+        } catch (ObjectAlreadyExistsException e) {
+            return false; // another node got there first
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not save schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    public boolean delete(String name) {
+        try {
+            return scheduler.deleteJob(JobKey.jobKey(name, GROUP));
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not delete schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    public boolean pause(String name) {
+        try {
+            if (!scheduler.checkExists(JobKey.jobKey(name, GROUP))) return false;
+            scheduler.pauseJob(JobKey.jobKey(name, GROUP));
+            return true;
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not pause schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Misfires collected while paused are handled by the schedule's misfire policy
+    public boolean resume(String name) {
+        try {
+            if (!scheduler.checkExists(JobKey.jobKey(name, GROUP))) return false;
+            scheduler.resumeJob(JobKey.jobKey(name, GROUP));
+            return true;
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not resume schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Fires the schedule once now, on whichever node acquires it; jitter still applies, via deferRun
+    public boolean runNow(String name) {
+        try {
+            if (!scheduler.checkExists(JobKey.jobKey(name, GROUP))) return false;
+            scheduler.triggerJob(JobKey.jobKey(name, GROUP));
+            return true;
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not trigger schedule " + name + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Persists a queued /schedule/run so it still fires, once, if this node restarts before scheduledTime.
+    // fireAt may be ahead of scheduledTime: the node that takes the trigger warms up until then.
+    public void scheduleOnce(String executionId, ExecutionRequest request, OffsetDateTime fireAt) {
+        JobDataMap data = new JobDataMap();
+        data.put(REQUEST, toJson(request));
+        data.put(EXECUTION_ID, executionId);
+        JobDetail job = JobBuilder.newJob(ScheduledSuiteJob.class)
+                .withIdentity(executionId, QUEUED_GROUP)
+                .usingJobData(data)
+                .build();
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(executionId, QUEUED_GROUP)
+                .startAt(Date.from(fireAt.toInstant()))
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            scheduler.scheduleJob(job, trigger);
+        } catch (SchedulerException e) {
+            throw new IllegalStateException("Could not queue " + executionId + ": " + e.getMessage(), e);
+        }
+    }
+
+    // Runs the schedule's job once at fireAt, from the job store, so no Quartz thread waits out the jitter. The
+    // trigger belongs to the schedule's job: @DisallowConcurrentExecution still keeps runs from overlapping.
+    void deferRun(JobKey job, Date fireAt) throws SchedulerException {
+        Trigger trigger = TriggerBuilder.newTrigger()
+                .withIdentity(job.getName() + "@" + fireAt.getTime(), JITTERED_GROUP)
+                .forJob(job)
+                .startAt(fireAt)
+                .withSchedule(SimpleScheduleBuilder.simpleSchedule().withMisfireHandlingInstructionFireNow())
+                .build();
+        try {
+            scheduler.scheduleJob(trigger);
+        } catch (ObjectAlreadyExistsException e) {
+            // the same fire deferred twice
+        }
+    }
+
+    // Fixed offset in [0, jitterSeconds] derived from the name, so suites sharing a cron are spread out
+    // the same way on every fire and every node
+    static long jitterSeconds(String name, int jitterSeconds) {
+        return jitterSeconds <= 0 ? 0 : Math.floorMod(name.hashCode(), jitterSeconds + 1);
+    }
+
+    static long jitterSeconds(String name, JobDataMap data) {
+        String configured = data.getString(JITTER_SECONDS);
+        return jitterSeconds(name, configured != null ? Integer.parseInt(configured) : 0);
+    }
+
+    ExecutionRequest request(JobDataMap data) {
+        try {
+            return objectMapper.readValue(data.getString(REQUEST), ExecutionRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable schedule request: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private void validate(String name, ScheduleDefinition definition) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Schedule name must be 1-80 characters of letters, digits, '.', '_' or '-'");
+        }
+        if (definition == null) {
+            throw new IllegalArgumentException("Schedule definition is required");
+        }
+        boolean hasCron = definition.getCron() != null && !definition.getCron().isBlank();
+        if (hasCron == (definition.getRunAt() != null)) {
+            throw new IllegalArgumentException("Exactly one of cron or runAt is required");
+        }
+        if (hasCron && !CronExpression.isValidExpression(definition.getCron())) {
+            throw new IllegalArgumentException("Invalid Quartz cron expression: " + definition.getCron());
+        }
+        if (definition.getTimeZone() != null) {
+            try {
+                ZoneId.of(definition.getTimeZone());
+            } catch (DateTimeException e) {
+                throw new IllegalArgumentException("Unknown timeZone: " + definition.getTimeZone());
+            }
+        }
+        if (definition.getJitterSeconds() != null && (definition.getJitterSeconds() < 0 || definition.getJitterSeconds() > MAX_JITTER_SECONDS)) {
+            throw new IllegalArgumentException("jitterSeconds must be between 0 and " + MAX_JITTER_SECONDS);
+        }
+        ExecutionRequest request = definition.getRequest();
+        if (request == null || ((request.getTestCaseIds() == null || request.getTestCaseIds().isEmpty())
+                && request.getSuiteId() == null && request.getTagExpression() == null)) {
+            throw new IllegalArgumentException("request must select tests by testCaseIds, suiteId or tagExpression");
+        }
+        if (request.getScheduledTime() != null) {
+            throw new IllegalArgumentException("request.scheduledTime is not used by schedules, set cron or runAt instead");
+        }
+    }
+
+    private JobDataMap jobData(ScheduleDefinition definition) {
+        // Strings only, so the JDBC store can keep the map as properties
+        JobDataMap data = new JobDataMap();
+        data.put(REQUEST, toJson(definition.getRequest()));
+        data.put(JITTER_SECONDS, String.valueOf(definition.getJitterSeconds() != null ? definition.getJitterSeconds() : 0));
+        data.put(MISFIRE_POLICY, policy(definition).name());
+        return data;
+    }
+
+    private Trigger trigger(TriggerKey key, ScheduleDefinition definition) {
+        MisfirePolicy policy = policy(definition);
+        TriggerBuilder<Trigger> builder = TriggerBuilder.newTrigger().withIdentity(key).withDescription(definition.getDescription());
+        if (definition.getCron() != null && !definition.getCron().isBlank()) {
+            CronScheduleBuilder cron = CronScheduleBuilder.cronSchedule(definition.getCron())
+                    .inTimeZone(TimeZone.getTimeZone(ZoneId.of(definition.getTimeZone() != null ? definition.getTimeZone() : ZoneId.systemDefault().getId())));
+            cron = switch (policy) {
+                case FIRE_NOW -> cron.withMisfireHandlingInstructionFireAndProceed();
+                case SKIP -> cron.withMisfireHandlingInstructionDoNothing();
+                case FIRE_ALL -> cron.withMisfireHandlingInstructionIgnoreMisfires();
+            };
+            return builder.withSchedule(cron).build();
+        }
+        SimpleScheduleBuilder once = SimpleScheduleBuilder.simpleSchedule();
+        once = switch (policy) {
+            case FIRE_NOW -> once.withMisfireHandlingInstructionFireNow();
+            case SKIP -> once.withMisfireHandlingInstructionNextWithRemainingCount();
+            case FIRE_ALL -> once.withMisfireHandlingInstructionIgnoreMisfires();
+        };
+        // A one-shot carries its jitter in the start time; cron fires are deferred by the job (deferRun)
+        long jitter = jitterSeconds(key.getName(), definition.getJitterSeconds() != null ? definition.getJitterSeconds() : 0);
+        return builder.startAt(Date.from(definition.getRunAt().toInstant().plusSeconds(jitter))).withSchedule(once).build();
+    }
+
+    private ScheduleDefinition toDefinition(JobDetail job, Trigger trigger) throws SchedulerException {
+        ScheduleDefinition definition = new ScheduleDefinition();
+        definition.setName(job.getKey().getName());
+        definition.setDescription(job.getDescription());
+        definition.setRequest(request(job.getJobDataMap()));
+        definition.setJitterSeconds(Integer.parseInt(job.getJobDataMap().getString(JITTER_SECONDS)));
+        definition.setMisfirePolicy(job.getJobDataMap().getString(MISFIRE_POLICY));
+        if (trigger instanceof CronTrigger cron) {
+            definition.setCron(cron.getCronExpression());
+            definition.setTimeZone(cron.getTimeZone().getID());
+        } else if (trigger != null) {
+            long jitter = jitterSeconds(job.getKey().getName(), job.getJobDataMap());
+            definition.setRunAt(toOffset(trigger.getStartTime()).minusSeconds(jitter));
+        }
+        if (trigger != null) {
+            definition.setState(scheduler.getTriggerState(trigger.getKey()).name());
+            definition.setNextFireTime(toOffset(trigger.getNextFireTime()));
+            definition.setPreviousFireTime(toOffset(trigger.getPreviousFireTime()));
+        } else {
+            definition.setState("COMPLETE"); // a one-shot that already fired
+        }
+        return definition;
+    }
+
+    private static MisfirePolicy policy(ScheduleDefinition definition) {
+        if (definition.getMisfirePolicy() == null) return MisfirePolicy.FIRE_NOW;
+        try {
+            return MisfirePolicy.valueOf(definition.getMisfirePolicy().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("misfirePolicy must be one of FIRE_NOW, SKIP, FIRE_ALL");
+        }
+    }
+
+    private String toJson(ExecutionRequest request) {
+        try {
+            return objectMapper.writeValueAsString(request);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unserializable request: " + e.getOriginalMessage(), e);
+        }
+    }
+
+    private static OffsetDateTime toOffset(Date date) {
+        return date != null ? date.toInstant().atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private static String describe(ScheduleDefinition definition) {
+        return (definition.getCron() != null ? "cron " + definition.getCron() : "once at " + definition.getRunAt())
+                + ", misfire " + policy(definition) + ", jitter " + (definition.getJitterSeconds() != null ? definition.getJitterSeconds() : 0) + "s";
+    }
+
+    // What happens to fires missed while every node was down, or while the schedule was paused
+    public enum MisfirePolicy {
+        FIRE_NOW, // run once as soon as possible, then continue with the schedule
+        SKIP,     // drop the missed fires and wait for the next one
+        FIRE_ALL  // run every missed fire, back to back
+    }
+
+    public static class ScheduleDefinition {
+        private String name;
+        private String description;
+        private String cron; // Quartz cron with seconds, e.g. "0 0 3 * * ?"
+        private String timeZone; // cron zone, defaults to the server's
+        private OffsetDateTime runAt; // one-shot instead of cron
+        private String misfirePolicy; // FIRE_NOW (default), SKIP or FIRE_ALL
+        private Integer jitterSeconds; // start up to this many seconds late, fixed per schedule name
+        private ExecutionRequest request; // what to run, as for /schedule/run
+        private String state; // read-only: NORMAL, PAUSED, BLOCKED (running), COMPLETE ...
+        private OffsetDateTime nextFireTime; // read-only
+        private OffsetDateTime previousFireTime; // read-only
+
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public String getCron() { return cron; }
+        public void setCron(String cron) { this.cron = cron; }
+        public String getTimeZone() { return timeZone; }
+        public void setTimeZone(String timeZone) { this.timeZone = timeZone; }
+        public OffsetDateTime getRunAt() { return runAt; }
+        public void setRunAt(OffsetDateTime runAt) { this.runAt = runAt; }
+        public String getMisfirePolicy() { return misfirePolicy; }
+        public void setMisfirePolicy(String misfirePolicy) { this.misfirePolicy = misfirePolicy; }
+        public Integer getJitterSeconds() { return jitterSeconds; }
+        public void setJitterSeconds(Integer jitterSeconds) { this.jitterSeconds = jitterSeconds; }
+        public ExecutionRequest getRequest() { return request; }
+        public void setRequest(ExecutionRequest request) { this.request = request; }
+        public String getState() { return state; }
+        public void setState(String state) { this.state = state; }
+        public OffsetDateTime getNextFireTime() { return nextFireTime; }
+        public void setNextFireTime(OffsetDateTime nextFireTime) { this.nextFireTime = nextFireTime; }
+        public OffsetDateTime getPreviousFireTime() { return previousFireTime; }
+        public void setPreviousFireTime(OffsetDateTime previousFireTime) { this.previousFireTime = previousFireTime; }
+    }
+}
@@ -0,0 +1,58 @@
+package com.testframework.regression.scheduler;
+
+import com.testframework.regression.service.ExecutionService;
+import org.quartz.CronTrigger;
+import org.quartz.DisallowConcurrentExecution;
+import org.quartz.Job;
+import org.quartz.JobDataMap;
+import org.quartz.JobExecutionContext;
+import org.quartz.JobExecutionException;
+import org.quartz.Trigger;
+
+import java.util.Date;
+
+// Quartz job behind every schedule and queued run. Runs synchronously, so the Quartz thread (and with it the
+// cluster-wide BLOCKED state from @DisallowConcurrentExecution) is held until the suite finishes: a schedule
+// that fires while its previous run is still going waits instead of overlapping it. A schedule with jitter
+// doesn't wait on the thread: a cron or manual fire only stores a one-shot trigger at the offset and returns.
+@DisallowConcurrentExecution
+public class ScheduledSuiteJob implements Job {
+
+    private final ExecutionService executionService;
+    private final ScheduleService scheduleService;
+
+    public ScheduledSuiteJob(ExecutionService executionService, ScheduleService scheduleService) {
+        this.executionService = executionService;
+        this.scheduleService = scheduleService;
+    }
+
+    @Override
+    public void execute(JobExecutionContext context) throws JobExecutionException {
+        JobDataMap data = context.getMergedJobDataMap();
+        String name = context.getJobDetail().getKey().getName();
+        try {
+            ExecutionService.ExecutionRequest request = scheduleService.request(data);
+            if (ScheduleService.QUEUED_GROUP.equals(context.getJobDetail().getKey().getGroup())) {
+                executionService.runQueued(data.getString(ScheduleService.EXECUTION_ID), request);
+                return;
+            }
+            long jitter = ScheduleService.jitterSeconds(name, data);
+            if (jitter > 0 && !offsetApplied(context.getTrigger())) {
+                Date fireAt = new Date(context.getFireTime().getTime() + jitter * 1000);
+                scheduleService.deferRun(context.getJobDetail().getKey(), fireAt);
+                System.out.println("⏳ Schedule " + name + " deferred by " + jitter + "s jitter to " + fireAt.toInstant());
+                return;
+            }
+            executionService.runScheduled(name, request);
+        } catch (Exception e) {
+            System.err.println("❌ Schedule " + name + " failed: " + e.getMessage());
+            throw new JobExecutionException(e, false);
+        }
+    }
+
+    // The deferred run itself, or a runAt one-shot whose start time already includes the jitter
+    private static boolean offsetApplied(Trigger trigger) {
+        String group = trigger.getKey().getGroup();
+        return ScheduleService.JITTERED_GROUP.equals(group) || (ScheduleService.GROUP.equals(group) && !(trigger instanceof CronTrigger));
+    }
+}
@@ -1,35 +1,47 @@
 package com.testframework.regression.scheduler;
 
-import com.testframework.regression.engine.SuiteRegistry;
-import com.testframework.regression.engine.TestIntegrationEngine;
-import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.annotation.Scheduled;
+import com.testframework.regression.service.ExecutionService;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
-
+// Seeds the default daily schedule into the Quartz store the first time any node starts. Afterwards it is an
+// ordinary schedule: edit, pause or delete it through /schedules; a deleted one comes back only if
+// schedules.seedDailyCombined stays true.
 @Component
-@EnableScheduling
-public class TestScheduler {
+@Profile("!cli")
+public class TestScheduler implements SmartInitializingSingleton {
+
+    static final String DAILY_COMBINED = "daily-combined";
 
-    private final TestIntegrationEngine testIntegrationEngine;
-    private final SuiteRegistry suiteRegistry;
+    private final ScheduleService scheduleService;
+    private final boolean seedDailyCombined;
 
-    public TestScheduler(TestIntegrationEngine testIntegrationEngine, SuiteRegistry suiteRegistry) {
-        this.testIntegrationEngine = testIntegrationEngine;
-        this.suiteRegistry = suiteRegistry;
+    public TestScheduler(ScheduleService scheduleService,
+                         @Value("${schedules.seedDailyCombined:true}") boolean seedDailyCombined) {
+        this.scheduleService = scheduleService;
+        this.seedDailyCombined = seedDailyCombined;
     }
 
-    // Default daily schedule at 03:00 AM local time - run combined (UI + API)
-    @Scheduled(cron = "0 0 3 * * *")
-    public void runDailyCombinedSuite() {
-        List<Long> uiIds = suiteRegistry.resolveSuiteToTestCaseIds("BLAZE_SMOKE").orElse(List.of());
-        List<Long> apiIds = suiteRegistry.resolveSuiteToTestCaseIds("REQRES_SMOKE").orElse(List.of());
-        List<Long> combined = new ArrayList<>(uiIds);
-        combined.addAll(apiIds);
-        testIntegrationEngine.executeParallel(combined);
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!seedDailyCombined) return;
+        // Default daily schedule at 03:00 AM local time - run combined (UI + API)
+        ExecutionService.ExecutionRequest request = new ExecutionService.ExecutionRequest();
+        request.setSuiteId("COMBINED_SMOKE");
+        request.setMode("PARALLEL");
+        ScheduleService.ScheduleDefinition daily = new ScheduleService.ScheduleDefinition();
+        daily.setDescription("Nightly UI + API smoke");
+        daily.setCron("0 0 3 * * ?");
+        daily.setMisfirePolicy(ScheduleService.MisfirePolicy.FIRE_NOW.name());
+        daily.setRequest(request);
+        try {
+            if (scheduleService.saveIfAbsent(DAILY_COMBINED, daily)) {
+                System.out.println("🗓️ Seeded schedule " + DAILY_COMBINED);
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Could not seed schedule " + DAILY_COMBINED + ": " + e.getMessage());
+        }
     }
 }
-
-
@@ -0,0 +1,115 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.TimeoutConfig;
+import com.testframework.regression.repository.TestResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Per-test time budgets from each test's own history: a high percentile of its recent passing durations times a
+// safety factor, kept between a floor and a cap per test type. A 2 s home page check then gets seconds, not the
+// global two minutes, so a hang is caught quickly. Tests with too little history get the global TimeoutConfig values.
+@Service
+public class AdaptiveTimeoutService {
+
+    private final TestResultRepository testResultRepository;
+    private final TimeoutConfig timeoutConfig;
+    private final boolean enabled;
+    private final double percentile;
+    private final double factor;
+    private final int minSamples;
+    private final int window;
+    private final int uiFloorSeconds;
+    private final int uiCapSeconds;
+    private final int apiFloorSeconds;
+    private final int apiCapSeconds;
+    private final long refreshMs;
+    // testCaseId -> budget, recomputed after refreshSeconds so new history is picked up without a query per test
+    private final Map<Long, Budget> budgets = new ConcurrentHashMap<>();
+
+    public AdaptiveTimeoutService(TestResultRepository testResultRepository,
+                                  TimeoutConfig timeoutConfig,
+                                  @Value("${timeouts.adaptive.enabled:true}") boolean enabled,
+                                  @Value("${timeouts.adaptive.percentile:0.99}") double percentile,
+                                  @Value("${timeouts.adaptive.factor:3.0}") double factor,
+                                  @Value("${timeouts.adaptive.minSamples:10}") int minSamples,
+                                  @Value("${timeouts.adaptive.window:100}") int window,
+                                  @Value("${timeouts.adaptive.ui.floorSeconds:15}") int uiFloorSeconds,
+                                  @Value("${timeouts.adaptive.ui.capSeconds:300}") int uiCapSeconds,
+                                  @Value("${timeouts.adaptive.api.floorSeconds:5}") int apiFloorSeconds,
+                                  @Value("${timeouts.adaptive.api.capSeconds:60}") int apiCapSeconds,
+                                  @Value("${timeouts.adaptive.refreshSeconds:300}") int refreshSeconds) {
+        this.testResultRepository = testResultRepository;
+        this.timeoutConfig = timeoutConfig;
+        this.enabled = enabled;
+        this.percentile = Math.min(1.0, Math.max(0.5, percentile));
+        this.factor = Math.max(1.0, factor);
+        this.minSamples = Math.max(1, minSamples);
+        this.window = Math.max(this.minSamples, window);
+        this.uiFloorSeconds = Math.max(1, uiFloorSeconds);
+        this.uiCapSeconds = Math.max(this.uiFloorSeconds, uiCapSeconds);
+        this.apiFloorSeconds = Math.max(1, apiFloorSeconds);
+        this.apiCapSeconds = Math.max(this.apiFloorSeconds, apiCapSeconds);
+        this.refreshMs = Math.max(0, refreshSeconds) * 1000L;
+    }
+
+    public Budget budgetFor(TestCase testCase) {
+        if (!enabled || testCase.getId() == null) return fallback(testCase.getType());
+        Budget cached = budgets.get(testCase.getId());
+        if (cached != null && System.currentTimeMillis() - cached.computedAt < refreshMs) return cached;
+        List<Long> durations = testResultRepository.findRecentPassedDurations(testCase.getId(), PageRequest.of(0, window));
+        Budget budget = derive(testCase.getType(), durations);
+        budgets.put(testCase.getId(), budget);
+        return budget;
+    }
+
+    Budget derive(TestType type, List<Long> durations) {
+        if (durations.size() < minSamples) return fallback(type);
+        long[] sorted = durations.stream().mapToLong(Long::longValue).sorted().toArray();
+        // Nearest rank
+        long p = sorted[Math.max(0, (int) Math.ceil(percentile * sorted.length) - 1)];
+        boolean ui = type == TestType.UI;
+        long floorMs = (ui ? uiFloorSeconds : apiFloorSeconds) * 1000L;
+        long capMs = (ui ? uiCapSeconds : apiCapSeconds) * 1000L;
+        long perTestMs = Math.min(capMs, Math.max(floorMs, Math.round(p * factor)));
+        // A single page load or element wait can't usefully outlast the whole test
+        int perTestSeconds = (int) Math.ceil(perTestMs / 1000.0);
+        return new Budget(perTestMs,
+                Math.min(timeoutConfig.getUiPageLoadSeconds(), perTestSeconds),
+                Math.min(timeoutConfig.getUiElementWaitSeconds(), perTestSeconds),
+                String.format(Locale.ROOT, "p%.0f %dms x %.1f over %d runs", percentile * 100, p, factor, sorted.length));
+    }
+
+    private Budget fallback(TestType type) {
+        int perTestSeconds = type == TestType.UI ? timeoutConfig.getUiPerTestSeconds() : timeoutConfig.getApiPerTestSeconds();
+        return new Budget(perTestSeconds * 1000L, timeoutConfig.getUiPageLoadSeconds(), timeoutConfig.getUiElementWaitSeconds(),
+                "default");
+    }
+
+    public static class Budget {
+        private final long perTestMs;
+        private final int pageLoadSeconds;
+        private final int elementWaitSeconds;
+        private final String basis; // how the budget was derived, for the timeout message
+        private final long computedAt = System.currentTimeMillis();
+
+        public Budget(long perTestMs, int pageLoadSeconds, int elementWaitSeconds, String basis) {
+            this.perTestMs = perTestMs;
+            this.pageLoadSeconds = pageLoadSeconds;
+            this.elementWaitSeconds = elementWaitSeconds;
+            this.basis = basis;
+        }
+
+        public long getPerTestMs() { return perTestMs; }
+        public int getPageLoadSeconds() { return pageLoadSeconds; }
+        public int getElementWaitSeconds() { return elementWaitSeconds; }
+        public String getBasis() { return basis; }
+    }
+}
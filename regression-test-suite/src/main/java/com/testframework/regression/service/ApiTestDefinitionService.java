@@ -0,0 +1,92 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.ApiTestDefinition;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.engine.CompiledApiTest;
+import com.testframework.regression.engine.TargetConfig;
+import com.testframework.regression.repository.ApiTestDefinitionRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Stores API test definitions and caches their compiled form per test case.
+// Absence isn't cached: on a cluster another node may create the definition at any time.
+@Service
+public class ApiTestDefinitionService {
+
+    private final ApiTestDefinitionRepository repository;
+    private final TargetConfig targetConfig;
+    private final Map<Long, CompiledApiTest> compiled = new ConcurrentHashMap<>();
+
+    public ApiTestDefinitionService(ApiTestDefinitionRepository repository, TargetConfig targetConfig) {
+        this.repository = repository;
+        this.targetConfig = targetConfig;
+    }
+
+    public Optional<ApiTestDefinition> find(Long testCaseId) {
+        return repository.findByTestCaseId(testCaseId);
+    }
+
+    public Optional<CompiledApiTest> compiledFor(Long testCaseId) {
+        if (testCaseId == null) return Optional.empty();
+        CompiledApiTest cached = compiled.get(testCaseId);
+        if (cached != null) return Optional.of(cached);
+        Optional<CompiledApiTest> loaded = repository.findByTestCaseId(testCaseId).map(this::compileStored);
+        loaded.ifPresent(test -> compiled.put(testCaseId, test));
+        return loaded;
+    }
+
+    // Loads a run's definitions with one query instead of one per test
+    public void preload(Collection<Long> testCaseIds) {
+        if (testCaseIds == null || testCaseIds.isEmpty()) return;
+        List<Long> missing = testCaseIds.stream().filter(id -> id != null && !compiled.containsKey(id)).distinct().toList();
+        if (missing.isEmpty()) return;
+        for (ApiTestDefinition def : repository.findByTestCaseIdIn(missing)) {
+            compiled.put(def.getTestCaseId(), compileStored(def));
+        }
+    }
+
+    // Validates by compiling before writing, so a bad definition is rejected instead of failing at run time
+    public ApiTestDefinition save(TestCase testCase, ApiTestDefinition request) {
+        CompiledApiTest.compile(request, targetConfig);
+        ApiTestDefinition def = repository.findByTestCaseId(testCase.getId()).orElseGet(ApiTestDefinition::new);
+        def.setTestCase(testCase);
+        def.setMethod(request.getMethod().trim().toUpperCase(Locale.ROOT));
+        def.setUrlTemplate(request.getUrlTemplate().trim());
+        def.setHeaders(request.getHeaders());
+        def.setBodyTemplate(request.getBodyTemplate());
+        def.setExpectedStatus(request.getExpectedStatus());
+        def.setAssertions(request.getAssertions());
+        def.setResponseSchema(request.getResponseSchema());
+        def.setMaxResponseTimeMs(request.getMaxResponseTimeMs());
+        def.setLatencySamples(request.getLatencySamples());
+        def.setP95BudgetMs(request.getP95BudgetMs());
+        def.setUpdatedAt(OffsetDateTime.now());
+        ApiTestDefinition saved = repository.save(def);
+        compiled.remove(testCase.getId());
+        return saved;
+    }
+
+    public boolean delete(Long testCaseId) {
+        Optional<ApiTestDefinition> def = repository.findByTestCaseId(testCaseId);
+        def.ifPresent(repository::delete);
+        compiled.remove(testCaseId);
+        return def.isPresent();
+    }
+
+    private CompiledApiTest compileStored(ApiTestDefinition def) {
+        try {
+            return CompiledApiTest.compile(def, targetConfig);
+        } catch (IllegalArgumentException e) {
+            // e.g. a target property was removed after the definition was saved
+            System.out.println("⚠️ API test definition for test case " + def.getTestCaseId() + " is invalid: " + e.getMessage());
+            return CompiledApiTest.invalid(e.getMessage());
+        }
+    }
+}
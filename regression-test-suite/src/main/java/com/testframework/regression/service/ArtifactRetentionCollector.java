@@ -0,0 +1,209 @@
+package com.testframework.regression.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+// Background retention for the artifact store: age limit, total size cap, and the last N failure
+// artifacts of every test case are always kept. Plain files from before the store are held to the same
+// rules. Unreferenced blobs are swept after a grace period.
+@Component
+public class ArtifactRetentionCollector {
+
+    private final ArtifactStore artifactStore;
+    private final int maxAgeDays;
+    private final long maxTotalBytes;
+    private final int keepLastFailures;
+    private final int blobGraceMinutes;
+
+    public ArtifactRetentionCollector(ArtifactStore artifactStore,
+                                      @Value("${artifacts.retention.maxAgeDays:14}") int maxAgeDays,
+                                      @Value("${artifacts.retention.maxTotalMb:2048}") long maxTotalMb,
+                                      @Value("${artifacts.retention.keepLastFailures:5}") int keepLastFailures,
+                                      @Value("${artifacts.retention.blobGraceMinutes:60}") int blobGraceMinutes) {
+        this.artifactStore = artifactStore;
+        this.maxAgeDays = maxAgeDays;
+        this.maxTotalBytes = maxTotalMb * 1024 * 1024;
+        this.keepLastFailures = keepLastFailures;
+        this.blobGraceMinutes = blobGraceMinutes;
+    }
+
+    @Scheduled(initialDelayString = "${artifacts.retention.initialDelayMs:300000}",
+               fixedDelayString = "${artifacts.retention.intervalMs:3600000}")
+    public void collect() {
+        try {
+            RetentionReport report = runOnce(Instant.now());
+            System.out.println("🧹 Artifact retention: dropped " + report.droppedEntries + " entries, "
+                    + report.deletedFiles + " plain files, freed " + (report.freedBytes / 1024) + " KB of blobs");
+        } catch (Exception e) {
+            System.out.println("❌ Artifact retention failed: " + e.getMessage());
+        }
+    }
+
+    RetentionReport runOnce(Instant now) throws IOException {
+        Instant cutoff = now.minus(Duration.ofDays(Math.max(1, maxAgeDays)));
+        List<Candidate> candidates = new ArrayList<>();
+
+        // 1. Gather the live manifest entries and pre-store plain files of every execution
+        Map<String, Set<String>> dropKeys = new LinkedHashMap<>();
+        Map<String, Set<String>> legacyFiles = new HashMap<>();
+        for (String executionId : artifactStore.listExecutions()) {
+            dropKeys.put(executionId, new HashSet<>());
+            legacyFiles.put(executionId, new HashSet<>());
+            Map<String, ArtifactStore.ManifestEntry> latest = new LinkedHashMap<>();
+            for (ArtifactStore.ManifestEntry entry : artifactStore.readManifest(executionId)) {
+                ArtifactStore.ManifestEntry previous = latest.put(entry.getPath(), entry);
+                // Superseded lines for the same path are dead weight
+                if (previous != null) dropKeys.get(executionId).add(previous.key());
+            }
+            for (ArtifactStore.ManifestEntry entry : latest.values()) {
+                candidates.add(new Candidate(executionId, entry, null, entry.getPath(), parse(entry.getCreatedAt()),
+                        entry.isFailure(), entry.getSize()));
+            }
+            for (Path file : plainFiles(executionId)) {
+                String relative = ArtifactStore.ROOT.resolve(executionId).relativize(file).toString().replace('\\', '/');
+                // Plain files carry no failure flag. Pre-store screenshots were only taken on failure, so every
+                // plain file counts as one and the keep-last-N guard covers it like any other failure artifact
+                candidates.add(new Candidate(executionId, null, relative, relative,
+                        Files.getLastModifiedTime(file).toInstant(), true, Files.size(file)));
+            }
+        }
+
+        // 2. Protect the most recent failure artifacts of each test case (keyed by the testCaseId folder)
+        Map<String, List<Candidate>> failuresByTestCase = new HashMap<>();
+        for (Candidate c : candidates) {
+            if (c.failure) {
+                String testCaseId = c.path.substring(0, Math.max(0, c.path.indexOf('/')));
+                failuresByTestCase.computeIfAbsent(testCaseId, k -> new ArrayList<>()).add(c);
+            }
+        }
+        for (List<Candidate> failures : failuresByTestCase.values()) {
+            failures.sort(Comparator.comparing((Candidate c) -> c.createdAt).reversed());
+            for (int i = 0; i < Math.min(keepLastFailures, failures.size()); i++) {
+                failures.get(i).isProtected = true;
+            }
+        }
+
+        // 3. Age limit
+        List<Candidate> kept = new ArrayList<>();
+        for (Candidate c : candidates) {
+            if (!c.isProtected && c.createdAt.isBefore(cutoff)) {
+                c.drop(dropKeys, legacyFiles);
+            } else {
+                kept.add(c);
+            }
+        }
+
+        // 4. Size cap: blobs are shared, so bytes are only freed when the last reference goes; a plain file
+        // frees its own bytes
+        Map<String, Integer> refCounts = new HashMap<>();
+        Map<String, Long> blobSizes = new HashMap<>();
+        long total = 0;
+        for (Candidate c : kept) {
+            if (c.entry == null) {
+                total += c.size;
+            } else {
+                refCounts.merge(c.entry.getSha256(), 1, Integer::sum);
+                blobSizes.put(c.entry.getSha256(), c.size);
+            }
+        }
+        for (long size : blobSizes.values()) total += size;
+        kept.sort(Comparator.comparing((Candidate c) -> c.createdAt));
+        for (Candidate c : kept) {
+            if (total <= maxTotalBytes) break;
+            if (c.isProtected) continue;
+            c.drop(dropKeys, legacyFiles);
+            if (c.entry == null || refCounts.merge(c.entry.getSha256(), -1, Integer::sum) == 0) {
+                total -= c.size;
+            }
+        }
+
+        RetentionReport report = new RetentionReport();
+        for (Map.Entry<String, Set<String>> e : dropKeys.entrySet()) {
+            Set<String> legacy = legacyFiles.getOrDefault(e.getKey(), Set.of());
+            if (e.getValue().isEmpty() && legacy.isEmpty()) continue;
+            artifactStore.dropEntries(e.getKey(), e.getValue(), legacy);
+            report.droppedEntries += e.getValue().size();
+            report.deletedFiles += legacy.size();
+        }
+
+        // 5. Sweep blobs no surviving manifest points at; fresh blobs may belong to a put in flight
+        Set<String> live = new HashSet<>();
+        for (Candidate c : kept) {
+            if (!c.dropped && c.entry != null) live.add(c.entry.getSha256());
+        }
+        report.freedBytes = artifactStore.sweepBlobs(live, now.minus(Duration.ofMinutes(Math.max(1, blobGraceMinutes))));
+        return report;
+    }
+
+    // Files written before the content-addressed store existed, plus .gz siblings served for them
+    private List<Path> plainFiles(String executionId) throws IOException {
+        Path dir = ArtifactStore.ROOT.resolve(executionId);
+        try (Stream<Path> walk = Files.walk(dir)) {
+            return walk.filter(Files::isRegularFile)
+                    .filter(p -> !p.getFileName().toString().startsWith(ArtifactStore.MANIFEST))
+                    .filter(p -> !p.getFileName().toString().endsWith(".gz"))
+                    .toList();
+        }
+    }
+
+    private static Instant parse(String createdAt) {
+        try {
+            return OffsetDateTime.parse(createdAt).toInstant();
+        } catch (Exception e) {
+            return Instant.EPOCH;
+        }
+    }
+
+    // A manifest entry, or a pre-store plain file when entry is null
+    private static class Candidate {
+        private final String executionId;
+        private final ArtifactStore.ManifestEntry entry;
+        private final String legacyFile;
+        private final String path;
+        private final Instant createdAt;
+        private final boolean failure;
+        private final long size;
+        private boolean isProtected;
+        private boolean dropped;
+
+        Candidate(String executionId, ArtifactStore.ManifestEntry entry, String legacyFile, String path,
+                  Instant createdAt, boolean failure, long size) {
+            this.executionId = executionId;
+            this.entry = entry;
+            this.legacyFile = legacyFile;
+            this.path = path;
+            this.createdAt = createdAt;
+            this.failure = failure;
+            this.size = size;
+        }
+
+        void drop(Map<String, Set<String>> dropKeys, Map<String, Set<String>> legacyFiles) {
+            if (entry != null) dropKeys.get(executionId).add(entry.key());
+            else legacyFiles.get(executionId).add(legacyFile);
+            dropped = true;
+        }
+    }
+
+    static class RetentionReport {
+        private long droppedEntries;
+        private long deletedFiles;
+        private long freedBytes;
+    }
+}
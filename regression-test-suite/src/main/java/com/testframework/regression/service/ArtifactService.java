@@ -0,0 +1,190 @@
+package com.testframework.regression.service;
+
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// Resolves and packages artifacts for download
+@Service
+public class ArtifactService {
+
+    private static final Path ARTIFACT_ROOT = ArtifactStore.ROOT;
+    // Below this size gzip framing outweighs the savings
+    private static final long GZIP_MIN_BYTES = 1024;
+    private static final Set<String> COMPRESSIBLE = Set.of("html", "csv", "xml", "txt", "json", "log");
+    private static final Set<String> PRECOMPRESSED = Set.of("png", "jpg", "jpeg", "gz", "zip");
+
+    private final ArtifactStore artifactStore;
+
+    public ArtifactService(ArtifactStore artifactStore) {
+        this.artifactStore = artifactStore;
+    }
+
+    // Returns null when the requested path escapes the artifacts directory or nothing is stored under it
+    public Path resolve(String executionId, Long testCaseId, String file) {
+        Path dir = executionDir(executionId);
+        if (dir == null) return null;
+        Path path = dir.resolve(String.valueOf(testCaseId)).resolve(file).normalize();
+        if (!path.startsWith(dir) || path.equals(dir)) return null;
+        return artifactStore.locate(executionId, dir.relativize(path).toString().replace('\\', '/'));
+    }
+
+    public Path executionDir(String executionId) {
+        Path dir = ARTIFACT_ROOT.resolve(executionId).normalize();
+        boolean valid = dir.startsWith(ARTIFACT_ROOT) && !dir.equals(ARTIFACT_ROOT)
+                && !dir.equals(ARTIFACT_ROOT.resolve(ArtifactStore.BLOB_DIR));
+        return valid ? dir : null;
+    }
+
+    public boolean hasArtifacts(String executionId) {
+        Path dir = executionDir(executionId);
+        return dir != null && Files.isDirectory(dir);
+    }
+
+    // Pre-compressed sibling of a text file, created on first use; null when not worth serving
+    public Path gzipVariant(Path file) {
+        if (!isCompressible(file)) return null;
+        Path gz = gzipSibling(file);
+        try {
+            if (Files.exists(gz) && Files.getLastModifiedTime(gz).compareTo(Files.getLastModifiedTime(file)) >= 0) {
+                return gz;
+            }
+            if (Files.size(file) < GZIP_MIN_BYTES) return null;
+            return precompress(file);
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not gzip " + file + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    // Writes file.gz next to file; the temp file keeps concurrent readers from seeing a partial archive
+    static Path precompress(Path file) throws IOException {
+        Path gz = gzipSibling(file);
+        Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".gz.tmp");
+        try {
+            try (InputStream in = Files.newInputStream(file);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(tmp), 64 * 1024)) {
+                in.transferTo(out);
+            }
+            Files.move(tmp, gz, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return gz;
+    }
+
+    // Zips every artifact of the execution straight into the output; nothing is staged on disk
+    public void writeZip(String executionId, OutputStream output) throws IOException {
+        Path root = executionDir(executionId);
+        if (root == null || !Files.isDirectory(root)) {
+            throw new IOException("No artifacts for execution " + executionId);
+        }
+        ZipOutputStream zip = new ZipOutputStream(output);
+        zip.setLevel(Deflater.BEST_SPEED);
+        WritableByteChannel sink = Channels.newChannel(zip);
+        Set<String> written = new HashSet<>();
+        // Stored artifacts are read from their blobs under their logical names
+        for (Map.Entry<String, ArtifactStore.ManifestEntry> e : new TreeMap<>(artifactStore.entries(executionId)).entrySet()) {
+            Path blob = artifactStore.blobPath(e.getValue().getSha256(), e.getValue().getExtension());
+            if (!Files.isRegularFile(blob)) continue;
+            writeEntry(zip, sink, blob, executionId + "/" + e.getKey());
+            written.add(e.getKey());
+        }
+        // Files written before the store existed still live in the execution folder
+        try (Stream<Path> files = Files.walk(root)) {
+            Iterator<Path> it = files.filter(Files::isRegularFile).filter(p -> !isDerived(p)).sorted().iterator();
+            while (it.hasNext()) {
+                Path file = it.next();
+                String relative = root.relativize(file).toString().replace('\\', '/');
+                if (written.contains(relative)) continue;
+                writeEntry(zip, sink, file, executionId + "/" + relative);
+            }
+        }
+        zip.finish();
+        zip.flush();
+    }
+
+    private static void writeEntry(ZipOutputStream zip, WritableByteChannel sink, Path file, String name) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            ZipEntry entry = new ZipEntry(name);
+            entry.setTime(Files.getLastModifiedTime(file).toMillis());
+            if (isPrecompressed(file)) {
+                // Already compressed: STORED entries pass bytes through instead of deflating them again
+                entry.setMethod(ZipEntry.STORED);
+                entry.setSize(size);
+                entry.setCompressedSize(size);
+                entry.setCrc(crc32(channel, size));
+            }
+            zip.putNextEntry(entry);
+            long position = 0;
+            while (position < size) {
+                long sent = channel.transferTo(position, size - position, sink);
+                if (sent <= 0) break;
+                position += sent;
+            }
+            zip.closeEntry();
+        }
+    }
+
+    private static long crc32(FileChannel channel, long size) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+        long position = 0;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) break;
+            buffer.flip();
+            crc.update(buffer);
+            position += read;
+        }
+        return crc.getValue();
+    }
+
+    private static Path gzipSibling(Path file) {
+        return file.resolveSibling(file.getFileName() + ".gz");
+    }
+
+    // Manifests, .gz siblings and in-flight temp files are bookkeeping, not artifacts
+    private static boolean isDerived(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(".tmp") || name.equals(ArtifactStore.MANIFEST) || (name.endsWith(".gz") && Files.exists(file.resolveSibling(name.substring(0, name.length() - 3))));
+    }
+
+    private static boolean isCompressible(Path file) {
+        return COMPRESSIBLE.contains(extension(file));
+    }
+
+    private static boolean isPrecompressed(Path file) {
+        return PRECOMPRESSED.contains(extension(file));
+    }
+
+    private static String extension(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot >= 0 ? name.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
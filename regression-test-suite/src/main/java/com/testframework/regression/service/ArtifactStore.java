@@ -0,0 +1,269 @@
+package com.testframework.regression.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Content-addressed artifact storage: bytes live once under artifacts/blobs/<sha256>, and each execution
+// keeps an append-only artifacts/{executionId}/manifest.jsonl mapping "{testCaseId}/{file}" to a blob.
+// Callers keep using the logical path artifacts/{executionId}/{testCaseId}/{file}.
+@Service
+public class ArtifactStore {
+
+    static final Path ROOT = Paths.get("artifacts").toAbsolutePath().normalize();
+    static final String BLOB_DIR = "blobs";
+    static final String MANIFEST = "manifest.jsonl";
+    // Artifacts produced outside a tracked execution
+    public static final String UNASSIGNED = "unknown";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // executionId -> latest entry per relative path
+    private final Map<String, Map<String, ManifestEntry>> manifests = new ConcurrentHashMap<>();
+    private final Object manifestLock = new Object();
+    // Puts hold the read side; the blob sweep holds the write side so it never races a dedup hit
+    private final ReadWriteLock sweepLock = new ReentrantReadWriteLock();
+
+    public ArtifactStore() {
+        try {
+            Files.createDirectories(ROOT.resolve(BLOB_DIR));
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    public String put(String executionId, Long testCaseId, String fileName, byte[] content, boolean failure) throws IOException {
+        String execution = executionId != null ? executionId : UNASSIGNED;
+        String relative = (testCaseId != null ? testCaseId : -1L) + "/" + fileName;
+        String hash = sha256(content);
+        String extension = extension(fileName);
+
+        sweepLock.readLock().lock();
+        try {
+            Path blob = blobPath(hash, extension);
+            if (Files.exists(blob)) {
+                // Dedup hit; refreshing the mtime keeps the blob out of the sweep's grace window
+                Files.setLastModifiedTime(blob, FileTime.from(Instant.now()));
+            } else {
+                Files.createDirectories(blob.getParent());
+                Path tmp = Files.createTempFile(blob.getParent(), hash, ".tmp");
+                try {
+                    Files.write(tmp, content);
+                    Files.move(tmp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+
+            ManifestEntry entry = new ManifestEntry();
+            entry.setPath(relative);
+            entry.setSha256(hash);
+            entry.setExtension(extension);
+            entry.setSize(content.length);
+            entry.setFailure(failure);
+            entry.setCreatedAt(OffsetDateTime.now().toString());
+            appendToManifest(execution, entry);
+        } finally {
+            sweepLock.readLock().unlock();
+        }
+        return Paths.get("artifacts", execution, relative).toString();
+    }
+
+    // Blob (or pre-store plain file) behind artifacts/{executionId}/{relativePath}; null if unknown
+    public Path locate(String executionId, String relativePath) {
+        ManifestEntry entry = entries(executionId).get(relativePath);
+        if (entry != null) {
+            Path blob = blobPath(entry.getSha256(), entry.getExtension());
+            if (Files.isRegularFile(blob)) return blob;
+        }
+        Path legacy = ROOT.resolve(executionId).resolve(relativePath).normalize();
+        return legacy.startsWith(ROOT) && Files.isRegularFile(legacy) ? legacy : null;
+    }
+
+    // Accepts the logical path stored on TestResult
+    public Path locate(String logicalPath) {
+        if (logicalPath == null) return null;
+        String[] parts = logicalPath.replace('\\', '/').split("/", 3);
+        if (parts.length < 3 || !"artifacts".equals(parts[0])) return null;
+        return locate(parts[1], parts[2]);
+    }
+
+    public Map<String, ManifestEntry> entries(String executionId) {
+        return manifests.computeIfAbsent(executionId, id -> {
+            Map<String, ManifestEntry> latest = new LinkedHashMap<>();
+            for (ManifestEntry e : readManifest(id)) {
+                latest.put(e.getPath(), e);
+            }
+            return latest;
+        });
+    }
+
+    public Path blobPath(String hash, String extension) {
+        String name = extension.isEmpty() ? hash : hash + "." + extension;
+        return ROOT.resolve(BLOB_DIR).resolve(hash.substring(0, 2)).resolve(name);
+    }
+
+    List<String> listExecutions() throws IOException {
+        List<String> executions = new ArrayList<>();
+        if (!Files.isDirectory(ROOT)) return executions;
+        try (Stream<Path> dirs = Files.list(ROOT)) {
+            dirs.filter(Files::isDirectory)
+                .map(p -> p.getFileName().toString())
+                .filter(name -> !BLOB_DIR.equals(name))
+                .forEach(executions::add);
+        }
+        return executions;
+    }
+
+    List<ManifestEntry> readManifest(String executionId) {
+        Path manifest = ROOT.resolve(executionId).resolve(MANIFEST);
+        List<ManifestEntry> entries = new ArrayList<>();
+        if (!Files.isRegularFile(manifest)) return entries;
+        try {
+            for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) continue;
+                try {
+                    entries.add(objectMapper.readValue(line, ManifestEntry.class));
+                } catch (Exception e) {
+                    // A torn last line from a crash is skipped, not fatal
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("⚠️ Could not read manifest for " + executionId + ": " + e.getMessage());
+        }
+        return entries;
+    }
+
+    // Drops the given manifest entries and plain files; an emptied execution folder is removed
+    void dropEntries(String executionId, Set<String> dropKeys, Set<String> legacyToDelete) throws IOException {
+        Path dir = ROOT.resolve(executionId);
+        synchronized (manifestLock) {
+            // Re-read under the lock: entries appended since the collector looked are kept
+            List<ManifestEntry> current = readManifest(executionId);
+            List<ManifestEntry> survivors = new ArrayList<>();
+            for (ManifestEntry e : current) {
+                if (!dropKeys.contains(e.key())) survivors.add(e);
+            }
+            for (String legacy : legacyToDelete) {
+                Files.deleteIfExists(dir.resolve(legacy));
+                Files.deleteIfExists(dir.resolve(legacy + ".gz"));
+            }
+            Path manifest = dir.resolve(MANIFEST);
+            if (survivors.isEmpty()) {
+                Files.deleteIfExists(manifest);
+            } else if (survivors.size() != current.size()) {
+                Path tmp = dir.resolve(MANIFEST + ".tmp");
+                StringBuilder sb = new StringBuilder();
+                for (ManifestEntry e : survivors) sb.append(objectMapper.writeValueAsString(e)).append('\n');
+                Files.writeString(tmp, sb, StandardCharsets.UTF_8);
+                Files.move(tmp, manifest, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            manifests.remove(executionId);
+            deleteEmptyDirs(dir);
+        }
+    }
+
+    // Deletes unreferenced blobs older than the grace period; returns the number of bytes freed
+    long sweepBlobs(Set<String> liveHashes, Instant notAfter) throws IOException {
+        long freed = 0;
+        sweepLock.writeLock().lock();
+        try (Stream<Path> blobs = Files.walk(ROOT.resolve(BLOB_DIR))) {
+            for (Path blob : (Iterable<Path>) blobs.filter(Files::isRegularFile)::iterator) {
+                String name = blob.getFileName().toString();
+                String hash = name.contains(".") ? name.substring(0, name.indexOf('.')) : name;
+                if (liveHashes.contains(hash)) continue;
+                if (Files.getLastModifiedTime(blob).toInstant().isAfter(notAfter)) continue;
+                freed += Files.size(blob);
+                Files.deleteIfExists(blob);
+            }
+        } finally {
+            sweepLock.writeLock().unlock();
+        }
+        return freed;
+    }
+
+    private void appendToManifest(String executionId, ManifestEntry entry) throws IOException {
+        Path dir = ROOT.resolve(executionId);
+        String line = objectMapper.writeValueAsString(entry) + "\n";
+        synchronized (manifestLock) {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve(MANIFEST), line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            Map<String, ManifestEntry> cached = manifests.get(executionId);
+            if (cached != null) {
+                cached.put(entry.getPath(), entry);
+            }
+        }
+    }
+
+    private static void deleteEmptyDirs(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) return;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            List<Path> dirs = walk.filter(Files::isDirectory).sorted((a, b) -> b.getNameCount() - a.getNameCount()).toList();
+            for (Path d : dirs) {
+                try (Stream<Path> children = Files.list(d)) {
+                    if (children.findAny().isEmpty()) Files.deleteIfExists(d);
+                }
+            }
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String extension(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot >= 0 ? fileName.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+
+    public static class ManifestEntry {
+        private String path;
+        private String sha256;
+        private String extension;
+        private long size;
+        private boolean failure;
+        private String createdAt;
+
+        public String getPath() { return path; }
+        public void setPath(String path) { this.path = path; }
+        public String getSha256() { return sha256; }
+        public void setSha256(String sha256) { this.sha256 = sha256; }
+        public String getExtension() { return extension; }
+        public void setExtension(String extension) { this.extension = extension; }
+        public long getSize() { return size; }
+        public void setSize(long size) { this.size = size; }
+        public boolean isFailure() { return failure; }
+        public void setFailure(boolean failure) { this.failure = failure; }
+        public String getCreatedAt() { return createdAt; }
+        public void setCreatedAt(String createdAt) { this.createdAt = createdAt; }
+
+        String key() { return path + "|" + sha256 + "|" + createdAt; }
+    }
+}
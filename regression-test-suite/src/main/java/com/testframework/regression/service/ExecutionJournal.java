@@ -0,0 +1,364 @@
+package com.testframework.regression.service;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.domain.TestResult;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Append-only log of run and test state transitions, so a run survives the JVM dying under it.
+// Records go into memory-mapped segment files as [length][crc32][json]; once put() returns the bytes are in
+// the page cache and survive a JVM crash, and the periodic force() bounds what an OS crash can lose.
+// Replay stops at the first torn or zeroed record of a segment.
+@Service
+public class ExecutionJournal {
+
+    public static final String RUN = "RUN";
+    public static final String TEST_STARTED = "TEST_STARTED";
+    public static final String TEST_FINISHED = "TEST_FINISHED";
+    public static final String RUN_FINISHED = "RUN_FINISHED";
+
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final int HEADER_BYTES = 8;
+
+    private final boolean enabled;
+    private final Path dir;
+    private final int segmentBytes;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setSerializationInclusion(JsonInclude.Include.NON_NULL)
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private final ScheduledExecutorService flusher;
+
+    // Guarded by this
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private int segment;
+    private boolean dirty;
+    private boolean opened;
+    // segment -> runs with records in it; a segment is deleted once none of them is still open
+    private final Map<Integer, Set<String>> runsBySegment = new TreeMap<>();
+    private final Set<String> openRuns = new HashSet<>();
+
+    public ExecutionJournal(@Value("${journal.enabled:true}") boolean enabled,
+                            @Value("${journal.dir:journal}") String dir,
+                            @Value("${journal.segmentMb:8}") int segmentMb,
+                            @Value("${journal.fsyncIntervalMs:1000}") long fsyncIntervalMs) {
+        this.enabled = enabled;
+        this.dir = Paths.get(dir);
+        this.segmentBytes = Math.max(1, segmentMb) << 20;
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "execution-journal-fsync");
+            t.setDaemon(true);
+            return t;
+        });
+        if (enabled) {
+            flusher.scheduleWithFixedDelay(this::flush, fsyncIntervalMs, Math.max(10, fsyncIntervalMs), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void runStarted(String executionId, String mode, List<Long> testCaseIds, Integer maxParallelTests,
+                           Boolean headless, Boolean adaptiveParallelism) {
+        Entry entry = entry(RUN, executionId);
+        entry.setMode(mode);
+        entry.setTestCaseIds(testCaseIds);
+        entry.setMaxParallelTests(maxParallelTests);
+        entry.setHeadless(headless);
+        entry.setAdaptiveParallelism(adaptiveParallelism);
+        append(entry, true);
+    }
+
+    public void testStarted(String executionId, Long testCaseId) {
+        if (executionId == null) return;
+        Entry entry = entry(TEST_STARTED, executionId);
+        entry.setTestCaseId(testCaseId);
+        append(entry, false);
+    }
+
+    // Everything needed to save the result again if the process dies before the engine does
+    public void testFinished(TestResult result) {
+        if (result.getExecutionId() == null || result.getTestCase() == null) return;
+        Entry entry = entry(TEST_FINISHED, result.getExecutionId());
+        entry.setTestCaseId(result.getTestCase().getId());
+        entry.setStatus(result.getStatus() != null ? result.getStatus().name() : null);
+        entry.setMessage(result.getMessage());
+        entry.setExecutedAt(result.getExecutedAt() != null ? result.getExecutedAt().toString() : null);
+        entry.setDurationMs(result.getDurationMs());
+        entry.setLatencyMs(result.getLatencyMs());
+        entry.setScreenshotPath(result.getScreenshotPath());
+        entry.setApiRequestPath(result.getApiRequestPath());
+        entry.setApiResponsePath(result.getApiResponsePath());
+        append(entry, false);
+    }
+
+    public void runFinished(String executionId, String status) {
+        Entry entry = entry(RUN_FINISHED, executionId);
+        entry.setStatus(status);
+        append(entry, true);
+    }
+
+    // All intact records, oldest first; called once at startup before anything is appended
+    public List<Entry> replay() {
+        List<Entry> entries = new ArrayList<>();
+        if (!enabled || !Files.isDirectory(dir)) return entries;
+        for (Map.Entry<Integer, Path> seg : segments().entrySet()) {
+            ByteBuffer data;
+            try {
+                data = ByteBuffer.wrap(Files.readAllBytes(seg.getValue()));
+            } catch (IOException e) {
+                System.err.println("⚠️ Could not read journal segment " + seg.getValue() + ": " + e.getMessage());
+                continue;
+            }
+            int torn = 0;
+            while (data.remaining() >= HEADER_BYTES) {
+                int length = data.getInt();
+                int crc = data.getInt();
+                if (length <= 0 || length > data.remaining()) {
+                    if (length != 0) torn++;
+                    break;
+                }
+                byte[] payload = new byte[length];
+                data.get(payload);
+                if (crc(payload) != crc) {
+                    torn++;
+                    break;
+                }
+                try {
+                    entries.add(objectMapper.readValue(payload, Entry.class));
+                } catch (IOException e) {
+                    torn++;
+                    break;
+                }
+            }
+            if (torn > 0) {
+                System.err.println("⚠️ Journal segment " + seg.getValue().getFileName() + " ends in a torn record; replayed up to it");
+            }
+        }
+        return entries;
+    }
+
+    // Drops every segment and starts a fresh one holding only the given records
+    public synchronized void reset(List<Entry> retained) {
+        if (!enabled) return;
+        closeSegment();
+        int next = segments().keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+        segments().values().forEach(this::delete);
+        runsBySegment.clear();
+        openRuns.clear();
+        opened = true;
+        openSegment(next, 0);
+        for (Entry entry : retained) {
+            append(entry, false);
+        }
+        force();
+    }
+
+    private Entry entry(String type, String executionId) {
+        Entry entry = new Entry();
+        entry.setType(type);
+        entry.setExecutionId(executionId);
+        entry.setAt(System.currentTimeMillis());
+        return entry;
+    }
+
+    private synchronized void append(Entry entry, boolean sync) {
+        if (!enabled) return;
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(entry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            if (!opened) {
+                // Nothing replayed the old segments; keep them and append after them
+                opened = true;
+                openSegment(segments().keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1, 0);
+            }
+            if (buffer == null) return;
+            if (buffer.remaining() < HEADER_BYTES + payload.length) {
+                closeSegment();
+                openSegment(segment + 1, HEADER_BYTES + payload.length);
+                retireSegments();
+            }
+            buffer.putInt(payload.length).putInt(crc(payload)).put(payload);
+            dirty = true;
+            runsBySegment.computeIfAbsent(segment, s -> new HashSet<>()).add(entry.getExecutionId());
+            if (RUN.equals(entry.getType())) openRuns.add(entry.getExecutionId());
+            if (RUN_FINISHED.equals(entry.getType())) openRuns.remove(entry.getExecutionId());
+            if (sync) force();
+        } catch (UncheckedIOException e) {
+            // The journal is a safety net; a full disk must not fail the run itself
+            System.err.println("⚠️ Could not append to execution journal: " + e.getMessage());
+        }
+    }
+
+    private void openSegment(int index, int minBytes) {
+        try {
+            Files.createDirectories(dir);
+            Path file = dir.resolve(String.format("%s%06d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentBytes, minBytes));
+            segment = index;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void closeSegment() {
+        if (buffer == null) return;
+        force();
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // mapping stays valid until unmapped by the GC
+        }
+        buffer = null;
+        channel = null;
+    }
+
+    // Deletes closed segments whose runs have all finished; a still-mapped file that can't be deleted
+    // (Windows) is retried on the next roll
+    private void retireSegments() {
+        Map<Integer, Path> files = segments();
+        runsBySegment.entrySet().removeIf(seg -> {
+            if (seg.getKey() == segment || seg.getValue().stream().anyMatch(openRuns::contains)) return false;
+            Path file = files.get(seg.getKey());
+            return file == null || delete(file);
+        });
+    }
+
+    private synchronized void flush() {
+        if (dirty) force();
+    }
+
+    private void force() {
+        if (buffer != null) {
+            buffer.force();
+            dirty = false;
+        }
+    }
+
+    private Map<Integer, Path> segments() {
+        Map<Integer, Path> segments = new TreeMap<>();
+        if (!Files.isDirectory(dir)) return segments;
+        try (Stream<Path> files = Files.list(dir)) {
+            files.forEach(file -> {
+                String name = file.getFileName().toString();
+                if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                    try {
+                        segments.put(Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())), file);
+                    } catch (NumberFormatException ignored) {
+                        // not one of ours
+                    }
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return segments;
+    }
+
+    private boolean delete(Path file) {
+        try {
+            Files.deleteIfExists(file);
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static int crc(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        flusher.shutdownNow();
+        closeSegment();
+    }
+
+    public static class Entry {
+        private String type;
+        private String executionId;
+        private long at;
+        private String mode;
+        private List<Long> testCaseIds;
+        private Integer maxParallelTests;
+        private Boolean headless;
+        private Boolean adaptiveParallelism;
+        private Long testCaseId;
+        private String status;
+        private String message;
+        private String executedAt;
+        private Long durationMs;
+        private Long latencyMs;
+        private String screenshotPath;
+        private String apiRequestPath;
+        private String apiResponsePath;
+
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public String getExecutionId() { return executionId; }
+        public void setExecutionId(String executionId) { this.executionId = executionId; }
+        public long getAt() { return at; }
+        public void setAt(long at) { this.at = at; }
+        public String getMode() { return mode; }
+        public void setMode(String mode) { this.mode = mode; }
+        public List<Long> getTestCaseIds() { return testCaseIds; }
+        public void setTestCaseIds(List<Long> testCaseIds) { this.testCaseIds = testCaseIds; }
+        public Integer getMaxParallelTests() { return maxParallelTests; }
+        public void setMaxParallelTests(Integer maxParallelTests) { this.maxParallelTests = maxParallelTests; }
+        public Boolean getHeadless() { return headless; }
+        public void setHeadless(Boolean headless) { this.headless = headless; }
+        public Boolean getAdaptiveParallelism() { return adaptiveParallelism; }
+        public void setAdaptiveParallelism(Boolean adaptiveParallelism) { this.adaptiveParallelism = adaptiveParallelism; }
+        public Long getTestCaseId() { return testCaseId; }
+        public void setTestCaseId(Long testCaseId) { this.testCaseId = testCaseId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public String getMessage() { return message; }
+        public void setMessage(String message) { this.message = message; }
+        public String getExecutedAt() { return executedAt; }
+        public void setExecutedAt(String executedAt) { this.executedAt = executedAt; }
+        public Long getDurationMs() { return durationMs; }
+        public void setDurationMs(Long durationMs) { this.durationMs = durationMs; }
+        public Long getLatencyMs() { return latencyMs; }
+        public void setLatencyMs(Long latencyMs) { this.latencyMs = latencyMs; }
+        public String getScreenshotPath() { return screenshotPath; }
+        public void setScreenshotPath(String screenshotPath) { this.screenshotPath = screenshotPath; }
+        public String getApiRequestPath() { return apiRequestPath; }
+        public void setApiRequestPath(String apiRequestPath) { this.apiRequestPath = apiRequestPath; }
+        public String getApiResponsePath() { return apiResponsePath; }
+        public void setApiResponsePath(String apiResponsePath) { this.apiResponsePath = apiResponsePath; }
+    }
+}
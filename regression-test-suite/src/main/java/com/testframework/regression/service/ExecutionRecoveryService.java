@@ -0,0 +1,266 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import com.testframework.regression.repository.TestResultRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Reconciles runs that were still going when the JVM died. At startup, before the web server takes new runs:
+// replays the journal, saves results that finished but never reached the database, marks the runs
+// INTERRUPTED and keeps their plans so /schedule/execution/{id}/resume can run only what is left.
+@Service
+public class ExecutionRecoveryService implements SmartInitializingSingleton {
+
+    public static final String INTERRUPTED = "INTERRUPTED";
+    private static final String LOAD = "LOAD";
+
+    private final ExecutionJournal journal;
+    private final ExecutionRecordRepository executionRecordRepository;
+    private final TestResultRepository testResultRepository;
+    private final TestCaseService testCaseService;
+    private final String nodeName;
+    // executionId -> plan of an interrupted run that can be resumed
+    private final Map<String, ExecutionJournal.Entry> interrupted = new ConcurrentHashMap<>();
+
+    public ExecutionRecoveryService(ExecutionJournal journal, ExecutionRecordRepository executionRecordRepository,
+                                    TestResultRepository testResultRepository, TestCaseService testCaseService,
+                                    @Value("${cluster.nodeName:}") String nodeName) {
+        this.journal = journal;
+        this.executionRecordRepository = executionRecordRepository;
+        this.testResultRepository = testResultRepository;
+        this.testCaseService = testCaseService;
+        this.nodeName = nodeName.isBlank() ? hostName() : nodeName;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            recover();
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Execution recovery failed: " + e.getMessage());
+        }
+    }
+
+    void recover() {
+        Map<String, ExecutionJournal.Entry> plans = new LinkedHashMap<>();
+        Map<String, List<ExecutionJournal.Entry>> finished = new HashMap<>();
+        Map<String, Set<Long>> inFlight = new HashMap<>();
+        for (ExecutionJournal.Entry entry : journal.replay()) {
+            String id = entry.getExecutionId();
+            switch (entry.getType()) {
+                case ExecutionJournal.RUN -> plans.put(id, entry);
+                case ExecutionJournal.TEST_STARTED -> inFlight.computeIfAbsent(id, k -> new LinkedHashSet<>()).add(entry.getTestCaseId());
+                case ExecutionJournal.TEST_FINISHED -> {
+                    finished.computeIfAbsent(id, k -> new ArrayList<>()).add(entry);
+                    inFlight.getOrDefault(id, new HashSet<>()).remove(entry.getTestCaseId());
+                }
+                case ExecutionJournal.RUN_FINISHED -> {
+                    plans.remove(id);
+                    finished.remove(id);
+                    inFlight.remove(id);
+                }
+                default -> { }
+            }
+        }
+
+        for (ExecutionJournal.Entry plan : plans.values()) {
+            reconcile(plan, finished.getOrDefault(plan.getExecutionId(), List.of()),
+                    inFlight.getOrDefault(plan.getExecutionId(), Set.of()));
+        }
+        // Runs the journal knows nothing about (journal disabled or lost): the database plan is all we have, and
+        // a record without a readable one stays INTERRUPTED rather than passing for complete. QUEUED runs are left alone, their Quartz trigger still fires them, and so are runs of other nodes.
+        for (ExecutionRecord record : executionRecordRepository.findByStatusIn(List.of("RUNNING", INTERRUPTED))) {
+            if (plans.containsKey(record.getExecutionId())) continue;
+            if (record.getNode() != null && !record.getNode().equals(nodeName)) continue;
+            ExecutionJournal.Entry plan = new ExecutionJournal.Entry();
+            plan.setType(ExecutionJournal.RUN);
+            plan.setExecutionId(record.getExecutionId());
+            plan.setMode(record.getMode());
+            plan.setTestCaseIds(parseIds(record.getTestCaseIdsCsv()));
+            plan.setAt(record.getStartTime() != null ? record.getStartTime().toInstant().toEpochMilli() : System.currentTimeMillis());
+            reconcile(plan, List.of(), Set.of());
+        }
+        journal.reset(new ArrayList<>(interrupted.values()));
+    }
+
+    private void reconcile(ExecutionJournal.Entry plan, List<ExecutionJournal.Entry> finished, Set<Long> inFlight) {
+        String executionId = plan.getExecutionId();
+        Optional<ExecutionRecord> existing = executionRecordRepository.findByExecutionId(executionId);
+        if (existing.isPresent() && ("COMPLETED".equals(existing.get().getStatus()) || "FAILED".equals(existing.get().getStatus()))) {
+            return; // finished in the database, only the journal's closing record was lost
+        }
+
+        Set<Long> saved = new HashSet<>(testResultRepository.findTestCaseIdsByExecutionId(executionId));
+        int restored = 0;
+        for (ExecutionJournal.Entry entry : finished) {
+            if (entry.getTestCaseId() == null || !saved.add(entry.getTestCaseId())) continue;
+            TestResult result = rebuild(entry);
+            if (result != null) {
+                testResultRepository.save(result);
+                restored++;
+            }
+        }
+        boolean planKnown = plan.getTestCaseIds() != null;
+        List<Long> remaining = remaining(plan.getTestCaseIds(), saved);
+
+        ExecutionRecord record = existing.orElseGet(ExecutionRecord::new);
+        record.setExecutionId(executionId);
+        record.setMode(plan.getMode());
+        record.setNode(nodeName);
+        if (record.getStartTime() == null) {
+            record.setStartTime(OffsetDateTime.ofInstant(Instant.ofEpochMilli(plan.getAt()), ZoneOffset.UTC));
+        }
+        if (record.getEndTime() == null) {
+            record.setEndTime(OffsetDateTime.now());
+        }
+        record.setTotalTests((int) testResultRepository.countByExecutionId(executionId));
+        record.setPassedTests((int) testResultRepository.countByExecutionIdAndStatus(executionId, TestStatus.PASSED));
+        record.setFailedTests((int) testResultRepository.countByExecutionIdAndStatus(executionId, TestStatus.FAILED));
+        if (!planKnown) {
+            record.setStatus(INTERRUPTED);
+            record.setErrorMessage("Interrupted by a restart; its test plan could not be read back, so it cannot be"
+                    + " resumed or known to be complete");
+        } else if (remaining.isEmpty()) {
+            record.setStatus("COMPLETED");
+            record.setErrorMessage(null);
+        } else {
+            record.setStatus(INTERRUPTED);
+            String message = "Interrupted by a restart with " + remaining.size() + " of " + plan.getTestCaseIds().size()
+                    + " tests not completed" + (inFlight.isEmpty() ? "" : " (in flight: " + inFlight + ")");
+            record.setErrorMessage(truncate(LOAD.equalsIgnoreCase(plan.getMode())
+                    ? message + "; LOAD runs cannot be resumed"
+                    : message + "; POST /schedule/execution/" + executionId + "/resume runs the rest"));
+            if (!LOAD.equalsIgnoreCase(plan.getMode())) {
+                interrupted.put(executionId, plan);
+            }
+        }
+        executionRecordRepository.save(record);
+        System.out.println("♻️ Recovered " + executionId + ": " + restored + " results restored from the journal, "
+                + (planKnown ? remaining.size() + " tests left" : "plan unknown") + " (" + record.getStatus() + ")");
+    }
+
+    private TestResult rebuild(ExecutionJournal.Entry entry) {
+        TestCase testCase = testCaseService.findById(entry.getTestCaseId()).orElse(null);
+        if (testCase == null) return null;
+        TestResult result = new TestResult();
+        result.setTestCase(testCase);
+        result.setExecutionId(entry.getExecutionId());
+        result.setStatus(entry.getStatus() != null ? TestStatus.valueOf(entry.getStatus()) : TestStatus.FAILED);
+        result.setMessage(entry.getMessage());
+        result.setExecutedAt(entry.getExecutedAt() != null ? OffsetDateTime.parse(entry.getExecutedAt()) : OffsetDateTime.now());
+        result.setDurationMs(entry.getDurationMs());
+        result.setLatencyMs(entry.getLatencyMs());
+        result.setScreenshotPath(entry.getScreenshotPath());
+        result.setApiRequestPath(entry.getApiRequestPath());
+        result.setApiResponsePath(entry.getApiResponsePath());
+        return result;
+    }
+
+    // Identifies this node's runs in ExecutionRecord; must stay the same across restarts of the node
+    public String nodeName() {
+        return nodeName;
+    }
+
+    public Optional<ExecutionJournal.Entry> interruptedPlan(String executionId) {
+        return Optional.ofNullable(interrupted.get(executionId));
+    }
+
+    // Planned tests without a result under the execution, in plan order
+    public List<Long> remainingTestCaseIds(ExecutionJournal.Entry plan) {
+        return remaining(plan.getTestCaseIds(), new HashSet<>(testResultRepository.findTestCaseIdsByExecutionId(plan.getExecutionId())));
+    }
+
+    public List<InterruptedRun> interruptedRuns() {
+        List<InterruptedRun> runs = new ArrayList<>();
+        for (ExecutionJournal.Entry plan : interrupted.values()) {
+            InterruptedRun run = new InterruptedRun();
+            run.setExecutionId(plan.getExecutionId());
+            run.setMode(plan.getMode());
+            run.setTotalTests(plan.getTestCaseIds() != null ? plan.getTestCaseIds().size() : 0);
+            run.setRemainingTests(remainingTestCaseIds(plan).size());
+            runs.add(run);
+        }
+        return runs;
+    }
+
+    // Claims the run for a resume; false when another resume already took it. From here on the run is
+    // journaled and tracked like any other.
+    public boolean resumed(String executionId) {
+        return interrupted.remove(executionId) != null;
+    }
+
+    private static List<Long> remaining(List<Long> planned, Set<Long> completed) {
+        if (planned == null) return List.of();
+        List<Long> remaining = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(planned)) {
+            if (id != null && !completed.contains(id)) remaining.add(id);
+        }
+        return remaining;
+    }
+
+    // ExecutionRecord stores the ids as List.toString(), e.g. "[1, 2, 3]"; null when that can't be read back whole,
+    // e.g. records written before the column held plans of any size
+    static List<Long> parseIds(String csv) {
+        if (csv == null || !csv.startsWith("[") || !csv.endsWith("]")) return null;
+        String trimmed = csv.substring(1, csv.length() - 1).trim();
+        if (trimmed.isEmpty()) return List.of();
+        List<Long> ids = new ArrayList<>();
+        for (String part : trimmed.split(",")) {
+            try {
+                ids.add(Long.parseLong(part.trim()));
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+        return ids;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "local";
+        }
+    }
+
+    private static String truncate(String s) {
+        return s.length() <= 2000 ? s : s.substring(0, 1997) + "...";
+    }
+
+    public static class InterruptedRun {
+        private String executionId;
+        private String mode;
+        private int totalTests;
+        private int remainingTests;
+
+        public String getExecutionId() { return executionId; }
+        public void setExecutionId(String executionId) { this.executionId = executionId; }
+        public String getMode() { return mode; }
+        public void setMode(String mode) { this.mode = mode; }
+        public int getTotalTests() { return totalTests; }
+        public void setTotalTests(int totalTests) { this.totalTests = totalTests; }
+        public int getRemainingTests() { return remainingTests; }
+        public void setRemainingTests(int remainingTests) { this.remainingTests = remainingTests; }
+    }
+}
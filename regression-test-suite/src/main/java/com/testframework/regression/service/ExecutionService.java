@@ -0,0 +1,420 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.engine.LoadTestRunner;
+import com.testframework.regression.engine.ShardPlanner;
+import com.testframework.regression.engine.SuiteRegistry;
+import com.testframework.regression.engine.TestIntegrationEngine;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import com.testframework.regression.scheduler.ScheduleService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Starts and tracks runs for /schedule/run, Quartz schedules and resumes. Runs for a future time are handed
+// to Quartz, so they survive restarts and fire on exactly one node of the cluster.
+@Service
+public class ExecutionService {
+
+    private final TestIntegrationEngine testIntegrationEngine;
+    private final LoadTestRunner loadTestRunner;
+    private final SuiteRegistry suiteRegistry;
+    private final EmailAlertService emailAlertService;
+    private final ExecutionRecordRepository executionRecordRepository;
+    private final ExecutionJournal executionJournal;
+    private final ExecutionRecoveryService executionRecoveryService;
+    private final WarmupService warmupService;
+    private final ShardPlanner shardPlanner;
+    // Absent in the cli profile, which runs without Quartz
+    private final ObjectProvider<ScheduleService> scheduleService;
+    // Runs started on this node; other nodes' runs are read back from their ExecutionRecord
+    private final Map<String, ExecutionStatus> executionStatuses = new ConcurrentHashMap<>();
+
+    public ExecutionService(TestIntegrationEngine testIntegrationEngine,
+                            LoadTestRunner loadTestRunner,
+                            SuiteRegistry suiteRegistry,
+                            EmailAlertService emailAlertService,
+                            ExecutionRecordRepository executionRecordRepository,
+                            ExecutionJournal executionJournal,
+                            ExecutionRecoveryService executionRecoveryService,
+                            WarmupService warmupService,
+                            ShardPlanner shardPlanner,
+                            ObjectProvider<ScheduleService> scheduleService) {
+        this.testIntegrationEngine = testIntegrationEngine;
+        this.loadTestRunner = loadTestRunner;
+        this.suiteRegistry = suiteRegistry;
+        this.emailAlertService = emailAlertService;
+        this.executionRecordRepository = executionRecordRepository;
+        this.executionJournal = executionJournal;
+        this.executionRecoveryService = executionRecoveryService;
+        this.warmupService = warmupService;
+        this.shardPlanner = shardPlanner;
+        this.scheduleService = scheduleService;
+    }
+
+    // Explicit ids win over suiteId, which wins over tagExpression; with shardIndex/shardCount only that shard of
+    // the selection is kept. IllegalArgumentException for a bad expression, shard or LOAD profile
+    public List<Long> resolve(ExecutionRequest request) {
+        List<Long> ids = request.getTestCaseIds();
+        if ((ids == null || ids.isEmpty()) && request.getSuiteId() != null) {
+            ids = suiteRegistry.resolveSuiteToTestCaseIds(request.getSuiteId()).orElse(List.of());
+        }
+        if ((ids == null || ids.isEmpty()) && request.getTagExpression() != null) {
+            ids = suiteRegistry.select(request.getTagExpression());
+        }
+        if (request.getShardIndex() != null || request.getShardCount() != null) {
+            if (request.getShardIndex() == null || request.getShardCount() == null) {
+                throw new IllegalArgumentException("shardIndex and shardCount go together");
+            }
+            ids = shardPlanner.shard(ids != null ? ids : List.of(), request.getShardIndex(), request.getShardCount(),
+                    request.getShardHistoryBefore());
+        }
+        if (LoadTestRunner.MODE.equalsIgnoreCase(request.getMode())) {
+            loadTestRunner.validate(request.loadProfile());
+        }
+        return ids;
+    }
+
+    // Runs now in the background, or queues a Quartz one-shot when scheduledTime is in the future
+    public ExecutionStatus start(String executionId, List<Long> ids, ExecutionRequest request) {
+        boolean queued = request.getScheduledTime() != null && request.getScheduledTime().isAfter(OffsetDateTime.now());
+        ExecutionStatus status = new ExecutionStatus();
+        status.setExecutionId(executionId);
+        status.setStatus(queued ? "QUEUED" : "RUNNING");
+        status.setStartTime(queued ? null : OffsetDateTime.now());
+        status.setTestCaseIds(ids);
+        status.setExecutionMode(request.getMode());
+        executionStatuses.put(executionId, status);
+        // Persist initial record
+        ExecutionRecord rec = new ExecutionRecord();
+        rec.setExecutionId(executionId);
+        rec.setStatus(status.getStatus());
+        rec.setStartTime(status.getStartTime());
+        rec.setMode(request.getMode());
+        rec.setNode(executionRecoveryService.nodeName());
+        rec.setTestCaseIdsCsv(ids != null ? ids.toString() : "");
+        executionRecordRepository.save(rec);
+
+        if (queued) {
+            // The resolved ids travel with the trigger, so the run doesn't depend on the record
+            request.setTestCaseIds(ids);
+            OffsetDateTime fireAt = request.getScheduledTime().minusSeconds(warmupService.getWindowSeconds());
+            scheduleService.getObject().scheduleOnce(executionId, request, fireAt.isAfter(OffsetDateTime.now()) ? fireAt : OffsetDateTime.now());
+        } else {
+            executionJournal.runStarted(executionId, request.getMode(), ids, request.getMaxParallelTests(),
+                    request.getHeadless(), request.getAdaptiveParallelism());
+            CompletableFuture.runAsync(task(executionId, ids, request, status, null));
+        }
+        return status;
+    }
+
+    // A queued run's trigger fired, possibly on another node than the one that accepted it. The trigger fires up to
+    // warmup.windowSeconds early: this node warms up, waits for scheduledTime, then runs to completion.
+    public void runQueued(String executionId, ExecutionRequest request) throws InterruptedException {
+        ExecutionStatus status = executionStatuses.computeIfAbsent(executionId, id -> new ExecutionStatus());
+        OffsetDateTime scheduledTime = request.getScheduledTime();
+        if (scheduledTime != null && scheduledTime.isAfter(OffsetDateTime.now())) {
+            status.setExecutionId(executionId);
+            status.setStatus("WARMING_UP");
+            status.setTestCaseIds(request.getTestCaseIds());
+            status.setExecutionMode(request.getMode());
+            try {
+                warmupService.warmUp(executionId, request.getTestCaseIds(), request);
+            } catch (Exception e) {
+                System.out.println("⚠️ Warm-up for " + executionId + " failed, starting cold: " + e.getMessage());
+            }
+            long waitMs = Duration.between(OffsetDateTime.now(), scheduledTime).toMillis();
+            if (waitMs > 0) Thread.sleep(waitMs);
+        }
+        status.setExecutionId(executionId);
+        status.setStatus("RUNNING");
+        status.setStartTime(OffsetDateTime.now());
+        status.setTestCaseIds(request.getTestCaseIds());
+        status.setExecutionMode(request.getMode());
+        ExecutionRecord rec = executionRecordRepository.findByExecutionId(executionId).orElseGet(ExecutionRecord::new);
+        rec.setExecutionId(executionId);
+        rec.setStatus("RUNNING");
+        rec.setStartTime(status.getStartTime());
+        rec.setMode(request.getMode());
+        rec.setNode(executionRecoveryService.nodeName());
+        executionRecordRepository.save(rec);
+        executionJournal.runStarted(executionId, request.getMode(), request.getTestCaseIds(), request.getMaxParallelTests(),
+                request.getHeadless(), request.getAdaptiveParallelism());
+        task(executionId, request.getTestCaseIds(), request, status, null).run();
+    }
+
+    // A recurring schedule fired: selects the tests as of now and runs them to completion on the calling thread
+    public ExecutionStatus runScheduled(String scheduleName, ExecutionRequest request) {
+        String executionId = ("exec_" + System.currentTimeMillis() + "_" + scheduleName);
+        executionId = executionId.length() <= 100 ? executionId : executionId.substring(0, 100);
+        System.out.println("⏰ Schedule " + scheduleName + " starting " + executionId);
+        return run(executionId, request);
+    }
+
+    // Selects the tests as of now and runs them to completion on the calling thread; IllegalArgumentException
+    // for an invalid selection
+    public ExecutionStatus run(String executionId, ExecutionRequest request) {
+        List<Long> ids = resolve(request);
+        ExecutionStatus status = new ExecutionStatus();
+        status.setExecutionId(executionId);
+        status.setStatus("RUNNING");
+        status.setStartTime(OffsetDateTime.now());
+        status.setTestCaseIds(ids);
+        status.setExecutionMode(request.getMode());
+        executionStatuses.put(executionId, status);
+        ExecutionRecord rec = new ExecutionRecord();
+        rec.setExecutionId(executionId);
+        rec.setStatus("RUNNING");
+        rec.setStartTime(status.getStartTime());
+        rec.setMode(request.getMode());
+        rec.setNode(executionRecoveryService.nodeName());
+        rec.setTestCaseIdsCsv(ids != null ? ids.toString() : "");
+        executionRecordRepository.save(rec);
+        executionJournal.runStarted(executionId, request.getMode(), ids, request.getMaxParallelTests(),
+                request.getHeadless(), request.getAdaptiveParallelism());
+        task(executionId, ids, request, status, null).run();
+        return status;
+    }
+
+    // Runs the tests an interrupted execution never completed, under the same executionId; returns how many.
+    // NoSuchElementException for an unknown execution, IllegalStateException when it can't be resumed.
+    public int resume(String executionId, ExecutionRequest overrides) {
+        ExecutionRecord record = executionRecordRepository.findByExecutionId(executionId)
+                .orElseThrow(() -> new NoSuchElementException("Unknown execution " + executionId));
+        ExecutionJournal.Entry plan = executionRecoveryService.interruptedPlan(executionId).orElse(null);
+        if (plan == null || !ExecutionRecoveryService.INTERRUPTED.equals(record.getStatus())
+                || !executionRecoveryService.resumed(executionId)) {
+            throw new IllegalStateException(ExecutionRecoveryService.INTERRUPTED.equals(record.getStatus()) && record.getErrorMessage() != null
+                    ? record.getErrorMessage() : "Execution is " + record.getStatus() + ", only interrupted runs can be resumed");
+        }
+        List<Long> remaining = executionRecoveryService.remainingTestCaseIds(plan);
+
+        ExecutionRequest request = new ExecutionRequest();
+        request.setMode(plan.getMode());
+        request.setMaxParallelTests(overrides != null && overrides.getMaxParallelTests() != null ? overrides.getMaxParallelTests() : plan.getMaxParallelTests());
+        request.setHeadless(overrides != null && overrides.getHeadless() != null ? overrides.getHeadless() : plan.getHeadless());
+        request.setAdaptiveParallelism(overrides != null && overrides.getAdaptiveParallelism() != null
+                ? overrides.getAdaptiveParallelism() : plan.getAdaptiveParallelism());
+
+        ExecutionStatus status = new ExecutionStatus();
+        status.setExecutionId(executionId);
+        status.setStatus("RUNNING");
+        status.setStartTime(record.getStartTime() != null ? record.getStartTime() : OffsetDateTime.now());
+        status.setTestCaseIds(plan.getTestCaseIds());
+        status.setExecutionMode(plan.getMode());
+        executionStatuses.put(executionId, status);
+        record.setStatus("RUNNING");
+        record.setNode(executionRecoveryService.nodeName());
+        record.setEndTime(null);
+        record.setErrorMessage(null);
+        executionRecordRepository.save(record);
+
+        executionJournal.runStarted(executionId, request.getMode(), plan.getTestCaseIds(), request.getMaxParallelTests(),
+                request.getHeadless(), request.getAdaptiveParallelism());
+        CompletableFuture.runAsync(task(executionId, remaining, request, status, record));
+        return remaining.size();
+    }
+
+    public Optional<ExecutionStatus> status(String executionId) {
+        ExecutionStatus status = executionStatuses.get(executionId);
+        if (status != null) return Optional.of(status);
+        return executionRecordRepository.findByExecutionId(executionId).map(ExecutionService::fromRecord);
+    }
+
+    public Map<String, ExecutionStatus> statuses() {
+        return executionStatuses;
+    }
+
+    // Runs runIds under runExecutionId. A resumed run passes the record of the interrupted one, so its plan and
+    // counts stay those of the whole execution.
+    private Runnable task(String runExecutionId, List<Long> runIds, ExecutionRequest runRequest, ExecutionStatus runStatus,
+                          ExecutionRecord resumedFrom) {
+        final List<Long> planIds = resumedFrom != null ? runStatus.getTestCaseIds() : runIds;
+        return () -> {
+            try {
+                List<TestResult> results;
+                if (LoadTestRunner.MODE.equalsIgnoreCase(runRequest.getMode())) {
+                    results = loadTestRunner.run(runIds, runExecutionId, runRequest.loadProfile());
+                } else if ("SEQUENTIAL".equalsIgnoreCase(runRequest.getMode())) {
+                    results = testIntegrationEngine.executeSequential(runIds, runExecutionId, runRequest.getHeadless());
+                } else if (Boolean.TRUE.equals(runRequest.getAdaptiveParallelism())) {
+                    results = testIntegrationEngine.executeParallelAdaptive(runIds, runExecutionId, runRequest.getMaxParallelTests(), runRequest.getHeadless());
+                } else {
+                    results = testIntegrationEngine.executeParallel(runIds, runExecutionId, runRequest.getMaxParallelTests(), runRequest.getHeadless());
+                }
+                runStatus.setStatus("COMPLETED");
+                runStatus.setEndTime(OffsetDateTime.now());
+                runStatus.setResults(results);
+                runStatus.setTotalTests(results.size());
+                runStatus.setPassedTests((int) results.stream().filter(r -> r.getStatus() != null && "PASSED".equals(r.getStatus().name())).count());
+                runStatus.setFailedTests((int) results.stream().filter(r -> r.getStatus() != null && "FAILED".equals(r.getStatus().name())).count());
+                if (resumedFrom != null) {
+                    // Counts cover the whole execution, the part finished before the restart included
+                    runStatus.setTotalTests(runStatus.getTotalTests() + nullToZero(resumedFrom.getTotalTests()));
+                    runStatus.setPassedTests(runStatus.getPassedTests() + nullToZero(resumedFrom.getPassedTests()));
+                    runStatus.setFailedTests(runStatus.getFailedTests() + nullToZero(resumedFrom.getFailedTests()));
+                }
+                emailAlertService.sendTestExecutionAlert(runExecutionId, results);
+                // Persist completion
+                ExecutionRecord done = executionRecordRepository.findByExecutionId(runExecutionId).orElse(new ExecutionRecord());
+                done.setExecutionId(runExecutionId);
+                done.setStatus("COMPLETED");
+                done.setStartTime(runStatus.getStartTime());
+                done.setEndTime(runStatus.getEndTime());
+                done.setMode(runStatus.getExecutionMode());
+                done.setTestCaseIdsCsv(planIds != null ? planIds.toString() : "");
+                done.setTotalTests(runStatus.getTotalTests());
+                done.setPassedTests(runStatus.getPassedTests());
+                done.setFailedTests(runStatus.getFailedTests());
+                done.setErrorMessage(null);
+                executionRecordRepository.save(done);
+                executionJournal.runFinished(runExecutionId, "COMPLETED");
+                runStatus.setParallelismLevel(done.getParallelismLevel());
+            } catch (Exception e) {
+                runStatus.setStatus("FAILED");
+                runStatus.setEndTime(OffsetDateTime.now());
+                runStatus.setErrorMessage(e.getMessage());
+                // Persist failure
+                ExecutionRecord fail = executionRecordRepository.findByExecutionId(runExecutionId).orElse(new ExecutionRecord());
+                fail.setExecutionId(runExecutionId);
+                fail.setStatus("FAILED");
+                fail.setStartTime(runStatus.getStartTime());
+                fail.setEndTime(runStatus.getEndTime());
+                fail.setMode(runStatus.getExecutionMode());
+                fail.setTestCaseIdsCsv(planIds != null ? planIds.toString() : "");
+                fail.setErrorMessage(e.getMessage());
+                executionRecordRepository.save(fail);
+                executionJournal.runFinished(runExecutionId, "FAILED");
+            } finally {
+                warmupService.release(runExecutionId);
+            }
+        };
+    }
+
+    private static ExecutionStatus fromRecord(ExecutionRecord record) {
+        ExecutionStatus status = new ExecutionStatus();
+        status.setExecutionId(record.getExecutionId());
+        status.setStatus(record.getStatus());
+        status.setStartTime(record.getStartTime());
+        status.setEndTime(record.getEndTime());
+        status.setExecutionMode(record.getMode());
+        status.setTotalTests(nullToZero(record.getTotalTests()));
+        status.setPassedTests(nullToZero(record.getPassedTests()));
+        status.setFailedTests(nullToZero(record.getFailedTests()));
+        status.setErrorMessage(record.getErrorMessage());
+        status.setParallelismLevel(record.getParallelismLevel());
+        return status;
+    }
+
+    private static int nullToZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    public static class ExecutionRequest {
+        private List<Long> testCaseIds;
+        private String suiteId; // e.g., BLAZE_SMOKE, REQRES_SMOKE
+        private String tagExpression; // ad-hoc selection, e.g. "ui & smoke & !flaky"
+        private String mode; // SEQUENTIAL, PARALLEL or LOAD
+        private Integer maxParallelTests; // optional cap
+        private Boolean adaptiveParallelism; // tune concurrency at runtime, maxParallelTests is the ceiling
+        private Boolean headless; // UI browsers headless
+        private OffsetDateTime scheduledTime; // optional future scheduling
+        private Integer shardIndex; // CI matrix: run only this 0-based shard of the selection
+        private Integer shardCount;
+        private OffsetDateTime shardHistoryBefore; // same for every shard: plan from durations recorded before it
+        private Double targetRps; // LOAD: arrival rate (open model), or pacing when concurrency is set
+        private Integer concurrency; // LOAD: fixed workers (closed model)
+        private Integer durationSeconds; // LOAD
+        private Integer rampUpSeconds; // LOAD: linear ramp to the full rate or worker count
+
+        public List<Long> getTestCaseIds() { return testCaseIds; }
+        public void setTestCaseIds(List<Long> testCaseIds) { this.testCaseIds = testCaseIds; }
+        public String getSuiteId() { return suiteId; }
+        public void setSuiteId(String suiteId) { this.suiteId = suiteId; }
+        public String getTagExpression() { return tagExpression; }
+        public void setTagExpression(String tagExpression) { this.tagExpression = tagExpression; }
+        public String getMode() { return mode; }
+        public void setMode(String mode) { this.mode = mode; }
+        public Integer getMaxParallelTests() { return maxParallelTests; }
+        public void setMaxParallelTests(Integer maxParallelTests) { this.maxParallelTests = maxParallelTests; }
+        public Boolean getAdaptiveParallelism() { return adaptiveParallelism; }
+        public void setAdaptiveParallelism(Boolean adaptiveParallelism) { this.adaptiveParallelism = adaptiveParallelism; }
+        public Boolean getHeadless() { return headless; }
+        public void setHeadless(Boolean headless) { this.headless = headless; }
+        public OffsetDateTime getScheduledTime() { return scheduledTime; }
+        public void setScheduledTime(OffsetDateTime scheduledTime) { this.scheduledTime = scheduledTime; }
+        public Integer getShardIndex() { return shardIndex; }
+        public void setShardIndex(Integer shardIndex) { this.shardIndex = shardIndex; }
+        public Integer getShardCount() { return shardCount; }
+        public void setShardCount(Integer shardCount) { this.shardCount = shardCount; }
+        public OffsetDateTime getShardHistoryBefore() { return shardHistoryBefore; }
+        public void setShardHistoryBefore(OffsetDateTime shardHistoryBefore) { this.shardHistoryBefore = shardHistoryBefore; }
+        public Double getTargetRps() { return targetRps; }
+        public void setTargetRps(Double targetRps) { this.targetRps = targetRps; }
+        public Integer getConcurrency() { return concurrency; }
+        public void setConcurrency(Integer concurrency) { this.concurrency = concurrency; }
+        public Integer getDurationSeconds() { return durationSeconds; }
+        public void setDurationSeconds(Integer durationSeconds) { this.durationSeconds = durationSeconds; }
+        public Integer getRampUpSeconds() { return rampUpSeconds; }
+        public void setRampUpSeconds(Integer rampUpSeconds) { this.rampUpSeconds = rampUpSeconds; }
+
+        public LoadTestRunner.LoadProfile loadProfile() {
+            LoadTestRunner.LoadProfile profile = new LoadTestRunner.LoadProfile();
+            profile.setTargetRps(targetRps);
+            profile.setConcurrency(concurrency);
+            profile.setDurationSeconds(durationSeconds);
+            profile.setRampUpSeconds(rampUpSeconds);
+            return profile;
+        }
+    }
+
+    public static class ExecutionStatus {
+        private String executionId;
+        private String status;
+        private OffsetDateTime startTime;
+        private OffsetDateTime endTime;
+        private List<Long> testCaseIds;
+        private String executionMode;
+        private List<TestResult> results;
+        private int totalTests;
+        private int passedTests;
+        private int failedTests;
+        private String errorMessage;
+        private Integer parallelismLevel;
+
+        // Getters and setters
+        public String getExecutionId() { return executionId; }
+        public void setExecutionId(String executionId) { this.executionId = executionId; }
+        public String getStatus() { return status; }
+        public void setStatus(String status) { this.status = status; }
+        public OffsetDateTime getStartTime() { return startTime; }
+        public void setStartTime(OffsetDateTime startTime) { this.startTime = startTime; }
+        public OffsetDateTime getEndTime() { return endTime; }
+        public void setEndTime(OffsetDateTime endTime) { this.endTime = endTime; }
+        public List<Long> getTestCaseIds() { return testCaseIds; }
+        public void setTestCaseIds(List<Long> testCaseIds) { this.testCaseIds = testCaseIds; }
+        public String getExecutionMode() { return executionMode; }
+        public void setExecutionMode(String executionMode) { this.executionMode = executionMode; }
+        public List<TestResult> getResults() { return results; }
+        public void setResults(List<TestResult> results) { this.results = results; }
+        public int getTotalTests() { return totalTests; }
+        public void setTotalTests(int totalTests) { this.totalTests = totalTests; }
+        public int getPassedTests() { return passedTests; }
+        public void setPassedTests(int passedTests) { this.passedTests = passedTests; }
+        public int getFailedTests() { return failedTests; }
+        public void setFailedTests(int failedTests) { this.failedTests = failedTests; }
+        public String getErrorMessage() { return errorMessage; }
+        public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+        public Integer getParallelismLevel() { return parallelismLevel; }
+        public void setParallelismLevel(Integer parallelismLevel) { this.parallelismLevel = parallelismLevel; }
+    }
+}
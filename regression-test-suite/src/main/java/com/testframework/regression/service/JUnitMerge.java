@@ -0,0 +1,167 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestCase;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Combines the JUnit reports of a sharded run into one <testsuites> document: one <testsuite> per shard,
+// named after its report, with totals summed. A test reported by more than one shard is counted as a
+// duplicate, which means the shards didn't agree on the split. Given the planned tests, any that no shard
+// reported are added as errors in a "missing" suite, so a split that dropped tests fails the merged report.
+public final class JUnitMerge {
+
+    private JUnitMerge() {}
+
+    // label -> report, in shard order
+    public static Summary merge(Map<String, InputStream> reports, OutputStream out) throws Exception {
+        return merge(reports, out, null);
+    }
+
+    // expected: key() of every test the shards were planned from, or null to skip the check
+    public static Summary merge(Map<String, InputStream> reports, OutputStream out, Collection<String> expected) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+        DocumentBuilder builder = factory.newDocumentBuilder();
+
+        Document merged = builder.newDocument();
+        Element root = merged.createElement("testsuites");
+        root.setAttribute("name", "RegressionSuite");
+        merged.appendChild(root);
+
+        Summary summary = new Summary();
+        Set<String> seen = new HashSet<>();
+        for (Map.Entry<String, InputStream> report : reports.entrySet()) {
+            Element top = builder.parse(report.getValue()).getDocumentElement();
+            List<Element> suites = new ArrayList<>();
+            if ("testsuite".equals(top.getTagName())) {
+                suites.add(top);
+            } else if ("testsuites".equals(top.getTagName())) {
+                NodeList children = top.getElementsByTagName("testsuite");
+                for (int i = 0; i < children.getLength(); i++) suites.add((Element) children.item(i));
+            } else {
+                throw new IllegalArgumentException(report.getKey() + " is not a JUnit report (root <" + top.getTagName() + ">)");
+            }
+            for (Element suite : suites) {
+                Element copy = (Element) merged.importNode(suite, true);
+                copy.setAttribute("name", suites.size() == 1 ? report.getKey() : report.getKey() + " / " + suite.getAttribute("name"));
+                root.appendChild(copy);
+
+                NodeList testcases = suite.getElementsByTagName("testcase");
+                int failures = 0;
+                int errors = 0;
+                int skipped = 0;
+                for (int i = 0; i < testcases.getLength(); i++) {
+                    Element testcase = (Element) testcases.item(i);
+                    if (!seen.add(testcase.getAttribute("classname") + "." + testcase.getAttribute("name"))) summary.duplicates++;
+                    if (hasChild(testcase, "failure")) failures++;
+                    else if (hasChild(testcase, "error")) errors++;
+                    else if (hasChild(testcase, "skipped")) skipped++;
+                }
+                summary.tests += testcases.getLength();
+                summary.failures += failures;
+                summary.errors += errors;
+                summary.skipped += skipped;
+                summary.suites++;
+                String time = suite.getAttribute("time");
+                if (!time.isBlank()) summary.timeSeconds += Double.parseDouble(time.trim());
+            }
+        }
+        if (expected != null) {
+            for (String key : new LinkedHashSet<>(expected)) {
+                if (!seen.contains(key)) summary.missing.add(key);
+            }
+        }
+        if (!summary.missing.isEmpty()) {
+            Element suite = merged.createElement("testsuite");
+            suite.setAttribute("name", "missing");
+            suite.setAttribute("tests", String.valueOf(summary.missing.size()));
+            suite.setAttribute("errors", String.valueOf(summary.missing.size()));
+            for (String key : summary.missing) {
+                int dot = key.indexOf('.');
+                Element testcase = merged.createElement("testcase");
+                testcase.setAttribute("classname", dot < 0 ? "" : key.substring(0, dot));
+                testcase.setAttribute("name", key.substring(dot + 1));
+                Element error = merged.createElement("error");
+                error.setAttribute("message", "Planned but not reported by any shard");
+                testcase.appendChild(error);
+                suite.appendChild(testcase);
+            }
+            root.appendChild(suite);
+            summary.suites++;
+            summary.tests += summary.missing.size();
+            summary.errors += summary.missing.size();
+        }
+        root.setAttribute("tests", String.valueOf(summary.tests));
+        root.setAttribute("failures", String.valueOf(summary.failures));
+        root.setAttribute("errors", String.valueOf(summary.errors));
+        root.setAttribute("skipped", String.valueOf(summary.skipped));
+        root.setAttribute("time", String.format(Locale.ROOT, "%.3f", summary.timeSeconds));
+
+        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+        transformer.setOutputProperty(OutputKeys.INDENT, "no");
+        transformer.transform(new DOMSource(merged), new StreamResult(out));
+        return summary;
+    }
+
+    // How a test appears in the shard reports: classname (its type) and name
+    public static String key(TestCase testCase) {
+        return testCase.getType().name() + "." + testCase.getName();
+    }
+
+    // Report labels: the file name without directory or .xml, made unique
+    public static String label(String fileName, int index, Map<String, ?> taken) {
+        String label = fileName == null || fileName.isBlank() ? "shard-" + (index + 1)
+                : fileName.replaceAll(".*[/\\\\]", "").replaceFirst("(?i)\\.xml$", "");
+        return taken.containsKey(label) ? label + "-" + (index + 1) : label;
+    }
+
+    private static boolean hasChild(Element element, String tag) {
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element e && tag.equals(e.getTagName())) return true;
+        }
+        return false;
+    }
+
+    public static class Summary {
+        private int suites;
+        private int tests;
+        private int failures;
+        private int errors;
+        private int skipped;
+        private int duplicates;
+        private final List<String> missing = new ArrayList<>();
+        private double timeSeconds;
+
+        public int getSuites() { return suites; }
+        public int getTests() { return tests; }
+        public int getFailures() { return failures; }
+        public int getErrors() { return errors; }
+        public int getSkipped() { return skipped; }
+        public int getDuplicates() { return duplicates; }
+        public List<String> getMissing() { return missing; }
+        public double getTimeSeconds() { return timeSeconds; }
+    }
+}
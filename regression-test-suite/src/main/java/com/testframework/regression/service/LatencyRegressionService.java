@@ -0,0 +1,80 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.TestResultRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+// Fails an otherwise passing API result whose latency is a significant outlier against the same test's
+// recent passing runs. Uses the modified z-score (median / MAD), which a few earlier slow runs cannot skew,
+// plus absolute and relative floors so jitter on a fast endpoint is not reported as a regression.
+@Service
+public class LatencyRegressionService {
+
+    private final TestResultRepository testResultRepository;
+    private final boolean enabled;
+    private final int baselineRuns;
+    private final int minBaselineRuns;
+    private final double zThreshold;
+    private final double minSlowdownRatio;
+    private final long minDeltaMs;
+
+    public LatencyRegressionService(TestResultRepository testResultRepository,
+                                    @Value("${latency.regression.enabled:true}") boolean enabled,
+                                    @Value("${latency.regression.baselineRuns:20}") int baselineRuns,
+                                    @Value("${latency.regression.minBaselineRuns:5}") int minBaselineRuns,
+                                    @Value("${latency.regression.zThreshold:3.5}") double zThreshold,
+                                    @Value("${latency.regression.minSlowdownRatio:1.5}") double minSlowdownRatio,
+                                    @Value("${latency.regression.minDeltaMs:100}") long minDeltaMs) {
+        this.testResultRepository = testResultRepository;
+        this.enabled = enabled;
+        this.baselineRuns = Math.max(1, baselineRuns);
+        this.minBaselineRuns = Math.max(3, minBaselineRuns);
+        this.zThreshold = zThreshold;
+        this.minSlowdownRatio = minSlowdownRatio;
+        this.minDeltaMs = minDeltaMs;
+    }
+
+    // Call before the result is saved, so it is not part of its own baseline
+    public void check(TestResult result) {
+        if (!enabled || result.getStatus() != TestStatus.PASSED || result.getLatencyMs() == null
+                || result.getTestCase() == null || result.getTestCase().getId() == null) {
+            return;
+        }
+        List<Long> baseline = testResultRepository.findRecentPassedLatencies(result.getTestCase().getId(),
+                PageRequest.of(0, baselineRuns));
+        String regression = evaluate(result.getLatencyMs(), baseline);
+        if (regression != null) {
+            result.setStatus(TestStatus.FAILED);
+            String message = (result.getMessage() != null ? result.getMessage() + " | " : "") + regression;
+            result.setMessage(message.length() > 4000 ? message.substring(0, 4000) : message);
+            System.out.println("🐢 " + result.getTestCase().getName() + ": " + regression);
+        }
+    }
+
+    // Description of the regression, or null when the latency is within the baseline
+    String evaluate(long latencyMs, List<Long> baseline) {
+        if (baseline.size() < minBaselineRuns) return null;
+        long[] sorted = baseline.stream().mapToLong(Long::longValue).sorted().toArray();
+        double median = median(sorted);
+        long[] deviations = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) deviations[i] = Math.round(Math.abs(sorted[i] - median));
+        Arrays.sort(deviations);
+        // A perfectly flat baseline has MAD 0; floor it at 1ms (1% of the median) rather than divide by zero
+        double mad = Math.max(median(deviations), Math.max(1.0, median * 0.01));
+        double z = 0.6745 * (latencyMs - median) / mad;
+        if (z < zThreshold || latencyMs < median * minSlowdownRatio || latencyMs - median < minDeltaMs) return null;
+        return String.format("latency regression: %dms vs baseline median %.0fms over %d runs (z=%.1f)",
+                latencyMs, median, sorted.length, z);
+    }
+
+    private static double median(long[] sorted) {
+        int n = sorted.length;
+        return n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+    }
+}
@@ -1,183 +1,112 @@
 package com.testframework.regression.service;
 
 import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.repository.ExecutionRecordRepository;
 import com.testframework.regression.repository.TestResultRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.stereotype.Service;
 
-import java.io.FileWriter;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.List;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Service
 public class ReportService {
-    
+
     private static final String REPORT_DIR = "test-output/reports";
     private final TestResultRepository testResultRepository;
-    
-    public ReportService(TestResultRepository testResultRepository) {
+    private final ExecutionRecordRepository executionRecordRepository;
+    private final ScreenshotService screenshotService;
+    @PersistenceContext
+    private EntityManager entityManager;
+    // executionId -> reports rendered for one content version; COMPLETED executions never change
+    private final Map<String, CachedReports> reportCache = new ConcurrentHashMap<>();
+
+    public ReportService(TestResultRepository testResultRepository, ExecutionRecordRepository executionRecordRepository,
+                         ScreenshotService screenshotService) {
         this.testResultRepository = testResultRepository;
+        this.executionRecordRepository = executionRecordRepository;
+        this.screenshotService = screenshotService;
         try {
             Files.createDirectories(Paths.get(REPORT_DIR));
         } catch (IOException e) {
             e.printStackTrace();
         }
     }
-    
+
+    @Transactional(readOnly = true)
+    public ReportBundle generateReports(String executionId) {
+        CachedReports cached = reportCache.get(executionId);
+        if (cached != null && cached.immutable && cached.isUsable()) {
+            return cached.future.join();
+        }
+
+        // Screenshot links in the report must point at files that exist
+        screenshotService.awaitPending(executionId);
+        boolean immutable = isCompleted(executionId);
+        String version = contentVersion(executionId);
+        CompletableFuture<ReportBundle> mine = new CompletableFuture<>();
+        CachedReports entry = reportCache.compute(executionId, (id, existing) ->
+                existing != null && existing.version.equals(version) && (existing.isPending() || existing.isUsable())
+                        ? existing
+                        : new CachedReports(version, immutable, mine));
+
+        // Only the caller that installed the future renders; concurrent callers wait for it
+        if (entry.future == mine) {
+            try {
+                mine.complete(renderAll(executionId, version));
+            } catch (Exception e) {
+                mine.completeExceptionally(e);
+                reportCache.remove(executionId, entry);
+            }
+        }
+        try {
+            return entry.future.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException(e.getCause() != null ? e.getCause().getMessage() : e.getMessage(), e);
+        }
+    }
+
     @Transactional(readOnly = true)
     public String generateHTMLReport(String executionId) {
         try {
-            List<TestResult> results = testResultRepository.findByExecutionIdWithTestCase(executionId);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "test_report_" + executionId + "_" + timestamp + ".html";
-            Path filePath = Paths.get(REPORT_DIR, fileName);
-            
-            StringBuilder html = new StringBuilder();
-            html.append("<!DOCTYPE html>\n");
-            html.append("<html>\n<head>\n");
-            html.append("<title>Test Execution Report</title>\n");
-            html.append("<style>\n");
-            html.append("body { font-family: Arial, sans-serif; margin: 20px; }\n");
-            html.append("table { border-collapse: collapse; width: 100%; }\n");
-            html.append("th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n");
-            html.append("th { background-color: #f2f2f2; }\n");
-            html.append(".passed { background-color: #d4edda; }\n");
-            html.append(".failed { background-color: #f8d7da; }\n");
-            html.append(".summary { background-color: #e2e3e5; padding: 15px; margin-bottom: 20px; }\n");
-            html.append("</style>\n</head>\n<body>\n");
-            
-            // Summary section
-            long totalTests = results.size();
-            long passedTests = results.stream().filter(r -> "PASSED".equals(r.getStatus().name())).count();
-            long failedTests = totalTests - passedTests;
-            double passRate = totalTests > 0 ? (double) passedTests / totalTests * 100 : 0;
-            
-            html.append("<div class='summary'>\n");
-            html.append("<h2>Test Execution Summary</h2>\n");
-            html.append("<p><strong>Execution ID:</strong> ").append(executionId).append("</p>\n");
-            // Derive duration from first/last executedAt
-            java.time.OffsetDateTime min = results.stream().map(TestResult::getExecutedAt).min(java.util.Comparator.naturalOrder()).orElse(null);
-            java.time.OffsetDateTime max = results.stream().map(TestResult::getExecutedAt).max(java.util.Comparator.naturalOrder()).orElse(null);
-            long durationSec = (min != null && max != null) ? java.time.Duration.between(min, max).toSeconds() : 0;
-            html.append("<p><strong>Duration:</strong> ").append(durationSec).append("s</p>\n");
-            html.append("<p><strong>Total Tests:</strong> ").append(totalTests).append("</p>\n");
-            html.append("<p><strong>Passed:</strong> ").append(passedTests).append("</p>\n");
-            html.append("<p><strong>Failed:</strong> ").append(failedTests).append("</p>\n");
-            html.append("<p><strong>Pass Rate:</strong> ").append(String.format("%.2f", passRate)).append("%</p>\n");
-            html.append("<p><strong>Generated:</strong> ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("</p>\n");
-            html.append("</div>\n");
-            
-            // Results table
-            html.append("<h2>Test Results</h2>\n");
-            html.append("<table>\n");
-            html.append("<tr><th>Test Case ID</th><th>Test Case Name</th><th>Type</th><th>Status</th><th>Executed At</th><th>Artifacts</th><th>Message</th></tr>\n");
-            
-            for (TestResult result : results) {
-                String statusClass = "PASSED".equals(result.getStatus().name()) ? "passed" : "failed";
-                html.append("<tr class='").append(statusClass).append("'>\n");
-                html.append("<td>").append(result.getTestCase().getId()).append("</td>\n");
-                html.append("<td>").append(result.getTestCase().getName()).append("</td>\n");
-                html.append("<td>").append(result.getTestCase().getType()).append("</td>\n");
-                html.append("<td>").append(result.getStatus()).append("</td>\n");
-                html.append("<td>").append(result.getExecutedAt()).append("</td>\n");
-                String artifacts = "";
-                if (result.getScreenshotPath() != null) {
-                    // Use relative path to artifacts directory
-                    String relativePath = "../../../" + result.getScreenshotPath().replace("\\", "/");
-                    artifacts += "<a href='" + relativePath + "' target='_blank'>screenshot</a>";
-                }
-                if (result.getApiRequestPath() != null) {
-                    String relativePath = "../../../" + result.getApiRequestPath().replace("\\", "/");
-                    artifacts += (artifacts.isEmpty() ? "" : " | ") + "<a href='" + relativePath + "' target='_blank'>request</a>";
-                }
-                if (result.getApiResponsePath() != null) {
-                    String relativePath = "../../../" + result.getApiResponsePath().replace("\\", "/");
-                    artifacts += (artifacts.isEmpty() ? "" : " | ") + "<a href='" + relativePath + "' target='_blank'>response</a>";
-                }
-                html.append("<td>").append(artifacts).append("</td>\n");
-                html.append("<td>").append(result.getMessage() != null ? result.getMessage() : "").append("</td>\n");
-                html.append("</tr>\n");
-            }
-            
-            html.append("</table>\n");
-            html.append("</body>\n</html>");
-            
-            Files.write(filePath, html.toString().getBytes());
-            return filePath.toString();
-            
-        } catch (IOException e) {
+            return generateReports(executionId).getHtmlReportPath();
+        } catch (Exception e) {
             return "Report generation failed: " + e.getMessage();
         }
     }
-    
+
     @Transactional(readOnly = true)
     public String generateCSVReport(String executionId) {
         try {
-            List<TestResult> results = testResultRepository.findByExecutionIdWithTestCase(executionId);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "test_report_" + executionId + "_" + timestamp + ".csv";
-            Path filePath = Paths.get(REPORT_DIR, fileName);
-            
-            try (FileWriter writer = new FileWriter(filePath.toFile())) {
-                // Write header
-                writer.append("Test Case ID,Test Case Name,Type,Status,Executed At,Duration(s),Artifact(s),Message\n");
-                
-                // Write data
-                for (TestResult result : results) {
-                    String artifacts = result.getScreenshotPath() != null ? Paths.get(result.getScreenshotPath()).getFileName().toString() : "";
-                    writer.append(String.valueOf(result.getTestCase().getId())).append(",");
-                    writer.append("\"").append(result.getTestCase().getName()).append("\"").append(",");
-                    writer.append(result.getTestCase().getType().name()).append(",");
-                    writer.append(result.getStatus().name()).append(",");
-                    writer.append(result.getExecutedAt().toString()).append(",");
-                    writer.append("0").append(",");
-                    writer.append("\"").append(artifacts).append("\"").append(",");
-                    writer.append("\"").append(result.getMessage() != null ? result.getMessage() : "").append("\"");
-                    writer.append("\n");
-                }
-            }
-            
-            return filePath.toString();
-            
-        } catch (IOException e) {
+            return generateReports(executionId).getCsvReportPath();
+        } catch (Exception e) {
             return "CSV report generation failed: " + e.getMessage();
         }
     }
-    
+
     @Transactional(readOnly = true)
     public String collectLogs(String executionId) {
         try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "test_logs_" + executionId + "_" + timestamp + ".txt";
-            Path filePath = Paths.get(REPORT_DIR, fileName);
-            
-            StringBuilder logs = new StringBuilder();
-            logs.append("Test Execution Logs\n");
-            logs.append("==================\n");
-            logs.append("Execution ID: ").append(executionId).append("\n");
-            logs.append("Generated: ").append(LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"))).append("\n\n");
-            
-            List<TestResult> results = testResultRepository.findByExecutionIdWithTestCase(executionId);
-            for (TestResult result : results) {
-                logs.append("Test Case: ").append(result.getTestCase().getName()).append("\n");
-                logs.append("Type: ").append(result.getTestCase().getType()).append("\n");
-                logs.append("Status: ").append(result.getStatus()).append("\n");
-                logs.append("Executed At: ").append(result.getExecutedAt()).append("\n");
-                if (result.getMessage() != null) {
-                    logs.append("Message: ").append(result.getMessage()).append("\n");
-                }
-                logs.append("---\n");
-            }
-            
-            Files.write(filePath, logs.toString().getBytes());
-            return filePath.toString();
-            
-        } catch (IOException e) {
+            return generateReports(executionId).getLogsPath();
+        } catch (Exception e) {
             return "Log collection failed: " + e.getMessage();
         }
     }
@@ -185,49 +114,185 @@ public class ReportService {
     @Transactional(readOnly = true)
     public String generateJUnitReport(String executionId) {
         try {
-            List<TestResult> results = testResultRepository.findByExecutionIdWithTestCase(executionId);
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "junit_report_" + executionId + "_" + timestamp + ".xml";
-            Path filePath = Paths.get(REPORT_DIR, fileName);
-
-            long tests = results.size();
-            long failures = results.stream().filter(r -> !"PASSED".equals(r.getStatus().name())).count();
-            java.time.OffsetDateTime min = results.stream().map(TestResult::getExecutedAt).min(java.util.Comparator.naturalOrder()).orElse(null);
-            java.time.OffsetDateTime max = results.stream().map(TestResult::getExecutedAt).max(java.util.Comparator.naturalOrder()).orElse(null);
-            long durationSec = (min != null && max != null) ? java.time.Duration.between(min, max).toSeconds() : 0;
-
-            StringBuilder xml = new StringBuilder();
-            xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
-            xml.append("<testsuite name=\"RegressionSuite\" tests=\"").append(tests)
-               .append("\" failures=\"").append(failures)
-               .append("\" time=\"").append(durationSec)
-               .append("\">\n");
-
-            for (TestResult r : results) {
-                String className = r.getTestCase().getType().name();
-                String testName = r.getTestCase().getName();
-                xml.append("  <testcase classname=\"").append(className)
-                   .append("\" name=\"").append(testName).append("\">\n");
-                if (!"PASSED".equals(r.getStatus().name())) {
-                    xml.append("    <failure message=\"")
-                       .append(escapeXml(r.getMessage()))
-                       .append("\"/>\n");
+            return generateReports(executionId).getJunitReportPath();
+        } catch (Exception e) {
+            return "JUnit report generation failed: " + e.getMessage();
+        }
+    }
+
+    private boolean isCompleted(String executionId) {
+        return executionRecordRepository.findByExecutionId(executionId)
+                .map(r -> "COMPLETED".equals(r.getStatus()))
+                .orElse(false);
+    }
+
+    // Cheap fingerprint of the result set: results are only ever appended to an execution
+    private String contentVersion(String executionId) {
+        long count = testResultRepository.countByExecutionId(executionId);
+        Long maxId = testResultRepository.findMaxIdByExecutionId(executionId);
+        return "v" + count + "_" + (maxId != null ? maxId : 0);
+    }
+
+    private ReportBundle bundleFor(String executionId, String version) {
+        String base = executionId + "_" + version;
+        ReportBundle bundle = new ReportBundle();
+        bundle.setExecutionId(executionId);
+        bundle.setVersion(version);
+        bundle.setHtmlReportPath(Paths.get(REPORT_DIR, "test_report_" + base + ".html").toString());
+        bundle.setCsvReportPath(Paths.get(REPORT_DIR, "test_report_" + base + ".csv").toString());
+        bundle.setJunitReportPath(Paths.get(REPORT_DIR, "junit_report_" + base + ".xml").toString());
+        bundle.setLogsPath(Paths.get(REPORT_DIR, "test_logs_" + base + ".txt").toString());
+        return bundle;
+    }
+
+    // Streams the results once from a cursor and renders HTML, CSV, JUnit and logs in the same pass
+    private ReportBundle renderAll(String executionId, String version) throws IOException {
+        ReportBundle bundle = bundleFor(executionId, version);
+        if (bundle.filesExist()) {
+            // Same content version already on disk (e.g. rendered before a restart)
+            return bundle;
+        }
+
+        String generated = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        Path html = Paths.get(bundle.getHtmlReportPath());
+        Path csv = Paths.get(bundle.getCsvReportPath());
+        Path junit = Paths.get(bundle.getJunitReportPath());
+        Path logs = Paths.get(bundle.getLogsPath());
+
+        try (ReportWriters.RowWriter htmlWriter = new ReportWriters.HtmlWriter(Files.newBufferedWriter(tmpFor(html)), executionId, generated);
+             ReportWriters.RowWriter csvWriter = new ReportWriters.CsvWriter(Files.newBufferedWriter(tmpFor(csv)));
+             ReportWriters.RowWriter junitWriter = new ReportWriters.JUnitWriter(Files.newBufferedWriter(tmpFor(junit)), tmpFor(junit));
+             ReportWriters.RowWriter logWriter = new ReportWriters.LogWriter(Files.newBufferedWriter(tmpFor(logs)), executionId, generated)) {
+            streamRows(executionId, htmlWriter, csvWriter, junitWriter, logWriter);
+        } catch (IOException | RuntimeException e) {
+            // Don't leave partial *.tmp files behind in the reports directory
+            for (Path report : new Path[]{html, csv, junit, logs}) {
+                try {
+                    Files.deleteIfExists(tmpFor(report));
+                } catch (IOException cleanup) {
+                    e.addSuppressed(cleanup);
                 }
-                xml.append("  </testcase>\n");
             }
+            throw e;
+        }
 
-            xml.append("</testsuite>\n");
-            Files.write(filePath, xml.toString().getBytes());
-            return filePath.toString();
-        } catch (IOException e) {
-            return "JUnit report generation failed: " + e.getMessage();
+        // A half-written file must never look like a cached report
+        moveIntoPlace(html);
+        moveIntoPlace(csv);
+        moveIntoPlace(junit);
+        moveIntoPlace(logs);
+        // Served as-is to clients that accept gzip
+        for (Path report : new Path[]{html, csv, junit, logs}) {
+            try {
+                ArtifactService.precompress(report);
+            } catch (IOException e) {
+                System.out.println("⚠️ Could not precompress " + report + ": " + e.getMessage());
+            }
         }
+        return bundle;
     }
 
-    private static String escapeXml(String in) {
-        if (in == null) return "";
-        return in.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
-                 .replace("\"", "&quot;").replace("'", "&apos;");
+    // Formats streamReport can render in one pass over the results
+    public static boolean isStreamable(String type) {
+        return "html".equalsIgnoreCase(type) || "csv".equalsIgnoreCase(type) || "logs".equalsIgnoreCase(type);
     }
-}
 
+    // Streams a single format straight to the caller (e.g. an HTTP response) without touching the cache
+    @Transactional(readOnly = true)
+    public void streamReport(String executionId, String type, OutputStream output) throws IOException {
+        if (!isStreamable(type)) throw new IllegalArgumentException("Report type " + type + " can't be streamed");
+        screenshotService.awaitPending(executionId);
+        Writer out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        String generated = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+        ReportWriters.RowWriter writer;
+        if ("csv".equalsIgnoreCase(type)) {
+            writer = new ReportWriters.CsvWriter(out);
+        } else if ("logs".equalsIgnoreCase(type)) {
+            writer = new ReportWriters.LogWriter(out, executionId, generated);
+        } else {
+            writer = new ReportWriters.HtmlWriter(out, executionId, generated);
+        }
+        try (writer) {
+            streamRows(executionId, writer);
+        }
+    }
+
+    private void streamRows(String executionId, ReportWriters.RowWriter... writers) throws IOException {
+        ReportWriters.Summary summary = new ReportWriters.Summary();
+        for (ReportWriters.RowWriter writer : writers) {
+            writer.begin();
+        }
+        try (Stream<TestResult> results = testResultRepository.streamByExecutionIdWithTestCase(executionId)) {
+            Iterator<TestResult> it = results.iterator();
+            while (it.hasNext()) {
+                TestResult result = it.next();
+                boolean passed = "PASSED".equals(result.getStatus().name());
+                summary.add(result, passed);
+                for (ReportWriters.RowWriter writer : writers) {
+                    writer.row(result, passed);
+                }
+                // Keep the persistence context (and the heap) flat regardless of execution size
+                entityManager.detach(result);
+                entityManager.detach(result.getTestCase());
+            }
+        }
+        for (ReportWriters.RowWriter writer : writers) {
+            writer.end(summary);
+        }
+    }
+
+    private static Path tmpFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    private static void moveIntoPlace(Path target) throws IOException {
+        Files.move(tmpFor(target), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static class CachedReports {
+        private final String version;
+        private final boolean immutable;
+        private final CompletableFuture<ReportBundle> future;
+
+        CachedReports(String version, boolean immutable, CompletableFuture<ReportBundle> future) {
+            this.version = version;
+            this.immutable = immutable;
+            this.future = future;
+        }
+
+        boolean isPending() {
+            return !future.isDone();
+        }
+
+        boolean isUsable() {
+            return future.isDone() && !future.isCompletedExceptionally() && future.join().filesExist();
+        }
+    }
+
+    public static class ReportBundle {
+        private String executionId;
+        private String version;
+        private String htmlReportPath;
+        private String csvReportPath;
+        private String junitReportPath;
+        private String logsPath;
+
+        public String getExecutionId() { return executionId; }
+        public void setExecutionId(String executionId) { this.executionId = executionId; }
+        public String getVersion() { return version; }
+        public void setVersion(String version) { this.version = version; }
+        public String getHtmlReportPath() { return htmlReportPath; }
+        public void setHtmlReportPath(String htmlReportPath) { this.htmlReportPath = htmlReportPath; }
+        public String getCsvReportPath() { return csvReportPath; }
+        public void setCsvReportPath(String csvReportPath) { this.csvReportPath = csvReportPath; }
+        public String getJunitReportPath() { return junitReportPath; }
+        public void setJunitReportPath(String junitReportPath) { this.junitReportPath = junitReportPath; }
+        public String getLogsPath() { return logsPath; }
+        public void setLogsPath(String logsPath) { this.logsPath = logsPath; }
+
+        boolean filesExist() {
+            return Files.exists(Paths.get(htmlReportPath)) && Files.exists(Paths.get(csvReportPath))
+                    && Files.exists(Paths.get(junitReportPath)) && Files.exists(Paths.get(logsPath));
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestResult;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Locale;
+
+// Row-at-a-time report writers; each holds only the current row, summaries are written as trailers
+final class ReportWriters {
+
+    private ReportWriters() {}
+
+    interface RowWriter extends Closeable {
+        void begin() throws IOException;
+        void row(TestResult result, boolean passed) throws IOException;
+        void end(Summary summary) throws IOException;
+    }
+
+    // Incremental statistics, updated once per streamed row
+    static final class Summary {
+        private long total;
+        private long passed;
+        private OffsetDateTime min;
+        private OffsetDateTime max;
+
+        void add(TestResult result, boolean isPassed) {
+            total++;
+            if (isPassed) passed++;
+            OffsetDateTime at = result.getExecutedAt();
+            if (at != null) {
+                if (min == null || at.isBefore(min)) min = at;
+                if (max == null || at.isAfter(max)) max = at;
+            }
+        }
+
+        long getTotal() { return total; }
+        long getPassed() { return passed; }
+        long getFailed() { return total - passed; }
+        double getPassRate() { return total > 0 ? (double) passed / total * 100 : 0; }
+        long getDurationSeconds() { return (min != null && max != null) ? Duration.between(min, max).toSeconds() : 0; }
+    }
+
+    static final class HtmlWriter implements RowWriter {
+        private final Writer out;
+        private final String executionId;
+        private final String generated;
+
+        HtmlWriter(Writer out, String executionId, String generated) {
+            this.out = out;
+            this.executionId = executionId;
+            this.generated = generated;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            out.write("<!DOCTYPE html>\n");
+            out.write("<html>\n<head>\n");
+            out.write("<title>Test Execution Report</title>\n");
+            out.write("<style>\n");
+            // The summary is only known after the last row, so it is written last and shown first
+            out.write("body { font-family: Arial, sans-serif; margin: 20px; display: flex; flex-direction: column; }\n");
+            out.write("table { border-collapse: collapse; width: 100%; }\n");
+            out.write("th, td { border: 1px solid #ddd; padding: 8px; text-align: left; }\n");
+            out.write("th { background-color: #f2f2f2; }\n");
+            out.write(".passed { background-color: #d4edda; }\n");
+            out.write(".failed { background-color: #f8d7da; }\n");
+            out.write(".summary { background-color: #e2e3e5; padding: 15px; margin-bottom: 20px; order: -1; }\n");
+            out.write("</style>\n</head>\n<body>\n");
+            out.write("<h2>Test Results</h2>\n");
+            out.write("<table>\n");
+            out.write("<tr><th>Test Case ID</th><th>Test Case Name</th><th>Type</th><th>Status</th><th>Executed At</th><th>Artifacts</th><th>Message</th></tr>\n");
+        }
+
+        @Override
+        public void row(TestResult result, boolean passed) throws IOException {
+            out.write("<tr class='");
+            out.write(passed ? "passed" : "failed");
+            out.write("'>\n");
+            cell(String.valueOf(result.getTestCase().getId()));
+            cell(result.getTestCase().getName());
+            cell(String.valueOf(result.getTestCase().getType()));
+            cell(String.valueOf(result.getStatus()));
+            cell(String.valueOf(result.getExecutedAt()));
+            out.write("<td>");
+            String separator = "";
+            if (result.getScreenshotPath() != null) {
+                link(result.getScreenshotPath(), "screenshot");
+                separator = " | ";
+            }
+            if (result.getApiRequestPath() != null) {
+                out.write(separator);
+                link(result.getApiRequestPath(), "request");
+                separator = " | ";
+            }
+            if (result.getApiResponsePath() != null) {
+                out.write(separator);
+                link(result.getApiResponsePath(), "response");
+            }
+            out.write("</td>\n");
+            cell(result.getMessage() != null ? result.getMessage() : "");
+            out.write("</tr>\n");
+        }
+
+        private void cell(String value) throws IOException {
+            out.write("<td>");
+            out.write(value);
+            out.write("</td>\n");
+        }
+
+        private void link(String path, String label) throws IOException {
+            // Artifacts live in the content-addressed store; the download endpoint resolves logical paths
+            out.write("<a href='/reports/");
+            out.write(path.replace("\\", "/"));
+            out.write("' target='_blank'>");
+            out.write(label);
+            out.write("</a>");
+        }
+
+        @Override
+        public void end(Summary summary) throws IOException {
+            out.write("</table>\n");
+            out.write("<div class='summary'>\n");
+            out.write("<h2>Test Execution Summary</h2>\n");
+            out.write("<p><strong>Execution ID:</strong> " + executionId + "</p>\n");
+            out.write("<p><strong>Duration:</strong> " + summary.getDurationSeconds() + "s</p>\n");
+            out.write("<p><strong>Total Tests:</strong> " + summary.getTotal() + "</p>\n");
+            out.write("<p><strong>Passed:</strong> " + summary.getPassed() + "</p>\n");
+            out.write("<p><strong>Failed:</strong> " + summary.getFailed() + "</p>\n");
+            out.write("<p><strong>Pass Rate:</strong> " + String.format("%.2f", summary.getPassRate()) + "%</p>\n");
+            out.write("<p><strong>Generated:</strong> " + generated + "</p>\n");
+            out.write("</div>\n");
+            out.write("</body>\n</html>");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    static final class CsvWriter implements RowWriter {
+        private final Writer out;
+
+        CsvWriter(Writer out) {
+            this.out = out;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            out.write("Test Case ID,Test Case Name,Type,Status,Executed At,Duration(s),Artifact(s),Message\n");
+        }
+
+        @Override
+        public void row(TestResult result, boolean passed) throws IOException {
+            String artifacts = result.getScreenshotPath() != null ? Paths.get(result.getScreenshotPath()).getFileName().toString() : "";
+            out.write(String.valueOf(result.getTestCase().getId()));
+            out.write(",\"");
+            out.write(result.getTestCase().getName());
+            out.write("\",");
+            out.write(result.getTestCase().getType().name());
+            out.write(",");
+            out.write(result.getStatus().name());
+            out.write(",");
+            out.write(String.valueOf(result.getExecutedAt()));
+            out.write(",0,\"");
+            out.write(artifacts);
+            out.write("\",\"");
+            out.write(result.getMessage() != null ? result.getMessage() : "");
+            out.write("\"\n");
+        }
+
+        @Override
+        public void end(Summary summary) {
+            // CSV has no summary section
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    static final class LogWriter implements RowWriter {
+        private final Writer out;
+        private final String executionId;
+        private final String generated;
+
+        LogWriter(Writer out, String executionId, String generated) {
+            this.out = out;
+            this.executionId = executionId;
+            this.generated = generated;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            out.write("Test Execution Logs\n");
+            out.write("==================\n");
+            out.write("Execution ID: " + executionId + "\n");
+            out.write("Generated: " + generated + "\n\n");
+        }
+
+        @Override
+        public void row(TestResult result, boolean passed) throws IOException {
+            out.write("Test Case: " + result.getTestCase().getName() + "\n");
+            out.write("Type: " + result.getTestCase().getType() + "\n");
+            out.write("Status: " + result.getStatus() + "\n");
+            out.write("Executed At: " + result.getExecutedAt() + "\n");
+            if (result.getMessage() != null) {
+                out.write("Message: " + result.getMessage() + "\n");
+            }
+            if (result.getStepTimings() != null) {
+                out.write("Waits: " + result.getStepTimings() + "\n");
+            }
+            out.write("---\n");
+        }
+
+        @Override
+        public void end(Summary summary) throws IOException {
+            out.write("Total: " + summary.getTotal() + ", Passed: " + summary.getPassed() + ", Failed: " + summary.getFailed() + "\n");
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+
+    // JUnit needs its totals in the opening tag: a fixed-width tag is reserved up front and patched in place
+    static final class JUnitWriter implements RowWriter {
+        private static final String PROLOG = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+        private static final int SUITE_TAG_WIDTH = 128;
+
+        private final Writer out;
+        private final Path file;
+        private String suiteTag;
+
+        JUnitWriter(Writer out, Path file) {
+            this.out = out;
+            this.file = file;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            out.write(PROLOG);
+            out.write(suiteTag(0, 0, 0));
+            out.write("\n");
+        }
+
+        @Override
+        public void row(TestResult r, boolean passed) throws IOException {
+            out.write("  <testcase classname=\"");
+            out.write(r.getTestCase().getType().name());
+            out.write("\" name=\"");
+            out.write(escapeXml(r.getTestCase().getName()));
+            if (r.getDurationMs() != null) {
+                // Per-test times let a later run balance its shards from this report (shards.durationsFile)
+                out.write("\" time=\"");
+                out.write(String.format(Locale.ROOT, "%.3f", r.getDurationMs() / 1000.0));
+            }
+            out.write("\">\n");
+            if (!passed) {
+                out.write("    <failure message=\"");
+                out.write(escapeXml(r.getMessage()));
+                out.write("\"/>\n");
+            }
+            if (r.getStepTimings() != null) {
+                out.write("    <system-out>Waits: ");
+                out.write(escapeXml(r.getStepTimings()));
+                out.write("</system-out>\n");
+            }
+            out.write("  </testcase>\n");
+        }
+
+        @Override
+        public void end(Summary summary) throws IOException {
+            out.write("</testsuite>\n");
+            suiteTag = suiteTag(summary.getTotal(), summary.getFailed(), summary.getDurationSeconds());
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+            if (suiteTag != null) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                    channel.write(ByteBuffer.wrap(suiteTag.getBytes(StandardCharsets.US_ASCII)), PROLOG.length());
+                }
+            }
+        }
+
+        private static String suiteTag(long tests, long failures, long durationSec) {
+            String tag = "<testsuite name=\"RegressionSuite\" tests=\"" + tests
+                    + "\" failures=\"" + failures
+                    + "\" time=\"" + durationSec + "\"";
+            // Whitespace before '>' is legal inside a start tag
+            return tag + " ".repeat(Math.max(0, SUITE_TAG_WIDTH - tag.length() - 1)) + ">";
+        }
+    }
+
+    static String escapeXml(String in) {
+        if (in == null) return "";
+        return in.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                 .replace("\"", "&quot;").replace("'", "&apos;");
+    }
+}
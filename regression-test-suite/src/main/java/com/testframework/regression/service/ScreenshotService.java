@@ -1,114 +1,254 @@
 package com.testframework.regression.service;
 
+import jakarta.annotation.PreDestroy;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.awt.*;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.IIOImage;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
 
+// Test threads only grab raw bytes; rendering, re-encoding and disk writes run on a bounded pool
 @Service
 public class ScreenshotService {
-    
+
     private static final String SCREENSHOT_DIR = "artifacts";
-    
-    public ScreenshotService() {
-        try {
-            Files.createDirectories(Paths.get(SCREENSHOT_DIR));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+    private static final String GLOBAL = "";
+
+    private final String format;
+    private final float jpegQuality;
+    private final int maxWidth;
+    private final long flushTimeoutMs;
+    private final ThreadPoolExecutor encoderPool;
+    private final ArtifactStore artifactStore;
+    // executionId -> writes not yet on disk, so reports can wait for exactly their own screenshots
+    private final Map<String, Set<CompletableFuture<Void>>> pending = new ConcurrentHashMap<>();
+
+    public ScreenshotService(ArtifactStore artifactStore,
+                             @Value("${screenshots.async.threads:2}") int threads,
+                             @Value("${screenshots.async.queueCapacity:64}") int queueCapacity,
+                             @Value("${screenshots.format:png}") String format,
+                             @Value("${screenshots.jpegQuality:0.8}") float jpegQuality,
+                             @Value("${screenshots.maxWidth:0}") int maxWidth,
+                             @Value("${screenshots.flushTimeoutSeconds:30}") int flushTimeoutSeconds) {
+        this.artifactStore = artifactStore;
+        this.format = "jpg".equalsIgnoreCase(format) || "jpeg".equalsIgnoreCase(format) ? "jpg" : "png";
+        this.jpegQuality = Math.max(0.05f, Math.min(1.0f, jpegQuality));
+        this.maxWidth = Math.max(0, maxWidth);
+        this.flushTimeoutMs = Math.max(1, flushTimeoutSeconds) * 1000L;
+        AtomicInteger threadIndex = new AtomicInteger();
+        // A full queue makes the submitting test thread do the work itself: memory stays bounded. Unlike
+        // CallerRunsPolicy, which discards tasks once the pool is shut down, this also writes them inline then.
+        this.encoderPool = new ThreadPoolExecutor(Math.max(1, threads), Math.max(1, threads), 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueCapacity)),
+                r -> {
+                    Thread t = new Thread(r, "screenshot-writer-" + threadIndex.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                (task, pool) -> task.run());
     }
-    
+
     public String captureFailureScreenshot(String testName, String errorMessage) {
-        try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "FAILED_" + testName + "_" + timestamp + ".png";
-            Path filePath = Paths.get(SCREENSHOT_DIR, fileName);
-            Files.createDirectories(filePath.getParent());
-            
-            // Create a simple error screenshot with text
-            BufferedImage image = createErrorScreenshot(testName, errorMessage);
-            ImageIO.write(image, "PNG", filePath.toFile());
-            
-            return filePath.toString();
-        } catch (IOException e) {
-            return "Screenshot capture failed: " + e.getMessage();
-        }
+        return submit(null, null, fileName(testName), () -> encode(createErrorScreenshot(testName, errorMessage)));
     }
 
     public String captureFailureScreenshot(String testName, String errorMessage, String executionId, Long testCaseId) {
+        return submit(executionId, testCaseId, fileName(testName), () -> encode(createErrorScreenshot(testName, errorMessage)));
+    }
+
+    public String captureWebDriverScreenshot(WebDriver driver, String testName, String errorMessage, String executionId, Long testCaseId) {
+        byte[] raw = null;
+        if (driver instanceof TakesScreenshot) {
+            try {
+                // The only part that needs the driver, so the only part left on the test thread
+                raw = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            } catch (Exception e) {
+                errorMessage = errorMessage + " (screenshot unavailable: " + e.getMessage() + ")";
+            }
+        }
+        byte[] png = raw;
+        String message = errorMessage;
+        return submit(executionId, testCaseId, fileName(testName),
+                () -> png != null ? reencode(png) : encode(createErrorScreenshot(testName, message)));
+    }
+
+    // Blocks until every screenshot of the execution is on disk; returns false on timeout
+    public boolean awaitPending(String executionId) {
+        Set<CompletableFuture<Void>> writes = pending.get(executionId != null ? executionId : GLOBAL);
+        if (writes == null || writes.isEmpty()) return true;
         try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "FAILED_" + testName + "_" + timestamp + ".png";
-            Path dir = Paths.get(SCREENSHOT_DIR, executionId, String.valueOf(testCaseId));
-            Files.createDirectories(dir);
-            Path filePath = dir.resolve(fileName);
-            
-            // Create a simple error screenshot with text
-            BufferedImage image = createErrorScreenshot(testName, errorMessage);
-            ImageIO.write(image, "PNG", filePath.toFile());
-            
-            return filePath.toString();
-        } catch (IOException e) {
-            return "Screenshot capture failed: " + e.getMessage();
+            CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[0])).get(flushTimeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            System.out.println("⚠️ Screenshots for " + executionId + " still pending after " + flushTimeoutMs + "ms");
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            // Individual write failures are already logged
+            return true;
         }
     }
-    
-    public String captureWebDriverScreenshot(WebDriver driver, String testName, String errorMessage, String executionId, Long testCaseId) {
+
+    @PreDestroy
+    public void shutdown() {
+        encoderPool.shutdown();
         try {
-            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-            String fileName = "FAILED_" + testName + "_" + timestamp + ".png";
-            Path dir = Paths.get(SCREENSHOT_DIR, executionId, String.valueOf(testCaseId));
-            Files.createDirectories(dir);
-            Path filePath = dir.resolve(fileName);
-            
-            if (driver instanceof TakesScreenshot) {
-                byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
-                Files.write(filePath, screenshot);
-            } else {
-                // Fallback to error screenshot
-                BufferedImage image = createErrorScreenshot(testName, errorMessage);
-                ImageIO.write(image, "PNG", filePath.toFile());
+            if (!encoderPool.awaitTermination(flushTimeoutMs, TimeUnit.MILLISECONDS)) {
+                System.out.println("⚠️ Screenshot writer pool did not drain before shutdown");
             }
-            
-            return filePath.toString();
-        } catch (Exception e) {
-            return "Screenshot capture failed: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
     }
-    
+
+    private interface Encoder {
+        byte[] encode() throws IOException;
+    }
+
+    // Returns the logical artifact path right away; the store resolves it once the write lands
+    private String submit(String executionId, Long testCaseId, String fileName, Encoder encoder) {
+        String key = executionId != null ? executionId : GLOBAL;
+        String execution = executionId != null ? executionId : ArtifactStore.UNASSIGNED;
+        Long testCase = testCaseId != null ? testCaseId : -1L;
+        CompletableFuture<Void> write = new CompletableFuture<>();
+        pending.compute(key, (k, writes) -> {
+            Set<CompletableFuture<Void>> set = writes != null ? writes : ConcurrentHashMap.newKeySet();
+            set.add(write);
+            return set;
+        });
+        Runnable task = () -> {
+            try {
+                // Identical screenshots (same page, same error) end up as one blob
+                artifactStore.put(execution, testCase, fileName, encoder.encode(), true);
+                write.complete(null);
+            } catch (Exception e) {
+                System.out.println("❌ Screenshot write failed for " + execution + "/" + testCase + "/" + fileName + ": " + e.getMessage());
+                write.completeExceptionally(e);
+            } finally {
+                pending.computeIfPresent(key, (k, writes) -> {
+                    writes.remove(write);
+                    return writes.isEmpty() ? null : writes;
+                });
+            }
+        };
+        encoderPool.execute(task);
+        return Paths.get(SCREENSHOT_DIR, execution, String.valueOf(testCase), fileName).toString();
+    }
+
+    private String fileName(String testName) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return "FAILED_" + testName + "_" + timestamp + "." + format;
+    }
+
+    // Driver PNGs are written untouched unless a lossy format or a size cap is configured
+    private byte[] reencode(byte[] png) throws IOException {
+        if ("png".equals(format) && maxWidth == 0) {
+            return png;
+        }
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            return png;
+        }
+        return encode(image);
+    }
+
+    private byte[] encode(BufferedImage image) throws IOException {
+        BufferedImage scaled = scale(image);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+        if ("jpg".equals(format)) {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("jpg");
+            if (writers.hasNext()) {
+                ImageWriter writer = writers.next();
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+                    writer.setOutput(ios);
+                    writer.write(null, new IIOImage(toRgb(scaled), null, null), param);
+                } finally {
+                    writer.dispose();
+                }
+                return out.toByteArray();
+            }
+        }
+        ImageIO.write(scaled, "PNG", out);
+        return out.toByteArray();
+    }
+
+    private BufferedImage scale(BufferedImage image) {
+        if (maxWidth == 0 || image.getWidth() <= maxWidth) {
+            return image;
+        }
+        int height = Math.max(1, (int) Math.round(image.getHeight() * (maxWidth / (double) image.getWidth())));
+        BufferedImage scaled = new BufferedImage(maxWidth, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = scaled.createGraphics();
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g2d.drawImage(image, 0, 0, maxWidth, height, null);
+        g2d.dispose();
+        return scaled;
+    }
+
+    // JPEG has no alpha channel
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2d = rgb.createGraphics();
+        g2d.setColor(Color.WHITE);
+        g2d.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+        g2d.drawImage(image, 0, 0, null);
+        g2d.dispose();
+        return rgb;
+    }
+
     private BufferedImage createErrorScreenshot(String testName, String errorMessage) {
         BufferedImage image = new BufferedImage(800, 600, BufferedImage.TYPE_INT_RGB);
         Graphics2D g2d = image.createGraphics();
-        
+
         // Set background
         g2d.setColor(Color.WHITE);
         g2d.fillRect(0, 0, 800, 600);
-        
+
         // Set text properties
         g2d.setColor(Color.BLACK);
         g2d.setFont(new Font("Arial", Font.BOLD, 16));
-        
+
         // Draw test name
         g2d.drawString("Test Failed: " + testName, 20, 50);
-        
+
         // Draw error message (wrap text)
         g2d.setFont(new Font("Arial", Font.PLAIN, 12));
-        String[] words = errorMessage.split(" ");
+        String[] words = (errorMessage != null ? errorMessage : "").split(" ");
         int y = 100;
         StringBuilder line = new StringBuilder();
-        
+
         for (String word : words) {
             if (g2d.getFontMetrics().stringWidth(line + word + " ") < 750) {
                 line.append(word).append(" ");
@@ -122,13 +262,12 @@ public class ScreenshotService {
         if (line.length() > 0) {
             g2d.drawString(line.toString(), 20, y);
         }
-        
+
         g2d.dispose();
         return image;
     }
-    
+
     public String getScreenshotPath(String testName) {
         return SCREENSHOT_DIR + "/" + testName;
     }
 }
-
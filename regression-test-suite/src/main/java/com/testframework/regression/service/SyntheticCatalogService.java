@@ -0,0 +1,73 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.SyntheticWorkload;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+// Seeds and removes SYNTHETIC catalogs for scale measurements. Rows stream through the bulk import,
+// so 100k cases are written in batches without ever being held in memory.
+@Service
+public class SyntheticCatalogService {
+
+    public static final int MAX_COUNT = 200_000;
+    public static final String DEFAULT_PREFIX = "Synthetic";
+
+    private final TestCaseImportService testCaseImportService;
+    private final TestCaseService testCaseService;
+    private final JdbcTemplate jdbcTemplate;
+
+    public SyntheticCatalogService(TestCaseImportService testCaseImportService, TestCaseService testCaseService,
+                                   JdbcTemplate jdbcTemplate) {
+        this.testCaseImportService = testCaseImportService;
+        this.testCaseService = testCaseService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Names are <prefix>_000001..; tagged "synthetic" and "synthetic-<prefix>", plus any extra tags
+    public TestCaseImportService.ImportResult generate(int count, String spec, String prefix, String tags) {
+        if (count <= 0 || count > MAX_COUNT) throw new IllegalArgumentException("count must be between 1 and " + MAX_COUNT);
+        SyntheticWorkload.validate(spec);
+        String name = prefix(prefix);
+        String allTags = "synthetic,synthetic-" + name.toLowerCase(Locale.ROOT) + (tags == null || tags.isBlank() ? "" : "," + tags.trim());
+        String description = spec == null || spec.isBlank() ? SyntheticWorkload.DEFAULT_SPEC : spec.trim();
+        return testCaseImportService.importRows(() -> new Iterator<>() {
+            private int next = 1;
+
+            @Override
+            public boolean hasNext() {
+                return next <= count;
+            }
+
+            @Override
+            public TestCaseImportService.ImportRow next() {
+                if (next > count) throw new NoSuchElementException();
+                return new TestCaseImportService.ImportRow(String.format("%s_%06d", name, next++),
+                        TestType.SYNTHETIC.name(), description, allTags);
+            }
+        });
+    }
+
+    // Removes the prefix's synthetic cases and their results; returns the number of cases deleted
+    public int purge(String prefix) {
+        String pattern = prefix(prefix).replace("\\", "\\\\").replace("_", "\\_").replace("%", "\\%") + "\\_%";
+        jdbcTemplate.update("DELETE FROM test_results WHERE test_case_id IN"
+                + " (SELECT id FROM test_cases WHERE type = 'SYNTHETIC' AND name LIKE ?)", pattern);
+        int deleted = jdbcTemplate.update("DELETE FROM test_cases WHERE type = 'SYNTHETIC' AND name LIKE ?", pattern);
+        if (deleted > 0) {
+            testCaseService.invalidateCatalog();
+            System.out.println("🧹 Removed " + deleted + " synthetic test cases with prefix " + prefix(prefix));
+        }
+        return deleted;
+    }
+
+    private static String prefix(String prefix) {
+        String p = prefix == null || prefix.isBlank() ? DEFAULT_PREFIX : prefix.trim();
+        if (!p.matches("[A-Za-z0-9_-]{1,40}")) throw new IllegalArgumentException("prefix must be 1-40 letters, digits, '_' or '-'");
+        return p;
+    }
+}
@@ -0,0 +1,271 @@
+package com.testframework.regression.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.repository.TestCaseRepository;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+// Streaming, idempotent bulk upsert keyed on the unique test_cases.name column.
+// Rows are read one at a time and written in batches; the database settles name conflicts.
+@Service
+public class TestCaseImportService {
+
+    static final int BATCH_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 50;
+    private static final String UPSERT_SQL =
+            "INSERT INTO test_cases (name, type, description, tags, status) VALUES (?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE type = VALUES(type), description = VALUES(description), tags = VALUES(tags)";
+
+    private final TestCaseRepository testCaseRepository;
+    private final TestCaseService testCaseService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    public TestCaseImportService(TestCaseRepository testCaseRepository,
+                                 TestCaseService testCaseService,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate) {
+        this.testCaseRepository = testCaseRepository;
+        this.testCaseService = testCaseService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    // One JSON object per line: {"name":..., "type":"UI|API", "description":..., "tags":"a,b"}
+    public ImportResult importNdjson(InputStream in) throws IOException {
+        ImportResult result = new ImportResult();
+        List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        try (MappingIterator<ImportRow> rows = objectMapper.readerFor(ImportRow.class).readValues(in)) {
+            long line = 0;
+            while (true) {
+                line++;
+                ImportRow row;
+                try {
+                    if (!rows.hasNextValue()) break;
+                    row = rows.nextValue();
+                } catch (JsonProcessingException e) {
+                    // Malformed JSON cannot be resynchronised reliably; stop and report what was written
+                    result.reject(line, "unparseable JSON: " + e.getOriginalMessage());
+                    break;
+                }
+                row.setLine(line);
+                add(row, batch, result);
+            }
+        }
+        flush(batch, result);
+        return finish(result);
+    }
+
+    // Header row required: name,type,description,tags (description and tags optional)
+    public ImportResult importCsv(InputStream in) throws IOException {
+        ImportResult result = new ImportResult();
+        List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        CSVFormat format = CSVFormat.DEFAULT.builder()
+                .setHeader()
+                .setSkipHeaderRecord(true)
+                .setIgnoreSurroundingSpaces(true)
+                .setIgnoreEmptyLines(true)
+                .setIgnoreHeaderCase(true)
+                .build();
+        try (Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+             CSVParser parser = format.parse(reader)) {
+            if (!parser.getHeaderMap().containsKey("name") || !parser.getHeaderMap().containsKey("type")) {
+                result.reject(1, "CSV header must contain name and type columns");
+                return finish(result);
+            }
+            for (CSVRecord record : parser) {
+                ImportRow row = new ImportRow();
+                row.setLine(record.getRecordNumber() + 1);
+                row.setName(column(record, "name"));
+                row.setType(column(record, "type"));
+                row.setDescription(column(record, "description"));
+                row.setTags(column(record, "tags"));
+                add(row, batch, result);
+            }
+        }
+        flush(batch, result);
+        return finish(result);
+    }
+
+    // Programmatic entry point, e.g. seeding
+    public ImportResult importRows(Iterable<ImportRow> rows) {
+        ImportResult result = new ImportResult();
+        List<ImportRow> batch = new ArrayList<>(BATCH_SIZE);
+        long line = 0;
+        for (ImportRow row : rows) {
+            row.setLine(++line);
+            add(row, batch, result);
+        }
+        flush(batch, result);
+        return finish(result);
+    }
+
+    private static String column(CSVRecord record, String name) {
+        return record.isMapped(name) && record.isSet(name) ? record.get(name) : null;
+    }
+
+    private void add(ImportRow row, List<ImportRow> batch, ImportResult result) {
+        result.received++;
+        String error = normalize(row);
+        if (error != null) {
+            result.reject(row.getLine(), error);
+            return;
+        }
+        batch.add(row);
+        if (batch.size() >= BATCH_SIZE) {
+            flush(batch, result);
+        }
+    }
+
+    private static String normalize(ImportRow row) {
+        if (row.getName() == null || row.getName().isBlank()) return "name is required";
+        row.setName(row.getName().trim());
+        if (row.getName().length() > 255) return "name longer than 255 characters";
+        if (row.getType() == null) return "type is required";
+        try {
+            row.setType(TestType.valueOf(row.getType().trim().toUpperCase(Locale.ROOT)).name());
+        } catch (IllegalArgumentException e) {
+            return "unknown type '" + row.getType() + "'";
+        }
+        if (row.getDescription() != null && row.getDescription().length() > 2000) return "description longer than 2000 characters";
+        if (row.getTags() != null) {
+            String tags = row.getTags().trim().toLowerCase(Locale.ROOT);
+            row.setTags(tags.isEmpty() ? null : tags);
+        }
+        return null;
+    }
+
+    private void flush(List<ImportRow> batch, ImportResult result) {
+        if (batch.isEmpty()) return;
+        // Within a batch the last row for a name wins
+        Map<String, ImportRow> byName = new LinkedHashMap<>();
+        for (ImportRow row : batch) {
+            if (byName.put(row.getName(), row) != null) result.duplicates++;
+        }
+        batch.clear();
+
+        // One query to classify the whole batch; unchanged rows are not written at all
+        Map<String, Object[]> existing = new HashMap<>();
+        for (Object[] state : testCaseRepository.findImportStateByNameIn(byName.keySet())) {
+            existing.put((String) state[0], state);
+        }
+        List<ImportRow> writes = new ArrayList<>();
+        for (ImportRow row : byName.values()) {
+            Object[] state = existing.get(row.getName());
+            if (state != null && row.getType().equals(String.valueOf(state[1]))
+                    && Objects.equals(row.getDescription(), state[2]) && Objects.equals(row.getTags(), state[3])) {
+                result.unchanged++;
+            } else {
+                writes.add(row);
+            }
+        }
+        if (writes.isEmpty()) return;
+
+        int[] counts = transactionTemplate.execute(tx -> jdbcTemplate.batchUpdate(UPSERT_SQL, writes, writes.size(), (ps, row) -> {
+            ps.setString(1, row.getName());
+            ps.setString(2, row.getType());
+            ps.setString(3, row.getDescription());
+            ps.setString(4, row.getTags());
+            ps.setString(5, TestStatus.PENDING.name());
+        })[0]);
+        for (int i = 0; i < writes.size(); i++) {
+            // MySQL: 1 = inserted, 2 = updated, 0 = identical; with batch rewriting the driver reports no info
+            int count = counts != null && i < counts.length ? counts[i] : Statement.SUCCESS_NO_INFO;
+            if (count == 1) result.created++;
+            else if (count == 2) result.updated++;
+            else if (count == 0) result.unchanged++;
+            else if (existing.containsKey(writes.get(i).getName())) result.updated++;
+            else result.created++;
+        }
+        result.batches++;
+    }
+
+    private ImportResult finish(ImportResult result) {
+        if (result.created + result.updated > 0) {
+            testCaseService.invalidateCatalog();
+        }
+        System.out.println("📥 Test case import: " + result.received + " rows, " + result.created + " created, "
+                + result.updated + " updated, " + result.unchanged + " unchanged, " + result.invalid + " invalid");
+        return result;
+    }
+
+    public static class ImportRow {
+        private long line;
+        private String name;
+        private String type;
+        private String description;
+        private String tags;
+
+        public ImportRow() {}
+
+        public ImportRow(String name, String type, String description, String tags) {
+            this.name = name;
+            this.type = type;
+            this.description = description;
+            this.tags = tags;
+        }
+
+        public long getLine() { return line; }
+        public void setLine(long line) { this.line = line; }
+        public String getName() { return name; }
+        public void setName(String name) { this.name = name; }
+        public String getType() { return type; }
+        public void setType(String type) { this.type = type; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+        public String getTags() { return tags; }
+        public void setTags(String tags) { this.tags = tags; }
+    }
+
+    public static class ImportResult {
+        private long received;
+        private long created;
+        private long updated;
+        private long unchanged;
+        private long duplicates;
+        private long invalid;
+        private long batches;
+        private final List<String> errors = new ArrayList<>();
+
+        void reject(long line, String message) {
+            invalid++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add("row " + line + ": " + message);
+            }
+        }
+
+        public long getReceived() { return received; }
+        public long getCreated() { return created; }
+        public long getUpdated() { return updated; }
+        public long getUnchanged() { return unchanged; }
+        public long getDuplicates() { return duplicates; }
+        public long getInvalid() { return invalid; }
+        public long getBatches() { return batches; }
+        public List<String> getErrors() { return errors; }
+    }
+}
@@ -5,20 +5,26 @@ import com.testframework.regression.domain.TestType;
 import com.testframework.regression.repository.TestCaseRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
 public class TestCaseService {
 
     private final TestCaseRepository testCaseRepository;
+    private final TestCatalog testCatalog;
 
-    public TestCaseService(TestCaseRepository testCaseRepository) {
+    public TestCaseService(TestCaseRepository testCaseRepository, TestCatalog testCatalog) {
         this.testCaseRepository = testCaseRepository;
+        this.testCatalog = testCatalog;
     }
 
     public TestCase save(TestCase testCase) {
-        return testCaseRepository.save(testCase);
+        TestCase saved = testCaseRepository.save(testCase);
+        testCatalog.invalidate();
+        return saved;
     }
 
     public Optional<TestCase> findById(Long id) {
@@ -29,6 +35,24 @@ public class TestCaseService {
         return testCaseRepository.findAll();
     }
 
+    // Run setup: served from the catalog cache, misses fetched in one query
+    public List<TestCase> findAllById(Collection<Long> ids) {
+        return testCatalog.findAllById(ids);
+    }
+
+    public Map<String, TestCase> catalogByName() {
+        return testCatalog.byName();
+    }
+
+    public long catalogVersion() {
+        return testCatalog.getVersion();
+    }
+
+    // For writers that bypass save(), e.g. the bulk importer
+    public void invalidateCatalog() {
+        testCatalog.invalidate();
+    }
+
     public List<TestCase> findByType(TestType type) {
         return testCaseRepository.findByType(type);
     }
@@ -39,6 +63,7 @@ public class TestCaseService {
 
     public void delete(Long id) {
         testCaseRepository.deleteById(id);
+        testCatalog.invalidate();
     }
 }
 
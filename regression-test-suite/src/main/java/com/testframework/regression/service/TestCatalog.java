@@ -0,0 +1,110 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.repository.TestCaseRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+// In-memory test catalog for run setup. Entries are detached, shared and read-only: the engine only
+// reads id/name/type/description. Any save or delete through TestCaseService bumps the version.
+@Component
+public class TestCatalog {
+
+    private final TestCaseRepository testCaseRepository;
+    private final AtomicLong version = new AtomicLong();
+    private volatile Snapshot snapshot = Snapshot.empty(0);
+
+    public TestCatalog(TestCaseRepository testCaseRepository) {
+        this.testCaseRepository = testCaseRepository;
+    }
+
+    public synchronized void invalidate() {
+        snapshot = Snapshot.empty(version.incrementAndGet());
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    // Whole catalog, one query on a cold cache
+    public Map<String, TestCase> byName() {
+        return loadAll().byName;
+    }
+
+    public Optional<TestCase> findByName(String name) {
+        return Optional.ofNullable(loadAll().byName.get(name));
+    }
+
+    // Cached entries plus a single findAllById for the misses; input order kept, unknown ids skipped
+    public List<TestCase> findAllById(Collection<Long> ids) {
+        Snapshot current = snapshot;
+        Set<Long> misses = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id != null && !current.byId.containsKey(id)) misses.add(id);
+        }
+        if (!misses.isEmpty()) {
+            long startVersion = current.version;
+            List<TestCase> loaded = testCaseRepository.findAllById(misses);
+            current = install(current, loaded, false, startVersion);
+        }
+        List<TestCase> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TestCase tc = id != null ? current.byId.get(id) : null;
+            if (tc != null) result.add(tc);
+        }
+        return result;
+    }
+
+    private Snapshot loadAll() {
+        Snapshot current = snapshot;
+        if (current.complete) return current;
+        long startVersion = current.version;
+        return install(current, testCaseRepository.findAll(), true, startVersion);
+    }
+
+    // A load that raced an invalidation is still returned to its caller but never cached
+    private synchronized Snapshot install(Snapshot base, List<TestCase> loaded, boolean complete, long startVersion) {
+        Snapshot current = snapshot;
+        Snapshot source = (current.version == startVersion) ? current : base;
+        Map<Long, TestCase> byId = new HashMap<>(complete ? Map.of() : source.byId);
+        Map<String, TestCase> byName = new HashMap<>(complete ? Map.of() : source.byName);
+        for (TestCase tc : loaded) {
+            byId.put(tc.getId(), tc);
+            byName.put(tc.getName(), tc);
+        }
+        Snapshot next = new Snapshot(startVersion, Collections.unmodifiableMap(byId), Collections.unmodifiableMap(byName),
+                complete || source.complete);
+        if (version.get() == startVersion && current.version == startVersion) {
+            snapshot = next;
+        }
+        return next;
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Map<Long, TestCase> byId;
+        private final Map<String, TestCase> byName;
+        private final boolean complete;
+
+        Snapshot(long version, Map<Long, TestCase> byId, Map<String, TestCase> byName, boolean complete) {
+            this.version = version;
+            this.byId = byId;
+            this.byName = byName;
+            this.complete = complete;
+        }
+
+        static Snapshot empty(long version) {
+            return new Snapshot(version, Map.of(), Map.of(), false);
+        }
+    }
+}
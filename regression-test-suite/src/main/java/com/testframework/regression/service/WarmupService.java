@@ -0,0 +1,208 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.ApiHttpClient;
+import com.testframework.regression.engine.BrowserSessionPool;
+import com.testframework.regression.engine.CompiledApiTest;
+import com.testframework.regression.engine.LoadTestRunner;
+import com.testframework.regression.engine.TargetConfig;
+import com.testframework.regression.service.ExecutionService.ExecutionRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.sql.Connection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Gets this node ready for a queued run in the window before its scheduled time: catalog and API definitions
+// cached, database connections checked out and validated, one request per target host (DNS, TLS, keep-alive
+// and the HTTP client code paths), and the browser sessions the run will need already started.
+@Service
+public class WarmupService {
+
+    private final TestCaseService testCaseService;
+    private final ApiTestDefinitionService apiTestDefinitionService;
+    private final ApiHttpClient apiHttpClient;
+    private final BrowserSessionPool browserSessionPool;
+    private final TargetConfig targetConfig;
+    private final DataSource dataSource;
+    private final int windowSeconds;
+    private final int maxBrowsers;
+    private final int maxConnections;
+
+    public WarmupService(TestCaseService testCaseService,
+                         ApiTestDefinitionService apiTestDefinitionService,
+                         ApiHttpClient apiHttpClient,
+                         BrowserSessionPool browserSessionPool,
+                         TargetConfig targetConfig,
+                         DataSource dataSource,
+                         @Value("${warmup.windowSeconds:60}") int windowSeconds,
+                         @Value("${warmup.browser.maxSessions:4}") int maxBrowsers,
+                         @Value("${warmup.db.connections:4}") int maxConnections) {
+        this.testCaseService = testCaseService;
+        this.apiTestDefinitionService = apiTestDefinitionService;
+        this.apiHttpClient = apiHttpClient;
+        this.browserSessionPool = browserSessionPool;
+        this.targetConfig = targetConfig;
+        this.dataSource = dataSource;
+        this.windowSeconds = Math.max(0, windowSeconds);
+        this.maxBrowsers = Math.max(0, maxBrowsers);
+        this.maxConnections = Math.max(0, maxConnections);
+    }
+
+    // How long before its scheduled time a queued run's trigger fires; 0 disables the warm-up
+    public int getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    // Best effort: each step fails on its own, is logged, and the run still starts on time
+    public Summary warmUp(String executionId, List<Long> ids, ExecutionRequest request) {
+        long started = System.currentTimeMillis();
+        Summary summary = new Summary();
+
+        try {
+            apiTestDefinitionService.preload(ids);
+        } catch (Exception e) {
+            System.out.println("⚠️ Warm-up could not preload API test definitions: " + reason(e));
+        }
+        List<TestCase> testCases = List.of();
+        try {
+            testCases = testCaseService.findAllById(ids);
+        } catch (Exception e) {
+            System.out.println("⚠️ Warm-up could not load test cases: " + reason(e));
+        }
+        summary.setTests(testCases.size());
+
+        summary.setDbConnections(openConnections(Math.min(maxConnections, parallelism(request, testCases.size()))));
+
+        Set<String> httpOrigins = new LinkedHashSet<>();
+        int uiTests = 0;
+        for (TestCase testCase : testCases) {
+            if (testCase.getType() == TestType.UI) {
+                uiTests++;
+            } else if (testCase.getType() == TestType.API) {
+                try {
+                    Optional<CompiledApiTest> definition = apiTestDefinitionService.compiledFor(testCase.getId());
+                    // Tests without a valid definition fail without a request, so there is nothing to warm for them
+                    if (definition.isPresent() && definition.get().getError() == null) {
+                        String origin = origin(definition.get().url(new CompiledApiTest.Context(executionId, testCase.getId(), testCase.getName())));
+                        if (origin != null) httpOrigins.add(origin);
+                    }
+                } catch (Exception e) {
+                    System.out.println("⚠️ Warm-up could not resolve the host of test case " + testCase.getId() + ": " + reason(e));
+                }
+            }
+        }
+        summary.setHosts(warmHosts(httpOrigins));
+
+        if (uiTests > 0 && !LoadTestRunner.MODE.equalsIgnoreCase(request.getMode())) {
+            int sessions = Math.min(maxBrowsers, Math.min(uiTests, parallelism(request, uiTests)));
+            try {
+                summary.setBrowsers(browserSessionPool.prewarm(executionId, request.getHeadless(), sessions, targetConfig.blazeDemoUrl()));
+            } catch (Exception e) {
+                System.out.println("⚠️ Warm-up could not start browsers: " + reason(e));
+            }
+        }
+
+        summary.setDurationMs(System.currentTimeMillis() - started);
+        System.out.println("🔥 Warmed up " + executionId + " in " + summary.getDurationMs() + " ms: " + summary.getTests() + " tests, "
+                + summary.getDbConnections() + " DB connections, " + summary.getHosts() + " hosts, " + summary.getBrowsers() + " browsers");
+        return summary;
+    }
+
+    // Quits the browsers warmed up for the execution that its tests didn't take
+    public void release(String executionId) {
+        browserSessionPool.release(executionId);
+    }
+
+    // Tests the run will have in flight at once, mirroring the engine's defaults
+    private static int parallelism(ExecutionRequest request, int tests) {
+        if ("SEQUENTIAL".equalsIgnoreCase(request.getMode())) return 1;
+        Integer max = request.getMaxParallelTests();
+        return Math.max(1, max != null && max > 0 ? Math.min(max, tests) : Math.min(10, tests));
+    }
+
+    // Holds count connections at once, so the pool has that many validated before the run asks for them
+    private int openConnections(int count) {
+        if (count <= 0) return 0;
+        AtomicInteger opened = new AtomicInteger();
+        CountDownLatch allOpen = new CountDownLatch(count);
+        try (ExecutorService borrowers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < count; i++) {
+                borrowers.submit(() -> {
+                    try (Connection connection = dataSource.getConnection()) {
+                        if (connection.isValid(5)) opened.incrementAndGet();
+                        allOpen.countDown();
+                        allOpen.await(10, TimeUnit.SECONDS);
+                    } catch (Exception e) {
+                        allOpen.countDown();
+                        System.out.println("⚠️ Warm-up DB connection failed: " + reason(e));
+                    }
+                    return null;
+                });
+            }
+        }
+        return opened.get();
+    }
+
+    private int warmHosts(Set<String> httpOrigins) {
+        AtomicInteger reached = new AtomicInteger();
+        try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String origin : httpOrigins) {
+                requests.submit(() -> {
+                    try {
+                        // Any status will do: the pooled connection stays open for the run's requests
+                        apiHttpClient.send("GET", origin + "/", null, (byte[]) null);
+                        reached.incrementAndGet();
+                    } catch (Exception e) {
+                        System.out.println("⚠️ Warm-up request to " + origin + " failed: " + reason(e));
+                    }
+                });
+            }
+        }
+        return reached.get();
+    }
+
+    private static String reason(Exception e) {
+        return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+    }
+
+    private static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) return null;
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() >= 0 ? ":" + uri.getPort() : "");
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    public static class Summary {
+        private int tests;
+        private int dbConnections;
+        private int hosts;
+        private int browsers;
+        private long durationMs;
+
+        public int getTests() { return tests; }
+        public void setTests(int tests) { this.tests = tests; }
+        public int getDbConnections() { return dbConnections; }
+        public void setDbConnections(int dbConnections) { this.dbConnections = dbConnections; }
+        public int getHosts() { return hosts; }
+        public void setHosts(int hosts) { this.hosts = hosts; }
+        public int getBrowsers() { return browsers; }
+        public void setBrowsers(int browsers) { this.browsers = browsers; }
+        public long getDurationMs() { return durationMs; }
+        public void setDurationMs(long durationMs) { this.durationMs = durationMs; }
+    }
+}
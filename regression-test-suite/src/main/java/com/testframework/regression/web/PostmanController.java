@@ -0,0 +1,123 @@
+package com.testframework.regression.web;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.engine.PostmanCollection;
+import com.testframework.regression.engine.PostmanCollectionRunner;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/postman")
+public class PostmanController {
+
+    private static final String COLLECTION_SUFFIX = ".postman_collection.json";
+
+    private final PostmanCollectionRunner postmanCollectionRunner;
+    private final ExecutionRecordRepository executionRecordRepository;
+
+    public PostmanController(PostmanCollectionRunner postmanCollectionRunner, ExecutionRecordRepository executionRecordRepository) {
+        this.postmanCollectionRunner = postmanCollectionRunner;
+        this.executionRecordRepository = executionRecordRepository;
+    }
+
+    // Either an inline collection or the file name of a collection in the working directory
+    @PostMapping("/run")
+    public ResponseEntity<Map<String, Object>> run(@RequestBody PostmanRunRequest request) {
+        PostmanCollection collection;
+        try {
+            if (request.getCollection() != null && !request.getCollection().isNull()) {
+                collection = request.getCollection().isTextual()
+                        ? PostmanCollection.parse(request.getCollection().asText())
+                        : PostmanCollection.parse(request.getCollection());
+            } else if (request.getCollectionFile() != null) {
+                collection = PostmanCollection.parse(readCollectionFile(request.getCollectionFile()));
+            } else {
+                return ResponseEntity.badRequest().body(error("collection or collectionFile is required"));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+        if (collection.requestCount() == 0) {
+            return ResponseEntity.badRequest().body(error("collection contains no requests"));
+        }
+
+        String executionId = postmanCollectionRunner.start(collection, environment(request.getEnvironment()),
+                request.getConcurrency(), !Boolean.FALSE.equals(request.getRequireSuccessStatus()));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("executionId", executionId);
+        body.put("status", "STARTED");
+        body.put("collection", collection.getName());
+        body.put("requests", collection.requestCount());
+        return ResponseEntity.ok(body);
+    }
+
+    @GetMapping("/runs/{executionId}")
+    public ResponseEntity<ExecutionRecord> getRun(@PathVariable String executionId) {
+        return executionRecordRepository.findByExecutionId(executionId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Plain file names only, so the endpoint cannot be used to read arbitrary files
+    private static String readCollectionFile(String fileName) throws IOException {
+        if (fileName.contains("/") || fileName.contains("\\") || !fileName.endsWith(COLLECTION_SUFFIX)) {
+            throw new IllegalArgumentException("collectionFile must be a *" + COLLECTION_SUFFIX + " file name");
+        }
+        Path file = Paths.get(fileName).toAbsolutePath().normalize();
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("Collection file not found: " + fileName);
+        }
+        return Files.readString(file, StandardCharsets.UTF_8);
+    }
+
+    // Accepts a flat {"key":"value"} map or an exported Postman environment with a "values" array
+    private static Map<String, String> environment(JsonNode env) {
+        Map<String, String> values = new HashMap<>();
+        if (env == null || env.isNull()) return values;
+        if (env.path("values").isArray()) {
+            for (JsonNode v : env.path("values")) {
+                if (!v.path("enabled").asBoolean(true) || !v.hasNonNull("key")) continue;
+                values.put(v.get("key").asText(), v.path("value").asText(""));
+            }
+        } else {
+            env.fields().forEachRemaining(e -> values.put(e.getKey(), e.getValue().isValueNode() ? e.getValue().asText() : e.getValue().toString()));
+        }
+        return values;
+    }
+
+    private static Map<String, Object> error(String message) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("error", message);
+        return body;
+    }
+
+    public static class PostmanRunRequest {
+        private JsonNode collection;
+        private String collectionFile;
+        private JsonNode environment;
+        private Integer concurrency;
+        private Boolean requireSuccessStatus; // requests without a status check must return 2xx (default true)
+
+        public JsonNode getCollection() { return collection; }
+        public void setCollection(JsonNode collection) { this.collection = collection; }
+        public String getCollectionFile() { return collectionFile; }
+        public void setCollectionFile(String collectionFile) { this.collectionFile = collectionFile; }
+        public JsonNode getEnvironment() { return environment; }
+        public void setEnvironment(JsonNode environment) { this.environment = environment; }
+        public Integer getConcurrency() { return concurrency; }
+        public void setConcurrency(Integer concurrency) { this.concurrency = concurrency; }
+        public Boolean getRequireSuccessStatus() { return requireSuccessStatus; }
+        public void setRequireSuccessStatus(Boolean requireSuccessStatus) { this.requireSuccessStatus = requireSuccessStatus; }
+    }
+}
@@ -1,15 +1,34 @@
 package com.testframework.regression.web;
 
+import com.testframework.regression.domain.LoadTestResult;
+import com.testframework.regression.repository.LoadTestResultRepository;
+import com.testframework.regression.service.ArtifactService;
+import com.testframework.regression.service.ExecutionService;
+import com.testframework.regression.service.JUnitMerge;
 import com.testframework.regression.service.ReportService;
+import com.testframework.regression.service.TestCaseService;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -17,24 +36,43 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ArtifactService artifactService;
+    private final LoadTestResultRepository loadTestResultRepository;
+    private final ExecutionService executionService;
+    private final TestCaseService testCaseService;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService, ArtifactService artifactService,
+                            LoadTestResultRepository loadTestResultRepository, ExecutionService executionService,
+                            TestCaseService testCaseService) {
         this.reportService = reportService;
+        this.artifactService = artifactService;
+        this.loadTestResultRepository = loadTestResultRepository;
+        this.executionService = executionService;
+        this.testCaseService = testCaseService;
+    }
+
+    // Per test case latency percentiles, throughput and error rate of a LOAD run
+    @GetMapping("/load/{executionId}")
+    public ResponseEntity<List<LoadTestResult>> getLoadReport(@PathVariable String executionId) {
+        List<LoadTestResult> results = loadTestResultRepository.findByExecutionIdOrderByTestNameAsc(executionId);
+        if (results.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(results);
     }
 
     @GetMapping("/generate")
     public ResponseEntity<ReportResponse> generateReport(@RequestParam String executionId) {
         try {
-            String htmlReport = reportService.generateHTMLReport(executionId);
-            String csvReport = reportService.generateCSVReport(executionId);
-            String logs = reportService.collectLogs(executionId);
+            ReportService.ReportBundle bundle = reportService.generateReports(executionId);
 
             ReportResponse response = new ReportResponse();
             response.setExecutionId(executionId);
             response.setStatus("SUCCESS");
-            response.setHtmlReportPath(htmlReport);
-            response.setCsvReportPath(csvReport);
-            response.setLogsPath(logs);
+            response.setHtmlReportPath(bundle.getHtmlReportPath());
+            response.setCsvReportPath(bundle.getCsvReportPath());
+            response.setJunitReportPath(bundle.getJunitReportPath());
+            response.setLogsPath(bundle.getLogsPath());
             response.setMessage("Reports generated successfully");
 
             return ResponseEntity.ok(response);
@@ -48,41 +86,154 @@ public class ReportController {
     }
 
     @GetMapping("/{executionId}/download")
-    public ResponseEntity<FileSystemResource> downloadReport(@PathVariable String executionId,
-                                                             @RequestParam(name = "type", defaultValue = "html") String type) {
+    public ResponseEntity<Resource> downloadReport(@PathVariable String executionId,
+                                                   @RequestParam(name = "type", defaultValue = "html") String type,
+                                                   @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                   @RequestHeader(name = HttpHeaders.RANGE, required = false) String range) throws IOException {
+        // Served from the report cache; only re-rendered when the execution's results changed
+        ReportService.ReportBundle bundle = reportService.generateReports(executionId);
         String path;
         if ("csv".equalsIgnoreCase(type)) {
-            path = reportService.generateCSVReport(executionId);
+            path = bundle.getCsvReportPath();
         } else if ("junit".equalsIgnoreCase(type)) {
-            path = reportService.generateJUnitReport(executionId);
+            path = bundle.getJunitReportPath();
         } else {
-            path = reportService.generateHTMLReport(executionId);
+            path = bundle.getHtmlReportPath();
         }
-        FileSystemResource resource = new FileSystemResource(path);
-        String filename = resource.getFilename();
         MediaType mediaType = MediaType.APPLICATION_OCTET_STREAM;
         if ("csv".equalsIgnoreCase(type)) mediaType = MediaType.TEXT_PLAIN;
         else if ("html".equalsIgnoreCase(type)) mediaType = MediaType.TEXT_HTML;
         else if ("junit".equalsIgnoreCase(type)) mediaType = MediaType.APPLICATION_XML;
+        return serveFile(Paths.get(path), Paths.get(path).getFileName().toString(), mediaType, acceptEncoding, range);
+    }
+
+    // Renders straight from the result cursor into the response; nothing is buffered or written to disk.
+    // JUnit isn't streamable: its totals go on the opening <testsuite> tag, so it is served by /download only.
+    @GetMapping("/{executionId}/stream")
+    public ResponseEntity<?> streamReport(@PathVariable String executionId,
+                                          @RequestParam(name = "type", defaultValue = "html") String type) {
+        if (!ReportService.isStreamable(type)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Unsupported stream type '" + type
+                    + "': use html, csv or logs, or /reports/" + executionId + "/download?type=junit for JUnit XML"));
+        }
+        MediaType mediaType = MediaType.TEXT_HTML;
+        if ("csv".equalsIgnoreCase(type) || "logs".equalsIgnoreCase(type)) mediaType = MediaType.TEXT_PLAIN;
+        StreamingResponseBody body = out -> reportService.streamReport(executionId, type, out);
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
                 .contentType(mediaType)
-                .body(resource);
+                .body(body);
     }
 
     @GetMapping("/artifacts/{executionId}/{testCaseId}/{file}")
-    public ResponseEntity<FileSystemResource> downloadArtifact(@PathVariable String executionId,
-                                                               @PathVariable Long testCaseId,
-                                                               @PathVariable String file) {
-        String path = "artifacts/" + executionId + "/" + testCaseId + "/" + file;
-        FileSystemResource resource = new FileSystemResource(path);
-        if (!resource.exists()) {
+    public ResponseEntity<Resource> downloadArtifact(@PathVariable String executionId,
+                                                     @PathVariable Long testCaseId,
+                                                     @PathVariable String file,
+                                                     @RequestHeader(name = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                     @RequestHeader(name = HttpHeaders.RANGE, required = false) String range) throws IOException {
+        Path path = artifactService.resolve(executionId, testCaseId, file);
+        if (path == null) {
             return ResponseEntity.notFound().build();
         }
+        // Stored artifacts resolve to a content-addressed blob; the download keeps the logical name
+        MediaType mediaType = MediaTypeFactory.getMediaType(file).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        return serveFile(path, file, mediaType, acceptEncoding, range);
+    }
+
+    // All screenshots and request/response JSON of one execution in a single streamed download
+    @GetMapping("/artifacts/{executionId}/bundle.zip")
+    public ResponseEntity<StreamingResponseBody> downloadArtifactBundle(@PathVariable String executionId) {
+        if (!artifactService.hasArtifacts(executionId)) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = out -> artifactService.writeZip(executionId, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("artifacts_" + executionId + ".zip").build().toString())
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .body(body);
+    }
+
+    // Spring answers If-None-Match / If-Modified-Since with 304 and Range with 206 for Resource bodies
+    private ResponseEntity<Resource> serveFile(Path file, String filename, MediaType mediaType, String acceptEncoding, String range) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return ResponseEntity.notFound().build();
+        }
+        Path body = file;
+        boolean gzip = false;
+        // Byte ranges refer to the identity encoding, so ranged requests never get the gzip variant
+        if (range == null && acceptsGzip(acceptEncoding)) {
+            Path gz = artifactService.gzipVariant(file);
+            if (gz != null) {
+                body = gz;
+                gzip = true;
+            }
+        }
+        BasicFileAttributes attrs = Files.readAttributes(body, BasicFileAttributes.class);
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(attrs.size()) + "-" + Long.toHexString(lastModified) + (gzip ? "-gz" : "") + "\"";
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(etag)
+                .lastModified(lastModified)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename).build().toString())
+                .contentType(mediaType);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(new FileSystemResource(body));
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) return false;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!"gzip".equalsIgnoreCase(tokens[0].trim()) && !"*".equals(tokens[0].trim())) continue;
+            // gzip;q=0 explicitly refuses the encoding
+            return tokens.length < 2 || !tokens[1].replace(" ", "").matches("q=0(\\.0*)?");
+        }
+        return false;
+    }
+
+    // One report for a sharded run: upload every shard's JUnit XML as "files". With the shards' suiteId or
+    // tagExpression, planned tests that no shard reported are added as errors.
+    @PostMapping(value = "/junit/merge", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> mergeJUnit(@RequestParam("files") List<MultipartFile> files,
+                                        @RequestParam(required = false) String suiteId,
+                                        @RequestParam(required = false) String tagExpression) {
+        if (files.isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of("error", "No reports uploaded"));
+        }
+        Map<String, InputStream> reports = new LinkedHashMap<>();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JUnitMerge.Summary summary;
+        try {
+            List<String> expected = null;
+            if (suiteId != null || tagExpression != null) {
+                ExecutionService.ExecutionRequest selection = new ExecutionService.ExecutionRequest();
+                selection.setSuiteId(suiteId);
+                selection.setTagExpression(tagExpression);
+                expected = testCaseService.findAllById(executionService.resolve(selection)).stream().map(JUnitMerge::key).toList();
+            }
+            for (int i = 0; i < files.size(); i++) {
+                reports.put(JUnitMerge.label(files.get(i).getOriginalFilename(), i, reports), files.get(i).getInputStream());
+            }
+            summary = JUnitMerge.merge(reports, out, expected);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Could not merge reports: " + e.getMessage()));
+        }
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + resource.getFilename())
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .body(resource);
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("junit-merged.xml").build().toString())
+                .header("X-Tests", String.valueOf(summary.getTests()))
+                .header("X-Failures", String.valueOf(summary.getFailures() + summary.getErrors()))
+                // Non-zero when the shards didn't agree on the split
+                .header("X-Duplicate-Tests", String.valueOf(summary.getDuplicates()))
+                .header("X-Missing-Tests", String.valueOf(summary.getMissing().size()))
+                .contentType(MediaType.APPLICATION_XML)
+                .body(out.toByteArray());
     }
 
     @PostMapping("/collect")
@@ -106,6 +257,7 @@ public class ReportController {
         private String status;
         private String htmlReportPath;
         private String csvReportPath;
+        private String junitReportPath;
         private String logsPath;
         private String message;
 
@@ -117,6 +269,8 @@ public class ReportController {
         public void setHtmlReportPath(String htmlReportPath) { this.htmlReportPath = htmlReportPath; }
         public String getCsvReportPath() { return csvReportPath; }
         public void setCsvReportPath(String csvReportPath) { this.csvReportPath = csvReportPath; }
+        public String getJunitReportPath() { return junitReportPath; }
+        public void setJunitReportPath(String junitReportPath) { this.junitReportPath = junitReportPath; }
         public String getLogsPath() { return logsPath; }
         public void setLogsPath(String logsPath) { this.logsPath = logsPath; }
         public String getMessage() { return message; }
@@ -0,0 +1,80 @@
+package com.testframework.regression.web;
+
+import com.testframework.regression.scheduler.ScheduleService;
+import com.testframework.regression.scheduler.ScheduleService.ScheduleDefinition;
+import com.testframework.regression.service.ExecutionService;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Named, persistent schedules (cron or one-shot) shared by every node; each fire runs on exactly one node
+@RestController
+@Profile("!cli")
+@RequestMapping("/schedules")
+public class ScheduleDefinitionController {
+
+    private final ScheduleService scheduleService;
+    private final ExecutionService executionService;
+
+    public ScheduleDefinitionController(ScheduleService scheduleService, ExecutionService executionService) {
+        this.scheduleService = scheduleService;
+        this.executionService = executionService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<ScheduleDefinition>> listSchedules() {
+        return ResponseEntity.ok(scheduleService.list());
+    }
+
+    @GetMapping("/{name}")
+    public ResponseEntity<ScheduleDefinition> getSchedule(@PathVariable String name) {
+        return scheduleService.get(name)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    // Creates or replaces; a paused schedule stays paused
+    @PutMapping("/{name}")
+    public ResponseEntity<?> saveSchedule(@PathVariable String name, @RequestBody ScheduleDefinition definition) {
+        try {
+            if (definition.getRequest() != null) {
+                executionService.resolve(definition.getRequest()); // rejects bad tag expressions and LOAD profiles now, not at 3 AM
+            }
+            return ResponseEntity.ok(scheduleService.save(name, definition));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+
+    @DeleteMapping("/{name}")
+    public ResponseEntity<Void> deleteSchedule(@PathVariable String name) {
+        return scheduleService.delete(name) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{name}/pause")
+    public ResponseEntity<ScheduleDefinition> pauseSchedule(@PathVariable String name) {
+        return scheduleService.pause(name) ? getSchedule(name) : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/{name}/resume")
+    public ResponseEntity<ScheduleDefinition> resumeSchedule(@PathVariable String name) {
+        return scheduleService.resume(name) ? getSchedule(name) : ResponseEntity.notFound().build();
+    }
+
+    // Fires once now, in addition to the regular schedule
+    @PostMapping("/{name}/run")
+    public ResponseEntity<Void> runSchedule(@PathVariable String name) {
+        return scheduleService.runNow(name) ? ResponseEntity.accepted().build() : ResponseEntity.notFound().build();
+    }
+
+    private static Map<String, String> error(String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("status", "INVALID");
+        body.put("message", message);
+        return body;
+    }
+}
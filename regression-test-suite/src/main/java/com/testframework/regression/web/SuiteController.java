@@ -0,0 +1,129 @@
+package com.testframework.regression.web;
+
+import com.testframework.regression.domain.SuiteDefinition;
+import com.testframework.regression.engine.ShardPlanner;
+import com.testframework.regression.engine.SuiteRegistry;
+import com.testframework.regression.engine.TagExpression;
+import com.testframework.regression.engine.TagIndex;
+import com.testframework.regression.repository.SuiteDefinitionRepository;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.OffsetDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/suites")
+public class SuiteController {
+
+    private final SuiteRegistry suiteRegistry;
+    private final SuiteDefinitionRepository suiteDefinitionRepository;
+    private final TagIndex tagIndex;
+    private final ShardPlanner shardPlanner;
+
+    public SuiteController(SuiteRegistry suiteRegistry, SuiteDefinitionRepository suiteDefinitionRepository, TagIndex tagIndex,
+                           ShardPlanner shardPlanner) {
+        this.suiteRegistry = suiteRegistry;
+        this.suiteDefinitionRepository = suiteDefinitionRepository;
+        this.tagIndex = tagIndex;
+        this.shardPlanner = shardPlanner;
+    }
+
+    @GetMapping
+    public ResponseEntity<Map<String, String>> listSuites() {
+        return ResponseEntity.ok(suiteRegistry.listSuites());
+    }
+
+    @GetMapping("/tags")
+    public ResponseEntity<Map<String, Integer>> listTags() {
+        return ResponseEntity.ok(tagIndex.tagCounts());
+    }
+
+    // With shardIndex/shardCount (and historyBefore): only that shard's tests, as /schedule/run would run them
+    @GetMapping("/{suiteId}/tests")
+    public ResponseEntity<?> resolveSuite(@PathVariable String suiteId,
+                                          @RequestParam(required = false) Integer shardIndex,
+                                          @RequestParam(required = false) Integer shardCount,
+                                          @RequestParam(required = false) String historyBefore) {
+        List<Long> ids = suiteRegistry.resolveSuiteToTestCaseIds(suiteId).orElse(List.of());
+        if (shardIndex == null && shardCount == null) {
+            return ResponseEntity.ok(ids);
+        }
+        try {
+            if (shardIndex == null || shardCount == null) {
+                throw new IllegalArgumentException("shardIndex and shardCount go together");
+            }
+            return ResponseEntity.ok(shardPlanner.shard(ids, shardIndex, shardCount, ShardPlanner.parseHistoryBefore(historyBefore)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+
+    // Every shard of the suite with its expected time, to check the balance before splitting a CI job
+    @GetMapping("/{suiteId}/shards")
+    public ResponseEntity<?> planShards(@PathVariable String suiteId, @RequestParam int count,
+                                        @RequestParam(required = false) String historyBefore) {
+        try {
+            return ResponseEntity.ok(shardPlanner.plan(suiteRegistry.resolveSuiteToTestCaseIds(suiteId).orElse(List.of()), count,
+                    ShardPlanner.parseHistoryBefore(historyBefore)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+
+    // Preview what an expression selects before saving it as a suite
+    @GetMapping("/select")
+    public ResponseEntity<?> select(@RequestParam("expression") String expression) {
+        try {
+            return ResponseEntity.ok(suiteRegistry.select(expression));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+    }
+
+    @PutMapping("/{suiteId}")
+    public ResponseEntity<?> saveSuite(@PathVariable String suiteId, @RequestBody SuiteRequest request) {
+        try {
+            TagExpression.parse(request.getExpression());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(error(e.getMessage()));
+        }
+        String name = suiteId.toUpperCase(Locale.ROOT);
+        SuiteDefinition def = suiteDefinitionRepository.findByName(name).orElseGet(SuiteDefinition::new);
+        def.setName(name);
+        def.setExpression(request.getExpression().trim());
+        def.setDescription(request.getDescription());
+        def.setUpdatedAt(OffsetDateTime.now());
+        return ResponseEntity.ok(suiteDefinitionRepository.save(def));
+    }
+
+    @DeleteMapping("/{suiteId}")
+    public ResponseEntity<Void> deleteSuite(@PathVariable String suiteId) {
+        return suiteDefinitionRepository.findByName(suiteId.toUpperCase(Locale.ROOT))
+                .map(def -> {
+                    suiteDefinitionRepository.delete(def);
+                    return ResponseEntity.noContent().<Void>build();
+                })
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static Map<String, String> error(String message) {
+        Map<String, String> body = new HashMap<>();
+        body.put("status", "INVALID");
+        body.put("message", message);
+        return body;
+    }
+
+    public static class SuiteRequest {
+        private String expression;
+        private String description;
+
+        public String getExpression() { return expression; }
+        public void setExpression(String expression) { this.expression = expression; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+    }
+}
@@ -1,14 +1,23 @@
 package com.testframework.regression.web;
 
+import com.testframework.regression.domain.ApiTestDefinition;
 import com.testframework.regression.domain.TestCase;
 import com.testframework.regression.domain.TestResult;
 import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.BrowserBackend;
 import com.testframework.regression.engine.TestIntegrationEngine;
+import com.testframework.regression.service.ApiTestDefinitionService;
+import com.testframework.regression.service.SyntheticCatalogService;
+import com.testframework.regression.service.TestCaseImportService;
 import com.testframework.regression.service.TestCaseService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/tests")
@@ -16,10 +25,20 @@ public class TestController {
 
     private final TestCaseService testCaseService;
     private final TestIntegrationEngine testIntegrationEngine;
+    private final TestCaseImportService testCaseImportService;
+    private final ApiTestDefinitionService apiTestDefinitionService;
+    private final SyntheticCatalogService syntheticCatalogService;
+    private final BrowserBackend browserBackend;
 
-    public TestController(TestCaseService testCaseService, TestIntegrationEngine testIntegrationEngine) {
+    public TestController(TestCaseService testCaseService, TestIntegrationEngine testIntegrationEngine,
+                          TestCaseImportService testCaseImportService, ApiTestDefinitionService apiTestDefinitionService,
+                          SyntheticCatalogService syntheticCatalogService, BrowserBackend browserBackend) {
         this.testCaseService = testCaseService;
         this.testIntegrationEngine = testIntegrationEngine;
+        this.testCaseImportService = testCaseImportService;
+        this.apiTestDefinitionService = apiTestDefinitionService;
+        this.syntheticCatalogService = syntheticCatalogService;
+        this.browserBackend = browserBackend;
     }
 
     // Test Integration Engine APIs
@@ -29,7 +48,8 @@ public class TestController {
             TestCase testCase = testIntegrationEngine.createTestCase(
                 request.getName(), 
                 request.getType(), 
-                request.getDescription()
+                request.getDescription(),
+                request.getTags()
             );
             return ResponseEntity.ok(testCase);
         } catch (Exception e) {
@@ -38,6 +58,54 @@ public class TestController {
         }
     }
 
+    // Bulk upsert by name: NDJSON (application/x-ndjson) or CSV (text/csv), streamed and written in batches
+    @PostMapping("/import")
+    public ResponseEntity<?> importTestCases(InputStream body,
+                                             @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                             @RequestParam(name = "format", required = false) String format) {
+        String kind = format != null ? format : (contentType != null ? contentType : "");
+        try {
+            TestCaseImportService.ImportResult result = kind.toLowerCase(Locale.ROOT).contains("csv")
+                    ? testCaseImportService.importCsv(body)
+                    : testCaseImportService.importNdjson(body);
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest()
+                .body("Import failed: " + e.getMessage());
+        }
+    }
+
+    // Seeds a SYNTHETIC catalog for scale measurements, e.g. ?count=100000&spec=sleep:5
+    @PostMapping("/synthetic")
+    public ResponseEntity<?> generateSynthetic(@RequestParam int count,
+                                               @RequestParam(required = false) String spec,
+                                               @RequestParam(required = false) String prefix,
+                                               @RequestParam(required = false) String tags) {
+        try {
+            return ResponseEntity.ok(syntheticCatalogService.generate(count, spec, prefix, tags));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/synthetic")
+    public ResponseEntity<?> purgeSynthetic(@RequestParam(required = false) String prefix) {
+        try {
+            return ResponseEntity.ok(Map.of("deleted", syntheticCatalogService.purge(prefix)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Free Chrome slots per Grid or standalone endpoint (selenium.backend=remote)
+    @GetMapping("/browsers")
+    public ResponseEntity<?> browsers() {
+        if (!browserBackend.isRemote()) {
+            return ResponseEntity.ok(Map.of("backend", "local"));
+        }
+        return ResponseEntity.ok(Map.of("backend", "remote", "endpoints", browserBackend.capacity()));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<TestCase> getTestCase(@PathVariable Long id) {
         TestCase testCase = testIntegrationEngine.getTestCase(id);
@@ -47,6 +115,35 @@ public class TestController {
         return ResponseEntity.notFound().build();
     }
 
+    // Declarative API test attached to a test case; an API test case without one fails when run
+    @GetMapping("/{id}/api-definition")
+    public ResponseEntity<ApiTestDefinition> getApiDefinition(@PathVariable Long id) {
+        return apiTestDefinitionService.find(id)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PutMapping("/{id}/api-definition")
+    public ResponseEntity<?> saveApiDefinition(@PathVariable Long id, @RequestBody ApiTestDefinition request) {
+        TestCase testCase = testIntegrationEngine.getTestCase(id);
+        if (testCase == null) {
+            return ResponseEntity.notFound().build();
+        }
+        if (testCase.getType() != TestType.API) {
+            return ResponseEntity.badRequest().body("Test case " + id + " is not an API test");
+        }
+        try {
+            return ResponseEntity.ok(apiTestDefinitionService.save(testCase, request));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid API test definition: " + e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/{id}/api-definition")
+    public ResponseEntity<Void> deleteApiDefinition(@PathVariable Long id) {
+        return apiTestDefinitionService.delete(id) ? ResponseEntity.noContent().build() : ResponseEntity.notFound().build();
+    }
+
     @GetMapping
     public ResponseEntity<List<TestCase>> getAllTestCases() {
         return ResponseEntity.ok(testIntegrationEngine.getAllTestCases());
@@ -68,6 +165,7 @@ public class TestController {
         private String name;
         private TestType type;
         private String description;
+        private String tags; // comma-separated
 
         public String getName() { return name; }
         public void setName(String name) { this.name = name; }
@@ -75,5 +173,7 @@ public class TestController {
         public void setType(TestType type) { this.type = type; }
         public String getDescription() { return description; }
         public void setDescription(String description) { this.description = description; }
+        public String getTags() { return tags; }
+        public void setTags(String tags) { this.tags = tags; }
     }
 }
\ No newline at end of file
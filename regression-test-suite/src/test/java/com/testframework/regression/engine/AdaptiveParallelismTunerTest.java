@@ -0,0 +1,120 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import org.testng.annotations.Test;
+
+import java.util.Optional;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+// AIMD steps of the adaptive parallelism controller; host saturation is stubbed, so the host's load doesn't matter
+public class AdaptiveParallelismTunerTest {
+
+    @Test
+    public void startsFromTheLastRecordedLevelWithinTheRange() {
+        ExecutionRecordRepository records = records(6);
+        AdaptiveParallelismTuner tuner = tuner(records);
+
+        assertEquals(tuner.startSession("exec-1", null).currentLimit(), 6);
+        // A smaller maxParallelTests caps the remembered level
+        AdaptiveParallelismTuner.Session capped = tuner.startSession("exec-2", 3);
+        assertEquals(capped.currentLimit(), 3);
+        assertEquals(capped.getCeiling(), 3);
+
+        // No earlier adaptive run: the configured initial level
+        assertEquals(tuner(records(null)).startSession("exec-3", null).currentLimit(), 2);
+    }
+
+    @Test
+    public void increasesByOneAndHalvesOnSaturation() {
+        AdaptiveParallelismTuner tuner = tuner(records(4));
+        AdaptiveParallelismTuner.Session session = tuner.startSession("exec-1", null);
+
+        round(session, 4, 0);
+        assertEquals(session.currentLimit(), 5, "a healthy first round adds one");
+
+        doReturn("cpu=0.97").when(tuner).saturationReason();
+        round(session, 5, 0);
+        assertEquals(session.currentLimit(), 2, "saturation halves the limit, rounding down");
+
+        session.onIdleTick();
+        assertEquals(session.currentLimit(), 1, "saturation is also checked between completions");
+
+        doReturn(null).when(tuner).saturationReason();
+        round(session, 2, 0);
+        assertEquals(session.currentLimit(), 2, "the first round after an idle back-off adds one again");
+    }
+
+    @Test
+    public void backsOffWhenTheTimeoutRateRises() {
+        AdaptiveParallelismTuner tuner = tuner(records(8));
+        AdaptiveParallelismTuner.Session session = tuner.startSession("exec-1", null);
+
+        round(session, 8, 2);
+        assertEquals(session.currentLimit(), 4);
+        // The same rate again is not a rise
+        round(session, 4, 1);
+        assertTrue(session.currentLimit() >= 4, "backed off again at limit " + session.currentLimit());
+    }
+
+    @Test
+    public void staysWithinTheFloorAndCeiling() {
+        ExecutionRecordRepository records = records(2);
+        AdaptiveParallelismTuner tuner = tuner(records);
+        AdaptiveParallelismTuner.Session session = tuner.startSession("exec-1", 2);
+
+        round(session, 2, 0);
+        assertEquals(session.currentLimit(), 2, "already at maxParallelTests");
+
+        doReturn("load/core=3.10").when(tuner).saturationReason();
+        session.onIdleTick();
+        assertEquals(session.currentLimit(), 1);
+        session.onIdleTick();
+        assertEquals(session.currentLimit(), 1, "never below the minimum level");
+
+        ExecutionRecord record = new ExecutionRecord();
+        when(records.findByExecutionId("exec-1")).thenReturn(Optional.of(record));
+        assertEquals(session.finish(), 1);
+        verify(records).save(record);
+        assertEquals(record.getParallelismLevel(), Integer.valueOf(1), "the next run starts from here");
+    }
+
+    private static void round(AdaptiveParallelismTuner.Session session, int completed, int timeouts) {
+        for (int i = 0; i < completed; i++) {
+            TestResult result = new TestResult();
+            result.setStatus(i < timeouts ? TestStatus.FAILED : TestStatus.PASSED);
+            if (i < timeouts) result.setMessage("Timed out after 30s waiting for element");
+            session.onTestCompleted(result);
+        }
+    }
+
+    private static AdaptiveParallelismTuner tuner(ExecutionRecordRepository records) {
+        ParallelismConfig config = mock(ParallelismConfig.class);
+        when(config.getInitialLevel()).thenReturn(2);
+        when(config.getMinLevel()).thenReturn(1);
+        when(config.getMaxLevel()).thenReturn(16);
+        when(config.getBackoffFactor()).thenReturn(0.5);
+        when(config.getTimeoutRateTolerance()).thenReturn(0.05);
+        AdaptiveParallelismTuner tuner = spy(new AdaptiveParallelismTuner(config, records));
+        doReturn(null).when(tuner).saturationReason();
+        return tuner;
+    }
+
+    private static ExecutionRecordRepository records(Integer lastLevel) {
+        ExecutionRecordRepository records = mock(ExecutionRecordRepository.class);
+        ExecutionRecord last = new ExecutionRecord();
+        last.setParallelismLevel(lastLevel);
+        when(records.findFirstByParallelismLevelIsNotNullOrderByIdDesc())
+                .thenReturn(lastLevel == null ? Optional.empty() : Optional.of(last));
+        return records;
+    }
+}
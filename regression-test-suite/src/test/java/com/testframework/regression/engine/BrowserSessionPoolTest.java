@@ -0,0 +1,44 @@
+package com.testframework.regression.engine;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+// Warmed-up sessions belong to the execution they were started for; no browser needed
+public class BrowserSessionPoolTest {
+
+    @Test
+    public void warmSessionsOnlyGoToTheirOwnExecution() {
+        BrowserBackend backend = mock(BrowserBackend.class);
+        WebDriver warmA = mock(WebDriver.class);
+        WebDriver warmB = mock(WebDriver.class);
+        WebDriver cold = mock(WebDriver.class);
+        when(backend.start(true, "run-1")).thenReturn(warmA, warmB, cold);
+        when(backend.start(true, "run-2")).thenReturn(cold);
+        when(backend.start(true, null)).thenReturn(cold);
+        when(backend.start(false, "run-1")).thenReturn(cold);
+        BrowserSessionPool pool = new BrowserSessionPool(backend, 300);
+
+        assertEquals(pool.prewarm("run-1", true, 2, null), 2);
+        verify(backend, times(2)).start(true, "run-1"); // on the Grid node the run will use
+
+        assertEquals(pool.acquire(true, "run-2"), cold);
+        assertEquals(pool.acquire(true), cold);
+        assertEquals(pool.acquire(false, "run-1"), cold);
+        assertEquals(pool.idleCount(), 2);
+
+        WebDriver taken = pool.acquire(true, "run-1");
+        assertTrue(taken == warmA || taken == warmB);
+        assertEquals(pool.idleCount(), 1);
+
+        pool.release("run-1");
+        assertEquals(pool.idleCount(), 0);
+        verify(taken == warmA ? warmB : warmA).quit();
+    }
+}
@@ -0,0 +1,104 @@
+package com.testframework.regression.engine;
+
+import org.testng.annotations.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+
+// Histogram slot arithmetic and percentiles, and the open-model arrival schedule of LoadTestRunner
+public class LatencyHistogramTest {
+
+    @Test
+    public void smallValuesHaveTheirOwnSlotAndLargerOnesShareWithinOnePercent() {
+        for (long v = 0; v < 256; v++) {
+            assertEquals(LatencyHistogram.indexOf(v), (int) v);
+            assertEquals(LatencyHistogram.highestEquivalent((int) v), v);
+        }
+        // From 256us on, two values per slot, then four, and so on
+        assertEquals(LatencyHistogram.indexOf(256), 256);
+        assertEquals(LatencyHistogram.indexOf(257), 256);
+        assertEquals(LatencyHistogram.indexOf(258), 257);
+        assertEquals(LatencyHistogram.highestEquivalent(256), 257);
+
+        int previous = -1;
+        for (long v = 1; v <= LatencyHistogram.MAX_TRACKABLE_MICROS; v = v * 21 / 20 + 1) {
+            int index = LatencyHistogram.indexOf(v);
+            long reported = LatencyHistogram.highestEquivalent(index);
+            assertTrue(index >= previous, "slots must not go backwards at " + v);
+            assertTrue(reported >= v && reported - v <= v / 100, v + "us reported as " + reported + "us");
+            assertEquals(LatencyHistogram.indexOf(reported), index, "highest equivalent of " + v + " is in its slot");
+            previous = index;
+        }
+    }
+
+    @Test
+    public void percentilesAreWithinOnePercentAndNeverAboveTheMax() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(histogram.percentileMicros(99), 0);
+        for (long v = 1; v <= 10_000; v++) histogram.record(v);
+
+        assertEquals(histogram.count(), 10_000);
+        assertEquals(histogram.meanMicros(), 5000.5, 1e-9);
+        assertWithinOnePercent(histogram.percentileMicros(50), 5_000);
+        assertWithinOnePercent(histogram.percentileMicros(99), 9_900);
+        assertEquals(histogram.percentileMicros(100), 10_000, "the top slot is capped at the recorded max");
+        assertEquals(histogram.percentileMicros(0), 1);
+    }
+
+    @Test
+    public void outOfRangeValuesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(LatencyHistogram.MAX_TRACKABLE_MICROS * 2);
+        assertEquals(histogram.count(), 2);
+        assertEquals(histogram.percentileMicros(50), 0);
+        assertEquals(histogram.maxMicros(), LatencyHistogram.MAX_TRACKABLE_MICROS);
+    }
+
+    @Test
+    public void encodedHistogramsMergeLikeTheOriginals() {
+        LatencyHistogram fast = new LatencyHistogram();
+        LatencyHistogram slow = new LatencyHistogram();
+        for (int i = 0; i < 900; i++) fast.record(2_000 + i);
+        for (int i = 0; i < 100; i++) slow.record(250_000 + i * 100);
+
+        LatencyHistogram merged = LatencyHistogram.decode(fast.encode());
+        merged.add(LatencyHistogram.decode(slow.encode()));
+        assertEquals(merged.count(), 1000);
+        assertWithinOnePercent(merged.percentileMicros(50), 2_499); // 500th of 1000: the 500th fast value
+        assertWithinOnePercent(merged.percentileMicros(95), slow.percentileMicros(50));
+        assertEquals(merged.encode().split(",").length, fast.encode().split(",").length + slow.encode().split(",").length);
+        assertEquals(LatencyHistogram.decode("").count(), 0);
+    }
+
+    @Test
+    public void arrivalsRampLinearlyThenKeepTheTargetRate() {
+        // No ramp: evenly spaced at 1/rps
+        assertEquals(LoadTestRunner.arrivalOffsetNanos(0, 5, 0), 0);
+        assertEquals(LoadTestRunner.arrivalOffsetNanos(10, 5, 0), TimeUnit.SECONDS.toNanos(2));
+
+        // 10 rps after a 10 s ramp: half the rate on average during the ramp, so 50 arrivals in it
+        long ramp = TimeUnit.SECONDS.toNanos(10);
+        assertTrue(LoadTestRunner.arrivalOffsetNanos(49, 10, ramp) < ramp);
+        assertEquals(LoadTestRunner.arrivalOffsetNanos(50, 10, ramp), ramp);
+        assertEquals(LoadTestRunner.arrivalOffsetNanos(100, 10, ramp), TimeUnit.SECONDS.toNanos(15));
+
+        // Gaps shrink through the ramp and reach 1/rps at its end
+        long first = LoadTestRunner.arrivalOffsetNanos(1, 10, ramp) - LoadTestRunner.arrivalOffsetNanos(0, 10, ramp);
+        long atEnd = LoadTestRunner.arrivalOffsetNanos(50, 10, ramp) - LoadTestRunner.arrivalOffsetNanos(49, 10, ramp);
+        assertTrue(first > TimeUnit.SECONDS.toNanos(1), "first gap " + first);
+        assertEquals(atEnd, TimeUnit.MILLISECONDS.toNanos(100), TimeUnit.MILLISECONDS.toNanos(2));
+        long previous = -1;
+        for (long k = 0; k < 200; k++) {
+            long offset = LoadTestRunner.arrivalOffsetNanos(k, 10, ramp);
+            assertTrue(offset > previous, "arrival " + k + " not after " + (k - 1));
+            previous = offset;
+        }
+    }
+
+    private static void assertWithinOnePercent(long actual, long expected) {
+        assertTrue(Math.abs(actual - expected) <= Math.max(1, expected / 100), actual + " vs " + expected);
+    }
+}
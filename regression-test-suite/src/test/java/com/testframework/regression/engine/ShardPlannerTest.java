@@ -0,0 +1,186 @@
+package com.testframework.regression.engine;
+
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.ShardPlanner.Shard;
+import com.testframework.regression.repository.TestCaseRepository;
+import com.testframework.regression.repository.TestResultRepository;
+import com.testframework.regression.service.JUnitMerge;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+// Shard planning and the shard report merge, without a database
+public class ShardPlannerTest {
+
+    @Test
+    public void slowTestsLandOnDifferentShards() {
+        // COMBINED_SMOKE-like: two slow booking flows, eight quicker UI checks, ten API calls
+        Map<Long, Long> estimates = new LinkedHashMap<>();
+        estimates.put(1L, 95_000L);  // EndToEnd_Flow
+        estimates.put(2L, 80_000L);  // CompleteBooking_Valid
+        for (long id = 3; id <= 10; id++) estimates.put(id, 20_000L + id * 1_000);
+        for (long id = 11; id <= 20; id++) estimates.put(id, 900L + id * 10);
+        List<Long> ids = new ArrayList<>(estimates.keySet());
+
+        List<Shard> shards = ShardPlanner.pack(ids, estimates, 3);
+        assertTrue(shards.get(0).getTestCaseIds().contains(1L) && shards.get(1).getTestCaseIds().contains(2L));
+        long total = estimates.values().stream().mapToLong(Long::longValue).sum();
+        long max = shards.stream().mapToLong(Shard::getEstimatedMs).max().orElseThrow();
+        assertTrue(max <= total / 3 + 95_000 / 3, "largest shard " + max + " of " + total);
+
+        // Every test in exactly one shard, slowest first within a shard
+        Set<Long> all = new HashSet<>();
+        shards.forEach(s -> s.getTestCaseIds().forEach(id -> assertTrue(all.add(id), "twice: " + id)));
+        assertEquals(all, new HashSet<>(ids));
+        assertEquals(shards.get(0).getTestCaseIds().get(0), Long.valueOf(1));
+    }
+
+    @Test
+    public void everyJobComputesTheSameSplit() {
+        Map<Long, Long> estimates = new LinkedHashMap<>();
+        LongStream.rangeClosed(1, 40).forEach(id -> estimates.put(id, id % 3 == 0 ? 5_000L : 5_000L + id));
+        List<Long> ids = new ArrayList<>(estimates.keySet());
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, new Random(7));
+
+        List<Shard> a = ShardPlanner.pack(ids, estimates, 4);
+        List<Shard> b = ShardPlanner.pack(shuffled, estimates, 4);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(b.get(i).getTestCaseIds(), a.get(i).getTestCaseIds(), "shard " + i);
+        }
+    }
+
+    @Test
+    public void testsWithoutHistoryCountAsTheirTypeAverage() {
+        TestCaseRepository cases = mock(TestCaseRepository.class);
+        TestResultRepository results = mock(TestResultRepository.class);
+        when(cases.findAllById(any())).thenReturn(List.of(testCase(1, "ui-known", TestType.UI), testCase(2, "ui-new", TestType.UI),
+                testCase(3, "api-known", TestType.API), testCase(4, "api-new", TestType.API)));
+        OffsetDateTime cutoff = OffsetDateTime.parse("2026-10-18T09:00:00Z");
+        when(results.findAverageDurations(anyCollection(), eq(cutoff))).thenReturn(List.of(
+                new Object[]{1L, 60_000.0}, new Object[]{3L, 200.0}));
+
+        ShardPlanner planner = new ShardPlanner(cases, results, "");
+        List<Shard> shards = planner.plan(List.of(1L, 2L, 3L, 4L), 2, ShardPlanner.parseHistoryBefore("2026-10-18T09:00:00Z"));
+        // The new UI test is as slow as the known one, so the two don't share a shard
+        assertEquals(shards.get(0).getEstimatedMs(), 60_200);
+        assertEquals(shards.get(1).getEstimatedMs(), 60_200);
+        assertThrows(IllegalArgumentException.class, () -> ShardPlanner.validate(4, 4));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlanner.validate(0, 0));
+        // Live averages move while the jobs run, so a database plan without a shared cutoff is refused
+        assertThrows(IllegalArgumentException.class, () -> planner.plan(List.of(1L, 2L), 2, null));
+        assertThrows(IllegalArgumentException.class, () -> ShardPlanner.parseHistoryBefore("yesterday"));
+        assertEquals(planner.plan(List.of(1L, 2L), 1, null).get(0).getTestCaseIds(), List.of(1L, 2L));
+    }
+
+    @Test
+    public void durationsComeFromAnEarlierReportWhenConfigured() throws Exception {
+        Path report = Files.createTempFile("previous-junit", ".xml");
+        try {
+            Files.writeString(report, """
+                    <?xml version="1.0" encoding="UTF-8"?>
+                    <testsuites><testsuite name="shard-0" tests="2" failures="0" time="31">
+                      <testcase classname="UI" name="slow" time="30.000"/>
+                      <testcase classname="API" name="quick" time="0.400"/>
+                    </testsuite></testsuites>
+                    """);
+            TestCaseRepository cases = mock(TestCaseRepository.class);
+            when(cases.findAllById(any())).thenReturn(List.of(testCase(1, "slow", TestType.UI), testCase(2, "quick", TestType.API),
+                    testCase(3, "brand-new", TestType.API)));
+            TestResultRepository results = mock(TestResultRepository.class);
+            List<Shard> shards = new ShardPlanner(cases, results, report.toString()).plan(List.of(1L, 2L, 3L), 2, null);
+            verify(results, never()).findAverageDurations(anyCollection(), any());
+            assertEquals(shards.get(0).getTestCaseIds(), List.of(1L));
+            assertEquals(shards.get(1).getTestCaseIds(), List.of(2L, 3L));
+            assertEquals(shards.get(1).getEstimatedMs(), 800);
+        } finally {
+            Files.deleteIfExists(report);
+        }
+    }
+
+    @Test
+    public void shardReportsMergeIntoOne() throws Exception {
+        Map<String, InputStream> reports = new LinkedHashMap<>();
+        reports.put(JUnitMerge.label("out/shard-0.xml", 0, reports), xml("""
+                <testsuite name="RegressionSuite" tests="2" failures="1" time="40">
+                  <testcase classname="UI" name="a" time="30.000"><failure message="boom"/></testcase>
+                  <testcase classname="API" name="b" time="0.500"/>
+                </testsuite>"""));
+        reports.put(JUnitMerge.label("out/shard-1.xml", 1, reports), xml("""
+                <testsuite name="RegressionSuite" tests="1" failures="0" time="35">
+                  <testcase classname="UI" name="c" time="34.000"/>
+                </testsuite>"""));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JUnitMerge.Summary summary = JUnitMerge.merge(reports, out);
+        assertEquals(summary.getSuites(), 2);
+        assertEquals(summary.getTests(), 3);
+        assertEquals(summary.getFailures(), 1);
+        assertEquals(summary.getDuplicates(), 0);
+        String merged = out.toString(StandardCharsets.UTF_8);
+        assertTrue(merged.contains("<testsuites") && merged.contains("tests=\"3\"") && merged.contains("time=\"75.000\""), merged);
+        assertTrue(merged.contains("name=\"shard-0\"") && merged.contains("name=\"shard-1\""), merged);
+        assertTrue(merged.contains("<failure message=\"boom\"/>"), merged);
+
+        Map<String, InputStream> overlapping = new LinkedHashMap<>();
+        overlapping.put("x", xml("<testsuite><testcase classname=\"UI\" name=\"a\"/></testsuite>"));
+        overlapping.put("y", xml("<testsuite><testcase classname=\"UI\" name=\"a\"/></testsuite>"));
+        assertEquals(JUnitMerge.merge(overlapping, new ByteArrayOutputStream()).getDuplicates(), 1);
+    }
+
+    @Test
+    public void plannedTestsNoShardReportedFailTheMerge() throws Exception {
+        Map<String, InputStream> reports = new LinkedHashMap<>();
+        reports.put("shard-0", xml("<testsuite><testcase classname=\"UI\" name=\"a\"/></testsuite>"));
+        reports.put("shard-1", xml("<testsuite><testcase classname=\"API\" name=\"b\"/></testsuite>"));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        JUnitMerge.Summary summary = JUnitMerge.merge(reports, out,
+                List.of(JUnitMerge.key(testCase(1, "a", TestType.UI)), "API.b", "UI.c", "API.d"));
+        assertEquals(summary.getMissing(), List.of("UI.c", "API.d"));
+        assertEquals(summary.getTests(), 4);
+        assertEquals(summary.getErrors(), 2);
+        String merged = out.toString(StandardCharsets.UTF_8);
+        assertTrue(merged.contains("<testsuite errors=\"2\" name=\"missing\" tests=\"2\">")
+                && merged.contains("<testcase classname=\"UI\" name=\"c\"><error message=\"Planned but not reported by any shard\"/>"), merged);
+    }
+
+    private static TestCase testCase(long id, String name, TestType type) {
+        TestCase tc = new TestCase();
+        tc.setId(id);
+        tc.setName(name);
+        tc.setType(type);
+        return tc;
+    }
+
+    private static InputStream xml(String body) {
+        return new ByteArrayInputStream(("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" + body).getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+package com.testframework.regression.engine;
+
+import org.testng.annotations.Test;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+// Tag expression parsing and evaluation over a small fixed catalog
+public class TagExpressionTest {
+
+    // Test index -> tags: 0 ui smoke, 1 ui smoke flaky, 2 ui, 3 api smoke, 4 api contract slow, 5 untagged
+    private static final Map<String, BitSet> TAGS = Map.of(
+            "ui", bits(0, 1, 2),
+            "smoke", bits(0, 1, 3),
+            "flaky", bits(1),
+            "api", bits(3, 4),
+            "contract", bits(4),
+            "slow", bits(4));
+    private static final BitSet ALL = bits(0, 1, 2, 3, 4, 5);
+
+    @Test
+    public void notBindsTighterThanAndWhichBindsTighterThanOr() {
+        assertEquals(select("ui & smoke & !flaky"), bits(0));
+        // a | b & c is a | (b & c), not (a | b) & c
+        assertEquals(select("api | ui & flaky"), bits(1, 3, 4));
+        assertEquals(select("!ui & smoke"), bits(3));
+        assertEquals(select("!!ui"), bits(0, 1, 2));
+        assertEquals(select("!ui"), bits(3, 4, 5), "untagged tests are in the universe");
+    }
+
+    @Test
+    public void parenthesesOverridePrecedence() {
+        assertEquals(select("(api | ui) & flaky"), bits(1));
+        assertEquals(select("(api | contract) & !slow"), bits(3));
+        assertEquals(select("!(ui | api)"), bits(5));
+        assertEquals(select(" ( ( smoke ) ) "), bits(0, 1, 3));
+    }
+
+    @Test
+    public void tagsAreCaseInsensitiveAndUnknownTagsMatchNothing() {
+        assertEquals(select("UI & Smoke"), bits(0, 1));
+        assertEquals(TagExpression.parse("API | Contract & !SLOW").tags(), Set.of("api", "contract", "slow"));
+        assertEquals(select("nightly"), new BitSet());
+        assertEquals(select("ui | nightly"), bits(0, 1, 2));
+        // Tag characters beyond letters and digits
+        assertEquals(TagExpression.parse("team:checkout & v1.2 & smoke_test-x").tags(),
+                Set.of("team:checkout", "v1.2", "smoke_test-x"));
+    }
+
+    @Test
+    public void malformedExpressionsAreRejectedWithThePosition() {
+        for (String bad : List.of("", "   ", "ui &", "& ui", "ui | | api", "!", "()", "ui api", "ui && smoke", "ui # smoke")) {
+            assertThrows("should reject '" + bad + "'", IllegalArgumentException.class, () -> TagExpression.parse(bad));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TagExpression.parse(null));
+        IllegalArgumentException missing = expectThrows(IllegalArgumentException.class, () -> TagExpression.parse("(ui | api"));
+        assertTrue(missing.getMessage().startsWith("Missing ')' at 9"), missing.getMessage());
+        IllegalArgumentException extra = expectThrows(IllegalArgumentException.class, () -> TagExpression.parse("ui)"));
+        assertTrue(extra.getMessage().startsWith("Unexpected ')' at 2"), extra.getMessage());
+    }
+
+    @Test
+    public void evaluationDoesNotModifyTheTagIndex() {
+        TagExpression.parse("!ui & smoke | api & !slow").evaluate(TAGS::get, ALL);
+        assertEquals(TAGS.get("ui"), bits(0, 1, 2));
+        assertEquals(TAGS.get("smoke"), bits(0, 1, 3));
+        assertEquals(ALL, bits(0, 1, 2, 3, 4, 5));
+    }
+
+    private static BitSet select(String expression) {
+        return TagExpression.parse(expression).evaluate(TAGS::get, ALL);
+    }
+
+    private static BitSet bits(int... indexes) {
+        BitSet bits = new BitSet();
+        for (int i : indexes) bits.set(i);
+        return bits;
+    }
+}
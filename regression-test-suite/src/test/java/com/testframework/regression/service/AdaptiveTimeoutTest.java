@@ -0,0 +1,100 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.TestType;
+import com.testframework.regression.engine.TestWatchdog;
+import com.testframework.regression.engine.TimeoutConfig;
+import com.testframework.regression.service.AdaptiveTimeoutService.Budget;
+import org.openqa.selenium.WebDriver;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+
+// Budget derivation and the watchdog, without a database or browser
+public class AdaptiveTimeoutTest {
+
+    private final AdaptiveTimeoutService service = new AdaptiveTimeoutService(null, globals(),
+            true, 0.99, 3.0, 10, 100, 15, 300, 5, 60, 300);
+
+    @Test
+    public void fastTestGetsItsOwnBudgetNotTheGlobalOne() {
+        // A check that takes 6-7 s: p99 6980 ms x 3, well under the global 120 s
+        List<Long> durations = new ArrayList<>(LongStream.range(0, 99).map(i -> 6000 + i * 10).boxed().toList());
+        durations.add(9000L);
+        Budget budget = service.derive(TestType.UI, durations);
+        assertEquals(budget.getPerTestMs(), 20_940);
+        assertEquals(budget.getElementWaitSeconds(), 21, "a step can't outlast the test");
+        assertEquals(budget.getPageLoadSeconds(), 21);
+        assertTrue(budget.getBasis().startsWith("p99 6980ms"), budget.getBasis());
+    }
+
+    @Test
+    public void budgetStaysBetweenFloorAndCap() {
+        List<Long> instant = LongStream.range(0, 20).map(i -> 100).boxed().toList();
+        assertEquals(service.derive(TestType.API, instant).getPerTestMs(), 5_000);
+        assertEquals(service.derive(TestType.UI, instant).getPerTestMs(), 15_000);
+        List<Long> slow = LongStream.range(0, 20).map(i -> 200_000).boxed().toList();
+        assertEquals(service.derive(TestType.UI, slow).getPerTestMs(), 300_000);
+        assertEquals(service.derive(TestType.UI, slow).getElementWaitSeconds(), 30, "global step timeouts stay the ceiling");
+    }
+
+    @Test
+    public void testsWithoutEnoughHistoryUseTheGlobals() {
+        Budget ui = service.derive(TestType.UI, List.of(1000L, 1200L));
+        assertEquals(ui.getPerTestMs(), 120_000);
+        assertEquals(ui.getPageLoadSeconds(), 90);
+        assertEquals(ui.getBasis(), "default");
+        assertEquals(service.derive(TestType.API, List.of()).getPerTestMs(), 30_000);
+    }
+
+    @Test
+    public void watchdogStopsAHungTestAndLeavesTheThreadClean() {
+        TestWatchdog watchdog = new TestWatchdog();
+        try {
+            WebDriver driver = mock(WebDriver.class);
+            TestWatchdog.Guard guard = watchdog.arm(new Budget(200, 1, 1, "test"));
+            guard.attach(driver);
+            long started = System.nanoTime();
+            try {
+                Thread.sleep(10_000); // the "hung" step
+                fail("the watchdog should have interrupted the test");
+            } catch (InterruptedException expected) {
+                // interrupted as intended
+            } finally {
+                guard.close();
+            }
+            assertTrue((System.nanoTime() - started) / 1_000_000 < 5_000);
+            assertTrue(guard.fired());
+            assertFalse(Thread.currentThread().isInterrupted());
+            verify(driver, timeout(2000)).quit();
+
+            TestWatchdog.Guard quick = watchdog.arm(new Budget(200, 1, 1, "test"));
+            quick.close();
+            Thread.sleep(400);
+            assertFalse(quick.fired(), "a closed guard must not fire");
+        } catch (InterruptedException e) {
+            fail("interrupt leaked past the guard");
+        } finally {
+            watchdog.shutdown();
+        }
+    }
+
+    private static TimeoutConfig globals() {
+        TimeoutConfig config = new TimeoutConfig();
+        ReflectionTestUtils.setField(config, "uiPageLoadSeconds", 90);
+        ReflectionTestUtils.setField(config, "uiElementWaitSeconds", 30);
+        ReflectionTestUtils.setField(config, "uiPerTestSeconds", 120);
+        ReflectionTestUtils.setField(config, "apiPerTestSeconds", 30);
+        return config;
+    }
+}
@@ -0,0 +1,77 @@
+package com.testframework.regression.service;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Plain files written before the content-addressed store follow the same retention rules as manifest entries
+public class ArtifactRetentionTest {
+
+    private static final String EXECUTION = "retention-test-" + System.nanoTime();
+    private static final Instant NOW = Instant.parse("2026-10-18T12:00:00Z");
+
+    @AfterMethod(alwaysRun = true)
+    public void cleanUp() throws Exception {
+        Path dir = ArtifactStore.ROOT.resolve(EXECUTION);
+        if (!Files.exists(dir)) return;
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path p : walk.sorted(Comparator.reverseOrder()).toList()) Files.deleteIfExists(p);
+        }
+    }
+
+    @Test
+    public void oldPlainFilesKeepTheLastFailuresOfATestCase() throws Exception {
+        // Test case 7: three old plain screenshots; with keepLastFailures=2 only the oldest is past saving
+        plainFile("7/a.png", 100, 30);
+        plainFile("7/b.png", 100, 20);
+        plainFile("7/c.png", 100, 16);
+        ArtifactStore store = store();
+
+        new ArtifactRetentionCollector(store, 14, 2048, 2, 60).runOnce(NOW);
+        verify(store).dropEntries(eq(EXECUTION), eq(Set.of()), eq(Set.of("7/a.png")));
+    }
+
+    @Test
+    public void plainFilesAreEvictedUnderTheSizeCap() throws Exception {
+        // 3 MB of recent plain files against a 2 MB cap: the oldest unprotected one goes
+        plainFile("7/a.json", 1024 * 1024, 3);
+        plainFile("8/b.json", 1024 * 1024, 2);
+        plainFile("9/c.json", 1024 * 1024, 1);
+        ArtifactStore store = store();
+
+        new ArtifactRetentionCollector(store, 14, 2, 0, 60).runOnce(NOW);
+        verify(store).dropEntries(eq(EXECUTION), eq(Set.of()), eq(Set.of("7/a.json")));
+    }
+
+    private static ArtifactStore store() throws Exception {
+        ArtifactStore store = mock(ArtifactStore.class);
+        when(store.listExecutions()).thenReturn(List.of(EXECUTION));
+        when(store.readManifest(EXECUTION)).thenReturn(new ArrayList<>());
+        when(store.sweepBlobs(anySet(), any())).thenReturn(0L);
+        return store;
+    }
+
+    private static void plainFile(String relative, int bytes, int ageDays) throws Exception {
+        Path file = ArtifactStore.ROOT.resolve(EXECUTION).resolve(relative);
+        Files.createDirectories(file.getParent());
+        Files.write(file, new byte[bytes]);
+        Files.setLastModifiedTime(file, FileTime.from(NOW.minus(Duration.ofDays(ageDays))));
+    }
+}
@@ -0,0 +1,77 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.ExecutionRecord;
+import com.testframework.regression.repository.ExecutionRecordRepository;
+import com.testframework.regression.repository.TestResultRepository;
+import org.mockito.ArgumentCaptor;
+import org.testng.annotations.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+// Startup reconciliation of runs the journal has no plan for, without a database
+public class ExecutionRecoveryTest {
+
+    @Test
+    public void recordWithoutAReadablePlanIsNotMarkedComplete() {
+        ExecutionRecord record = running("exec-cut", "[1, 2, 3, 4");
+        ExecutionRecord saved = recover(record, List.of(1L, 2L));
+
+        assertEquals(saved.getStatus(), ExecutionRecoveryService.INTERRUPTED);
+        assertTrue(saved.getErrorMessage().contains("plan could not be read back"), saved.getErrorMessage());
+    }
+
+    @Test
+    public void recordWithEveryPlannedResultIsComplete() {
+        ExecutionRecord saved = recover(running("exec-done", "[1, 2]"), List.of(1L, 2L));
+        assertEquals(saved.getStatus(), "COMPLETED");
+        assertNull(saved.getErrorMessage());
+    }
+
+    @Test
+    public void idsAreReadBackWholeOrNotAtAll() {
+        assertEquals(ExecutionRecoveryService.parseIds("[3, 1, 2]"), List.of(3L, 1L, 2L));
+        assertEquals(ExecutionRecoveryService.parseIds("[]"), List.of());
+        assertNull(ExecutionRecoveryService.parseIds("[1, 2, 3"));
+        assertNull(ExecutionRecoveryService.parseIds("[1, 2, x]"));
+        assertNull(ExecutionRecoveryService.parseIds(""));
+        assertNull(ExecutionRecoveryService.parseIds(null));
+    }
+
+    private static ExecutionRecord recover(ExecutionRecord record, List<Long> savedResults) {
+        ExecutionJournal journal = mock(ExecutionJournal.class);
+        when(journal.replay()).thenReturn(List.of());
+        ExecutionRecordRepository records = mock(ExecutionRecordRepository.class);
+        when(records.findByStatusIn(anyList())).thenReturn(List.of(record));
+        when(records.findByExecutionId(record.getExecutionId())).thenReturn(Optional.of(record));
+        TestResultRepository results = mock(TestResultRepository.class);
+        when(results.findTestCaseIdsByExecutionId(record.getExecutionId())).thenReturn(savedResults);
+
+        new ExecutionRecoveryService(journal, records, results, mock(TestCaseService.class), "node-a").recover();
+        ArgumentCaptor<ExecutionRecord> captor = ArgumentCaptor.forClass(ExecutionRecord.class);
+        verify(records).save(captor.capture());
+        verify(journal).reset(any());
+        return captor.getValue();
+    }
+
+    private static ExecutionRecord running(String executionId, String ids) {
+        ExecutionRecord record = new ExecutionRecord();
+        record.setExecutionId(executionId);
+        record.setStatus("RUNNING");
+        record.setMode("SEQUENTIAL");
+        record.setNode("node-a");
+        record.setStartTime(OffsetDateTime.now().minusMinutes(5));
+        record.setTestCaseIdsCsv(ids);
+        return record;
+    }
+}
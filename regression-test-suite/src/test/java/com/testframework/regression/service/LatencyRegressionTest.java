@@ -0,0 +1,141 @@
+package com.testframework.regression.service;
+
+import com.testframework.regression.domain.ApiTestDefinition;
+import com.testframework.regression.domain.TestCase;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.engine.ApiHttpClient;
+import com.testframework.regression.engine.ApiTestExecutor;
+import com.testframework.regression.engine.CompiledApiTest;
+import com.testframework.regression.engine.TargetConfig;
+import com.testframework.regression.repository.TestResultRepository;
+import org.springframework.mock.env.MockEnvironment;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+
+// Latency regression scoring and the p95 budget, without a database or network
+public class LatencyRegressionTest {
+
+    private final LatencyRegressionService service = new LatencyRegressionService(null, true, 20, 5, 3.5, 1.5, 100);
+
+    @Test
+    public void outlierAgainstTheMedianIsARegression() {
+        List<Long> baseline = List.of(200L, 210L, 190L, 205L, 195L, 200L, 215L);
+        String regression = service.evaluate(400, baseline);
+        assertNotNull(regression);
+        assertTrue(regression.startsWith("latency regression: 400ms vs baseline median 200ms over 7 runs"), regression);
+        assertNull(service.evaluate(230, baseline), "a 15% slowdown is under the ratio floor");
+    }
+
+    @Test
+    public void earlierSlowRunsDoNotSkewTheBaseline() {
+        // Two old 5 s spikes would pull a mean/stddev score far enough to hide a doubling; median/MAD ignores them
+        List<Long> baseline = List.of(200L, 205L, 195L, 210L, 190L, 200L, 5000L, 5000L);
+        assertNotNull(service.evaluate(450, baseline));
+    }
+
+    @Test
+    public void floorsKeepJitterFromCountingAsARegression() {
+        // Flat baseline: MAD 0 is floored, so the z-score is large but the slowdown is only 1.4x
+        assertNull(service.evaluate(140, List.of(100L, 100L, 100L, 100L, 100L)));
+        // 2x on a 20 ms endpoint clears the ratio but not the 100 ms absolute floor
+        assertNull(service.evaluate(40, List.of(20L, 20L, 21L, 19L, 20L)));
+        assertNotNull(service.evaluate(300, List.of(100L, 100L, 100L, 100L, 100L)));
+        // Too few runs to call anything a regression
+        assertNull(service.evaluate(10_000, List.of(100L, 100L, 100L, 100L)));
+    }
+
+    @Test
+    public void checkFailsAPassingResultAndKeepsItsMessage() {
+        TestResultRepository results = mock(TestResultRepository.class);
+        when(results.findRecentPassedLatencies(eq(7L), any())).thenReturn(List.of(200L, 210L, 190L, 205L, 195L));
+        TestResult result = passed(7L, 600);
+        new LatencyRegressionService(results, true, 20, 5, 3.5, 1.5, 100).check(result);
+        assertEquals(result.getStatus(), TestStatus.FAILED);
+        assertTrue(result.getMessage().startsWith("GET /users - Status: 200 | latency regression: 600ms"), result.getMessage());
+    }
+
+    @Test
+    public void p95OverBudgetFailsAndArtifactsAreKeptAsFailureEvidence() throws Exception {
+        ApiTestDefinition def = new ApiTestDefinition();
+        def.setMethod("GET");
+        def.setUrlTemplate("http://api.test/users");
+        def.setLatencySamples(20);
+        def.setP95BudgetMs(300L);
+        CompiledApiTest test = CompiledApiTest.compile(def, new TargetConfig(new MockEnvironment()));
+
+        // 18 fast samples and 2 slow ones: the median is fine, the nearest-rank p95 (19th of 20) is not
+        ApiHttpClient client = mock(ApiHttpClient.class);
+        ApiHttpClient.ApiResponse[] rest = LongStream.range(1, 20)
+                .mapToObj(i -> response(i >= 18 ? 900 : 100 + i)).toArray(ApiHttpClient.ApiResponse[]::new);
+        when(client.send(anyString(), anyString(), anyList(), (byte[]) eq(null))).thenReturn(response(100), rest);
+        ArtifactStore artifacts = mock(ArtifactStore.class);
+        TestResultRepository results = mock(TestResultRepository.class);
+        when(results.findRecentPassedLatencies(anyLong(), any())).thenReturn(List.of());
+        ApiTestExecutor executor = new ApiTestExecutor(client, artifacts,
+                new LatencyRegressionService(results, true, 20, 5, 3.5, 1.5, 100));
+
+        TestResult result = executor.execute(testCase(7L), test, "exec-1");
+        assertEquals(result.getStatus(), TestStatus.FAILED);
+        assertTrue(result.getMessage().contains("p95 900ms over 20 samples exceeds 300ms"), result.getMessage());
+        assertEquals(result.getLatencyMs(), Long.valueOf(109));
+        verify(artifacts, times(2)).put(eq("exec-1"), eq(7L), anyString(), any(), eq(true));
+    }
+
+    @Test
+    public void latencyRegressionMarksArtifactsAsFailureEvidence() throws Exception {
+        ApiTestDefinition def = new ApiTestDefinition();
+        def.setMethod("GET");
+        def.setUrlTemplate("http://api.test/users");
+        CompiledApiTest test = CompiledApiTest.compile(def, new TargetConfig(new MockEnvironment()));
+        ApiHttpClient client = mock(ApiHttpClient.class);
+        when(client.send(anyString(), anyString(), anyList(), (byte[]) eq(null))).thenReturn(response(800));
+        ArtifactStore artifacts = mock(ArtifactStore.class);
+        TestResultRepository results = mock(TestResultRepository.class);
+        when(results.findRecentPassedLatencies(eq(7L), any())).thenReturn(List.of(200L, 210L, 190L, 205L, 195L));
+        ApiTestExecutor executor = new ApiTestExecutor(client, artifacts,
+                new LatencyRegressionService(results, true, 20, 5, 3.5, 1.5, 100));
+
+        TestResult result = executor.execute(testCase(7L), test, "exec-1");
+        assertEquals(result.getStatus(), TestStatus.FAILED);
+        assertTrue(result.getMessage().contains("latency regression: 800ms"), result.getMessage());
+        verify(artifacts, times(2)).put(eq("exec-1"), eq(7L), anyString(), any(), eq(true));
+    }
+
+    private static ApiHttpClient.ApiResponse response(long elapsedMs) {
+        return new ApiHttpClient.ApiResponse(200, "{}".getBytes(), Map.of(), elapsedMs * 1_000_000);
+    }
+
+    private static TestResult passed(long testCaseId, long latencyMs) {
+        TestResult result = new TestResult();
+        result.setTestCase(testCase(testCaseId));
+        result.setStatus(TestStatus.PASSED);
+        result.setMessage("GET /users - Status: 200");
+        result.setLatencyMs(latencyMs);
+        return result;
+    }
+
+    private static TestCase testCase(long id) {
+        TestCase tc = new TestCase();
+        tc.setId(id);
+        tc.setName("GetUsers");
+        return tc;
+    }
+}
@@ -1,6 +1,7 @@
 package tests.combined;
 
 import com.testframework.regression.RegressionTestSuiteFrameworkApplication;
+import com.testframework.regression.engine.ShardPlanner;
 import com.testframework.regression.engine.SuiteRegistry;
 import com.testframework.regression.engine.TestIntegrationEngine;
 import com.testframework.regression.service.ReportService;
@@ -24,6 +25,9 @@ public class CombinedSuiteRunner extends AbstractTestNGSpringContextTests {
     @Autowired
     private ReportService reportService;
 
+    @Autowired
+    private ShardPlanner shardPlanner;
+
     @Test
     public void runCombinedSuiteInParallel() {
         System.out.println("🚀 Starting CombinedSuiteRunner test execution...");
@@ -52,8 +56,23 @@ public class CombinedSuiteRunner extends AbstractTestNGSpringContextTests {
             System.err.println("❌ ERROR: No test cases found! Check suite registry configuration.");
             throw new RuntimeException("No test cases found for execution");
         }
+
+        // CI matrix: -Dshard.index=0 -Dshard.count=4 -Dshard.historyBefore=<run start> runs one duration-balanced
+        // quarter of the suite
+        String shardIndex = System.getProperty("shard.index");
+        String shardCount = System.getProperty("shard.count");
+        String shardSuffix = "";
+        if (shardIndex != null && shardCount != null) {
+            combined = shardPlanner.shard(combined, Integer.parseInt(shardIndex), Integer.parseInt(shardCount),
+                    ShardPlanner.parseHistoryBefore(System.getProperty("shard.historyBefore")));
+            shardSuffix = "_shard" + shardIndex;
+            if (combined.isEmpty()) {
+                System.out.println("ℹ️ Shard " + shardIndex + " of " + shardCount + " has no tests");
+                return;
+            }
+        }
         
-        String executionId = "testng_combined_" + System.currentTimeMillis();
+        String executionId = "testng_combined_" + System.currentTimeMillis() + shardSuffix;
         System.out.println("🔄 Executing tests with ID: " + executionId);
         
         // Execute tests
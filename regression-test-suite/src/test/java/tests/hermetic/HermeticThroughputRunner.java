@@ -0,0 +1,148 @@
+package tests.hermetic;
+
+import com.testframework.regression.RegressionTestSuiteFrameworkApplication;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.engine.SuiteRegistry;
+import com.testframework.regression.engine.TestIntegrationEngine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// Repeatable tests-per-minute baseline: COMBINED_SMOKE runs against local stand-ins for BlazeDemo and the
+// JSON APIs, so only this machine and the engine are measured. Each parallelism level runs the suite
+// hermetic.rounds times in headless Chrome. Peak memory is this JVM's heap; browser processes are not included.
+// Tune with -Dhermetic.parallelism=1,2,4,8,16 -Dhermetic.rounds=3
+// Results are printed and written to test-output/hermetic/; the run's test results are deleted afterwards
+// (keep them with -Dhermetic.keep=true) so they don't enter the latency baselines of the real suites.
+@SpringBootTest(classes = RegressionTestSuiteFrameworkApplication.class)
+public class HermeticThroughputRunner extends AbstractTestNGSpringContextTests {
+
+    private static final String SUITE = "COMBINED_SMOKE";
+    private static StandInServer standIns;
+
+    @Autowired
+    private SuiteRegistry suiteRegistry;
+
+    @Autowired
+    private TestIntegrationEngine engine;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void standInTargets(DynamicPropertyRegistry registry) {
+        String baseUrl = standIns().baseUrl();
+        registry.add("ui.targets.blazedemo", () -> baseUrl + "/");
+        registry.add("api.targets.jsonplaceholder", () -> baseUrl);
+        registry.add("api.targets.httpbin", () -> baseUrl);
+        // Loopback latencies say nothing about the real services, so don't compare them with that baseline
+        registry.add("latency.regression.enabled", () -> "false");
+    }
+
+    private static synchronized StandInServer standIns() {
+        if (standIns == null) {
+            try {
+                standIns = new StandInServer();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return standIns;
+    }
+
+    @Test
+    public void measureCombinedSmokeThroughput() throws Exception {
+        int[] parallelism = ints(System.getProperty("hermetic.parallelism", "1,2,4,8,16"));
+        int rounds = Math.max(1, Integer.getInteger("hermetic.rounds", 3));
+        List<Long> ids = suiteRegistry.resolveSuiteToTestCaseIds(SUITE).orElse(List.of());
+        if (ids.isEmpty()) throw new IllegalStateException("No test cases found for " + SUITE);
+        System.out.println("🏠 Stand-ins at " + standIns().baseUrl() + ", " + ids.size() + " tests x " + rounds + " rounds per level");
+
+        // Warm-up: driver download, JIT and connection pools, so level 1 is not charged for them
+        engine.executeParallel(ids, "hermetic_warmup_" + System.currentTimeMillis(), 4, Boolean.TRUE);
+
+        List<String> rows = new ArrayList<>();
+        rows.add("parallelism,tests,passed,wallMs,testsPerMin,p50TestMs,p95TestMs,maxTestMs,peakHeapMb");
+        for (int p : parallelism) {
+            System.gc();
+            resetPeakHeap();
+            List<Long> durations = new ArrayList<>();
+            int passed = 0;
+            long start = System.nanoTime();
+            for (int round = 1; round <= rounds; round++) {
+                String executionId = "hermetic_p" + p + "_r" + round + "_" + System.currentTimeMillis();
+                for (TestResult result : engine.executeParallel(ids, executionId, p, Boolean.TRUE)) {
+                    if (result.getDurationMs() != null) durations.add(result.getDurationMs());
+                    if (result.getStatus() == TestStatus.PASSED) passed++;
+                }
+            }
+            long wallMs = (System.nanoTime() - start) / 1_000_000;
+            rows.add(String.format("%d,%d,%d,%d,%.1f,%d,%d,%d,%.1f", p, durations.size(), passed, wallMs,
+                    durations.size() * 60_000.0 / Math.max(1, wallMs), percentile(durations, 50),
+                    percentile(durations, 95), percentile(durations, 100), peakHeapBytes() / (1024.0 * 1024.0)));
+            System.out.println("📊 " + rows.get(rows.size() - 1));
+            if (passed < durations.size()) {
+                System.out.println("⚠️ " + (durations.size() - passed) + " tests did not pass against the stand-ins at parallelism " + p);
+            }
+        }
+
+        Path out = Paths.get("test-output", "hermetic", "hermetic-" + System.currentTimeMillis() + ".csv");
+        Files.createDirectories(out.getParent());
+        Files.write(out, rows);
+        System.out.println("📊 Hermetic throughput results:\n" + String.join("\n", rows) + "\n📄 " + out.toAbsolutePath());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (!Boolean.getBoolean("hermetic.keep")) {
+            int deleted = jdbcTemplate.update("DELETE FROM test_results WHERE execution_id LIKE 'hermetic\\_%'");
+            System.out.println("🧹 Removed " + deleted + " hermetic test results");
+        }
+        if (standIns != null) {
+            standIns.close();
+        }
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    // Sum of the heap pools' peaks; pools peak at different moments, so this is an upper bound
+    private static long peakHeapBytes() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) total += pool.getPeakUsage().getUsed();
+        }
+        return total;
+    }
+
+    private static long percentile(List<Long> values, int percentile) {
+        if (values.isEmpty()) return 0;
+        long[] sorted = values.stream().mapToLong(Long::longValue).sorted().toArray();
+        return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    private static int[] ints(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).mapToInt(Integer::parseInt).toArray();
+    }
+}
@@ -0,0 +1,177 @@
+package tests.hermetic;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Local stand-ins for the systems under test, on one loopback port: the BlazeDemo flow pages
+// (/, reserve.php, purchase.php, confirmation.php) and the JSON endpoints the ReqRes definitions call
+// (/users on the jsonplaceholder target, /post and /status/400 on the httpbin target).
+// Pages carry exactly the titles, names, ids and texts the engine's BlazeDemo checks look for.
+public final class StandInServer implements AutoCloseable {
+
+    private static final String[] FROM = {"Paris", "Philadelphia", "Boston", "Portland", "San Diego", "Mexico City", "São Paolo"};
+    private static final String[] TO = {"Buenos Aires", "Rome", "London", "Berlin", "New York", "Dublin", "Cairo"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpServer server;
+
+    public StandInServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::blazeDemo);
+        server.createContext("/users", this::users);
+        server.createContext("/post", this::echo);
+        server.createContext("/status/", exchange -> {
+            drain(exchange);
+            int status = Integer.parseInt(exchange.getRequestURI().getPath().substring("/status/".length()));
+            send(exchange, status, "application/json", "{}");
+        });
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void blazeDemo(HttpExchange exchange) throws IOException {
+        drain(exchange);
+        switch (exchange.getRequestURI().getPath()) {
+            case "/", "/index.php" -> send(exchange, 200, "text/html", page("BlazeDemo",
+                    "<h1>Welcome to the Simple Travel Agency!</h1>"
+                            + "<form action=\"reserve.php\" method=\"post\">"
+                            + select("fromPort", FROM) + select("toPort", TO)
+                            + "<input type=\"submit\" value=\"Find Flights\"></form>"));
+            case "/reserve.php" -> {
+                StringBuilder rows = new StringBuilder();
+                for (int i = 0; i < 5; i++) {
+                    rows.append("<tr><td><form action=\"purchase.php\" method=\"post\">")
+                            .append("<input type=\"hidden\" name=\"flight\" value=\"").append(43 + i * 191).append("\">")
+                            .append("<input type=\"submit\" value=\"Choose This Flight\"></form></td>")
+                            .append("<td>").append(43 + i * 191).append("</td><td>Virgin America</td><td>$")
+                            .append(472 + i * 60).append(".56</td></tr>");
+                }
+                send(exchange, 200, "text/html", page("BlazeDemo - reserve",
+                        "<h3>Flights from Boston to London:</h3><table class=\"table\"><thead><tr><th>Choose</th>"
+                                + "<th>Flight #</th><th>Airline</th><th>Price</th></tr></thead><tbody>" + rows + "</tbody></table>"));
+            }
+            case "/purchase.php" -> {
+                StringBuilder fields = new StringBuilder();
+                for (String id : new String[]{"inputName", "address", "city", "state", "zipCode",
+                        "creditCardNumber", "creditCardMonth", "creditCardYear", "nameOnCard"}) {
+                    fields.append("<input type=\"text\" id=\"").append(id).append("\" name=\"").append(id).append("\">");
+                }
+                send(exchange, 200, "text/html", page("BlazeDemo Purchase",
+                        "<h2>Your flight from TLV to SFO has been reserved.</h2><p>Total Cost: <em>914.76</em></p>"
+                                + "<form action=\"confirmation.php\" method=\"post\">" + fields
+                                + "<input type=\"submit\" value=\"Purchase Flight\"></form>"));
+            }
+            case "/confirmation.php" -> send(exchange, 200, "text/html", page("BlazeDemo Confirmation",
+                    "<h1>Thank you for your purchase today!</h1><table class=\"table\"><tr><td>Status</td><td>PendingCapture</td></tr></table>"));
+            default -> send(exchange, 404, "text/html", page("Not Found", "<h1>Not Found</h1>"));
+        }
+    }
+
+    private void users(HttpExchange exchange) throws IOException {
+        byte[] body = drain(exchange);
+        String path = exchange.getRequestURI().getPath();
+        String method = exchange.getRequestMethod();
+        if (path.equals("/users") || path.equals("/users/")) {
+            if (method.equals("POST")) {
+                ObjectNode created = body.length == 0 ? objectMapper.createObjectNode() : (ObjectNode) objectMapper.readTree(body);
+                created.put("id", 11);
+                send(exchange, 201, "application/json", objectMapper.writeValueAsString(created));
+                return;
+            }
+            ArrayNode users = objectMapper.createArrayNode();
+            for (int id = 1; id <= 10; id++) users.add(user(id));
+            send(exchange, 200, "application/json", objectMapper.writeValueAsString(users));
+            return;
+        }
+        int id;
+        try {
+            id = Integer.parseInt(path.substring("/users/".length()));
+        } catch (NumberFormatException e) {
+            send(exchange, 404, "application/json", "{}");
+            return;
+        }
+        if (id < 1 || id > 10) {
+            send(exchange, 404, "application/json", "{}");
+            return;
+        }
+        switch (method) {
+            case "PUT", "PATCH" -> {
+                ObjectNode updated = method.equals("PATCH") ? user(id) : objectMapper.createObjectNode();
+                if (body.length > 0) updated.setAll((ObjectNode) objectMapper.readTree(body));
+                updated.put("id", id);
+                send(exchange, 200, "application/json", objectMapper.writeValueAsString(updated));
+            }
+            case "DELETE" -> send(exchange, 200, "application/json", "{}");
+            default -> send(exchange, 200, "application/json", objectMapper.writeValueAsString(user(id)));
+        }
+    }
+
+    // httpbin-style echo: the parsed request body comes back under "json"
+    private void echo(HttpExchange exchange) throws IOException {
+        byte[] body = drain(exchange);
+        ObjectNode response = objectMapper.createObjectNode();
+        response.set("json", body.length == 0 ? null : objectMapper.readTree(body));
+        response.put("url", baseUrl() + exchange.getRequestURI());
+        send(exchange, 200, "application/json", objectMapper.writeValueAsString(response));
+    }
+
+    private ObjectNode user(int id) {
+        ObjectNode user = objectMapper.createObjectNode();
+        user.put("id", id);
+        user.put("name", "User " + id);
+        user.put("username", "user" + id);
+        user.put("email", "user" + id + "@example.com");
+        ObjectNode address = user.putObject("address");
+        address.put("street", "Kulas Light");
+        address.put("city", "Gwenborough");
+        address.put("zipcode", "92998-3874");
+        return user;
+    }
+
+    private static String page(String title, String body) {
+        return "<!DOCTYPE html><html><head><title>" + title + "</title></head><body>" + body + "</body></html>";
+    }
+
+    private static String select(String name, String[] cities) {
+        StringBuilder html = new StringBuilder("<select name=\"").append(name).append("\">");
+        for (String city : cities) html.append("<option value=\"").append(city).append("\">").append(city).append("</option>");
+        return html.append("</select>").toString();
+    }
+
+    private static byte[] drain(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
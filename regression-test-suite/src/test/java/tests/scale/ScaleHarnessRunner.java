@@ -0,0 +1,165 @@
+package tests.scale;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.RegressionTestSuiteFrameworkApplication;
+import com.testframework.regression.domain.TestResult;
+import com.testframework.regression.domain.TestStatus;
+import com.testframework.regression.engine.SuiteRegistry;
+import com.testframework.regression.service.SyntheticCatalogService;
+import com.testframework.regression.service.TestCaseImportService;
+import com.testframework.regression.service.TestCaseService;
+import com.testframework.regression.service.TestResultService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.testng.AbstractTestNGSpringContextTests;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// Engine overhead at scale with SYNTHETIC tests: for each catalog size, seeds the catalog, then runs a slice
+// of it through POST /schedule/run at each parallelism while polling the status endpoint.
+// Tune with -Dscale.catalogSizes=10000,100000 -Dscale.parallelism=1,8,32 -Dscale.runSize=5000 -Dscale.spec=noop
+// Results are printed and written to test-output/scale/.
+@SpringBootTest(classes = RegressionTestSuiteFrameworkApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ScaleHarnessRunner extends AbstractTestNGSpringContextTests {
+
+    private static final String PREFIX = "Scale";
+    private static final int PERSISTENCE_SAMPLE = 2000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private SyntheticCatalogService syntheticCatalogService;
+
+    @Autowired
+    private SuiteRegistry suiteRegistry;
+
+    @Autowired
+    private TestCaseService testCaseService;
+
+    @Autowired
+    private TestResultService testResultService;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void measureEngineOverheadAtScale() throws Exception {
+        int[] catalogSizes = ints(System.getProperty("scale.catalogSizes", "10000,100000"));
+        int[] parallelism = ints(System.getProperty("scale.parallelism", "1,8,32"));
+        int runSize = Integer.getInteger("scale.runSize", 5000);
+        String spec = System.getProperty("scale.spec", "noop");
+
+        List<String> rows = new ArrayList<>();
+        rows.add("catalog,parallelism,tests,wallMs,testsPerSec,threadMsPerTest,persistRowsPerSec,statusP50Ms,statusP95Ms,statusMaxMs,seedRowsPerSec");
+        for (int size : catalogSizes) {
+            syntheticCatalogService.purge(PREFIX);
+            long seedStart = System.nanoTime();
+            TestCaseImportService.ImportResult seeded = syntheticCatalogService.generate(size, spec, PREFIX, null);
+            double seedRate = size / seconds(seedStart);
+            List<Long> ids = suiteRegistry.select("synthetic-" + PREFIX.toLowerCase());
+            List<Long> slice = ids.subList(0, Math.min(runSize, ids.size()));
+            System.out.println("📦 Seeded " + seeded.getCreated() + " synthetic cases (" + Math.round(seedRate) + "/s), running " + slice.size());
+            double persistRate = measurePersistence(slice);
+
+            for (int p : parallelism) {
+                Run run = runAndPoll(slice, p);
+                double wallSeconds = run.wallNanos / 1e9;
+                // Worker thread time per test; with the default noop spec all of it is engine overhead
+                double threadMsPerTest = wallSeconds * 1000 * Math.min(p, slice.size()) / slice.size();
+                rows.add(String.format("%d,%d,%d,%d,%.1f,%.3f,%.1f,%.2f,%.2f,%.2f,%.1f", size, p, slice.size(),
+                        run.wallNanos / 1_000_000, slice.size() / wallSeconds, threadMsPerTest, persistRate,
+                        percentile(run.pollMs, 50), percentile(run.pollMs, 95), percentile(run.pollMs, 100), seedRate));
+                System.out.println("📊 " + rows.get(rows.size() - 1));
+            }
+        }
+
+        Path out = Paths.get("test-output", "scale", "scale-" + System.currentTimeMillis() + ".csv");
+        Files.createDirectories(out.getParent());
+        Files.write(out, rows);
+        System.out.println("📊 Scale harness results:\n" + String.join("\n", rows) + "\n📄 " + out.toAbsolutePath());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanUp() {
+        if (!Boolean.getBoolean("scale.keep")) {
+            syntheticCatalogService.purge(PREFIX);
+        }
+    }
+
+    // Single-row saves through the service the engine uses, against the current table size
+    private double measurePersistence(List<Long> ids) {
+        var testCases = testCaseService.findAllById(ids.subList(0, Math.min(ids.size(), 100)));
+        long start = System.nanoTime();
+        for (int i = 0; i < PERSISTENCE_SAMPLE; i++) {
+            TestResult result = new TestResult();
+            result.setTestCase(testCases.get(i % testCases.size()));
+            result.setExecutionId("scale_persist");
+            result.setExecutedAt(OffsetDateTime.now());
+            result.setStatus(TestStatus.PASSED);
+            result.setMessage("Synthetic noop completed in 1us");
+            testResultService.save(result);
+        }
+        return PERSISTENCE_SAMPLE / seconds(start);
+    }
+
+    private Run runAndPoll(List<Long> ids, int parallelism) throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("testCaseIds", ids, "mode", "PARALLEL", "maxParallelTests", parallelism));
+        long start = System.nanoTime();
+        HttpResponse<String> started = http.send(HttpRequest.newBuilder(URI.create(base() + "/schedule/run"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build(), HttpResponse.BodyHandlers.ofString());
+        String executionId = objectMapper.readTree(started.body()).path("executionId").asText();
+
+        Run run = new Run();
+        HttpRequest poll = HttpRequest.newBuilder(URI.create(base() + "/schedule/execution/status/" + executionId)).GET().build();
+        while (true) {
+            long pollStart = System.nanoTime();
+            HttpResponse<String> response = http.send(poll, HttpResponse.BodyHandlers.ofString());
+            run.pollMs.add((System.nanoTime() - pollStart) / 1e6);
+            JsonNode status = objectMapper.readTree(response.body()).path("status");
+            if ("COMPLETED".equals(status.asText()) || "FAILED".equals(status.asText())) break;
+            Thread.sleep(50);
+        }
+        run.wallNanos = System.nanoTime() - start;
+        return run;
+    }
+
+    private String base() {
+        return "http://localhost:" + port;
+    }
+
+    private static double seconds(long startNanos) {
+        return Math.max(1e-9, (System.nanoTime() - startNanos) / 1e9);
+    }
+
+    private static double percentile(List<Double> values, int percentile) {
+        if (values.isEmpty()) return 0;
+        double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        return sorted[Math.max(0, (int) Math.ceil(percentile / 100.0 * sorted.length) - 1)];
+    }
+
+    private static int[] ints(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(s -> !s.isEmpty()).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static class Run {
+        private long wallNanos;
+        private final List<Double> pollMs = new ArrayList<>();
+    }
+}
@@ -0,0 +1,243 @@
+package tests.schedule;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.testframework.regression.scheduler.ScheduleService;
+import com.testframework.regression.scheduler.ScheduleService.ScheduleDefinition;
+import com.testframework.regression.service.ExecutionService.ExecutionRequest;
+import org.quartz.Job;
+import org.quartz.JobExecutionContext;
+import org.quartz.Scheduler;
+import org.quartz.SchedulerException;
+import org.quartz.TriggerKey;
+import org.quartz.impl.SchedulerRepository;
+import org.quartz.impl.StdSchedulerFactory;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+
+// Two clustered Quartz nodes sharing one embedded H2 store (created from quartz/tables_h2.sql, as the app
+// does on MySQL), driven through ScheduleService. Jobs are replaced by a recorder, so no Spring context,
+// browsers or database server are needed.
+public class ClusteredScheduleTest {
+
+    private static final String URL = "jdbc:h2:mem:quartz_cluster;DB_CLOSE_DELAY=-1";
+    // schedule name -> "scheduledFireTime@node" of every execution
+    private static final Map<String, List<String>> FIRES = new ConcurrentHashMap<>();
+
+    private Connection keepAlive;
+    private Scheduler nodeA;
+    private Scheduler nodeB;
+    private ScheduleService servicesA;
+    private ScheduleService servicesB;
+
+    @BeforeClass
+    public void startCluster() throws Exception {
+        keepAlive = DriverManager.getConnection(URL, "sa", "");
+        createTables(keepAlive);
+        nodeA = node("node-a");
+        nodeB = node("node-b");
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        servicesA = new ScheduleService(nodeA, objectMapper);
+        servicesB = new ScheduleService(nodeB, objectMapper);
+        nodeA.start();
+        nodeB.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopCluster() throws Exception {
+        if (nodeA != null) nodeA.shutdown(true);
+        if (nodeB != null) nodeB.shutdown(true);
+        if (keepAlive != null) keepAlive.close();
+    }
+
+    @Test
+    public void eachFireRunsOnExactlyOneNode() throws Exception {
+        servicesA.save("every-second", cron("0/1 * * * * ?", null));
+        Thread.sleep(4000);
+        // Node A stops taking triggers half way through; node B carries on with the same schedule
+        nodeA.standby();
+        Thread.sleep(4000);
+        nodeA.start();
+        servicesB.delete("every-second");
+
+        List<String> fires = FIRES.getOrDefault("every-second", List.of());
+        System.out.println("🗓️ every-second fires: " + fires);
+        assertTrue(fires.size() >= 6, "expected a fire per second, got " + fires);
+        assertTrue(fires.stream().anyMatch(f -> f.endsWith("@node-b")), "node B never took over: " + fires);
+        assertEquals(fires.stream().map(f -> f.substring(0, f.indexOf('@'))).distinct().count(), fires.size(),
+                "a scheduled fire time ran on more than one node: " + fires);
+    }
+
+    @Test
+    public void misfirePolicyDecidesWhetherMissedFiresRun() throws Exception {
+        // runAt well past the misfire threshold, as if every node had been down at the time
+        ScheduleDefinition missedFireNow = once(OffsetDateTime.now().minusSeconds(30), "FIRE_NOW");
+        ScheduleDefinition missedSkip = once(OffsetDateTime.now().minusSeconds(30), "SKIP");
+        servicesA.save("missed-fire-now", missedFireNow);
+        servicesA.save("missed-skip", missedSkip);
+        Thread.sleep(4000);
+
+        assertEquals(FIRES.getOrDefault("missed-fire-now", List.of()).size(), 1);
+        assertEquals(FIRES.getOrDefault("missed-skip", List.of()).size(), 0);
+        assertEquals(servicesB.get("missed-skip").orElseThrow().getState(), "COMPLETE");
+        servicesA.delete("missed-fire-now");
+        servicesA.delete("missed-skip");
+    }
+
+    @Test
+    public void schedulesAreSharedAndEditable() {
+        ScheduleDefinition nightly = cron("0 0 3 * * ?", "Europe/Berlin");
+        nightly.setJitterSeconds(120);
+        nightly.setMisfirePolicy("skip");
+        servicesA.save("nightly-api", nightly);
+
+        // Written through node A, read back through node B
+        ScheduleDefinition stored = servicesB.get("nightly-api").orElseThrow();
+        assertEquals(stored.getCron(), "0 0 3 * * ?");
+        assertEquals(stored.getTimeZone(), "Europe/Berlin");
+        assertEquals(stored.getMisfirePolicy(), "SKIP");
+        assertEquals(stored.getJitterSeconds(), Integer.valueOf(120));
+        assertEquals(stored.getRequest().getSuiteId(), "REQRES_SMOKE");
+        assertEquals(stored.getState(), "NORMAL");
+        assertNotNull(stored.getNextFireTime());
+        assertTrue(servicesB.list().stream().anyMatch(s -> s.getName().equals("nightly-api")));
+
+        assertTrue(servicesB.pause("nightly-api"));
+        assertEquals(servicesA.get("nightly-api").orElseThrow().getState(), "PAUSED");
+        nightly.setCron("0 30 3 * * ?");
+        servicesA.save("nightly-api", nightly);
+        assertEquals(servicesA.get("nightly-api").orElseThrow().getState(), "PAUSED", "editing must not resume a paused schedule");
+        assertTrue(servicesA.resume("nightly-api"));
+        assertEquals(servicesB.get("nightly-api").orElseThrow().getState(), "NORMAL");
+
+        assertFalse(servicesA.saveIfAbsent("nightly-api", cron("0 0 1 * * ?", null)));
+        assertEquals(servicesB.get("nightly-api").orElseThrow().getCron(), "0 30 3 * * ?");
+
+        assertTrue(servicesB.delete("nightly-api"));
+        assertTrue(servicesA.get("nightly-api").isEmpty());
+        assertFalse(servicesA.pause("nightly-api"));
+    }
+
+    @Test
+    public void jitterIsPartOfTheTriggerNotAWait() throws Exception {
+        OffsetDateTime runAt = OffsetDateTime.parse("2030-01-01T03:00:00Z");
+        ScheduleDefinition later = once(runAt, "FIRE_NOW");
+        later.setJitterSeconds(600);
+        servicesA.save("jittered-once", later);
+
+        long offset = Math.floorMod("jittered-once".hashCode(), 601);
+        assertEquals(nodeB.getTrigger(TriggerKey.triggerKey("jittered-once", ScheduleService.GROUP)).getStartTime().toInstant(),
+                runAt.toInstant().plusSeconds(offset));
+        assertEquals(servicesB.get("jittered-once").orElseThrow().getRunAt().toInstant(), runAt.toInstant(), "runAt reads back as set");
+        assertTrue(servicesA.delete("jittered-once"));
+    }
+
+    @Test
+    public void invalidDefinitionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("bad name!", cron("0 0 3 * * ?", null)));
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("bad-cron", cron("0 0 25 * * ?", null)));
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("bad-zone", cron("0 0 3 * * ?", "Mars/Olympus")));
+        ScheduleDefinition both = cron("0 0 3 * * ?", null);
+        both.setRunAt(OffsetDateTime.now().plusDays(1));
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("both", both));
+        ScheduleDefinition noSelection = cron("0 0 3 * * ?", null);
+        noSelection.setRequest(new ExecutionRequest());
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("no-selection", noSelection));
+        ScheduleDefinition badPolicy = cron("0 0 3 * * ?", null);
+        badPolicy.setMisfirePolicy("LATER");
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("bad-policy", badPolicy));
+        ScheduleDefinition badJitter = cron("0 0 3 * * ?", null);
+        badJitter.setJitterSeconds(-1);
+        assertThrows(IllegalArgumentException.class, () -> servicesA.save("bad-jitter", badJitter));
+    }
+
+    private static ScheduleDefinition cron(String cron, String timeZone) {
+        ScheduleDefinition definition = new ScheduleDefinition();
+        definition.setCron(cron);
+        definition.setTimeZone(timeZone);
+        definition.setRequest(request());
+        return definition;
+    }
+
+    private static ScheduleDefinition once(OffsetDateTime runAt, String misfirePolicy) {
+        ScheduleDefinition definition = new ScheduleDefinition();
+        definition.setRunAt(runAt);
+        definition.setMisfirePolicy(misfirePolicy);
+        definition.setRequest(request());
+        return definition;
+    }
+
+    private static ExecutionRequest request() {
+        ExecutionRequest request = new ExecutionRequest();
+        request.setSuiteId("REQRES_SMOKE");
+        request.setMode("PARALLEL");
+        return request;
+    }
+
+    private static Scheduler node(String instanceId) throws SchedulerException {
+        Properties props = new Properties();
+        props.setProperty("org.quartz.scheduler.instanceName", "ClusterTest");
+        props.setProperty("org.quartz.scheduler.instanceId", instanceId);
+        props.setProperty("org.quartz.threadPool.threadCount", "2");
+        props.setProperty("org.quartz.jobStore.class", "org.quartz.impl.jdbcjobstore.JobStoreTX");
+        props.setProperty("org.quartz.jobStore.driverDelegateClass", "org.quartz.impl.jdbcjobstore.StdJDBCDelegate");
+        props.setProperty("org.quartz.jobStore.tablePrefix", "QRTZ_");
+        props.setProperty("org.quartz.jobStore.useProperties", "true");
+        props.setProperty("org.quartz.jobStore.isClustered", "true");
+        props.setProperty("org.quartz.jobStore.clusterCheckinInterval", "1000");
+        props.setProperty("org.quartz.jobStore.misfireThreshold", "1000");
+        props.setProperty("org.quartz.jobStore.dataSource", "store");
+        props.setProperty("org.quartz.dataSource.store.driver", "org.h2.Driver");
+        props.setProperty("org.quartz.dataSource.store.URL", URL);
+        props.setProperty("org.quartz.dataSource.store.user", "sa");
+        props.setProperty("org.quartz.dataSource.store.password", "");
+        props.setProperty("org.quartz.dataSource.store.maxConnections", "4");
+        Scheduler scheduler = new StdSchedulerFactory(props).getScheduler();
+        scheduler.setJobFactory((bundle, owner) -> new RecordingJob());
+        // Quartz hands out one scheduler per name and JVM; forget this one so the next node is a separate instance
+        SchedulerRepository.getInstance().remove(scheduler.getSchedulerName());
+        return scheduler;
+    }
+
+    private static void createTables(Connection connection) throws IOException, SQLException {
+        try (InputStream in = ClusteredScheduleTest.class.getResourceAsStream("/quartz/tables_h2.sql");
+             Statement statement = connection.createStatement()) {
+            String script = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            for (String sql : script.replaceAll("(?m)^--.*$", "").split(";")) {
+                if (!sql.isBlank()) statement.execute(sql);
+            }
+        }
+    }
+
+    public static class RecordingJob implements Job {
+        @Override
+        public void execute(JobExecutionContext context) {
+            try {
+                FIRES.computeIfAbsent(context.getJobDetail().getKey().getName(), k -> new CopyOnWriteArrayList<>())
+                        .add(context.getScheduledFireTime().getTime() + "@" + context.getScheduler().getSchedulerInstanceId());
+            } catch (SchedulerException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
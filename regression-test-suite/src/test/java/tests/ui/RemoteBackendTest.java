@@ -0,0 +1,151 @@
+package tests.ui;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.testframework.regression.engine.BrowserBackend;
+import com.testframework.regression.engine.TimeoutConfig;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+// The remote backend against stand-in Selenium servers speaking just enough of the protocol (/status, new
+// session, delete session) to show where sessions go; no browser needed
+public class RemoteBackendTest {
+
+    @Test
+    public void sessionsGoToFreeSlotsAndStayWithTheirExecution() throws Exception {
+        try (FakeNode a = new FakeNode(3); FakeNode b = new FakeNode(3)) {
+            BrowserBackend backend = backend(a.url() + "," + b.url() + "/", 5);
+            List<WebDriver> drivers = new ArrayList<>();
+            drivers.add(backend.start(true, "run-1"));        // tie: first endpoint
+            assertEquals(a.sessions.size(), 1);
+            drivers.add(backend.start(true, "run-2"));        // a 2 free, b 3 free
+            assertEquals(b.sessions.size(), 1);
+            drivers.add(backend.start(true, "run-2"));        // tie again, but run-2 already lives on b
+            assertEquals(b.sessions.size(), 2);
+            drivers.add(backend.start(true, "run-1"));
+            assertEquals(a.sessions.size(), 2);
+            assertTrue(drivers.get(0) instanceof RemoteWebDriver);
+
+            drivers.forEach(WebDriver::quit);
+            assertEquals(a.sessions.size() + b.sessions.size(), 0);
+        }
+    }
+
+    @Test
+    public void fullGridQueuesUntilASlotFreesOrTheTimeoutPasses() throws Exception {
+        try (FakeNode node = new FakeNode(1)) {
+            BrowserBackend backend = backend(node.url(), 1);
+            WebDriver first = backend.start(true, null);
+
+            long started = System.nanoTime();
+            SessionNotCreatedException e = expectThrows(SessionNotCreatedException.class, () -> backend.start(true, null));
+            long waitedMs = (System.nanoTime() - started) / 1_000_000;
+            assertTrue(waitedMs >= 900 && waitedMs < 5_000, "waited " + waitedMs + " ms");
+            assertTrue(e.getMessage().contains("0/1 free"), e.getMessage());
+            assertEquals(node.sessions.size(), 1, "the full node was never asked for a second session");
+
+            CompletableFuture.runAsync(() -> {
+                sleep(300);
+                first.quit();
+            });
+            WebDriver second = backend.start(true, null);
+            assertEquals(node.sessions.size(), 1);
+            second.quit();
+            assertEquals(backend.capacity().get(0).getFree(), 1);
+        }
+    }
+
+    private static BrowserBackend backend(String urls, int queueSeconds) {
+        TimeoutConfig timeouts = new TimeoutConfig();
+        ReflectionTestUtils.setField(timeouts, "uiPageLoadSeconds", 30);
+        return new BrowserBackend(new StandardEnvironment(), timeouts, "remote", urls, queueSeconds, 0, true);
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // A standalone server with maxSessions Chrome slots
+    private static final class FakeNode implements AutoCloseable {
+        private final int maxSessions;
+        private final List<String> sessions = new CopyOnWriteArrayList<>();
+        private final HttpServer server;
+
+        private FakeNode(int maxSessions) throws IOException {
+            this.maxSessions = maxSessions;
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/status", this::status);
+            server.createContext("/session", this::session);
+            server.start();
+        }
+
+        private String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        private void status(HttpExchange exchange) throws IOException {
+            StringBuilder slots = new StringBuilder();
+            for (int i = 0; i < maxSessions; i++) {
+                if (i > 0) slots.append(',');
+                String session = i < sessions.size() ? "{\"sessionId\":\"" + sessions.get(i) + "\"}" : "null";
+                slots.append("{\"session\":").append(session).append(",\"stereotype\":{\"browserName\":\"chrome\"}}");
+            }
+            send(exchange, 200, "{\"value\":{\"ready\":" + (sessions.size() < maxSessions)
+                    + ",\"nodes\":[{\"availability\":\"UP\",\"slots\":[" + slots + "]}]}}");
+        }
+
+        private synchronized void session(HttpExchange exchange) throws IOException {
+            exchange.getRequestBody().readAllBytes();
+            if ("POST".equals(exchange.getRequestMethod()) && exchange.getRequestURI().getPath().equals("/session")) {
+                if (sessions.size() >= maxSessions) {
+                    send(exchange, 500, "{\"value\":{\"error\":\"session not created\",\"message\":\"no free slot\"}}");
+                    return;
+                }
+                String id = UUID.randomUUID().toString();
+                sessions.add(id);
+                send(exchange, 200, "{\"value\":{\"sessionId\":\"" + id + "\",\"capabilities\":{\"browserName\":\"chrome\"}}}");
+            } else if ("DELETE".equals(exchange.getRequestMethod())) {
+                sessions.remove(exchange.getRequestURI().getPath().substring("/session/".length()));
+                send(exchange, 200, "{\"value\":null}");
+            } else {
+                send(exchange, 404, "{\"value\":{\"error\":\"unknown command\",\"message\":\"\"}}");
+            }
+        }
+
+        private static void send(HttpExchange exchange, int status, String json) throws IOException {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+        }
+    }
+}
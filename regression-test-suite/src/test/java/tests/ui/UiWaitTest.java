@@ -0,0 +1,95 @@
+package tests.ui;
+
+import com.testframework.regression.engine.UiWait;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertThrows;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.expectThrows;
+
+// UiWait against a mocked driver: no browser needed
+public class UiWaitTest {
+
+    @Test
+    public void elementAlreadyPresentIsReturnedWithoutObserving() {
+        WebDriver driver = driver();
+        WebElement element = mock(WebElement.class);
+        when(driver.findElements(By.name("fromPort"))).thenReturn(List.of(element));
+
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(5));
+        assertSame(wait.present(By.name("fromPort")), element);
+        verify((JavascriptExecutor) driver, never()).executeAsyncScript(anyString(), any(Object[].class));
+        assertTrue(wait.timings().startsWith("fromPort "), wait.timings());
+    }
+
+    @Test
+    public void observerHandsBackTheInsertedElement() {
+        WebDriver driver = driver();
+        WebElement element = mock(WebElement.class);
+        when(driver.findElements(By.id("inputName"))).thenReturn(List.of());
+        when(((JavascriptExecutor) driver).executeAsyncScript(anyString(), any(Object[].class))).thenReturn(element);
+
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(5));
+        assertSame(wait.present(By.id("inputName")), element);
+        // Found once, by the observer; no second lookup
+        verify(driver, times(1)).findElements(By.id("inputName"));
+    }
+
+    @Test
+    public void navigationDuringObserveFallsBackToPolling() {
+        WebDriver driver = driver();
+        WebElement element = mock(WebElement.class);
+        when(driver.findElements(By.cssSelector("table"))).thenReturn(List.of()).thenReturn(List.of(element));
+        when(((JavascriptExecutor) driver).executeAsyncScript(anyString(), any(Object[].class)))
+                .thenThrow(new JavascriptException("document unloaded while waiting for result"));
+
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(5));
+        long started = System.nanoTime();
+        assertSame(wait.present(By.cssSelector("table")), element);
+        assertTrue((System.nanoTime() - started) / 1_000_000 < 500, "first poll should come after ~10 ms, not 500");
+    }
+
+    @Test
+    public void timesOutWithTheLocatorInTheMessage() {
+        WebDriver driver = mock(WebDriver.class); // no async script support: polling only
+        when(driver.findElements(any(By.class))).thenReturn(List.of());
+
+        UiWait wait = new UiWait(driver, Duration.ofMillis(300));
+        TimeoutException e = expectThrows(TimeoutException.class, () -> wait.present(By.cssSelector("h1")));
+        assertTrue(e.getMessage().contains("h1"), e.getMessage());
+        assertEquals(wait.timings().split(", ").length, 1);
+    }
+
+    @Test
+    public void titleIsPolledUntilItMatches() {
+        WebDriver driver = driver();
+        when(driver.getTitle()).thenReturn("", "", "BlazeDemo");
+
+        UiWait wait = new UiWait(driver, Duration.ofSeconds(5));
+        assertEquals(wait.titleContains("BlazeDemo"), "BlazeDemo");
+        assertThrows(TimeoutException.class, () -> new UiWait(driver, Duration.ofMillis(100)).titleContains("Purchase"));
+    }
+
+    private static WebDriver driver() {
+        return mock(WebDriver.class, withSettings().extraInterfaces(JavascriptExecutor.class));
+    }
+}